@@ -97,15 +97,17 @@ final case class GuiceApplicationBuilder(
   def additionalRouter(router: Router): GuiceApplicationBuilder =
     overrides(bind[Router].to(new AdditionalRouterProvider(router)))
 
+  // Loaded once, for both the injector settings and the application module
+  private lazy val appConfiguration: Configuration = configuration.withFallback(loadConfiguration(environment))
+
+  override protected def injectorConfiguration: Configuration = appConfiguration
+
   /**
    * Create a new Play application Module for an Application using this configured builder.
    */
   override def applicationModule(): GuiceModule = {
     registerExceptionHandlers()
 
-    val initialConfiguration = loadConfiguration(environment)
-    val appConfiguration     = configuration.withFallback(initialConfiguration)
-
     val loggerFactory = configureLoggerFactory(appConfiguration)
 
     val loadedModules = loadModules(environment, appConfiguration)
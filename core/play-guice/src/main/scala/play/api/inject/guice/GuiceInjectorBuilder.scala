@@ -12,10 +12,12 @@ import scala.reflect.ClassTag
 
 import com.google.inject.{ Module => GuiceModule }
 import com.google.inject.util.{ Modules => GuiceModules }
+import com.google.inject.spi.Message
 import com.google.inject.util.{ Providers => GuiceProviders }
 import com.google.inject.Binder
 import com.google.inject.CreationException
 import com.google.inject.Guice
+import com.google.inject.ProvisionException
 import com.google.inject.Stage
 import jakarta.inject.Inject
 import jakarta.inject.Provider
@@ -197,23 +199,58 @@ abstract class GuiceBuilder[Self] protected (
         case _ if eagerly => Stage.PRODUCTION
         case _            => Stage.DEVELOPMENT
       }
-      val guiceInjector = Guice.createInjector(stage, applicationModule())
+      val guiceInjector = parallelStartup match {
+        case Some(parallelism) =>
+          ParallelStartup.createInjector(stage, applicationModule(), parallelism, environment.classLoader)
+        case None => Guice.createInjector(stage, applicationModule())
+      }
       guiceInjector.getInstance(classOf[PlayInjector])
     } catch {
-      case e: CreationException =>
-        e.getCause match {
-          case p: PlayException => throw p
-          case _                => {
-            e.getErrorMessages.asScala.foreach(_.getCause match {
-              case p: PlayException => throw p
-              case _                => // do nothing
-            })
-            throw e
-          }
-        }
+      case e: CreationException  => throw playException(e).getOrElse(e)
+      case e: ProvisionException => throw playException(e).getOrElse(e)
+    }
+  }
+
+  /**
+   * The Play exception, such as a configuration error, Guice failed with, if any. The eager singletons of a parallel
+   * startup are created by an injection, so a `CreationException` may report the `ProvisionException` of one of them.
+   */
+  private def playException(e: Throwable): Option[PlayException] = {
+    def find(cause: Throwable, messages: java.util.Collection[Message]): Option[PlayException] =
+      Option(cause).flatMap(playException).orElse {
+        messages.asScala.iterator.flatMap(message => Option(message.getCause).flatMap(playException)).nextOption()
+      }
+    e match {
+      case p: PlayException      => Some(p)
+      case c: CreationException  => find(c.getCause, c.getErrorMessages)
+      case p: ProvisionException => find(p.getCause, p.getErrorMessages)
+      case _                     => None
     }
   }
 
+  /**
+   * The configuration read for the settings of the injector itself, such as `play.inject.guice.parallelStartup`.
+   */
+  protected def injectorConfiguration: Configuration = configuration
+
+  /**
+   * The number of threads to create the eager singletons on, if they are created in parallel.
+   */
+  private def parallelStartup: Option[Int] = {
+    val config = injectorConfiguration
+    if (config.getOptional[Boolean]("play.inject.guice.parallelStartup.enabled").getOrElse(false)) {
+      val parallelism = config
+        .getOptional[Int]("play.inject.guice.parallelStartup.parallelism")
+        .getOrElse(Runtime.getRuntime.availableProcessors)
+      if (parallelism < 1) {
+        throw new GuiceLoadException(
+          s"play.inject.guice.parallelStartup.parallelism must be positive, but was $parallelism"
+        )
+      }
+      Some(parallelism)
+    } else None
+  }
+
   /**
    * Internal copy method with defaults.
    */
@@ -0,0 +1,320 @@
+/*
+ * Copyright (C) from 2022 The Play Framework Contributors <https://github.com/playframework>, 2011-2021 Lightbend Inc. <https://www.lightbend.com>
+ */
+
+package play.api.inject
+package guice
+
+import java.util.concurrent.atomic.AtomicInteger
+import java.util.concurrent.atomic.LongAdder
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.Executors
+import java.util.concurrent.ThreadFactory
+
+import scala.collection.mutable
+import scala.concurrent.duration._
+import scala.concurrent.Await
+import scala.concurrent.ExecutionContext
+import scala.concurrent.Future
+import scala.jdk.CollectionConverters._
+
+import com.google.inject.{ Binding => GuiceBinding }
+import com.google.inject.{ Injector => GuiceInjector }
+import com.google.inject.{ Module => GuiceModule }
+import com.google.inject.matcher.Matchers
+import com.google.inject.spi._
+import com.google.inject.AbstractModule
+import com.google.inject.Guice
+import com.google.inject.Key
+import com.google.inject.Scopes
+import com.google.inject.Stage
+import jakarta.inject.Inject
+import play.api.mvc.RequestHeader
+import play.api.mvc.Result
+import play.api.mvc.Results
+import play.api.Logger
+import play.core.BuildLink
+import play.core.HandleWebCommandSupport
+import play.core.WebCommands
+
+/**
+ * The timings of the eager singletons created by a parallel startup.
+ *
+ * A parallel startup is enabled with `play.inject.guice.parallelStartup.enabled`. The report is logged once the
+ * application is created, can be injected, and is served in dev mode at `/@startup`.
+ *
+ * @param singletons The eager singletons, slowest first.
+ * @param criticalPath The chain of dependent singletons that took the longest to create, which bounds the startup
+ *                     time whatever the parallelism.
+ * @param parallelism The number of threads the singletons were created on.
+ * @param duration The time it took to create all the singletons.
+ */
+final class StartupReport private[guice] (
+    val singletons: Seq[StartupReport.Singleton],
+    val criticalPath: Seq[StartupReport.Singleton],
+    val parallelism: Int,
+    val duration: FiniteDuration
+) {
+  import StartupReport.millis
+
+  /**
+   * The critical path and the slowest singletons, on a single line.
+   */
+  def summary: String = {
+    val slowest = singletons.take(5).map(s => s"${s.key} (${millis(s.duration)})").mkString(", ")
+    s"Created ${singletons.size} eager singletons in ${millis(duration)} on $parallelism threads. " +
+      s"Critical path (${millis(criticalPath.map(_.duration).foldLeft(Duration.Zero)(_ + _))}): " +
+      s"${criticalPath.map(_.key).mkString(" -> ")}. Slowest: $slowest"
+  }
+
+  /**
+   * The full report, as plain text.
+   */
+  def render: String = {
+    val lines = Seq.newBuilder[String]
+    lines += s"Created ${singletons.size} eager singletons in ${millis(duration)} on $parallelism threads"
+    lines += ""
+    lines += "Critical path:"
+    criticalPath.foreach(s => lines += f"  ${millis(s.duration)}%12s  ${s.key}")
+    lines += ""
+    lines += "Singletons:"
+    singletons.foreach { s =>
+      lines += f"  ${millis(s.duration)}%12s  ${s.key}"
+      s.dependencies.foreach(d => lines += s"                depends on $d")
+    }
+    lines.result().mkString("\n")
+  }
+
+  override def toString: String = summary
+}
+
+object StartupReport {
+
+  /**
+   * An eager singleton.
+   *
+   * @param key The binding key of the singleton.
+   * @param duration The time spent in its own construction, excluding the creation of the singletons it depends on.
+   * @param dependencies The keys of the eager singletons it depends on.
+   */
+  final case class Singleton(key: String, duration: FiniteDuration, dependencies: Seq[String])
+
+  private def millis(duration: FiniteDuration): String = f"${duration.toNanos / 1e6}%.1f ms"
+}
+
+/**
+ * Creates an injector whose eager singletons are created concurrently, on a bounded pool, while the injector is
+ * created.
+ *
+ * Guice injects the members of the requested injections before it creates the eager singletons one after another, so
+ * a requested injection creates them first, in the order of their dependencies, each one as soon as the singletons it
+ * depends on have been created. Guice then finds them created. Failures are reported by Guice like the failures of
+ * eager singletons, in a `CreationException`.
+ */
+private[guice] object ParallelStartup {
+  private val logger = Logger(getClass)
+
+  def createInjector(stage: Stage, module: GuiceModule, parallelism: Int, classLoader: ClassLoader): GuiceInjector = {
+    val start         = System.nanoTime()
+    val timings       = new ProvisionTimings
+    val startupModule = new AbstractModule {
+      override def configure(): Unit = {
+        binder().bindListener(Matchers.any(), timings)
+        binder().bind(classOf[StartupReport]).toProvider(new com.google.inject.Provider[StartupReport] {
+          def get: StartupReport = timings.report
+        })
+        binder().requestInjection(new SingletonsCreation(stage, timings, parallelism, classLoader, start))
+      }
+    }
+    val injector = Guice.createInjector(stage, module, startupModule)
+
+    val report = timings.report
+    logger.info(report.summary)
+    if (injector.getExistingBinding(Key.get(classOf[WebCommands])) != null) {
+      injector.getInstance(classOf[WebCommands]).addHandler(new StartupReportWebCommand(report))
+    }
+    injector
+  }
+
+  /**
+   * Creates the eager singletons once Guice injects the injector, before Guice creates them itself.
+   */
+  private final class SingletonsCreation(
+      stage: Stage,
+      timings: ProvisionTimings,
+      parallelism: Int,
+      classLoader: ClassLoader,
+      start: Long
+  ) {
+    @Inject
+    def create(injector: GuiceInjector): Unit = {
+      // In production Guice creates all the singletons eagerly, otherwise only the eager bindings
+      val bindings = injector.getBindings.asScala.values
+      val keys: Seq[Key[?]] =
+        if (stage == Stage.PRODUCTION) bindings.filter(isSingleton).map(_.getKey).toSeq
+        else bindings.filter(isEager).map(_.getKey).toSeq
+      val graph = dependencyGraph(injector, keys)
+
+      timings.start(keys.toSet)
+      try createSingletons(injector, graph, parallelism, classLoader)
+      finally timings.stop()
+
+      timings.createReport(graph, parallelism, (System.nanoTime() - start).nanos)
+    }
+  }
+
+  private def isEager(binding: GuiceBinding[?]): Boolean = binding match {
+    case _: InstanceBinding[?] => false
+    case _                     =>
+      binding.acceptScopingVisitor(new DefaultBindingScopingVisitor[java.lang.Boolean] {
+        override def visitEagerSingleton(): java.lang.Boolean = true
+        override protected def visitOther(): java.lang.Boolean = false
+      })
+  }
+
+  private def isSingleton(binding: GuiceBinding[?]): Boolean = binding match {
+    case _: InstanceBinding[?] => false
+    case _                     => Scopes.isSingleton(binding)
+  }
+
+  /**
+   * The singletons each singleton depends on, looking through the bindings that aren't singletons. Dependencies on
+   * providers aren't followed, since the provider may never be called while the singleton is created.
+   */
+  private def dependencyGraph(injector: GuiceInjector, keys: Seq[Key[?]]): Map[Key[?], Seq[Key[?]]] = {
+    val singletons = keys.toSet
+    def directDependencies(binding: GuiceBinding[?]): Seq[Key[?]] = binding match {
+      case _: ProviderBinding[?]    => Nil
+      case b: LinkedKeyBinding[?]   => Seq(b.getLinkedKey)
+      case b: ProviderKeyBinding[?] => Seq(b.getProviderKey)
+      case b: HasDependencies       => b.getDependencies.asScala.toSeq.map(_.getKey)
+      case _                        => Nil
+    }
+    def dependencies(key: Key[?]): Seq[Key[?]] = {
+      val found   = mutable.LinkedHashSet.empty[Key[?]]
+      val visited = mutable.Set(key)
+      def visit(binding: GuiceBinding[?]): Unit = directDependencies(binding).foreach { dependency =>
+        if (visited.add(dependency)) {
+          if (singletons(dependency)) found += dependency
+          else Option(injector.getExistingBinding(dependency)).foreach(visit)
+        }
+      }
+      Option(injector.getExistingBinding(key)).foreach(visit)
+      found.toSeq
+    }
+    keys.map(key => key -> dependencies(key)).toMap
+  }
+
+  private def createSingletons(
+      injector: GuiceInjector,
+      graph: Map[Key[?], Seq[Key[?]]],
+      parallelism: Int,
+      classLoader: ClassLoader
+  ): Unit = {
+    val threads  = new AtomicInteger()
+    val executor = Executors.newFixedThreadPool(
+      parallelism,
+      new ThreadFactory {
+        def newThread(r: Runnable): Thread = {
+          val thread = new Thread(r, s"play-startup-${threads.incrementAndGet()}")
+          thread.setDaemon(true)
+          // Singletons may load classes or resources through the context class loader
+          thread.setContextClassLoader(classLoader)
+          thread
+        }
+      }
+    )
+    implicit val ec: ExecutionContext = ExecutionContext.fromExecutorService(executor)
+    val created                       = mutable.Map.empty[Key[?], Future[Unit]]
+    // A cycle can only go through providers, which Guice resolves, so the edge closing it is dropped
+    def create(key: Key[?], path: Set[Key[?]]): Future[Unit] = created.get(key) match {
+      case Some(future) => future
+      case None         =>
+        val dependencies = graph(key).filterNot(path).map(create(_, path + key))
+        val future       = Future.sequence(dependencies).map { _ =>
+          injector.getInstance(key)
+          ()
+        }
+        created(key) = future
+        future
+    }
+    try Await.result(Future.sequence(graph.keys.map(create(_, Set.empty))), Duration.Inf)
+    finally executor.shutdown()
+  }
+
+  /**
+   * Measures the time spent constructing each singleton, excluding the singletons it depends on.
+   */
+  private final class ProvisionTimings extends ProvisionListener {
+    @volatile private var recorded: Set[Key[?]] = Set.empty
+    @volatile private var created: StartupReport = _
+    private val durations                        = new ConcurrentHashMap[Key[?], LongAdder]()
+    // The time spent in the recorded singletons provisioned by each provision in progress
+    private val children = ThreadLocal.withInitial[List[LongAdder]](() => Nil)
+
+    def start(keys: Set[Key[?]]): Unit = recorded = keys
+    def stop(): Unit                   = recorded = Set.empty
+
+    def report: StartupReport = created
+
+    override def onProvision[T](provision: ProvisionListener.ProvisionInvocation[T]): Unit = {
+      val keys = recorded
+      if (keys.nonEmpty) {
+        val key     = provision.getBinding.getKey
+        val parents = children.get()
+        val nested  = new LongAdder
+        children.set(nested :: parents)
+        val start = System.nanoTime()
+        try provision.provision()
+        finally {
+          val elapsed = System.nanoTime() - start
+          children.set(parents)
+          if (keys(key)) {
+            durations.computeIfAbsent(key, _ => new LongAdder).add(elapsed - nested.sum())
+            parents.headOption.foreach(_.add(elapsed))
+          }
+        }
+      }
+    }
+
+    def createReport(graph: Map[Key[?], Seq[Key[?]]], parallelism: Int, duration: FiniteDuration): StartupReport = {
+      def nanos(key: Key[?]): Long = Option(durations.get(key)).fold(0L)(_.sum())
+      val singletons = graph.map {
+        case (key, dependencies) =>
+          key -> StartupReport.Singleton(describe(key), nanos(key).nanos, dependencies.map(describe))
+      }
+
+      // The longest chain of dependencies starting at each singleton
+      val longest = mutable.Map.empty[Key[?], (Long, List[Key[?]])]
+      def chain(key: Key[?], path: Set[Key[?]]): (Long, List[Key[?]]) = longest.get(key) match {
+        case Some(result) => result
+        case None         =>
+          val dependencies  = graph(key).filterNot(path).map(chain(_, path + key))
+          val (total, rest) = dependencies.maxByOption(_._1).getOrElse((0L, Nil))
+          val result        = (nanos(key) + total, key :: rest)
+          longest(key) = result
+          result
+      }
+      val criticalPath = graph.keys.map(chain(_, Set.empty)).maxByOption(_._1).fold(List.empty[Key[?]])(_._2)
+
+      created = new StartupReport(
+        singletons.values.toSeq.sortBy(-_.duration.toNanos),
+        criticalPath.map(singletons),
+        parallelism,
+        duration
+      )
+      created
+    }
+
+    private def describe(key: Key[?]): String =
+      if (key.getAnnotationType == null) key.getTypeLiteral.toString else key.toString
+  }
+
+  /**
+   * Serves the startup report at `/@startup` in dev mode.
+   */
+  private final class StartupReportWebCommand(report: StartupReport) extends HandleWebCommandSupport {
+    def handleWebCommand(request: RequestHeader, buildLink: BuildLink, path: java.io.File): Option[Result] =
+      if (request.path == "/@startup") Some(Results.Ok(report.render)) else None
+  }
+}
@@ -12,12 +12,14 @@ import java.util.Collections
 
 import com.google.inject.AbstractModule
 import com.typesafe.config.Config
+import jakarta.inject.Inject
 import org.specs2.mutable.Specification
 import play.{ Environment => JavaEnvironment }
 import play.api.inject._
 import play.api.Configuration
 import play.api.Environment
 import play.api.Mode
+import play.api.PlayException
 import play.inject.{ Module => JavaModule }
 
 class GuiceInjectorBuilderSpec extends Specification {
@@ -216,6 +218,60 @@ class GuiceInjectorBuilderSpec extends Specification {
       injector.instanceOf[GuiceInjectorBuilderSpec.B1] must throwA[com.google.inject.ConfigurationException]
       injector.instanceOf[GuiceInjectorBuilderSpec.C1] must throwA[com.google.inject.ConfigurationException]
     }
+
+    "create eager singletons in parallel" in {
+      val injector = new GuiceInjectorBuilder()
+        .configure(
+          "play.inject.guice.parallelStartup.enabled"     -> true,
+          "play.inject.guice.parallelStartup.parallelism" -> 2
+        )
+        .bindings(
+          bind[GuiceInjectorBuilderSpec.Eager1].toSelf.eagerly(),
+          bind[GuiceInjectorBuilderSpec.Eager2].toSelf.eagerly(),
+          bind[GuiceInjectorBuilderSpec.DependsOnEager1].toSelf.eagerly()
+        )
+        .injector()
+      val dependent = injector.instanceOf[GuiceInjectorBuilderSpec.DependsOnEager1]
+      dependent.createdOn must startWith("play-startup-")
+      dependent.eager1.createdOn must startWith("play-startup-")
+      injector.instanceOf[GuiceInjectorBuilderSpec.Eager2].createdOn must startWith("play-startup-")
+
+      val report = injector.instanceOf[StartupReport]
+      report.parallelism must_== 2
+      report.singletons.map(_.key) must haveSize(3)
+      report.criticalPath.map(_.key) must_== Seq(
+        classOf[GuiceInjectorBuilderSpec.DependsOnEager1].getName,
+        classOf[GuiceInjectorBuilderSpec.Eager1].getName
+      )
+      report.singletons.find(_.key == classOf[GuiceInjectorBuilderSpec.DependsOnEager1].getName).map(
+        _.dependencies
+      ) must beSome(Seq(classOf[GuiceInjectorBuilderSpec.Eager1].getName))
+    }
+
+    "fail when an eager singleton created in parallel fails" in {
+      new GuiceInjectorBuilder()
+        .configure("play.inject.guice.parallelStartup.enabled" -> true)
+        .bindings(bind[GuiceInjectorBuilderSpec.FailingEager].toSelf.eagerly())
+        .injector() must throwA[com.google.inject.CreationException]
+    }
+
+    "report the Play exception an eager singleton created in parallel fails with" in {
+      new GuiceInjectorBuilder()
+        .configure("play.inject.guice.parallelStartup.enabled" -> true)
+        .bindings(bind[GuiceInjectorBuilderSpec.MisconfiguredEager].toSelf.eagerly())
+        .injector() must throwA[PlayException](message = "Missing setting")
+    }
+
+    "create the injector of a parallel startup in the stage of the mode" in {
+      def stage(mode: Mode) =
+        new GuiceInjectorBuilder()
+          .in(mode)
+          .configure("play.inject.guice.parallelStartup.enabled" -> true)
+          .injector()
+          .instanceOf[com.google.inject.Stage]
+      stage(Mode.Prod) must_== com.google.inject.Stage.PRODUCTION
+      stage(Mode.Dev) must_== com.google.inject.Stage.DEVELOPMENT
+    }
   }
 }
 
@@ -278,4 +334,26 @@ object GuiceInjectorBuilderSpec {
 
   trait D
   class D1 extends D
+
+  class Eager1 {
+    val createdOn: String = Thread.currentThread.getName
+    Thread.sleep(50)
+  }
+
+  class Eager2 {
+    val createdOn: String = Thread.currentThread.getName
+  }
+
+  class DependsOnEager1 @Inject() (val eager1: Eager1) {
+    val createdOn: String = Thread.currentThread.getName
+    Thread.sleep(50)
+  }
+
+  class FailingEager {
+    throw new IllegalStateException("Failed to start")
+  }
+
+  class MisconfiguredEager {
+    throw new PlayException("Configuration error", "Missing setting")
+  }
 }
@@ -141,6 +141,26 @@ public class ActionCompositionOrderTest {
     }
   }
 
+  @With(StatelessAction.class)
+  @Target(ElementType.METHOD)
+  @Retention(RetentionPolicy.RUNTIME)
+  @interface StatelessAnnotation {}
+
+  @Action.Stateless
+  static class StatelessAction extends Action<StatelessAnnotation> {
+    @Override
+    public CompletionStage<Result> call(Http.Request req) {
+      return delegate
+          .call(req)
+          .thenApply(
+              result -> {
+                // A shared action must not be wired to the actions of a request
+                String prefix = precursor == null ? "stateless" : "precursorstateless";
+                return Results.ok(prefix + Helpers.contentAsString(result));
+              });
+    }
+  }
+
   @With(SingletonActionAnnotationAction.class)
   @Target(ElementType.METHOD)
   @Retention(RetentionPolicy.RUNTIME)
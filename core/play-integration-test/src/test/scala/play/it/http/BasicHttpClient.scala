@@ -262,7 +262,8 @@ class BasicHttpClient(port: Int, secure: Boolean) {
                 ),
                 new DefaultCookieHeaderEncoding(httpConfig.cookies)
               )
-              if (serverResultUtils.mayHaveEntity(status)) {
+              // Informational responses never have a body
+              if (status >= 200 && serverResultUtils.mayHaveEntity(status)) {
                 consumeRemaining(reader)
               } else {
                 ""
@@ -0,0 +1,92 @@
+/*
+ * Copyright (C) from 2022 The Play Framework Contributors <https://github.com/playframework>, 2011-2021 Lightbend Inc. <https://www.lightbend.com>
+ */
+
+package play.it.http
+
+import java.util.concurrent.atomic.AtomicReference
+
+import play.api.inject.guice.GuiceApplicationBuilder
+import play.api.mvc._
+import play.api.test._
+import play.it._
+
+class NettyEarlyHintsSpec extends EarlyHintsSpec with NettyIntegrationSpecification {
+  override def supportsEarlyHints = true
+}
+class PekkoHttpEarlyHintsSpec extends EarlyHintsSpec with PekkoHttpIntegrationSpecification {
+  // Pekko HTTP has no API to send informational responses
+  override def supportsEarlyHints = false
+}
+
+trait EarlyHintsSpec extends PlaySpecification with ServerIntegrationSpecification {
+  def supportsEarlyHints: Boolean
+
+  "Play" should {
+    val supported = new AtomicReference[Option[Boolean]](None)
+
+    def withServer[T](block: Port => T) = {
+      runningWithPort(
+        TestServer(
+          testServerPort,
+          GuiceApplicationBuilder()
+            .appRoutes { app =>
+              val Action = app.injector.instanceOf[DefaultActionBuilder]
+              ({
+                case _ =>
+                  Action { request =>
+                    supported.set(Some(request.sendEarlyHints(EarlyHints.preload("/assets/main.css", "style"))))
+                    Results.Ok("hello")
+                  }
+              })
+            }
+            .build()
+        )
+      ) { port =>
+        block(port)
+      }
+    }
+
+    def expectResponses(client: BasicHttpClient, requestDesc: String) = {
+      client.sendRequest(BasicRequest("GET", "/", "HTTP/1.1", Map(), ""), requestDesc, waitForResponses = false)
+      val first = client.readResponse(requestDesc)
+      supported.get must beSome(supportsEarlyHints)
+      val last = if (supportsEarlyHints) {
+        first.status must_== 103
+        first.headers.get("Link") must beSome("</assets/main.css>; rel=preload; as=style")
+        client.readResponse(requestDesc)
+      } else {
+        first
+      }
+      last.status must_== 200
+      last.body must beLeft("hello")
+    }
+
+    "send early hints before the response" in withServer { port =>
+      val client = new BasicHttpClient(port, secure = false)
+      try {
+        expectResponses(client, "1")
+      } finally {
+        client.close()
+      }
+    }
+
+    "send early hints for every request of a connection" in withServer { port =>
+      val client = new BasicHttpClient(port, secure = false)
+      try {
+        expectResponses(client, "1")
+        expectResponses(client, "2")
+      } finally {
+        client.close()
+      }
+    }
+
+    "not send early hints to HTTP/1.0 clients" in withServer { port =>
+      val responses = BasicHttpClient.makeRequests(port)(
+        BasicRequest("GET", "/", "HTTP/1.0", Map(), "")
+      )
+      responses.map(_.status) must_== Seq(200)
+      supported.get must beSome(false)
+    }
+  }
+}
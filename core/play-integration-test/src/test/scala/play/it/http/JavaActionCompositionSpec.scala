@@ -4,6 +4,9 @@
 
 package play.it.http
 
+import scala.concurrent.ExecutionContext.Implicits.global
+import scala.concurrent.Future
+
 import play.api.inject.guice.GuiceApplicationBuilder
 import play.api.libs.ws._
 import play.api.routing.Router
@@ -17,6 +20,7 @@ import play.http.DefaultActionCreator
 import play.it.http.ActionCompositionOrderTest.ActionAnnotation
 import play.it.http.ActionCompositionOrderTest.ControllerAnnotation
 import play.it.http.ActionCompositionOrderTest.SingletonActionAnnotation
+import play.it.http.ActionCompositionOrderTest.StatelessAnnotation
 import play.it.http.ActionCompositionOrderTest.WithUsername
 import play.mvc.EssentialFilter
 import play.mvc.Http._
@@ -26,10 +30,11 @@ import play.mvc.Security
 import play.routing.{ Router => JRouter }
 
 class GuiceJavaActionCompositionSpec extends JavaActionCompositionSpec {
-  override def makeRequest[T](
+  override def makeRequests[T](
       controller: MockController,
-      configuration: Map[String, AnyRef] = Map.empty
-  )(block: WSResponse => T): T = {
+      configuration: Map[String, AnyRef],
+      count: Int
+  )(block: Seq[WSResponse] => T): T = {
     lazy val app: Application = GuiceApplicationBuilder()
       .configure(configuration)
       .routes {
@@ -38,8 +43,8 @@ class GuiceJavaActionCompositionSpec extends JavaActionCompositionSpec {
       .build()
 
     runningWithPort(TestServer(testServerPort, app)) { implicit port =>
-      val response = await(wsUrl("/").get())
-      block(response)
+      val responses = await(Future.sequence((0 until count).map(i => wsUrl(s"/?request=$i").get())))
+      block(responses)
     }
   }
 }
@@ -50,10 +55,11 @@ class BuiltInComponentsJavaActionCompositionSpec extends JavaActionCompositionSp
     play.ApplicationLoader.create(play.Environment.simple(), initialSettings.asJava)
   }
 
-  override def makeRequest[T](
+  override def makeRequests[T](
       controller: MockController,
-      configuration: Map[String, AnyRef]
-  )(block: (WSResponse) => T): T = {
+      configuration: Map[String, AnyRef],
+      count: Int
+  )(block: Seq[WSResponse] => T): T = {
     val components = new play.BuiltInComponentsFromContext(context(configuration)) {
       override def javaHandlerComponents(): MappedJavaHandlerComponents = {
         super
@@ -82,6 +88,10 @@ class BuiltInComponentsJavaActionCompositionSpec extends JavaActionCompositionSp
             classOf[ActionCompositionOrderTest.SomeActionAnnotationAction],
             () => new ActionCompositionOrderTest.SomeActionAnnotationAction(),
           )
+          .addAction(
+            classOf[ActionCompositionOrderTest.StatelessAction],
+            () => new ActionCompositionOrderTest.StatelessAction(),
+          )
       }
 
       override def router(): JRouter = {
@@ -102,17 +112,23 @@ class BuiltInComponentsJavaActionCompositionSpec extends JavaActionCompositionSp
     }
 
     runningWithPort(TestServer(testServerPort, components.application().asScala())) { implicit port =>
-      val response = await(wsUrl("/").get())
-      block(response)
+      val responses = await(Future.sequence((0 until count).map(i => wsUrl(s"/?request=$i").get())))
+      block(responses)
     }
   }
 }
 
 trait JavaActionCompositionSpec extends PlaySpecification with WsTestClient {
+  def makeRequests[T](
+      controller: MockController,
+      configuration: Map[String, AnyRef],
+      count: Int
+  )(block: Seq[WSResponse] => T): T
+
   def makeRequest[T](
       controller: MockController,
       configuration: Map[String, AnyRef] = Map.empty
-  )(block: WSResponse => T): T
+  )(block: WSResponse => T): T = makeRequests(controller, configuration, 1)(responses => block(responses.head))
 
   "When action composition is configured to invoke controller first" should {
     "execute controller composition before action composition" in makeRequest(
@@ -432,6 +448,60 @@ trait JavaActionCompositionSpec extends PlaySpecification with WsTestClient {
     }
   }
 
+  "When action composition chains are precompiled" should {
+    "execute the actions in the configured order" in makeRequest(
+      new ComposedController {
+        @ActionAnnotation
+        override def action(request: Request): Result = Results.ok()
+      },
+      Map(
+        "play.http.actionComposition.precompileChains" -> "true",
+        "play.http.actionCreator"                      -> "play.it.http.ActionCompositionActionCreator"
+      )
+    ) { response =>
+      response.body[String] must beEqualTo("java.lang.reflect.Methodactionjava.lang.Classcontrolleractioncreator")
+    }
+
+    "execute the request handler action first" in makeRequest(
+      new ComposedController {
+        @ActionAnnotation
+        override def action(request: Request): Result = Results.ok()
+      },
+      Map(
+        "play.http.actionComposition.precompileChains"                -> "true",
+        "play.http.actionComposition.executeActionCreatorActionFirst" -> "true",
+        "play.http.actionCreator"                                     -> "play.it.http.ActionCompositionActionCreator"
+      )
+    ) { response =>
+      response.body[String] must beEqualTo("actioncreatorjava.lang.reflect.Methodactionjava.lang.Classcontroller")
+    }
+
+    "pass the request attributes through shared stateless actions" in makeRequest(
+      new MockController {
+        @WithUsername("foo")
+        @StatelessAnnotation
+        def action(request: Request) = Results.ok(request.attrs().get(Security.USERNAME))
+      },
+      Map("play.http.actionComposition.precompileChains" -> "true")
+    ) { response => response.body[String] must_== "statelessfoo" }
+
+    "share stateless actions between concurrent requests when the request handler action is executed first" in
+      makeRequests(
+        new MockController {
+          @StatelessAnnotation
+          def action(request: Request) = Results.ok(request.queryString("request").orElse(""))
+        },
+        Map(
+          "play.http.actionComposition.precompileChains"                -> "true",
+          "play.http.actionComposition.executeActionCreatorActionFirst" -> "true",
+          "play.http.actionCreator"                                     -> "play.it.http.ActionCompositionActionCreator"
+        ),
+        50
+      ) { responses =>
+        responses.map(_.body[String]) must_== (0 until 50).map(i => s"actioncreatorstateless$i")
+      }
+  }
+
   "When request handler is configured without action composition" should {
     "execute request handler action last without action composition" in makeRequest(
       new MockController {
@@ -68,6 +68,22 @@ class JavaRequestsSpec extends PlaySpecification {
       (cookieList.head.value must be).equalTo("value1")
     }
 
+    "reuse the Java views of a request" in {
+      val requestHeader = FakeRequest("GET", "/?a=1&a=2&b=3").withCookies(Cookie("name1", "value1"))
+      val javaRequest   = new play.core.j.RequestHeaderImpl(requestHeader)
+
+      javaRequest.queryString must beTheSameAs(javaRequest.queryString)
+      javaRequest.cookies must beTheSameAs(javaRequest.cookies)
+      javaRequest.attrs must beTheSameAs(javaRequest.attrs)
+      javaRequest.acceptLanguages must beTheSameAs(javaRequest.acceptLanguages)
+
+      javaRequest.queryString.get("a").toSeq must_== Seq("1", "2")
+      javaRequest.queryString("a") must_== Optional.of("1")
+      javaRequest.queryString("c") must_== Optional.empty()
+      javaRequest.queryString.put("c", Array("4")) must throwA[UnsupportedOperationException]
+      javaRequest.cookie("name1").get.value must_== "value1"
+    }
+
     "create a request without a body" in {
       // No Content-Length and no Transfer-Encoding header will be set
       val requestHeader: Request[Http.RequestBody] = Request[Http.RequestBody](FakeRequest(), new RequestBody(null))
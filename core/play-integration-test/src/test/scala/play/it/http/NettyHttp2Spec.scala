@@ -0,0 +1,102 @@
+/*
+ * Copyright (C) from 2022 The Play Framework Contributors <https://github.com/playframework>, 2011-2021 Lightbend Inc. <https://www.lightbend.com>
+ */
+
+package play.it.http
+
+import java.util.concurrent.Callable
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+
+import scala.jdk.CollectionConverters._
+
+import okhttp3.MediaType
+import okhttp3.Protocol
+import okhttp3.RequestBody
+import play.api.mvc._
+import play.api.routing.sird
+import play.api.routing.Router
+import play.api.test.ApplicationFactories
+import play.api.test.PlaySpecification
+import play.api.BuiltInComponents
+import play.it.test._
+
+class NettyHttp2Spec
+    extends PlaySpecification
+    with EndpointIntegrationSpecification
+    with OkHttpEndpointSupport
+    with ApplicationFactories {
+  private val app = withRouter { (components: BuiltInComponents) =>
+    import components.{ defaultActionBuilder => Action }
+    import components.{ playBodyParsers => parse }
+    import sird.UrlContext
+    Router.from {
+      case sird.GET(p"/version") =>
+        Action { (request: Request[?]) =>
+          Results.Ok(s"${request.version}|${request.secure}|${request.headers.keys.exists(_.startsWith("x-http2"))}")
+        }
+      case sird.POST(p"/echo") =>
+        Action(parse.byteString) { (request: Request[org.apache.pekko.util.ByteString]) =>
+          Results.Ok(request.body.utf8String)
+        }
+    }
+  }
+
+  "Netty HTTP/2" should {
+    "negotiate HTTP/2 with ALPN" in {
+      app.withOkHttpEndpoints(Seq(NettyServerEndpointRecipes.Netty20Encrypted)) { okEndpoint =>
+        val response = okEndpoint.call("/version")
+        (response.protocol must_== Protocol.HTTP_2).and(response.body.string must_== "HTTP/2.0|true|false")
+      }
+    }
+
+    "keep serving HTTP/1.1 to clients that don't support HTTP/2" in {
+      app.withOkHttpEndpoints(Seq(NettyServerEndpointRecipes.Netty20Encrypted)) { okEndpoint =>
+        val client   = okEndpoint.clientBuilder.protocols(List(Protocol.HTTP_1_1).asJava).build()
+        val response = client.newCall(okEndpoint.request("/version")).execute()
+        (response.protocol must_== Protocol.HTTP_1_1).and(response.body.string must_== "HTTP/1.1|true|false")
+      }
+    }
+
+    "serve cleartext HTTP/2 to clients with prior knowledge" in {
+      app.withOkHttpEndpoints(Seq(NettyServerEndpointRecipes.Netty20Plaintext)) { okEndpoint =>
+        val client   = okEndpoint.clientBuilder.protocols(List(Protocol.H2_PRIOR_KNOWLEDGE).asJava).build()
+        val response = client.newCall(okEndpoint.request("/version")).execute()
+        (response.protocol must_== Protocol.H2_PRIOR_KNOWLEDGE).and(response.body.string must_== "HTTP/2.0|false|false")
+      }
+    }
+
+    "keep serving HTTP/1.1 on the cleartext port" in {
+      app.withOkHttpEndpoints(Seq(NettyServerEndpointRecipes.Netty20Plaintext)) { okEndpoint =>
+        val response = okEndpoint.call("/version")
+        (response.protocol must_== Protocol.HTTP_1_1).and(response.body.string must_== "HTTP/1.1|false|false")
+      }
+    }
+
+    "serve concurrent requests with bodies larger than the flow control window on one connection" in {
+      app.withOkHttpEndpoints(Seq(NettyServerEndpointRecipes.Netty20Encrypted)) { okEndpoint =>
+        val client   = okEndpoint.client
+        val body     = "x" * (256 * 1024)
+        val executor = Executors.newFixedThreadPool(8)
+        try {
+          val calls = (1 to 16).map { i =>
+            executor.submit(new Callable[(Protocol, String)] {
+              override def call(): (Protocol, String) = {
+                val request = okEndpoint
+                  .requestBuilder("/echo")
+                  .post(RequestBody.create(s"$i$body", MediaType.parse("text/plain")))
+                  .build()
+                val response = client.newCall(request).execute()
+                (response.protocol, response.body.string)
+              }
+            })
+          }
+          val responses = calls.map(_.get(30, TimeUnit.SECONDS))
+          (responses.map(_._1).toSet must_== Set(Protocol.HTTP_2))
+            .and(responses.map(_._2) must_== (1 to 16).map(i => s"$i$body"))
+            .and(client.connectionPool().connectionCount() must_== 1)
+        } finally executor.shutdown()
+      }
+    }
+  }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (C) from 2022 The Play Framework Contributors <https://github.com/playframework>, 2011-2021 Lightbend Inc. <https://www.lightbend.com>
+ */
+
+package play.it.http
+
+import java.util.concurrent.ConcurrentLinkedQueue
+
+import scala.concurrent.duration._
+import scala.jdk.CollectionConverters._
+
+import play.api.http.RequestStage
+import play.api.http.RequestTimingListener
+import play.api.mvc._
+import play.api.routing.Router
+import play.api.test.ApplicationFactories
+import play.api.test.ApplicationFactory
+import play.api.test.PlaySpecification
+import play.api.Application
+import play.api.ApplicationLoader
+import play.api.BuiltInComponentsFromContext
+import play.api.Environment
+import play.it.test.EndpointIntegrationSpecification
+import play.it.test.OkHttpEndpointSupport
+
+class RequestTimingListenerSpec
+    extends PlaySpecification
+    with EndpointIntegrationSpecification
+    with ApplicationFactories
+    with OkHttpEndpointSupport {
+  sequential
+
+  class RecordingListener extends RequestTimingListener {
+    val stages = new ConcurrentLinkedQueue[(String, RequestStage, Long)]()
+
+    override def enabled: Boolean = true
+
+    override def onStage(request: RequestHeader, stage: RequestStage, startNanos: Long, endNanos: Long): Unit =
+      stages.add((request.path, stage, endNanos - startNanos))
+  }
+
+  "RequestTimingListener" should {
+    val listener = new RecordingListener
+
+    val appFactory: ApplicationFactory = new ApplicationFactory {
+      override def create(): Application = {
+        val components = new BuiltInComponentsFromContext(ApplicationLoader.Context.create(Environment.simple())) {
+          import play.api.mvc.Results._
+          import play.api.routing.sird
+          import play.api.routing.sird._
+          override lazy val router: Router = Router.from {
+            case sird.GET(p"/hello") => Action { Ok("hello") }
+          }
+          override lazy val httpFilters: Seq[EssentialFilter] = Seq(new EssentialFilter {
+            def apply(next: EssentialAction) = EssentialAction(next(_))
+          })
+          override lazy val requestTimingListener: RequestTimingListener = listener
+        }
+        components.application
+      }
+    }
+
+    "receive every stage of a request" in appFactory.withAllOkHttpEndpoints { endpoint =>
+      listener.stages.clear()
+      val request = new okhttp3.Request.Builder()
+        .url(endpoint.endpoint.pathUrl("/hello"))
+        .get()
+        .build()
+      val response = endpoint.client.newCall(request).execute()
+      response.body.string must_== "hello"
+
+      def stageNames = listener.stages.asScala.toSeq.map(_._2.name)
+      stageNames must contain("resultConversion").eventually(10, 100.milliseconds)
+      stageNames must_== Seq(
+        "modelConversion",
+        "requestFactory",
+        "routing",
+        "filter",
+        "bodyParsing",
+        "action",
+        "resultConversion"
+      )
+      listener.stages.asScala.forall { case (path, _, duration) => path == "/hello" && duration >= 0 } must beTrue
+    }
+  }
+}
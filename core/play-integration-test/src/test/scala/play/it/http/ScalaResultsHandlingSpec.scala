@@ -138,6 +138,36 @@ trait ScalaResultsHandlingSpec
       finally JFiles.delete(emptyPath)
     }
 
+    "send a file region" in {
+      val path = JFiles.createTempFile("region", ".txt")
+      JFiles.writeString(path, "0123456789")
+      try {
+        makeRequest(
+          Results.Ok.sendEntity(HttpEntity.FileRegion(path, 2, 5, Some("text/plain")))
+        ) { response =>
+          response.status must_== 200
+          response.header(CONTENT_LENGTH) must beSome("5")
+          response.body[String] must_== "23456"
+        }
+      } finally JFiles.delete(path)
+    }
+
+    "send a path and call onClose once it has been sent" in {
+      val path = JFiles.createTempFile("send-path", ".txt")
+      JFiles.writeString(path, "Hello world")
+      import scala.concurrent.ExecutionContext.Implicits.global
+      implicit val fileMimeTypes: FileMimeTypes = new DefaultFileMimeTypes(FileMimeTypesConfiguration())
+      val closed                                = new java.util.concurrent.CountDownLatch(1)
+      try {
+        makeRequest(
+          Results.Ok.sendPath(path, onClose = () => closed.countDown())
+        ) { response =>
+          response.body[String] must_== "Hello world"
+          closed.await(10, java.util.concurrent.TimeUnit.SECONDS) must beTrue
+        }
+      } finally JFiles.delete(path)
+    }
+
     "not add a content length header when none is supplied" in makeRequest(
       Results.Ok.sendEntity(HttpEntity.Streamed(Source(List("abc", "def", "ghi")).map(ByteString.apply), None, None))
     ) { response =>
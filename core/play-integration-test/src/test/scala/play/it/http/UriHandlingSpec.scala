@@ -69,7 +69,9 @@ class UriHandlingSpec
               )
             }
         }
-      }.withOkHttpEndpoints(Seq(PekkoHttpServerEndpointRecipes.PekkoHttp20Encrypted)) { okEndpoint =>
+      }.withOkHttpEndpoints(
+        Seq(PekkoHttpServerEndpointRecipes.PekkoHttp20Encrypted, NettyServerEndpointRecipes.Netty20Encrypted)
+      ) { okEndpoint =>
         val response          = okEndpoint.call("/authority")
         val expectedAuthority = s"${okEndpoint.endpoint.host}:${okEndpoint.endpoint.port}"
 
@@ -4,9 +4,16 @@
 
 package play.it.http.parsing
 
+import java.security.MessageDigest
+
+import scala.concurrent.Future
+
+import org.apache.pekko.stream.scaladsl.Sink
 import org.apache.pekko.stream.scaladsl.Source
 import org.apache.pekko.util.ByteString
+import org.apache.pekko.Done
 import org.apache.pekko.NotUsed
+import play.api.libs.typedmap.TypedKey
 import play.api.libs.ws.WSClient
 import play.api.libs.Files.TemporaryFile
 import play.api.libs.Files.TemporaryFileCreator
@@ -18,6 +25,8 @@ import play.api.test._
 import play.api.Application
 import play.api.BuiltInComponentsFromContext
 import play.api.NoHttpFiltersComponents
+import play.core.parsers.FilePartInspector
+import play.core.parsers.Multipart
 import play.core.parsers.Multipart.FileInfoMatcher
 import play.core.parsers.Multipart.PartInfoMatcher
 import play.core.server.Server
@@ -464,6 +473,70 @@ class MultipartFormDataParserSpec extends PlaySpecification with WsTestClient {
       }
     }
 
+    "inspect the file parts while they are written" in new WithApplication() {
+      override def running() = {
+        val handler = Multipart.inspectFileParts(
+          Multipart.handleFilePartAsTemporaryFile(app.injector.instanceOf[TemporaryFileCreator]),
+          FilePartInspector.sha256,
+          FilePartInspector.size,
+          FilePartInspector.head(5)
+        )
+        val parser = parse
+          .multipartFormData(handler)
+          .apply(FakeRequest().withHeaders(CONTENT_TYPE -> "multipart/form-data; boundary=aabbccddee"))
+
+        val bytes  = body.getBytes.map(byte => ByteString(byte)).toVector
+        val result = await(parser.run(Source(bytes)))
+
+        checkResult(result)
+        result must beRight[MultipartFormData[TemporaryFile]].like {
+          case parts =>
+            parts.file("file1") must beSome[FilePart[TemporaryFile]].like {
+              case filePart =>
+                val sha256 = MessageDigest.getInstance("SHA-256").digest("the first file\r\n".getBytes("UTF-8"))
+                filePart.attrs(FilePartInspector.Sha256Key) must_== ByteString(sha256)
+                filePart.attrs(FilePartInspector.SizeKey) must_== 16L
+                filePart.attrs(FilePartInspector.HeadKey) must_== ByteString("the f")
+            }
+        }
+      }
+    }
+
+    "copy the file parts to a sink while they are written" in new WithApplication() {
+      override def running() = {
+        val copy    = TypedKey[ByteString]("copy")
+        val handler = Multipart.copyFileParts(
+          Multipart.handleFilePartAsTemporaryFile(app.injector.instanceOf[TemporaryFileCreator]),
+          copy
+        )(_ => Sink.fold(ByteString.empty)(_ ++ _))
+        val parser = parse
+          .multipartFormData(handler)
+          .apply(FakeRequest().withHeaders(CONTENT_TYPE -> "multipart/form-data; boundary=aabbccddee"))
+
+        val result = await(parser.run(Source.single(ByteString(body))))
+
+        checkResult(result)
+        result must beRight[MultipartFormData[TemporaryFile]].like {
+          case parts =>
+            parts.file("file2").map(_.attrs(copy)) must beSome(ByteString("the second file\r\n"))
+        }
+      }
+    }
+
+    "fail the file parts the copy of which is cancelled before their end" in new WithApplication() {
+      override def running() = {
+        val handler = Multipart.copyFileParts(
+          Multipart.handleFilePartAsTemporaryFile(app.injector.instanceOf[TemporaryFileCreator]),
+          TypedKey[Done]("copy")
+        )(_ => Sink.cancelled[ByteString].mapMaterializedValue(_ => Future.successful(Done)))
+        val parser = parse
+          .multipartFormData(handler)
+          .apply(FakeRequest().withHeaders(CONTENT_TYPE -> "multipart/form-data; boundary=aabbccddee"))
+
+        await(parser.run(Source.single(ByteString(body)))) must throwAn[IllegalStateException]
+      }
+    }
+
     "parse headers with semicolon inside quotes" in {
       val result = FileInfoMatcher.unapply(
         Map(
@@ -12,6 +12,8 @@ import play.api.Configuration
 import play.core.server.NettyServer
 
 object NettyServerEndpointRecipes {
+  private val http2Conf = Configuration("play.server.netty.http2.enabled" -> true)
+
   val Netty11Plaintext = new HttpServerEndpointRecipe(
     "Netty HTTP/1.1 (plaintext)",
     NettyServer.provider,
@@ -28,6 +30,22 @@ object NettyServerEndpointRecipes {
     Option("netty")
   )
 
+  val Netty20Plaintext = new HttpServerEndpointRecipe(
+    "Netty HTTP/2 (plaintext)",
+    NettyServer.provider,
+    http2Conf,
+    Set(HttpProtocol.HTTP_1_0, HttpProtocol.HTTP_1_1, HttpProtocol.HTTP_2_0),
+    Option("netty")
+  )
+
+  val Netty20Encrypted = new HttpsServerEndpointRecipe(
+    "Netty HTTP/2 (encrypted)",
+    NettyServer.provider,
+    http2Conf,
+    Set(HttpProtocol.HTTP_1_0, HttpProtocol.HTTP_1_1, HttpProtocol.HTTP_2_0),
+    Option("netty")
+  )
+
   val AllRecipes: Seq[ServerEndpointRecipe] = Seq(
     Netty11Plaintext,
     Netty11Encrypted
@@ -96,9 +96,15 @@ public class EventSource {
      * @return This event formatted according to the EventSource protocol.
      */
     public String formatted() {
+      return asScala().formatted();
+    }
+
+    /**
+     * @return The Scala version of this event.
+     */
+    public play.api.libs.EventSource.Event asScala() {
       return new play.api.libs.EventSource.Event(
-              Scala.Option(data), Scala.Option(id), Scala.Option(name), Scala.Option(comment))
-          .formatted();
+          Scala.Option(data), Scala.Option(id), Scala.Option(name), Scala.Option(comment));
     }
 
     /**
@@ -0,0 +1,116 @@
+/*
+ * Copyright (C) from 2022 The Play Framework Contributors <https://github.com/playframework>, 2011-2021 Lightbend Inc. <https://www.lightbend.com>
+ */
+
+package play.libs;
+
+import java.util.Optional;
+import org.apache.pekko.NotUsed;
+import org.apache.pekko.stream.Materializer;
+import org.apache.pekko.stream.javadsl.Flow;
+import org.apache.pekko.stream.javadsl.Sink;
+import org.apache.pekko.stream.javadsl.Source;
+import org.apache.pekko.util.ByteString;
+import play.mvc.Http;
+import scala.jdk.javaapi.OptionConverters;
+
+/**
+ * Broadcasts Server Sent Events to any number of subscribers.
+ *
+ * <p>Each published event is formatted and encoded once, and the same bytes are handed to every
+ * subscriber. Every subscriber has its own bounded buffer, so a slow client doesn't hold up the
+ * others: when its buffer is full its stream fails and the client reconnects.
+ *
+ * <p>The hub keeps the most recent events in a replay buffer, so a client reconnecting with the
+ * {@code Last-Event-ID} header resumes after the last event it received.
+ *
+ * <p>Example:
+ *
+ * <pre>{@code
+ * EventSourceHub hub = new EventSourceHub(100, 256, materializer);
+ * updates.map(update -> EventSource.Event.event(update.json).withId(update.id)).runWith(hub.sink(), materializer);
+ *
+ * public Result events(Http.Request request) {
+ *   return ok().chunked(hub.source(request)).as(Http.MimeTypes.EVENT_STREAM);
+ * }
+ * }</pre>
+ */
+public class EventSourceHub {
+
+  private final play.api.libs.EventSourceHub hub;
+
+  /**
+   * @param replayBufferSize The number of recent events kept to be replayed to reconnecting clients.
+   * @param subscriberBufferSize The number of events buffered for a subscriber that doesn't keep
+   *     up.
+   * @param materializer The materializer of the subscriber streams.
+   */
+  public EventSourceHub(int replayBufferSize, int subscriberBufferSize, Materializer materializer) {
+    this.hub = new play.api.libs.EventSourceHub(replayBufferSize, subscriberBufferSize, materializer);
+  }
+
+  /**
+   * Creates a hub replaying the last 100 events, and buffering 256 events per subscriber.
+   *
+   * @param materializer The materializer of the subscriber streams.
+   */
+  public EventSourceHub(Materializer materializer) {
+    this(100, 256, materializer);
+  }
+
+  /**
+   * Publishes an event to all subscribers. This doesn't block, and may be called from any thread.
+   *
+   * @param event The event to publish.
+   */
+  public void publish(EventSource.Event event) {
+    hub.publish(event.asScala());
+  }
+
+  /**
+   * @return A sink that publishes the events it receives, and completes the hub when it completes.
+   */
+  public Sink<EventSource.Event, NotUsed> sink() {
+    return Flow.of(EventSource.Event.class)
+        .map(EventSource.Event::asScala)
+        .to(hub.sink());
+  }
+
+  /** Completes the streams of all subscribers. */
+  public void complete() {
+    hub.complete();
+  }
+
+  /**
+   * Subscribes to the hub, resuming after the event given in the {@code Last-Event-ID} header of
+   * the request, if any.
+   *
+   * @param request The request of the subscriber.
+   * @return The formatted events.
+   */
+  public Source<ByteString, NotUsed> source(Http.RequestHeader request) {
+    return source(request.header("Last-Event-ID"));
+  }
+
+  /**
+   * Subscribes to the hub.
+   *
+   * <p>The subscription starts when the source is run, not when it's created, so the source can be
+   * run several times, each run being a subscriber of its own, and a source that is never run
+   * doesn't hold on to any events.
+   *
+   * @param lastEventId The id of the last event the client received. The buffered events published
+   *     after it are sent first.
+   * @return The formatted events.
+   */
+  public Source<ByteString, NotUsed> source(Optional<String> lastEventId) {
+    return hub.source(OptionConverters.toScala(lastEventId)).asJava();
+  }
+
+  /**
+   * @return The number of current subscribers.
+   */
+  public int subscriberCount() {
+    return hub.subscriberCount();
+  }
+}
@@ -0,0 +1,220 @@
+/*
+ * Copyright (C) from 2022 The Play Framework Contributors <https://github.com/playframework>, 2011-2021 Lightbend Inc. <https://www.lightbend.com>
+ */
+
+package play.data;
+
+import play.data.validation.Constraints;
+
+/** A form with 50 fields, for {@code Form_01_RenderFields}. */
+public class FiftyFields {
+  @Constraints.Required
+  @Constraints.Email
+  @Constraints.MaxLength(100)
+  public String field0;
+
+  @Constraints.Required
+  @Constraints.MaxLength(100)
+  public String field1;
+
+  @Constraints.Required
+  @Constraints.MaxLength(100)
+  public String field2;
+
+  @Constraints.Required
+  @Constraints.MaxLength(100)
+  public String field3;
+
+  @Constraints.Required
+  @Constraints.MaxLength(100)
+  public String field4;
+
+  @Constraints.Required
+  @Constraints.Email
+  @Constraints.MaxLength(100)
+  public String field5;
+
+  @Constraints.Required
+  @Constraints.MaxLength(100)
+  public String field6;
+
+  @Constraints.Required
+  @Constraints.MaxLength(100)
+  public String field7;
+
+  @Constraints.Required
+  @Constraints.MaxLength(100)
+  public String field8;
+
+  @Constraints.Required
+  @Constraints.MaxLength(100)
+  public String field9;
+
+  @Constraints.Required
+  @Constraints.Email
+  @Constraints.MaxLength(100)
+  public String field10;
+
+  @Constraints.Required
+  @Constraints.MaxLength(100)
+  public String field11;
+
+  @Constraints.Required
+  @Constraints.MaxLength(100)
+  public String field12;
+
+  @Constraints.Required
+  @Constraints.MaxLength(100)
+  public String field13;
+
+  @Constraints.Required
+  @Constraints.MaxLength(100)
+  public String field14;
+
+  @Constraints.Required
+  @Constraints.Email
+  @Constraints.MaxLength(100)
+  public String field15;
+
+  @Constraints.Required
+  @Constraints.MaxLength(100)
+  public String field16;
+
+  @Constraints.Required
+  @Constraints.MaxLength(100)
+  public String field17;
+
+  @Constraints.Required
+  @Constraints.MaxLength(100)
+  public String field18;
+
+  @Constraints.Required
+  @Constraints.MaxLength(100)
+  public String field19;
+
+  @Constraints.Required
+  @Constraints.Email
+  @Constraints.MaxLength(100)
+  public String field20;
+
+  @Constraints.Required
+  @Constraints.MaxLength(100)
+  public String field21;
+
+  @Constraints.Required
+  @Constraints.MaxLength(100)
+  public String field22;
+
+  @Constraints.Required
+  @Constraints.MaxLength(100)
+  public String field23;
+
+  @Constraints.Required
+  @Constraints.MaxLength(100)
+  public String field24;
+
+  @Constraints.Required
+  @Constraints.Email
+  @Constraints.MaxLength(100)
+  public String field25;
+
+  @Constraints.Required
+  @Constraints.MaxLength(100)
+  public String field26;
+
+  @Constraints.Required
+  @Constraints.MaxLength(100)
+  public String field27;
+
+  @Constraints.Required
+  @Constraints.MaxLength(100)
+  public String field28;
+
+  @Constraints.Required
+  @Constraints.MaxLength(100)
+  public String field29;
+
+  @Constraints.Required
+  @Constraints.Email
+  @Constraints.MaxLength(100)
+  public String field30;
+
+  @Constraints.Required
+  @Constraints.MaxLength(100)
+  public String field31;
+
+  @Constraints.Required
+  @Constraints.MaxLength(100)
+  public String field32;
+
+  @Constraints.Required
+  @Constraints.MaxLength(100)
+  public String field33;
+
+  @Constraints.Required
+  @Constraints.MaxLength(100)
+  public String field34;
+
+  @Constraints.Required
+  @Constraints.Email
+  @Constraints.MaxLength(100)
+  public String field35;
+
+  @Constraints.Required
+  @Constraints.MaxLength(100)
+  public String field36;
+
+  @Constraints.Required
+  @Constraints.MaxLength(100)
+  public String field37;
+
+  @Constraints.Required
+  @Constraints.MaxLength(100)
+  public String field38;
+
+  @Constraints.Required
+  @Constraints.MaxLength(100)
+  public String field39;
+
+  @Constraints.Required
+  @Constraints.Email
+  @Constraints.MaxLength(100)
+  public String field40;
+
+  @Constraints.Required
+  @Constraints.MaxLength(100)
+  public String field41;
+
+  @Constraints.Required
+  @Constraints.MaxLength(100)
+  public String field42;
+
+  @Constraints.Required
+  @Constraints.MaxLength(100)
+  public String field43;
+
+  @Constraints.Required
+  @Constraints.MaxLength(100)
+  public String field44;
+
+  @Constraints.Required
+  @Constraints.Email
+  @Constraints.MaxLength(100)
+  public String field45;
+
+  @Constraints.Required
+  @Constraints.MaxLength(100)
+  public String field46;
+
+  @Constraints.Required
+  @Constraints.MaxLength(100)
+  public String field47;
+
+  @Constraints.Required
+  @Constraints.MaxLength(100)
+  public String field48;
+
+  @Constraints.Required
+  @Constraints.MaxLength(100)
+  public String field49;
+}
@@ -0,0 +1,248 @@
+/*
+ * Copyright (C) from 2022 The Play Framework Contributors <https://github.com/playframework>, 2011-2021 Lightbend Inc. <https://www.lightbend.com>
+ */
+
+package play.data;
+
+import play.data.validation.Constraints;
+
+/** A form with 20 fields of different types, for {@code Form_02_BindFromRequest}. */
+public class TwentyFields {
+  @Constraints.Required
+  @Constraints.MaxLength(100)
+  private String name0;
+
+  @Constraints.Required
+  @Constraints.Email
+  private String email1;
+
+  @Constraints.Required
+  @Constraints.MaxLength(100)
+  private String name2;
+
+  @Constraints.Min(0)
+  @Constraints.Max(1000)
+  private int count3;
+
+  @Constraints.Required
+  @Constraints.MaxLength(100)
+  private String name4;
+
+  @Constraints.Required
+  @Constraints.Email
+  private String email5;
+
+  @Constraints.Required
+  @Constraints.MaxLength(100)
+  private String name6;
+
+  @Constraints.Min(0)
+  @Constraints.Max(1000)
+  private int count7;
+
+  @Constraints.Required
+  @Constraints.MaxLength(100)
+  private String name8;
+
+  @Constraints.Required
+  @Constraints.Email
+  private String email9;
+
+  @Constraints.Required
+  @Constraints.MaxLength(100)
+  private String name10;
+
+  @Constraints.Min(0)
+  @Constraints.Max(1000)
+  private int count11;
+
+  @Constraints.Required
+  @Constraints.MaxLength(100)
+  private String name12;
+
+  @Constraints.Required
+  @Constraints.Email
+  private String email13;
+
+  @Constraints.Required
+  @Constraints.MaxLength(100)
+  private String name14;
+
+  @Constraints.Min(0)
+  @Constraints.Max(1000)
+  private int count15;
+
+  @Constraints.Required
+  @Constraints.MaxLength(100)
+  private String name16;
+
+  @Constraints.Required
+  @Constraints.Email
+  private String email17;
+
+  private boolean flag18;
+
+  @Constraints.Min(0)
+  @Constraints.Max(1000)
+  private int count19;
+
+  public String getName0() {
+    return name0;
+  }
+
+  public void setName0(String name0) {
+    this.name0 = name0;
+  }
+
+  public String getEmail1() {
+    return email1;
+  }
+
+  public void setEmail1(String email1) {
+    this.email1 = email1;
+  }
+
+  public String getName2() {
+    return name2;
+  }
+
+  public void setName2(String name2) {
+    this.name2 = name2;
+  }
+
+  public int getCount3() {
+    return count3;
+  }
+
+  public void setCount3(int count3) {
+    this.count3 = count3;
+  }
+
+  public String getName4() {
+    return name4;
+  }
+
+  public void setName4(String name4) {
+    this.name4 = name4;
+  }
+
+  public String getEmail5() {
+    return email5;
+  }
+
+  public void setEmail5(String email5) {
+    this.email5 = email5;
+  }
+
+  public String getName6() {
+    return name6;
+  }
+
+  public void setName6(String name6) {
+    this.name6 = name6;
+  }
+
+  public int getCount7() {
+    return count7;
+  }
+
+  public void setCount7(int count7) {
+    this.count7 = count7;
+  }
+
+  public String getName8() {
+    return name8;
+  }
+
+  public void setName8(String name8) {
+    this.name8 = name8;
+  }
+
+  public String getEmail9() {
+    return email9;
+  }
+
+  public void setEmail9(String email9) {
+    this.email9 = email9;
+  }
+
+  public String getName10() {
+    return name10;
+  }
+
+  public void setName10(String name10) {
+    this.name10 = name10;
+  }
+
+  public int getCount11() {
+    return count11;
+  }
+
+  public void setCount11(int count11) {
+    this.count11 = count11;
+  }
+
+  public String getName12() {
+    return name12;
+  }
+
+  public void setName12(String name12) {
+    this.name12 = name12;
+  }
+
+  public String getEmail13() {
+    return email13;
+  }
+
+  public void setEmail13(String email13) {
+    this.email13 = email13;
+  }
+
+  public String getName14() {
+    return name14;
+  }
+
+  public void setName14(String name14) {
+    this.name14 = name14;
+  }
+
+  public int getCount15() {
+    return count15;
+  }
+
+  public void setCount15(int count15) {
+    this.count15 = count15;
+  }
+
+  public String getName16() {
+    return name16;
+  }
+
+  public void setName16(String name16) {
+    this.name16 = name16;
+  }
+
+  public String getEmail17() {
+    return email17;
+  }
+
+  public void setEmail17(String email17) {
+    this.email17 = email17;
+  }
+
+  public boolean isFlag18() {
+    return flag18;
+  }
+
+  public void setFlag18(boolean flag18) {
+    this.flag18 = flag18;
+  }
+
+  public int getCount19() {
+    return count19;
+  }
+
+  public void setCount19(int count19) {
+    this.count19 = count19;
+  }
+}
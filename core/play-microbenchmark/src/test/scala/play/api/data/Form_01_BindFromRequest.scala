@@ -0,0 +1,57 @@
+/*
+ * Copyright (C) from 2022 The Play Framework Contributors <https://github.com/playframework>, 2011-2021 Lightbend Inc. <https://www.lightbend.com>
+ */
+
+package play.api.data
+
+import org.openjdk.jmh.annotations._
+import org.openjdk.jmh.infra.Blackhole
+import play.api.data.Forms._
+
+/**
+ * This benchmark binds a form with nested, repeated and optional fields from submitted data, and fills it back, as
+ * done to render it again.
+ */
+@State(Scope.Benchmark)
+class Form_01_BindFromRequest {
+  type Contact = (String, String, Option[String])
+  type Order   = (String, Int, List[String], List[Contact])
+
+  val form: Form[Order] = Form(
+    tuple(
+      "customer" -> nonEmptyText,
+      "quantity" -> number(min = 1),
+      "coupons"  -> list(text),
+      "contacts" -> list(tuple("name" -> nonEmptyText, "email" -> email, "phone" -> optional(text)))
+    )
+  )
+
+  @Param(Array("10"))
+  var contacts: Int = 0
+
+  var data: Map[String, Seq[String]] = null
+  var order: Order                   = null
+
+  @Setup(Level.Trial)
+  def setup(): Unit = {
+    val contactData = (0 until contacts).flatMap { i =>
+      Seq(
+        s"contacts[$i].name"  -> Seq(s"Contact $i"),
+        s"contacts[$i].email" -> Seq(s"contact$i@example.com"),
+        s"contacts[$i].phone" -> Seq(if (i % 2 == 0) s"+41 $i" else "")
+      )
+    }
+    data = Map("customer" -> Seq("Bob"), "quantity" -> Seq("3"), "coupons[]" -> Seq("A", "B", "C")) ++ contactData
+    order = form.bindFromRequest(data).get
+  }
+
+  @Benchmark
+  def bindFromRequest(bh: Blackhole): Unit = {
+    bh.consume(form.bindFromRequest(data).value)
+  }
+
+  @Benchmark
+  def fill(bh: Blackhole): Unit = {
+    bh.consume(form.fill(order).data)
+  }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (C) from 2022 The Play Framework Contributors <https://github.com/playframework>, 2011-2021 Lightbend Inc. <https://www.lightbend.com>
+ */
+
+package play.api.i18n
+
+import java.text.MessageFormat
+
+import org.openjdk.jmh.annotations._
+import org.openjdk.jmh.infra.Blackhole
+
+/**
+ * This benchmark looks up the messages of a page, as a template would: mostly labels without arguments, some
+ * messages with arguments, in a regional language falling back to its language and to the default messages.
+ */
+@State(Scope.Benchmark)
+class Messages_01_RenderPage {
+  @Param(Array("200"))
+  var lookups: Int = 0
+
+  var messagesApi: MessagesApi                   = null
+  var messages: Map[String, Map[String, String]] = null
+  val lang: Lang                                 = Lang("fr-CH")
+  var keys: Array[String]                        = null
+
+  @Setup(Level.Trial)
+  def setup(): Unit = {
+    val labels   = (0 until 100).map(i => s"label.$i" -> s"Default label $i").toMap
+    val withArgs = (0 until 20).map(i => s"args.$i" -> s"Hello {0}, you have {1} new messages in folder $i").toMap
+    messages = Map(
+      "default.play" -> Map("error.required" -> "This field is required"),
+      "default"      -> (labels ++ withArgs),
+      "fr"           -> (0 until 50).map(i => s"label.$i" -> s"Libellé $i").toMap,
+      "fr-CH"        -> (0 until 10).map(i => s"label.$i" -> s"Libellé suisse $i").toMap
+    )
+    messagesApi = new DefaultMessagesApi(messages, new DefaultLangs(Seq(Lang("en"), Lang("fr"), lang)))
+    keys = Array.tabulate(lookups) { i =>
+      if (i % 10 == 0) s"args.${i % 20}" else if (i % 25 == 1) "error.required" else s"label.${i % 100}"
+    }
+  }
+
+  @Benchmark
+  def renderPage(bh: Blackhole): Unit = {
+    var i = 0
+    while (i < keys.length) {
+      bh.consume(messagesApi(keys(i), "Bob", 3)(using lang))
+      i += 1
+    }
+  }
+
+  /**
+   * The lookup done before the messages were flattened and their patterns parsed once, for comparison.
+   */
+  @Benchmark
+  def renderPageParsingPatterns(bh: Blackhole): Unit = {
+    val args = Array[Object]("Bob", Integer.valueOf(3))
+    var i    = 0
+    while (i < keys.length) {
+      val key     = keys(i)
+      val pattern = Seq(lang.code, lang.language, "default", "default.play").foldLeft(Option.empty[String]) {
+        (res, code) => res.orElse(messages.get(code).flatMap(_.get(key)))
+      }
+      bh.consume(pattern.map(p => new MessageFormat(p, lang.toLocale).format(args)))
+      i += 1
+    }
+  }
+}
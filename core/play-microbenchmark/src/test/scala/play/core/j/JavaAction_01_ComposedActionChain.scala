@@ -0,0 +1,71 @@
+/*
+ * Copyright (C) from 2022 The Play Framework Contributors <https://github.com/playframework>, 2011-2021 Lightbend Inc. <https://www.lightbend.com>
+ */
+
+package play.core.j
+
+import scala.concurrent.duration._
+import scala.concurrent.Await
+
+import org.openjdk.jmh.annotations._
+import play.api.inject.guice.GuiceApplicationBuilder
+import play.api.mvc.BodyParsers
+import play.api.mvc.MvcHelpers
+import play.api.mvc.Request
+import play.api.mvc.Result
+import play.api.Application
+import play.api.Play
+import play.it.http.MultipleRepeatableOnActionController
+import play.mvc.Http
+
+/**
+ * This benchmark calls a Java action composed with four actions, either resolving the action composition chain on
+ * every request or using the chain precompiled for the route.
+ */
+@State(Scope.Benchmark)
+class JavaAction_01_ComposedActionChain {
+  @Param(Array("false", "true"))
+  var precompileChains: String = null
+
+  var app: Application                   = null
+  var action: JavaAction                 = null
+  var request: Request[Http.RequestBody] = null
+  var result: Result                     = null
+
+  @Setup(Level.Trial)
+  def setup(): Unit = {
+    app = GuiceApplicationBuilder()
+      .configure("play.http.actionComposition.precompileChains" -> precompileChains)
+      .build()
+    val controller = new MultipleRepeatableOnActionController
+    action = new JavaAction(app.injector.instanceOf[JavaHandlerComponents]) {
+      val annotations = new JavaActionAnnotations(
+        controller.getClass,
+        controller.getClass.getMethod("action", classOf[Http.Request]),
+        this.handlerComponents.httpConfiguration.actionComposition
+      )
+      val parser                        = BodyParsers.utils.ignore(new Http.RequestBody(null))
+      def invocation(req: Http.Request) = controller.invocation(req)
+    }
+    request = MvcHelpers
+      .requestHeaderFromHeaders(List("Host" -> "www.playframework.com"))
+      .withBody(new Http.RequestBody(null))
+  }
+
+  @TearDown(Level.Trial)
+  def tearDown(): Unit = {
+    Play.stop(app)
+  }
+
+  @TearDown(Level.Iteration)
+  def checkResult(): Unit = {
+    // Check the benchmark got the correct result
+    assert(result.header.status == 200)
+    result = null
+  }
+
+  @Benchmark
+  def callAction(): Unit = {
+    result = Await.result(action(request), 10.seconds)
+  }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright (C) from 2022 The Play Framework Contributors <https://github.com/playframework>, 2011-2021 Lightbend Inc. <https://www.lightbend.com>
+ */
+
+package play.core.j
+
+import org.openjdk.jmh.annotations._
+import org.openjdk.jmh.infra.Blackhole
+import play.api.http.HttpConfiguration
+import play.api.mvc.request.DefaultRequestFactory
+import play.api.mvc.RequestHeader
+import play.core.server.netty.NettyHelpers
+import play.mvc.Http
+
+/**
+ * This benchmark reads five query string parameters and three cookies from a Java request, the way a typical Java
+ * controller does. Every invocation wraps the request again, so the cost of building the Java views is included.
+ */
+@State(Scope.Benchmark)
+class JavaRequest_01_ReadQueryStringAndCookies {
+  var requestHeader: RequestHeader = null
+
+  @Setup(Level.Trial)
+  def setup(): Unit = {
+    val channel      = NettyHelpers.nettyChannel(remoteAddress = NettyHelpers.localhost, ssl = false)
+    val nettyRequest = NettyHelpers.nettyRequest(
+      target = "/search?q=play+framework&page=2&size=20&sort=date&order=desc",
+      headers = List(
+        "Host"            -> "www.playframework.com",
+        "Accept-Language" -> "en-US,en;q=0.8",
+        "Cookie"          -> "theme=dark; tz=Europe%2FBerlin; consent=1"
+      )
+    )
+    val convertedRequest = NettyHelpers.conversion.convertRequest(channel, nettyRequest).get
+    requestHeader = new DefaultRequestFactory(HttpConfiguration()).copyRequestHeader(convertedRequest)
+  }
+
+  @Benchmark
+  def readQueryStringAndCookies(bh: Blackhole): Unit = {
+    val request: Http.RequestHeader = new RequestHeaderImpl(requestHeader)
+    bh.consume(request.queryString("q"))
+    bh.consume(request.queryString("page"))
+    bh.consume(request.queryString("size"))
+    bh.consume(request.queryString("sort"))
+    bh.consume(request.queryString("order"))
+    bh.consume(request.cookie("theme"))
+    bh.consume(request.cookie("tz"))
+    bh.consume(request.cookie("consent"))
+  }
+}
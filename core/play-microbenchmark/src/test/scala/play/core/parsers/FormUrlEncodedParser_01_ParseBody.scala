@@ -0,0 +1,37 @@
+/*
+ * Copyright (C) from 2022 The Play Framework Contributors <https://github.com/playframework>, 2011-2021 Lightbend Inc. <https://www.lightbend.com>
+ */
+
+package play.core.parsers
+
+import org.apache.pekko.util.ByteString
+import org.openjdk.jmh.annotations._
+import org.openjdk.jmh.infra.Blackhole
+
+/**
+ * This benchmark parses the body of a form of 20 fields, some of which are repeated or have escaped characters, as
+ * the Scala and the Java form url encoded body parsers do.
+ */
+@State(Scope.Benchmark)
+class FormUrlEncodedParser_01_ParseBody {
+  var body: ByteString = null
+
+  @Setup(Level.Trial)
+  def setup(): Unit = {
+    body = ByteString(
+      (0 until 20)
+        .map(i => if (i % 4 == 0) s"tags=tag+$i" else s"field$i=user$i%40example.com")
+        .mkString("&")
+    )
+  }
+
+  @Benchmark
+  def parse(bh: Blackhole): Unit = {
+    bh.consume(FormUrlEncodedParser.parse(body, "UTF-8"))
+  }
+
+  @Benchmark
+  def parseAsJavaArrayValues(bh: Blackhole): Unit = {
+    bh.consume(FormUrlEncodedParser.parseAsJavaArrayValues(body, "UTF-8"))
+  }
+}
@@ -0,0 +1,25 @@
+/*
+ * Copyright (C) from 2022 The Play Framework Contributors <https://github.com/playframework>, 2011-2021 Lightbend Inc. <https://www.lightbend.com>
+ */
+
+package play.data
+
+import com.typesafe.config.ConfigFactory
+import jakarta.validation.Validation
+import org.hibernate.validator.messageinterpolation.ParameterMessageInterpolator
+import play.api.i18n.DefaultLangs
+import play.api.i18n.DefaultMessagesApi
+import play.data.format.Formatters
+
+object FormHelpers {
+  def formFactory(): FormFactory = {
+    val langs            = new DefaultLangs().asJava
+    val messagesApi      = new play.i18n.MessagesApi(new DefaultMessagesApi(langs = langs.asScala()))
+    val validatorFactory = Validation
+      .byDefaultProvider()
+      .configure()
+      .messageInterpolator(new ParameterMessageInterpolator())
+      .buildValidatorFactory()
+    new FormFactory(messagesApi, langs, new Formatters(messagesApi), validatorFactory, ConfigFactory.load())
+  }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright (C) from 2022 The Play Framework Contributors <https://github.com/playframework>, 2011-2021 Lightbend Inc. <https://www.lightbend.com>
+ */
+
+package play.data
+
+import org.openjdk.jmh.annotations._
+import org.openjdk.jmh.infra.Blackhole
+
+/**
+ * This benchmark renders the fields of a filled form of 50 fields, as a template would, looking up the value, the
+ * format and the constraints of each field.
+ */
+@State(Scope.Benchmark)
+class Form_01_RenderFields {
+  var form: Form[FiftyFields] = null
+  var keys: Array[String]     = null
+
+  @Setup(Level.Trial)
+  def setup(): Unit = {
+    val value = new FiftyFields
+    keys = Array.tabulate(50) { i =>
+      classOf[FiftyFields].getField(s"field$i").set(value, s"user$i@example.com")
+      s"field$i"
+    }
+    form = FormHelpers.formFactory().form(classOf[FiftyFields]).withDirectFieldAccess(true).fill(value)
+  }
+
+  @Benchmark
+  def renderFields(bh: Blackhole): Unit = {
+    var i = 0
+    while (i < keys.length) {
+      val field = form.field(keys(i))
+      bh.consume(field.value())
+      bh.consume(field.constraints())
+      bh.consume(field.format())
+      i += 1
+    }
+  }
+}
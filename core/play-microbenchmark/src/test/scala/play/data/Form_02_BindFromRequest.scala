@@ -0,0 +1,47 @@
+/*
+ * Copyright (C) from 2022 The Play Framework Contributors <https://github.com/playframework>, 2011-2021 Lightbend Inc. <https://www.lightbend.com>
+ */
+
+package play.data
+
+import scala.jdk.CollectionConverters._
+
+import org.openjdk.jmh.annotations._
+import org.openjdk.jmh.infra.Blackhole
+import play.mvc.Http
+
+/**
+ * This benchmark binds a form of 20 fields of different types from a submitted request, with a form kept as a template
+ * and with a new form for each request, as a controller would create it.
+ */
+@State(Scope.Benchmark)
+class Form_02_BindFromRequest {
+  var formFactory: FormFactory     = null
+  var template: Form[TwentyFields] = null
+  var request: Http.Request        = null
+
+  @Setup(Level.Trial)
+  def setup(): Unit = {
+    formFactory = FormHelpers.formFactory()
+    template = formFactory.form(classOf[TwentyFields])
+    val data = (0 until 20).map { i =>
+      i % 4 match {
+        case 3            => s"count$i" -> i.toString
+        case 1            => s"email$i" -> s"user$i@example.com"
+        case _ if i == 18 => s"flag$i"  -> "true"
+        case _            => s"name$i"  -> s"Name $i"
+      }
+    }
+    request = new Http.RequestBuilder().method("POST").bodyForm(data.toMap.asJava).build()
+  }
+
+  @Benchmark
+  def bindTemplate(bh: Blackhole): Unit = {
+    bh.consume(template.bindFromRequest(request).get())
+  }
+
+  @Benchmark
+  def bindNewForm(bh: Blackhole): Unit = {
+    bh.consume(formFactory.form(classOf[TwentyFields]).bindFromRequest(request).get())
+  }
+}
@@ -0,0 +1,328 @@
+/*
+ * Copyright (C) from 2022 The Play Framework Contributors <https://github.com/playframework>, 2011-2021 Lightbend Inc. <https://www.lightbend.com>
+ */
+
+package play.microbenchmark.it
+
+import java.nio.file.Files
+import java.nio.file.Path
+import java.util.concurrent.ArrayBlockingQueue
+import java.util.concurrent.TimeUnit
+
+import scala.util.Random
+
+import okhttp3.FormBody
+import okhttp3.MediaType
+import okhttp3.MultipartBody
+import okhttp3.OkHttpClient
+import okhttp3.Request
+import okhttp3.RequestBody
+import okhttp3.Response
+import okhttp3.WebSocket
+import okhttp3.WebSocketListener
+import org.apache.pekko.stream.scaladsl.Flow
+import org.openjdk.jmh.annotations._
+import org.openjdk.jmh.profile.GCProfiler
+import org.openjdk.jmh.results.format.ResultFormatType
+import org.openjdk.jmh.runner.options.CommandLineOptions
+import org.openjdk.jmh.runner.options.OptionsBuilder
+import org.openjdk.jmh.runner.Runner
+import play.api.http.HeaderNames
+import play.api.inject.guice.GuiceApplicationBuilder
+import play.api.mvc.{ WebSocket => PlayWebSocket }
+import play.api.mvc.DefaultActionBuilder
+import play.api.mvc.Handler
+import play.api.mvc.PlayBodyParsers
+import play.api.mvc.RangeResult
+import play.api.mvc.Results
+import play.api.test.ApplicationFactory
+import play.api.test.ServerEndpointRecipe
+import play.api.Application
+import play.core.routing.DynamicPart
+import play.core.routing.PathPattern
+import play.core.routing.StaticPart
+import play.core.server.LoggingTrustManager
+import play.core.server.ServerEndpoint
+import play.filters.csrf.CSRF
+import play.filters.csrf.CSRFAddToken
+import play.filters.csrf.CSRFCheck
+import play.filters.gzip.GzipFilter
+import play.it.http.JAction
+import play.it.http.MultipleRepeatableOnActionController
+import play.microbenchmark.it.EndToEndBenchmark.ThreadState
+
+/**
+ * Benchmark which starts a full Play server with an application exercising realistic request paths, and makes
+ * requests to it with the OkHttp client, one client per thread.
+ *
+ * Each scenario is measured both as throughput and as sampled latency, which JMH reports with its percentiles. Run
+ * the suite with [[EndToEndBenchmarkRunner]] to also record the bytes allocated per request with the GC profiler and
+ * to write the results as JSON, so that runs can be compared:
+ *
+ * {{{
+ *   sbt "Play-Microbenchmark/Jmh/runMain play.microbenchmark.it.EndToEndBenchmarkRunner target/end-to-end.json"
+ * }}}
+ *
+ * The client runs in the same JVM as the server, so the allocations include the client's.
+ */
+@Threads(16)
+@State(Scope.Benchmark)
+@BenchmarkMode(Array(Mode.Throughput, Mode.SampleTime))
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+class EndToEndBenchmark {
+
+  /** Which type of backend and connection to use. */
+  @Param(Array("nt-11-pln", "ak-11-pln", "ak-20-enc"))
+  var endpoint: String = null
+
+  /** The backend and connection to use. */
+  var serverEndpoint: ServerEndpoint = null
+
+  /** A handle to close the server. */
+  var endpointCloseable: AutoCloseable = null
+
+  /** The file served by the range download scenario. */
+  var downloadFile: Path = null
+
+  /** The CSRF token sent with the form posts, and the cookie holding it. */
+  var csrfToken: String  = null
+  var csrfCookie: String = null
+
+  @Setup(Level.Trial)
+  def setup(): Unit = {
+    downloadFile = Files.createTempFile("end-to-end-benchmark", ".bin")
+    Files.write(downloadFile, EndToEndBenchmark.randomBytes(1024 * 1024))
+
+    val appFactory = ApplicationFactory.withGuiceApp(
+      GuiceApplicationBuilder()
+        // The scenarios apply the filters they need themselves
+        .configure("play.filters.enabled" -> Nil, "play.filters.csrf.cookie.name" -> EndToEndBenchmark.CsrfCookieName)
+        .appRoutes(app => EndToEndBenchmark.routes(app, downloadFile))
+    )
+    val endpointRecipe = endpoint match {
+      case "nt-11-pln" => play.it.test.NettyServerEndpointRecipes.Netty11Plaintext
+      case "ak-11-pln" => play.it.test.PekkoHttpServerEndpointRecipes.PekkoHttp11Plaintext
+      case "ak-20-enc" => play.it.test.PekkoHttpServerEndpointRecipes.PekkoHttp20Encrypted
+    }
+    val startResult = ServerEndpointRecipe.startEndpoint(endpointRecipe, appFactory)
+    serverEndpoint = startResult._1
+    endpointCloseable = startResult._2
+
+    // Fetch a token once, the form posts of all the threads reuse it
+    val client   = EndToEndBenchmark.client(serverEndpoint)
+    val response = client.newCall(new Request.Builder().url(serverEndpoint.pathUrl("/csrf/token")).build()).execute()
+    try {
+      csrfToken = response.body.string
+      csrfCookie = response.header(HeaderNames.SET_COOKIE).takeWhile(_ != ';')
+    } finally {
+      response.close()
+      client.connectionPool().evictAll()
+    }
+  }
+
+  @TearDown(Level.Trial)
+  def tearDown(): Unit = {
+    endpointCloseable.close()
+    Files.deleteIfExists(downloadFile)
+  }
+
+  @Benchmark
+  def jsonEcho(threadState: ThreadState): Unit = threadState.call(threadState.jsonEcho, 200)
+
+  @Benchmark
+  def csrfFormPost(threadState: ThreadState): Unit = threadState.call(threadState.csrfFormPost, 200)
+
+  @Benchmark
+  def multipartUpload(threadState: ThreadState): Unit = threadState.call(threadState.multipartUpload, 200)
+
+  @Benchmark
+  def rangeDownload(threadState: ThreadState): Unit = threadState.call(threadState.rangeDownload, 206)
+
+  @Benchmark
+  def gzipResponse(threadState: ThreadState): Unit = threadState.call(threadState.gzipResponse, 200)
+
+  @Benchmark
+  def javaComposedAction(threadState: ThreadState): Unit = threadState.call(threadState.javaComposedAction, 200)
+
+  @Benchmark
+  def lastOfManyRoutes(threadState: ThreadState): Unit = threadState.call(threadState.lastOfManyRoutes, 200)
+
+  @Benchmark
+  def webSocketEcho(threadState: ThreadState): Unit = threadState.webSocketEcho()
+}
+
+object EndToEndBenchmark {
+  val CsrfCookieName = "csrfToken"
+
+  /** The number of routes tried in turn by the router of the many routes scenario. */
+  val RouteCount = 500
+
+  private val JsonType = MediaType.get("application/json")
+  private val Binary   = MediaType.get("application/octet-stream")
+
+  def randomBytes(size: Int): Array[Byte] = {
+    val bytes = new Array[Byte](size)
+    new Random(size).nextBytes(bytes)
+    bytes
+  }
+
+  /** Builds a client for the endpoint. */
+  def client(serverEndpoint: ServerEndpoint): OkHttpClient = {
+    val Timeout = 5
+    val b1      = new OkHttpClient.Builder()
+      .connectTimeout(Timeout, TimeUnit.SECONDS)
+      .readTimeout(Timeout, TimeUnit.SECONDS)
+      .writeTimeout(Timeout, TimeUnit.SECONDS)
+    val b2 = serverEndpoint.ssl match {
+      case Some(sslContext) =>
+        b1.sslSocketFactory(sslContext.getSocketFactory, LoggingTrustManager).hostnameVerifier((_, _) => true)
+      case _ => b1
+    }
+    b2.build()
+  }
+
+  /** The routes of the application, a few routes per scenario and many routes like those of a generated router. */
+  def routes(app: Application, downloadFile: Path): PartialFunction[(String, String), Handler] = {
+    val Action       = app.injector.instanceOf[DefaultActionBuilder]
+    val parse        = app.injector.instanceOf[PlayBodyParsers]
+    val csrfCheck    = app.injector.instanceOf[CSRFCheck]
+    val csrfAddToken = app.injector.instanceOf[CSRFAddToken]
+    val gzipFilter   = app.injector.instanceOf[GzipFilter]
+    val gzipped      = gzipFilter(Action(Results.Ok("Lorem ipsum dolor sit amet. " * 1024)))
+    val javaAction   = JAction(app, new MultipleRepeatableOnActionController)
+    val routeAction  = Action(Results.Ok("route"))
+
+    val scenarios: PartialFunction[(String, String), Handler] = {
+      case ("POST", "/json") =>
+        Action(parse.json)(request => Results.Ok(request.body))
+      case ("GET", "/csrf/token") =>
+        csrfAddToken(Action(request => Results.Ok(CSRF.getToken(request).get.value)))
+      case ("POST", "/csrf/form") =>
+        csrfCheck(Action(parse.formUrlEncoded)(request => Results.Ok(request.body("name").head)))
+      case ("POST", "/multipart") =>
+        Action(parse.multipartFormData)(request => Results.Ok(request.body.files.map(_.fileSize).sum.toString))
+      case ("GET", "/range") =>
+        Action(request => RangeResult.ofPath(downloadFile, request.headers.get(HeaderNames.RANGE), None))
+      case ("GET", "/gzip") =>
+        gzipped
+      case ("GET", "/java") =>
+        javaAction
+      case ("GET", "/ws") =>
+        PlayWebSocket.accept[String, String](_ => Flow[String])
+    }
+
+    // Like a generated router, try the routes in turn, matching the method and then the path pattern
+    val patterns = (0 until RouteCount).map { i =>
+      PathPattern(Seq(StaticPart(s"/routes/$i/"), DynamicPart("id", """[^/]+""", encodeable = true)))
+    }
+    val manyRoutes: PartialFunction[(String, String), Handler] = Function.unlift {
+      case ("GET", path) => patterns.iterator.flatMap(_(path)).nextOption().map(_ => routeAction)
+      case _             => None
+    }
+
+    scenarios.orElse(manyRoutes)
+  }
+
+  /**
+   * Contains state used by each thread in the benchmark: its own HTTP client, its requests which are built once
+   * since they're identical, and its WebSocket connection.
+   */
+  @State(Scope.Thread)
+  class ThreadState {
+    private var client: OkHttpClient = null
+
+    var jsonEcho: Request           = null
+    var csrfFormPost: Request       = null
+    var multipartUpload: Request    = null
+    var rangeDownload: Request      = null
+    var gzipResponse: Request       = null
+    var javaComposedAction: Request = null
+    var lastOfManyRoutes: Request   = null
+
+    private var webSocket: WebSocket        = null
+    private var webSocketFailure: Throwable = null
+    private val webSocketMessages           = new ArrayBlockingQueue[String](1)
+    private val webSocketMessage            = "Hello world"
+
+    @Setup(Level.Trial)
+    def setup(bench: EndToEndBenchmark): Unit = {
+      client = EndToEndBenchmark.client(bench.serverEndpoint)
+      def request(path: String) = new Request.Builder().url(bench.serverEndpoint.pathUrl(path))
+
+      val json = "{" + (1 to 20).map(i => s""""field$i":"value $i"""").mkString(",") + "}"
+      jsonEcho = request("/json").post(RequestBody.create(json.getBytes("UTF-8"), JsonType)).build()
+      csrfFormPost = request("/csrf/form")
+        .header(HeaderNames.COOKIE, bench.csrfCookie)
+        .post(new FormBody.Builder().add("name", "Play").add("csrfToken", bench.csrfToken).build())
+        .build()
+      multipartUpload = request("/multipart")
+        .post(
+          new MultipartBody.Builder()
+            .setType(MultipartBody.FORM)
+            .addFormDataPart("description", "upload")
+            .addFormDataPart("file", "upload.bin", RequestBody.create(randomBytes(64 * 1024), Binary))
+            .build()
+        )
+        .build()
+      rangeDownload = request("/range").header(HeaderNames.RANGE, "bytes=1024-66559").build()
+      // Setting Accept-Encoding keeps OkHttp from decompressing the response itself
+      gzipResponse = request("/gzip").header(HeaderNames.ACCEPT_ENCODING, "gzip").build()
+      javaComposedAction = request("/java").build()
+      lastOfManyRoutes = request(s"/routes/${RouteCount - 1}/42").build()
+
+      webSocket = client.newWebSocket(
+        request("/ws").build(),
+        new WebSocketListener {
+          override def onMessage(webSocket: WebSocket, text: String): Unit = webSocketMessages.put(text)
+          override def onFailure(webSocket: WebSocket, t: Throwable, response: Response): Unit = webSocketFailure = t
+        }
+      )
+    }
+
+    @TearDown(Level.Trial)
+    def tearDown(): Unit = {
+      webSocket.close(1000, null)
+      client.dispatcher().executorService().shutdown()
+      client.connectionPool().evictAll()
+    }
+
+    /** Makes a request, reading the whole response body. */
+    def call(request: Request, expectedStatus: Int): Unit = {
+      val response = client.newCall(request).execute()
+      try {
+        response.body.bytes()
+        if (response.code != expectedStatus) {
+          throw new IllegalStateException(s"Expected status $expectedStatus for ${request.url}, got ${response.code}")
+        }
+      } finally response.close()
+    }
+
+    /** Sends a message on the WebSocket and waits for it to be echoed back. */
+    def webSocketEcho(): Unit = {
+      webSocket.send(webSocketMessage)
+      val echoed = webSocketMessages.poll(5, TimeUnit.SECONDS)
+      if (echoed != webSocketMessage) {
+        throw new IllegalStateException(s"Expected the message to be echoed, got $echoed", webSocketFailure)
+      }
+    }
+  }
+}
+
+/**
+ * Runs the [[EndToEndBenchmark]] with the GC profiler, which reports the bytes allocated per request as
+ * `gc.alloc.rate.norm`, and writes the results as JSON to the file given as first argument, `end-to-end.json` by
+ * default. The other arguments are passed to JMH, for instance `-p endpoint=nt-11-pln` to only run one backend.
+ */
+object EndToEndBenchmarkRunner {
+  def main(args: Array[String]): Unit = {
+    val resultFile = args.headOption.getOrElse("end-to-end.json")
+    val options    = new OptionsBuilder()
+      .parent(new CommandLineOptions(args.drop(1)*))
+      .include(classOf[EndToEndBenchmark].getName)
+      .addProfiler(classOf[GCProfiler])
+      .resultFormat(ResultFormatType.JSON)
+      .result(resultFile)
+      .build()
+    new Runner(options).run()
+  }
+}
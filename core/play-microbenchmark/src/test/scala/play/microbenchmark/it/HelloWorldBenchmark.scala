@@ -32,7 +32,7 @@ import play.microbenchmark.it.HelloWorldBenchmark.ThreadState
 class HelloWorldBenchmark {
 
   /** Which type of backend and connection to use. */
-  @Param(Array("nt-11-pln", "nt-11-enc", "ak-11-pln", "ak-11-enc", "ak-20-enc"))
+  @Param(Array("nt-11-pln", "nt-11-enc", "nt-20-enc", "ak-11-pln", "ak-11-enc", "ak-20-enc"))
   var endpoint: String = null
 
   /** How many requests to make on a connection before closing it and making a new connection. */
@@ -51,6 +51,7 @@ class HelloWorldBenchmark {
     val endpointRecipe = endpoint match {
       case "nt-11-pln" => play.it.test.NettyServerEndpointRecipes.Netty11Plaintext
       case "nt-11-enc" => play.it.test.NettyServerEndpointRecipes.Netty11Encrypted
+      case "nt-20-enc" => play.it.test.NettyServerEndpointRecipes.Netty20Encrypted
       case "ak-11-pln" => play.it.test.PekkoHttpServerEndpointRecipes.PekkoHttp11Plaintext
       case "ak-11-enc" => play.it.test.PekkoHttpServerEndpointRecipes.PekkoHttp11Encrypted
       case "ak-20-enc" => play.it.test.PekkoHttpServerEndpointRecipes.PekkoHttp20Encrypted
@@ -4,6 +4,7 @@
 
 package play.http;
 
+import java.nio.file.Path;
 import java.util.Optional;
 import java.util.concurrent.CompletionStage;
 import org.apache.pekko.japi.pf.PFBuilder;
@@ -208,6 +209,89 @@ public abstract class HttpEntity {
     }
   }
 
+  /**
+   * A region of a file, which the server backend may send straight from the file instead of
+   * streaming it.
+   */
+  public static final class FileRegion extends HttpEntity {
+    private final Path path;
+    private final long offset;
+    private final long length;
+    private final Optional<String> contentType;
+    private final Runnable onClose;
+
+    public FileRegion(Path path, long offset, long length, Optional<String> contentType) {
+      this(path, offset, length, contentType, () -> {});
+    }
+
+    /**
+     * @param path The file.
+     * @param offset The position in the file of the first byte of the region.
+     * @param length The number of bytes of the region.
+     * @param contentType The content type, if known.
+     * @param onClose Called once the region has been sent, or sending it has failed or been
+     *     cancelled.
+     */
+    public FileRegion(
+        Path path, long offset, long length, Optional<String> contentType, Runnable onClose) {
+      this.path = path;
+      this.offset = offset;
+      this.length = length;
+      this.contentType = contentType;
+      this.onClose = onClose;
+    }
+
+    public Path path() {
+      return path;
+    }
+
+    public long offset() {
+      return offset;
+    }
+
+    public long length() {
+      return length;
+    }
+
+    @Override
+    public Optional<String> contentType() {
+      return contentType;
+    }
+
+    @Override
+    public boolean isKnownEmpty() {
+      return length == 0;
+    }
+
+    @Override
+    public Optional<Long> contentLength() {
+      return Optional.of(length);
+    }
+
+    @Override
+    public HttpEntity as(String contentType) {
+      return new FileRegion(path, offset, length, Optional.ofNullable(contentType), onClose);
+    }
+
+    @Override
+    public Source<ByteString, ?> dataStream() {
+      return asScala().dataStream().asJava();
+    }
+
+    @Override
+    public play.api.http.HttpEntity asScala() {
+      return new play.api.http.HttpEntity.FileRegion(
+          path,
+          offset,
+          length,
+          OptionConverters.toScala(contentType),
+          () -> {
+            onClose.run();
+            return scala.runtime.BoxedUnit.UNIT;
+          });
+    }
+  }
+
   /** A chunked entity, backed by a source of chunks. */
   public static final class Chunked extends HttpEntity {
     private final Source<HttpChunk, ?> chunks;
@@ -0,0 +1,76 @@
+/*
+ * Copyright (C) from 2022 The Play Framework Contributors <https://github.com/playframework>, 2011-2021 Lightbend Inc. <https://www.lightbend.com>
+ */
+
+package play.libs;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.apache.pekko.NotUsed;
+import org.apache.pekko.stream.javadsl.Flow;
+import org.apache.pekko.util.ByteString;
+
+/**
+ * Helper functions to stream a sequence of elements as JSON.
+ *
+ * <p>Each element is serialized with Jackson on its own as it is pulled from the source, so only
+ * the elements of the current chunk are held in memory, and the source is only pulled as fast as
+ * the client reads the response.
+ */
+public class JsonStream {
+
+  /** The size, in bytes, above which the serialized elements are sent as a chunk. */
+  public static final int DEFAULT_CHUNK_SIZE = play.api.libs.JsonStream.DefaultChunkSize();
+
+  /** How the elements of the stream are framed. */
+  public enum Format {
+    /** The elements are sent as a single JSON array. */
+    JSON_ARRAY,
+    /** The elements are sent as newline delimited JSON, one element per line. */
+    NDJSON;
+
+    /** @return the content type of the response. */
+    public String contentType() {
+      return asScala().contentType();
+    }
+
+    public play.api.libs.JsonStream.Format asScala() {
+      switch (this) {
+        case NDJSON:
+          return play.api.libs.JsonStream.NdJson$.MODULE$;
+        default:
+          return play.api.libs.JsonStream.JsonArray$.MODULE$;
+      }
+    }
+  }
+
+  /**
+   * Produces a flow of ByteString chunks from a flow of elements, serializing each element with
+   * {@link Json#mapper()}.
+   *
+   * @param format the framing of the elements.
+   * @param <T> the type of the elements.
+   * @return a flow of ByteString chunks.
+   */
+  public static <T> Flow<T, ByteString, NotUsed> flow(Format format) {
+    return flow(format, DEFAULT_CHUNK_SIZE, Json.mapper());
+  }
+
+  /**
+   * Produces a flow of ByteString chunks from a flow of elements.
+   *
+   * @param format the framing of the elements.
+   * @param chunkSize the size, in bytes, above which the serialized elements are emitted as a
+   *     chunk.
+   * @param mapper the mapper to serialize the elements with.
+   * @param <T> the type of the elements.
+   * @return a flow of ByteString chunks.
+   */
+  public static <T> Flow<T, ByteString, NotUsed> flow(
+      Format format, int chunkSize, ObjectMapper mapper) {
+    ObjectWriter writer = mapper.writer();
+    return Flow.<T>create()
+        .map(element -> ByteString.fromArrayUnsafe(writer.writeValueAsBytes(element)))
+        .via(play.api.libs.JsonStream.framing(format.asScala(), chunkSize));
+  }
+}
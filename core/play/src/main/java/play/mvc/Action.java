@@ -4,6 +4,10 @@
 
 package play.mvc;
 
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
 import java.lang.reflect.AnnotatedElement;
 import java.util.concurrent.CompletionStage;
 import play.core.j.JavaContextComponents;
@@ -49,6 +53,20 @@ public abstract class Action<T> extends Results {
    */
   public abstract CompletionStage<Result> call(Request req);
 
+  /**
+   * Marks an action that keeps no request specific state, so that a single instance can serve
+   * concurrent requests.
+   *
+   * <p>When {@code play.http.actionComposition.precompileChains} is enabled, stateless actions that
+   * are only followed by other stateless actions in a chain are instantiated once per route and
+   * shared by all requests of the route. The {@link #precursor} of the first shared action is not
+   * set, and the request passed to the {@link #delegate} must keep the attributes of the request
+   * the action was called with.
+   */
+  @Target(ElementType.TYPE)
+  @Retention(RetentionPolicy.RUNTIME)
+  public @interface Stateless {}
+
   /** A simple action with no configuration. */
   public abstract static class Simple extends Action<Void> {}
 }
@@ -39,6 +39,7 @@ import play.api.mvc.MaxSizeStatus;
 import play.api.mvc.PlayBodyParsers;
 import play.core.j.JavaHttpErrorHandlerAdapter;
 import play.core.j.JavaParsers;
+import play.core.parsers.FilePartInspector;
 import play.core.parsers.FormUrlEncodedParser;
 import play.core.parsers.Multipart;
 import play.http.HttpErrorHandler;
@@ -530,7 +531,11 @@ public interface BodyParser<A> {
         return Accumulator.done(requestEntityTooLarge(request));
       } else {
         play.libs.Files.TemporaryFile tempFile =
-            temporaryFileCreator.create("requestBody", "asTemporaryFile");
+            temporaryFileCreator
+                .asScala()
+                .forRequest(request.asScala())
+                .asJava()
+                .create("requestBody", "asTemporaryFile");
         return Accumulator.fromSink(
                 StreamConverters.fromOutputStream(
                     () -> java.nio.file.Files.newOutputStream(tempFile.path())))
@@ -571,8 +576,7 @@ public interface BodyParser<A> {
     protected Map<String, String[]> parse(Http.RequestHeader request, ByteString bytes)
         throws Exception {
       String charset = request.charset().orElse("UTF-8");
-      String urlEncodedString = bytes.decodeString("UTF-8");
-      return FormUrlEncodedParser.parseAsJavaArrayValues(urlEncodedString, charset);
+      return FormUrlEncodedParser.parseAsJavaArrayValues(bytes, charset);
     }
   }
 
@@ -599,6 +603,30 @@ public interface BodyParser<A> {
           parsers.multipartFormData(maxLength, allowEmptyFiles),
           JavaParsers::toJavaMultipartFormData);
     }
+
+    /**
+     * Creates a parser which also runs the given inspectors over the bytes of each file part while
+     * they are written to a temporary file, and adds their results to the attributes of the file
+     * part.
+     *
+     * @param parsers the body parsers.
+     * @param maxLength the maximum length of the body.
+     * @param allowEmptyFiles if empty file uploads are allowed.
+     * @param inspectors the inspectors to run over each file part.
+     * @see Http.MultipartFormData.FilePart#getAttrs()
+     */
+    public MultipartFormData(
+        PlayBodyParsers parsers,
+        long maxLength,
+        boolean allowEmptyFiles,
+        List<FilePartInspector<?>> inspectors) {
+      super(
+          parsers.temporaryFileMultipartFormData(
+              maxLength,
+              allowEmptyFiles,
+              handler -> Multipart.inspectFileParts(handler, Scala.toSeq(inspectors))),
+          JavaParsers::toJavaMultipartFormData);
+    }
   }
 
   /** Don't parse the body. */
@@ -819,6 +847,16 @@ public interface BodyParser<A> {
             play.libs.streams.Accumulator<ByteString, Http.MultipartFormData.FilePart<A>>>
         createFilePartHandler();
 
+    /**
+     * Returns the inspectors to run over the bytes of each file part while they stream to the file
+     * part handler. Their results are added to the attributes of the file part.
+     *
+     * @return the file part inspectors, none by default.
+     */
+    protected List<FilePartInspector<?>> filePartInspectors() {
+      return List.of();
+    }
+
     /** Calls out to the Scala API to create a multipart parser. */
     private play.api.mvc.BodyParser<play.api.mvc.MultipartFormData<A>> multipartParser(
         boolean allowEmptyFiles) {
@@ -836,6 +874,16 @@ public interface BodyParser<A> {
       public play.api.libs.streams.Accumulator<
               ByteString, play.api.mvc.MultipartFormData.FilePart<A>>
           apply(Multipart.FileInfo fileInfo) {
+        List<FilePartInspector<?>> inspectors = filePartInspectors();
+        if (inspectors.isEmpty()) {
+          return handle(fileInfo);
+        }
+        return Multipart.<A>inspectFileParts(this::handle, Scala.toSeq(inspectors)).apply(fileInfo);
+      }
+
+      private play.api.libs.streams.Accumulator<
+              ByteString, play.api.mvc.MultipartFormData.FilePart<A>>
+          handle(Multipart.FileInfo fileInfo) {
         return createFilePartHandler()
             .apply(fileInfo)
             .asScala()
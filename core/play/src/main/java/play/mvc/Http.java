@@ -1128,6 +1128,35 @@ public class Http {
       return headers().contains(headerName);
     }
 
+    /**
+     * Sends a {@code 103 Early Hints} informational response with the given links ahead of the
+     * final response, so the client can preload assets while the final response is still being
+     * computed. For example {@code request.sendEarlyHints("</assets/main.css>; rel=preload;
+     * as=style")}.
+     *
+     * <p>Early hints are only sent if the server backend supports them for this request, and on a
+     * best effort basis: they are dropped if an earlier response on the same connection is still
+     * being sent, or once the final response has started.
+     *
+     * @param links the values of the {@code Link} header to send.
+     * @return true if the server backend supports early hints for this request.
+     */
+    default boolean sendEarlyHints(String... links) {
+      return play.api.mvc.EarlyHints$.MODULE$.sendLinks(asScala(), links);
+    }
+
+    /**
+     * The time left to handle the request before its deadline, if one applies, zero once it has
+     * passed. Calls made to handle the request, such as web service calls or database queries, can
+     * use it as their timeout so that they don't go on once the request is abandoned.
+     *
+     * @return the time left before the deadline of the request, or empty if no deadline applies.
+     */
+    default Optional<Duration> remainingTime() {
+      return OptionConverters.toJava(asScala().remainingTime())
+          .map(d -> Duration.ofNanos(d.toNanos()));
+    }
+
     /**
      * @return true if request has a body, false otherwise.
      */
@@ -2300,6 +2329,7 @@ public class Http {
       final String dispositionType;
       final long fileSize;
       final Function<A, Optional<ByteString>> refToBytes;
+      final TypedMap attrs;
 
       public FilePart(String key, String filename, String contentType, A ref) {
         this(key, filename, contentType, ref, a -> Optional.empty());
@@ -2346,6 +2376,26 @@ public class Http {
           long fileSize,
           String dispositionType,
           Function<A, Optional<ByteString>> refToBytes) {
+        this(
+            key,
+            filename,
+            contentType,
+            ref,
+            fileSize,
+            dispositionType,
+            refToBytes,
+            TypedMap.empty());
+      }
+
+      public FilePart(
+          String key,
+          String filename,
+          String contentType,
+          A ref,
+          long fileSize,
+          String dispositionType,
+          Function<A, Optional<ByteString>> refToBytes,
+          TypedMap attrs) {
         this.key = key;
         this.filename = filename;
         this.contentType = contentType;
@@ -2353,6 +2403,7 @@ public class Http {
         this.dispositionType = dispositionType;
         this.fileSize = fileSize;
         this.refToBytes = refToBytes;
+        this.attrs = attrs;
       }
 
       /**
@@ -2399,6 +2450,14 @@ public class Http {
         return fileSize;
       }
 
+      /**
+       * @return the values computed from the file part while it was uploaded, for instance by a
+       *     {@link play.core.parsers.FilePartInspector}
+       */
+      public TypedMap getAttrs() {
+        return attrs;
+      }
+
       public ByteString transformRefToBytes() {
         return refToBytes
             .apply(ref)
@@ -2448,7 +2507,8 @@ public class Http {
             getRef(),
             getFileSize(),
             getDispositionType(),
-            ref -> OptionConverters.toScala(refToBytes.apply(ref)));
+            ref -> OptionConverters.toScala(refToBytes.apply(ref)),
+            attrs.asScala());
       }
     }
 
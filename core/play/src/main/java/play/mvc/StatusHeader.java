@@ -13,11 +13,13 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Iterator;
 import java.util.Optional;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
 import org.apache.pekko.stream.IOResult;
-import org.apache.pekko.stream.javadsl.FileIO;
 import org.apache.pekko.stream.javadsl.Source;
 import org.apache.pekko.stream.javadsl.StreamConverters;
 import org.apache.pekko.util.ByteString;
@@ -25,6 +27,7 @@ import org.apache.pekko.util.ByteString$;
 import org.apache.pekko.util.ByteStringBuilder;
 import play.http.HttpEntity;
 import play.libs.Json;
+import play.libs.JsonStream;
 import play.mvc.Http.MimeTypes;
 
 /** A status with no body */
@@ -1321,18 +1324,7 @@ public class StatusHeader extends Result {
     if (path == null) {
       throw new NullPointerException("null content");
     }
-    try {
-      return doSendResource(
-          FileIO.fromPath(path),
-          Optional.of(Files.size(path)),
-          filename,
-          inline,
-          fileMimeTypes,
-          onClose,
-          executor);
-    } catch (IOException e) {
-      throw new RuntimeException(e);
-    }
+    return doSendPath(path, filename, inline, fileMimeTypes, onClose, executor);
   }
 
   /**
@@ -1665,18 +1657,7 @@ public class StatusHeader extends Result {
     if (file == null) {
       throw new NullPointerException("null file");
     }
-    try {
-      return doSendResource(
-          FileIO.fromPath(file.toPath()),
-          Optional.of(Files.size(file.toPath())),
-          fileName,
-          inline,
-          fileMimeTypes,
-          onClose,
-          executor);
-    } catch (final IOException ioe) {
-      throw new RuntimeException(ioe);
-    }
+    return doSendPath(file.toPath(), fileName, inline, fileMimeTypes, onClose, executor);
   }
 
   private Result doSendResource(
@@ -1697,6 +1678,31 @@ public class StatusHeader extends Result {
                 name -> fileMimeTypes.forFileName(name).orElse(Http.MimeTypes.BINARY))));
   }
 
+  private Result doSendPath(
+      Path path,
+      Optional<String> fileName,
+      boolean inline,
+      FileMimeTypes fileMimeTypes,
+      Runnable onClose,
+      Executor executor) {
+    long size;
+    try {
+      size = Files.size(path);
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+    Executor onCloseExecutor = executor != null ? executor : ForkJoinPool.commonPool();
+    return new Result(
+        status(),
+        Results.contentDispositionHeader(inline, fileName),
+        new HttpEntity.FileRegion(
+            path,
+            0,
+            size,
+            fileName.map(name -> fileMimeTypes.forFileName(name).orElse(Http.MimeTypes.BINARY)),
+            () -> onCloseExecutor.execute(onClose)));
+  }
+
   private static Source<ByteString, CompletionStage<IOResult>> attachOnClose(
       Source<ByteString, CompletionStage<IOResult>> data, Runnable onClose, Executor executor) {
     return data.mapMaterializedValue(
@@ -1901,6 +1907,74 @@ public class StatusHeader extends Result {
     }
   }
 
+  /**
+   * Send a chunked json result, serializing the elements one by one as a JSON array.
+   *
+   * @param elements the elements to send
+   * @param <T> the type of the elements
+   * @return a '200 OK' response with the elements as a JSON array.
+   */
+  public <T> Result streamJson(Source<T, ?> elements) {
+    return streamJson(elements, JsonStream.Format.JSON_ARRAY);
+  }
+
+  /**
+   * Send a chunked json result, serializing the elements one by one.
+   *
+   * @param elements the elements to send
+   * @param format whether to send the elements as a JSON array or as newline delimited JSON
+   * @param <T> the type of the elements
+   * @return a '200 OK' response with the given elements.
+   */
+  public <T> Result streamJson(Source<T, ?> elements, JsonStream.Format format) {
+    return streamJson(elements, format, JsonStream.DEFAULT_CHUNK_SIZE, Json.mapper());
+  }
+
+  /**
+   * Send a chunked json result, serializing the elements one by one.
+   *
+   * <p>Elements are only pulled from the source as fast as the client reads the response, and only
+   * the elements of the current chunk are held in memory.
+   *
+   * @param elements the elements to send
+   * @param format whether to send the elements as a JSON array or as newline delimited JSON
+   * @param chunkSize the size, in bytes, above which the serialized elements are sent as a chunk
+   * @param mapper the mapper to serialize the elements with
+   * @param <T> the type of the elements
+   * @return a '200 OK' response with the given elements.
+   */
+  public <T> Result streamJson(
+      Source<T, ?> elements, JsonStream.Format format, int chunkSize, ObjectMapper mapper) {
+    return chunked(
+        elements.via(JsonStream.<T>flow(format, chunkSize, mapper)),
+        Optional.of(format.contentType()));
+  }
+
+  /**
+   * Send a chunked json result, serializing the elements of the iterator one by one.
+   *
+   * @param elements the elements to send. The iterator is consumed once, while the response is sent.
+   * @param format whether to send the elements as a JSON array or as newline delimited JSON
+   * @param <T> the type of the elements
+   * @return a '200 OK' response with the given elements.
+   */
+  public <T> Result streamJson(Iterator<T> elements, JsonStream.Format format) {
+    return streamJson(Source.fromIterator(() -> elements), format);
+  }
+
+  /**
+   * Send a chunked json result, serializing the elements of the stream one by one.
+   *
+   * @param elements the elements to send. The stream is consumed and closed while the response is
+   *     sent.
+   * @param format whether to send the elements as a JSON array or as newline delimited JSON
+   * @param <T> the type of the elements
+   * @return a '200 OK' response with the given elements.
+   */
+  public <T> Result streamJson(Stream<T> elements, JsonStream.Format format) {
+    return streamJson(StreamConverters.fromJavaStream(() -> elements), format);
+  }
+
   /**
    * Send an HTTP entity.
    *
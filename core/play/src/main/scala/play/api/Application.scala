@@ -246,11 +246,12 @@ trait BuiltInComponents extends I18nComponents with PekkoComponents with PekkoTy
    */
   lazy val injector: Injector = {
     val simple = new SimpleInjector(NewInstanceInjector) +
-      cookieSigner +      // play.api.libs.Crypto (for cookies)
-      httpConfiguration + // play.api.mvc.BodyParsers trait
-      tempFileCreator +   // play.api.libs.TemporaryFileCreator object
-      messagesApi +       // play.api.i18n.Messages object
-      langs               // play.api.i18n.Langs object
+      cookieSigner +        // play.api.libs.Crypto (for cookies)
+      httpConfiguration +   // play.api.mvc.BodyParsers trait
+      tempFileCreator +     // play.api.libs.TemporaryFileCreator object
+      messagesApi +         // play.api.i18n.Messages object
+      langs +               // play.api.i18n.Langs object
+      requestTimingListener // play.core.server.Server, to report the stages of requests
     new ContextClassLoaderInjector(simple, environment.classLoader)
   }
 
@@ -265,6 +266,11 @@ trait BuiltInComponents extends I18nComponents with PekkoComponents with PekkoTy
   lazy val httpErrorHandler: HttpErrorHandler =
     new DefaultHttpErrorHandler(environment, configuration, devContext.map(_.sourceMapper), Some(router))
 
+  /**
+   * The listener receiving the time spent in each stage of a request. Override this to collect the timings.
+   */
+  lazy val requestTimingListener: RequestTimingListener = NoOpRequestTimingListener
+
   /**
    * List of filters, typically provided by mixing in play.filters.HttpFiltersComponents
    * or play.api.NoHttpFiltersComponents.
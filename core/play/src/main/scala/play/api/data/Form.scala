@@ -48,8 +48,10 @@ case class Form[T](mapping: Mapping[T], data: Map[String, String], errors: Seq[F
 
   /**
    * Constraints associated with this form, indexed by field name.
+   *
+   * Computed when first needed, usually to render the form, rather than by each copy of this form made by a bind.
    */
-  val constraints: Map[String, Seq[(String, Seq[Any])]] =
+  lazy val constraints: Map[String, Seq[(String, Seq[Any])]] =
     mapping.mappings.iterator.collect {
       case m if m.constraints.nonEmpty =>
         m.key -> m.constraints.collect { case Constraint(Some(name), args) => name -> args }
@@ -57,8 +59,10 @@ case class Form[T](mapping: Mapping[T], data: Map[String, String], errors: Seq[F
 
   /**
    * Formats associated to this form, indexed by field name. *
+   *
+   * Computed when first needed, usually to render the form, rather than by each copy of this form made by a bind.
    */
-  val formats: Map[String, (String, Seq[Any])] =
+  lazy val formats: Map[String, (String, Seq[Any])] =
     mapping.mappings.iterator.flatMap(m => m.format.map(fmt => m.key -> fmt)).toMap
 
   /**
@@ -123,16 +127,21 @@ case class Form[T](mapping: Mapping[T], data: Map[String, String], errors: Seq[F
   }
 
   def bindFromRequest(data: Map[String, Seq[String]]): Form[T] = {
-    val map = data.foldLeft(Map.empty[String, String]) {
-      case (s, (key, values)) =>
+    val map = Map.newBuilder[String, String]
+    data.foreach {
+      case (key, values) =>
         if (key.endsWith("[]")) {
-          val k = key.dropRight(2)
-          s ++ values.zipWithIndex.map { case (v, i) => s"$k[$i]" -> v }
+          val k = key.substring(0, key.length - 2)
+          var i = 0
+          values.foreach { v =>
+            map += s"$k[$i]" -> v
+            i += 1
+          }
         } else {
-          s + (key -> values.headOption.getOrElse(""))
+          map += key -> values.headOption.getOrElse("")
         }
     }
-    bind(map)
+    bind(map.result())
   }
 
   /**
@@ -692,7 +701,8 @@ trait Mapping[T] { self =>
   }
 
   protected def applyConstraints(t: T): Either[Seq[FormError], T] = {
-    Right(t).flatMap(v => Option(collectErrors(v)).filterNot(_.isEmpty).toLeft(v))
+    if (constraints.isEmpty) Right(t)
+    else Right(t).flatMap(v => Option(collectErrors(v)).filterNot(_.isEmpty).toLeft(v))
   }
 
   protected def collectErrors(t: T): Seq[FormError] = {
@@ -804,9 +814,24 @@ object RepeatedMapping {
   /**
    * Computes the available indexes for the given key in this set of data.
    */
-  def indexes(key: String, data: Map[String, String]): Seq[Int] = {
-    val KeyPattern = ("^" + java.util.regex.Pattern.quote(key) + """\[(\d+)\].*$""").r
-    data.toSeq.collect { case (KeyPattern(index), _) => index.toInt }.sorted.distinct
+  def indexes(key: String, data: Map[String, String]): Seq[Int] = indexesOf(key + "[", data)
+
+  /**
+   * Computes the available indexes in this set of data, of the keys starting with the given prefix, the key followed by
+   * `[`, without matching the keys against a regular expression compiled for each bind.
+   */
+  private def indexesOf(prefix: String, data: Map[String, String]): Seq[Int] = {
+    val indexes = Seq.newBuilder[Int]
+    data.keysIterator.foreach { k =>
+      if (k.startsWith(prefix)) {
+        var end = prefix.length
+        while (end < k.length && k.charAt(end) >= '0' && k.charAt(end) <= '9') end += 1
+        if (end > prefix.length && end < k.length && k.charAt(end) == ']') {
+          indexes += k.substring(prefix.length, end).toInt
+        }
+      }
+    }
+    indexes.result().sorted.distinct
   }
 }
 
@@ -852,7 +877,7 @@ case class RepeatedMapping[T](
    */
   def bind(data: Map[String, String]): Either[Seq[FormError], List[T]] = {
     val allErrorsOrItems: Seq[Either[Seq[FormError], T]] =
-      RepeatedMapping.indexes(key, data).map(i => wrapped.withPrefix(s"$key[$i]").bind(data))
+      RepeatedMapping.indexesOf(elementPrefix, data).map(i => wrapped.withPrefix(s"$key[$i]").bind(data))
     if (allErrorsOrItems.forall(_.isRight)) {
       Right(allErrorsOrItems.map(_.toOption.get).toList).flatMap(applyConstraints)
     } else {
@@ -897,6 +922,8 @@ case class RepeatedMapping[T](
    * Sub-mappings (these can be seen as sub-keys).
    */
   val mappings: Seq[Mapping[?]] = wrapped.mappings
+
+  private val elementPrefix = key + "["
 }
 
 /**
@@ -938,15 +965,17 @@ case class OptionalMapping[T](wrapped: Mapping[T], constraints: Seq[Constraint[O
    * @return either a concrete value of type `T` or a set of error if the binding failed
    */
   def bind(data: Map[String, String]): Either[Seq[FormError], Option[T]] = {
-    data.keys
-      .filter(p => p == key || p.startsWith(s"$key.") || p.startsWith(s"$key["))
-      .map(k => data.get(k).filterNot(_.isEmpty))
-      .collectFirst { case Some(v) => v }
-      .map(_ => wrapped.bind(data).map(Some(_)))
-      .getOrElse(Right(None))
-      .flatMap(applyConstraints)
+    val present = data.exists {
+      case (k, v) => v.nonEmpty && (k == key || k.startsWith(keyDot) || k.startsWith(keyBracket))
+    }
+    val bound: Either[Seq[FormError], Option[T]] = if (present) wrapped.bind(data).map(Some(_)) else Right(None)
+    bound.flatMap(applyConstraints)
   }
 
+  // The prefixes of the sub-keys of this field, built once rather than for each key of each bind
+  private val keyDot     = key + "."
+  private val keyBracket = key + "["
+
   /**
    * Unbinds this field, i.e. transforms a concrete value to plain data.
    *
@@ -1095,8 +1124,17 @@ trait ObjectMapping {
    * @see bind()
    */
   def merge(results: Either[Seq[FormError], Any]*): Either[Seq[FormError], Seq[Any]] = {
-    val all: Seq[Either[Seq[FormError], Seq[Any]]] = results.map(_.map(Seq(_)))
-    all.fold(Right(Nil)) { (s, i) => merge2(s, i) }
+    // In a single pass, into an indexed sequence since the values are then read by index
+    val errors = Seq.newBuilder[FormError]
+    val values = IndexedSeq.newBuilder[Any]
+    var failed = false
+    results.foreach {
+      case Left(e) =>
+        errors ++= e
+        failed = true
+      case Right(v) => if (!failed) values += v
+    }
+    if (failed) Left(errors.result()) else Right(values.result())
   }
 }
 
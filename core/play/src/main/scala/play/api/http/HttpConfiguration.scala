@@ -159,11 +159,14 @@ case class ParserConfiguration(
  * @param executeActionCreatorActionFirst If the action returned by the action creator should be
  *                                        executed before the action composition ones.
  * @param includeWebSocketActions         If WebSocket actions should be included in action composition.
+ * @param precompileChains                If the action composition chain of each route should be compiled once and
+ *                                        reused, instead of being resolved on every request.
  */
 case class ActionCompositionConfiguration(
     controllerAnnotationsFirst: Boolean = false,
     executeActionCreatorActionFirst: Boolean = false,
     includeWebSocketActions: Boolean = false,
+    precompileChains: Boolean = false,
 )
 
 /**
@@ -242,6 +245,7 @@ object HttpConfiguration {
         executeActionCreatorActionFirst =
           config.get[Boolean]("play.http.actionComposition.executeActionCreatorActionFirst"),
         includeWebSocketActions = config.get[Boolean]("play.http.actionComposition.includeWebSocketActions"),
+        precompileChains = config.get[Boolean]("play.http.actionComposition.precompileChains"),
       ),
       cookies = CookiesConfiguration(
         strict = config.get[Boolean]("play.http.cookies.strict")
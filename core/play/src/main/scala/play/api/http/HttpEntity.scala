@@ -4,9 +4,14 @@
 
 package play.api.http
 
+import java.io.EOFException
+import java.nio.file.Path
+
+import scala.concurrent.ExecutionContext
 import scala.concurrent.Future
 import scala.jdk.OptionConverters._
 
+import org.apache.pekko.stream.scaladsl.FileIO
 import org.apache.pekko.stream.scaladsl.Source
 import org.apache.pekko.stream.Materializer
 import org.apache.pekko.util.ByteString
@@ -16,7 +21,8 @@ import play.http.{ HttpEntity => JHttpEntity }
 /**
  * An HTTP entity.
  *
- * HTTP entities come in three flavors, [[HttpEntity.Strict]], [[HttpEntity.Streamed]] and [[HttpEntity.Chunked]].
+ * HTTP entities come in four flavors, [[HttpEntity.Strict]], [[HttpEntity.Streamed]], [[HttpEntity.Chunked]] and
+ * [[HttpEntity.FileRegion]].
  */
 sealed trait HttpEntity {
 
@@ -105,6 +111,58 @@ object HttpEntity {
     def as(contentType: String): HttpEntity = copy(contentType = Option(contentType))
   }
 
+  /**
+   * A region of a file.
+   *
+   * The server backend may send the region straight from the file, for example with `sendfile`, instead of reading it
+   * through [[dataStream]]. Where that isn't possible the region is streamed like a [[Streamed]] entity.
+   * The [[dataStream]] fails if the file ends before the region does.
+   *
+   * @param path The file.
+   * @param offset The position in the file of the first byte of the region.
+   * @param length The number of bytes of the region.
+   * @param contentType The content type, if known.
+   * @param onClose Called once the region has been sent, or sending it has failed or been cancelled. It is called on
+   *                the thread that released the file, so it should not block.
+   */
+  final case class FileRegion(
+      path: Path,
+      offset: Long,
+      length: Long,
+      contentType: Option[String],
+      onClose: () => Unit = () => ()
+  ) extends HttpEntity {
+    require(offset >= 0, s"offset must not be negative: $offset")
+    require(length >= 0, s"length must not be negative: $length")
+
+    def isKnownEmpty                      = length == 0
+    def contentLength: Option[Long]       = Some(length)
+    def dataStream: Source[ByteString, ?] =
+      FileIO
+        .fromPath(path, chunkSize = 8192, startPosition = offset)
+        .mapMaterializedValue(_.onComplete(_ => onClose())(ExecutionContext.parasitic))
+        .map(Some(_))
+        .concat(Source.single(None)) // The end of the file
+        .statefulMapConcat { () =>
+          var remaining = length
+          {
+            case Some(bytes) =>
+              val data = bytes.take(math.min(remaining, Int.MaxValue).toInt)
+              remaining -= data.size
+              (data, remaining) :: Nil
+            case None if remaining > 0 =>
+              // Fail rather than end early, so that a response never ends before its declared Content-Length
+              throw new EOFException(s"$path ended $remaining bytes before the end of the region [$offset, $length]")
+            case None => Nil
+          }
+        }
+        .takeWhile(_._2 > 0, inclusive = true)
+        .collect { case (data, _) if data.nonEmpty => data }
+    def asJava: JHttpEntity =
+      new JHttpEntity.FileRegion(path, offset, length, contentType.toJava, () => onClose())
+    def as(contentType: String): HttpEntity = copy(contentType = Option(contentType))
+  }
+
   /**
    * A chunked entity.
    *
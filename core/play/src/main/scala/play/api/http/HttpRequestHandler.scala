@@ -11,6 +11,7 @@ import play.api.inject.Binding
 import play.api.inject.BindingKey
 import play.api.libs.streams.Accumulator
 import play.api.mvc._
+import play.api.mvc.request.RequestAttrKey
 import play.api.routing.Router
 import play.api.ApplicationLoader.DevContext
 import play.api.Configuration
@@ -235,8 +236,12 @@ class DefaultHttpRequestHandler(
    */
   protected def filterHandler(request: RequestHeader, handler: Handler): Handler = {
     handler match {
-      case action: EssentialAction if inContext(request.path) => filterAction(action)
-      case handler                                            => handler
+      case action: EssentialAction if inContext(request.path) =>
+        request.attrs.get(RequestAttrKey.TimingListener) match {
+          case Some(listener) => filterAction(action, listener)
+          case None           => filterAction(action)
+        }
+      case handler => handler
     }
   }
 
@@ -247,6 +252,15 @@ class DefaultHttpRequestHandler(
     filters.foldRight(next)(_.apply(_))
   }
 
+  /**
+   * Apply filters to the given action, reporting the time spent in each filter to the given listener.
+   *
+   * This is used instead of `filterAction(next)` when a [[RequestTimingListener]] is enabled.
+   */
+  protected def filterAction(next: EssentialAction, listener: RequestTimingListener): EssentialAction = {
+    filters.foldRight(next)(RequestTimingListener.timedFilter(_, listener).apply(_))
+  }
+
   /**
    * Called when an HTTP request has been received.
    *
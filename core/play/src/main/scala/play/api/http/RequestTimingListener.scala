@@ -0,0 +1,157 @@
+/*
+ * Copyright (C) from 2022 The Play Framework Contributors <https://github.com/playframework>, 2011-2021 Lightbend Inc. <https://www.lightbend.com>
+ */
+
+package play.api.http
+
+import java.util.concurrent.atomic.AtomicBoolean
+
+import jakarta.inject.Singleton
+import play.api.inject.Binding
+import play.api.inject.BindingKey
+import play.api.mvc.EssentialAction
+import play.api.mvc.EssentialFilter
+import play.api.mvc.RequestHeader
+import play.api.routing.Router
+import play.api.Configuration
+import play.api.Environment
+import play.utils.Reflect
+
+/**
+ * Receives the time spent in each stage of the server pipeline for every request.
+ *
+ * Both server backends report the stages listed in [[RequestStage]], with timestamps taken from `System.nanoTime`.
+ * The listener is called on whichever thread completes a stage, so implementations must be thread-safe and should
+ * not block.
+ *
+ * The listener is configured with `play.http.requestTimingListener` and does nothing by default. When `enabled` is
+ * false the server doesn't read the clock at all, so a disabled listener adds no measurable overhead to a request.
+ */
+trait RequestTimingListener {
+
+  /**
+   * Whether timings should be collected. This is read once per request.
+   */
+  def enabled: Boolean
+
+  /**
+   * Called when a stage of a request has completed.
+   *
+   * @param request    The request. From the [[RequestStage.Routing]] stage onward it carries the
+   *                   [[play.api.routing.Router.Attrs.HandlerDef]] of the route, if the request was routed, see
+   *                   [[RequestTimingListener.route]] and [[RequestTimingListener.handler]].
+   * @param stage      The stage that completed.
+   * @param startNanos The value of `System.nanoTime` when the stage started.
+   * @param endNanos   The value of `System.nanoTime` when the stage completed.
+   */
+  def onStage(request: RequestHeader, stage: RequestStage, startNanos: Long, endNanos: Long): Unit
+}
+
+/**
+ * A stage of the server pipeline.
+ *
+ * @param name A short name of the stage, suitable as a metric tag.
+ */
+sealed abstract class RequestStage(val name: String)
+
+object RequestStage {
+
+  /**
+   * The conversion of the server backend's request into a Play [[RequestHeader]].
+   */
+  case object ModelConversion extends RequestStage("modelConversion")
+
+  /**
+   * The enrichment of the request by the application's [[play.api.mvc.request.RequestFactory]].
+   */
+  case object RequestFactory extends RequestStage("requestFactory")
+
+  /**
+   * Finding the handler for the request in [[HttpRequestHandler.handlerForRequest]].
+   */
+  case object Routing extends RequestStage("routing")
+
+  /**
+   * The processing of the request by a single filter, until it calls the next action of the chain.
+   *
+   * @param filterName The class name of the filter.
+   */
+  final case class Filter(filterName: String) extends RequestStage("filter")
+
+  /**
+   * The parsing of the request body, which includes waiting for the body to be received.
+   */
+  case object BodyParsing extends RequestStage("bodyParsing")
+
+  /**
+   * The action, until the future of its result is completed.
+   */
+  case object Action extends RequestStage("action")
+
+  /**
+   * The conversion of the result into the server backend's response.
+   */
+  case object ResultConversion extends RequestStage("resultConversion")
+}
+
+/**
+ * A listener that does nothing.
+ */
+@Singleton
+class NoOpRequestTimingListener extends RequestTimingListener {
+  override def enabled: Boolean = false
+
+  override def onStage(request: RequestHeader, stage: RequestStage, startNanos: Long, endNanos: Long): Unit = ()
+}
+
+object NoOpRequestTimingListener extends NoOpRequestTimingListener
+
+object RequestTimingListener {
+
+  /**
+   * The route pattern of the request, if it has been routed.
+   */
+  def route(request: RequestHeader): Option[String] = request.attrs.get(Router.Attrs.HandlerDef).map(_.path)
+
+  /**
+   * The controller and method handling the request, i.e. `controllers.HomeController.index`, if it has been routed.
+   */
+  def handler(request: RequestHeader): Option[String] =
+    request.attrs.get(Router.Attrs.HandlerDef).map(handlerDef => s"${handlerDef.controller}.${handlerDef.method}")
+
+  def bindingsFromConfiguration(environment: Environment, configuration: Configuration): Seq[Binding[?]] = {
+    Reflect
+      .configuredClass[RequestTimingListener, RequestTimingListener, NoOpRequestTimingListener](
+        environment,
+        configuration,
+        "play.http.requestTimingListener",
+        "RequestTimingListener"
+      )
+      .fold(Seq[Binding[?]]()) { either =>
+        val impl = either.fold(identity, identity)
+        Seq(BindingKey(classOf[RequestTimingListener]).to(impl))
+      }
+  }
+
+  /**
+   * Wraps a filter so that the time it spends before calling the next action is reported as a
+   * [[RequestStage.Filter]] stage. If the filter never calls the next action, the time until it returns is reported.
+   */
+  private[play] def timedFilter(filter: EssentialFilter, listener: RequestTimingListener): EssentialFilter = {
+    val stage = RequestStage.Filter(filter.getClass.getName)
+    new EssentialFilter {
+      override def apply(next: EssentialAction): EssentialAction = EssentialAction { request =>
+        val start    = System.nanoTime()
+        val reported = new AtomicBoolean()
+        def report(): Unit =
+          if (reported.compareAndSet(false, true)) listener.onStage(request, stage, start, System.nanoTime())
+        val accumulator = filter(EssentialAction { filtered =>
+          report()
+          next(filtered)
+        })(request)
+        report()
+        accumulator
+      }
+    }
+  }
+}
@@ -489,6 +489,15 @@ class DefaultMessagesApi @Inject() (
 
   import java.text._
 
+  // The messages of each available language, with the fallbacks to the language and the default messages applied,
+  // and with their patterns parsed. Lazy, since subclasses may override messages.
+  private lazy val messagesByLang: Map[Lang, Map[String, MessagePattern]] =
+    langs.availables.iterator.map { lang =>
+      val codesToTry = Seq(lang.code, lang.language, "default", "default.play")
+      val patterns   = codesToTry.reverseIterator.flatMap(messages.get).foldLeft(Map.empty[String, String])(_ ++ _)
+      lang -> patterns.map { case (key, pattern) => key -> MessagePattern(pattern, lang.toLocale) }
+    }.toMap
+
   override def preferred(candidates: Seq[Lang]): Messages =
     MessagesImpl(langs.preferred(candidates), this)
 
@@ -516,6 +525,14 @@ class DefaultMessagesApi @Inject() (
   protected def noMatch(key: String, args: Seq[Any])(implicit lang: Lang): String = key
 
   override def translate(key: String, args: Seq[Any])(implicit lang: Lang): Option[String] = {
+    messagesByLang.get(lang) match {
+      case Some(patterns) => patterns.get(key).map(_.format(args))
+      case None           => translateUnavailable(key, args)
+    }
+  }
+
+  // A language that isn't available has no flattened messages, so its patterns are looked up and parsed each time
+  private def translateUnavailable(key: String, args: Seq[Any])(implicit lang: Lang): Option[String] = {
     val codesToTry = Seq(lang.code, lang.language, "default", "default.play")
     val pattern    = codesToTry.foldLeft(Option.empty[String]) { (res, lang) =>
       res.orElse(for {
@@ -530,8 +547,12 @@ class DefaultMessagesApi @Inject() (
   }
 
   override def isDefinedAt(key: String)(implicit lang: Lang): Boolean = {
-    val codesToTry = Seq(lang.code, lang.language, "default", "default.play")
-    codesToTry.foldLeft(false)((acc, lang) => acc || messages.get(lang).exists(_.isDefinedAt(key)))
+    messagesByLang.get(lang) match {
+      case Some(patterns) => patterns.contains(key)
+      case None           =>
+        val codesToTry = Seq(lang.code, lang.language, "default", "default.play")
+        codesToTry.foldLeft(false)((acc, lang) => acc || messages.get(lang).exists(_.isDefinedAt(key)))
+    }
   }
 
   override def setLang(result: Result, lang: Lang): Result = {
@@ -563,6 +584,56 @@ class DefaultMessagesApi @Inject() (
   override def clearLang(result: Result): Result = withoutLang(result)
 }
 
+/**
+ * A message pattern, parsed once for the locale of a language.
+ */
+private[i18n] sealed abstract class MessagePattern {
+  def format(args: Seq[Any]): String
+}
+
+private[i18n] object MessagePattern {
+  import java.text.MessageFormat
+  import java.util.Locale
+
+  def apply(pattern: String, locale: Locale): MessagePattern =
+    try {
+      val format = new MessageFormat(pattern, locale)
+      if (format.getFormats.isEmpty) new Constant(format.format(Array.empty[Object]))
+      else if (format.getFormats.forall(_ == null)) new Simple(format)
+      else new WithSubformats(format)
+    } catch {
+      // Fail when the message is used, as if it was parsed then
+      case _: IllegalArgumentException => new Invalid(pattern, locale)
+    }
+
+  private def toArray(args: Seq[Any]): Array[Object] = args.map(_.asInstanceOf[Object]).toArray
+
+  /** A message without arguments, formatted once. */
+  private final class Constant(text: String) extends MessagePattern {
+    def format(args: Seq[Any]): String = text
+  }
+
+  /**
+   * A message whose arguments have no explicit format, such as `{0}`. Formatting them only creates new formats, so
+   * the message format can be shared.
+   */
+  private final class Simple(messageFormat: MessageFormat) extends MessagePattern {
+    def format(args: Seq[Any]): String = messageFormat.format(toArray(args))
+  }
+
+  /**
+   * A message with formatted arguments, such as `{0,number,#.##}`. These formats aren't thread safe, so they are
+   * copied for each use, which is still cheaper than parsing the pattern again.
+   */
+  private final class WithSubformats(messageFormat: MessageFormat) extends MessagePattern {
+    def format(args: Seq[Any]): String = messageFormat.clone().asInstanceOf[MessageFormat].format(toArray(args))
+  }
+
+  private final class Invalid(pattern: String, locale: Locale) extends MessagePattern {
+    def format(args: Seq[Any]): String = new MessageFormat(pattern, locale).format(toArray(args))
+  }
+}
+
 @Singleton
 class DefaultMessagesApiProvider @Inject() (
     environment: Environment,
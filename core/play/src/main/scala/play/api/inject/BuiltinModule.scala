@@ -97,6 +97,7 @@ class BuiltinModule
         HttpFilters.bindingsFromConfiguration,
         HttpRequestHandler.bindingsFromConfiguration,
         ActionCreator.bindingsFromConfiguration,
+        RequestTimingListener.bindingsFromConfiguration,
         RoutesProvider.bindingsFromConfiguration
       )
     })
@@ -0,0 +1,157 @@
+/*
+ * Copyright (C) from 2022 The Play Framework Contributors <https://github.com/playframework>, 2011-2021 Lightbend Inc. <https://www.lightbend.com>
+ */
+
+package play.api.libs
+
+import scala.collection.mutable
+import scala.concurrent.ExecutionContext
+
+import org.apache.pekko.stream.scaladsl.Sink
+import org.apache.pekko.stream.scaladsl.Source
+import org.apache.pekko.stream.BoundedSourceQueue
+import org.apache.pekko.stream.Materializer
+import org.apache.pekko.stream.QueueOfferResult
+import org.apache.pekko.util.ByteString
+import org.apache.pekko.NotUsed
+import play.api.libs.EventSource.Event
+import play.api.mvc.RequestHeader
+
+/**
+ * Broadcasts Server Sent Events to any number of subscribers.
+ *
+ * Each published event is formatted and encoded once, and the same bytes are handed to every subscriber. Every
+ * subscriber has its own bounded buffer, so a slow client doesn't hold up the others: when its buffer is full its
+ * stream fails, which closes the connection, and the client reconnects.
+ *
+ * The hub keeps the most recent events in a replay buffer. When a client reconnects with the `Last-Event-ID` header,
+ * the events published after that event are replayed from the buffer before the live events, so the client resumes
+ * where it left off. If the event isn't in the buffer anymore only live events are sent.
+ *
+ * Example:
+ *
+ * {{{
+ *   val hub = new EventSourceHub(replayBufferSize = 100, subscriberBufferSize = 256)
+ *
+ *   updates.map(update => EventSource.Event(Some(update.json.toString), Some(update.id), None)).runWith(hub.sink)
+ *
+ *   def events() = Action { request =>
+ *     Ok.chunked(hub.source(request)).as(ContentTypes.EVENT_STREAM)
+ *   }
+ * }}}
+ *
+ * @param replayBufferSize The number of recent events kept to be replayed to reconnecting clients.
+ * @param subscriberBufferSize The number of events buffered for a subscriber that doesn't keep up.
+ */
+final class EventSourceHub(replayBufferSize: Int = 100, subscriberBufferSize: Int = 256)(
+    implicit mat: Materializer
+) {
+  require(replayBufferSize >= 0, s"replayBufferSize must not be negative, but was $replayBufferSize")
+  require(subscriberBufferSize > 0, s"subscriberBufferSize must be positive, but was $subscriberBufferSize")
+
+  // All the state below is guarded by the lock, so that a new subscriber gets exactly the events that follow the
+  // replayed ones.
+  private val lock        = new Object
+  private val replayIds   = new Array[String](replayBufferSize)
+  private val replayBytes = new Array[ByteString](replayBufferSize)
+  private var replayStart = 0
+  private var replayCount = 0
+  private val subscribers = mutable.LinkedHashSet.empty[BoundedSourceQueue[ByteString]]
+  private var completed   = false
+
+  /**
+   * Publishes an event to all subscribers. This doesn't block, and may be called from any thread.
+   */
+  def publish(event: Event): Unit = {
+    val bytes = ByteString.fromString(event.formatted)
+    lock.synchronized {
+      if (!completed) {
+        if (replayBufferSize > 0) {
+          val index = (replayStart + replayCount) % replayBufferSize
+          replayIds(index) = event.id.orNull
+          replayBytes(index) = bytes
+          if (replayCount < replayBufferSize) replayCount += 1 else replayStart = (replayStart + 1) % replayBufferSize
+        }
+        subscribers.filterInPlace { queue =>
+          queue.offer(bytes) match {
+            case QueueOfferResult.Enqueued => true
+            case QueueOfferResult.Dropped  =>
+              queue.fail(new EventSourceHub.SubscriberBufferOverflowException(subscriberBufferSize))
+              false
+            case _ => false
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * A sink that publishes the events it receives. When the sink completes or fails, the hub is completed.
+   */
+  def sink: Sink[Event, NotUsed] =
+    Sink.foreach[Event](publish).mapMaterializedValue { done =>
+      done.onComplete(_ => complete())(ExecutionContext.parasitic)
+      NotUsed
+    }
+
+  /**
+   * Completes the streams of all subscribers. Events published afterwards are ignored, and new subscribers only get
+   * the replayed events.
+   */
+  def complete(): Unit = lock.synchronized {
+    completed = true
+    subscribers.foreach(_.complete())
+    subscribers.clear()
+  }
+
+  /**
+   * Subscribes to the hub, resuming after the event given in the `Last-Event-ID` header of the request, if any.
+   */
+  def source(request: RequestHeader): Source[ByteString, NotUsed] = source(request.headers.get("Last-Event-ID"))
+
+  /**
+   * Subscribes to the hub.
+   *
+   * The subscription starts when the source is run, not when it's created, so the source can be run several times,
+   * each run being a subscriber of its own, and a source that is never run doesn't hold on to any events.
+   *
+   * @param lastEventId The id of the last event the client received. The buffered events published after it are
+   *                    sent first.
+   * @return The formatted events, to be sent as a chunked response with the `text/event-stream` content type.
+   */
+  def source(lastEventId: Option[String]): Source[ByteString, NotUsed] =
+    Source
+      .fromMaterializer { (_, _) =>
+        val (queue, live) = Source.queue[ByteString](subscriberBufferSize).preMaterialize()
+        val replayed      = lock.synchronized {
+          if (completed) queue.complete() else subscribers += queue
+          lastEventId.fold(Vector.empty[ByteString])(replayAfter)
+        }
+        Source(replayed).concat(live).watchTermination() { (_, done) =>
+          done.onComplete(_ => lock.synchronized(subscribers -= queue))(ExecutionContext.parasitic)
+          NotUsed
+        }
+      }
+      .mapMaterializedValue(_ => NotUsed)
+
+  /**
+   * The number of current subscribers.
+   */
+  def subscriberCount: Int = lock.synchronized(subscribers.size)
+
+  private def replayAfter(lastEventId: String): Vector[ByteString] = {
+    var i = replayCount - 1
+    while (i >= 0 && replayIds((replayStart + i) % replayBufferSize) != lastEventId) i -= 1
+    if (i < 0) Vector.empty
+    else (i + 1 until replayCount).iterator.map(j => replayBytes((replayStart + j) % replayBufferSize)).toVector
+  }
+}
+
+object EventSourceHub {
+
+  /**
+   * Fails the stream of a subscriber that doesn't keep up with the published events.
+   */
+  final class SubscriberBufferOverflowException(bufferSize: Int)
+      extends RuntimeException(s"Event source subscriber didn't keep up, its buffer of $bufferSize events is full")
+}
@@ -12,6 +12,9 @@ import java.nio.file.{ Files => JFiles }
 import java.nio.file.attribute.BasicFileAttributes
 import java.time.Clock
 import java.time.Instant
+import java.util.concurrent.atomic.AtomicLong
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.ConcurrentLinkedQueue
 import java.util.stream
 
 import scala.concurrent.duration._
@@ -30,6 +33,8 @@ import org.apache.pekko.actor.ActorSystem
 import org.apache.pekko.actor.Cancellable
 import org.slf4j.LoggerFactory
 import play.api.inject.ApplicationLifecycle
+import play.api.libs.typedmap.TypedKey
+import play.api.mvc.RequestHeader
 import play.api.Configuration
 
 /**
@@ -70,6 +75,16 @@ object Files {
      */
     def delete(file: TemporaryFile): Try[Boolean]
 
+    /**
+     * The creator to use for the temporary files of the given request, for instance of its body. Creators that delete
+     * the files of a request once its response is sent, such as [[ShardedTemporaryFileCreator]], return a creator
+     * scoped to the request. By default, this creator is returned.
+     *
+     * @param request the request the temporary files are created for.
+     * @return a temporary file creator for the request.
+     */
+    def forRequest(request: RequestHeader): TemporaryFileCreator = this
+
     /**
      * @return the Java version for the temporary file creator.
      */
@@ -341,6 +356,256 @@ object Files {
     }
   }
 
+  /**
+   * Creates temporary files in a fixed set of shard folders inside a single temporary folder, so that no folder
+   * holds too many files when many requests upload at once. The files created for a request through [[forRequest]]
+   * are deleted once its response is sent, provided the [[TemporaryFileScopeFilter]] is enabled, and are not
+   * registered for garbage collection. Like with [[DefaultTemporaryFileCreator]], other files are deleted when they
+   * are garbage collected, and any leftover files are deleted on a successful application stop.
+   *
+   * The number of live files in the temporary folder and the bytes they hold are exposed by [[liveFileCount]] and
+   * [[liveBytes]], for instance to be reported as gauges.
+   */
+  @Singleton
+  class ShardedTemporaryFileCreator @Inject() (applicationLifecycle: ApplicationLifecycle, conf: Configuration)
+      extends TemporaryFileCreator {
+    private val logger = play.api.Logger(this.getClass)
+
+    private val shardCount = conf.get[Int]("play.temporaryFile.sharded.shards")
+    require(shardCount > 0, s"play.temporaryFile.sharded.shards must be positive, but was $shardCount")
+
+    private val playTempFolder: Path = {
+      val dir = Paths.get(conf.get[String]("play.temporaryFile.dir"))
+      JFiles.createDirectories(dir) // make sure dir exists, otherwise createTempDirectory fails
+      JFiles.createTempDirectory(dir, "playtemp").toAbsolutePath.normalize
+    }
+
+    // The shard folders are created once, so creating a file is a single file system operation
+    private val shards: Array[Path] =
+      Array.tabulate(shardCount)(i => JFiles.createDirectory(playTempFolder.resolve(Integer.toHexString(i))))
+
+    // The temporary folder is new, so a counter is enough to make the file names unique
+    private val counter = new AtomicLong()
+
+    // Like in DefaultTemporaryFileCreator, the references to the files that aren't scoped to a request are kept so
+    // that they are enqueued when the files are garbage collected, which deletes the files that haven't been deleted
+    // or moved in the meantime
+    private val frq = new FinalizableReferenceQueue()
+
+    // The files in the temporary folder, counted by liveFileCount
+    private val live = new ConcurrentHashMap[Path, Tracked]()
+
+    // The files created elsewhere through create(path), only kept to be deleted when they are garbage collected
+    private val foreign = new ConcurrentHashMap[Path, Tracked]()
+
+    // The bytes of the live files, as last counted by ShardedTemporaryFile.written
+    private val liveByteCount = new AtomicLong()
+
+    override def create(prefix: String, suffix: String): TemporaryFile = track(newFile(prefix, suffix), scoped = false)
+
+    override def create(path: Path): TemporaryFile = track(path, scoped = false)
+
+    private def newFile(prefix: String, suffix: String): Path = {
+      val n     = counter.getAndIncrement()
+      val shard = shards((n % shardCount).toInt)
+      val path  = shard.resolve(prefix + java.lang.Long.toHexString(n) + suffix)
+      if (path.getParent != shard) {
+        throw new IllegalArgumentException(s"Invalid temporary file prefix or suffix: $prefix, $suffix")
+      }
+      JFiles.createFile(path)
+    }
+
+    private def track(path: Path, scoped: Boolean): TemporaryFile = {
+      val inFolder = path.toAbsolutePath.normalize.startsWith(playTempFolder)
+      val tracked  = new Tracked(if (inFolder) 0L else -1L)
+      val tempFile = new ShardedTemporaryFile(path, tracked)
+      if (!scoped) {
+        // Scoped files are deleted by their scope, so they don't need to be collected
+        val references = if (inFolder) live else foreign
+        tracked.cleanup = new FinalizablePhantomReference[TemporaryFile](tempFile, frq) {
+          override def finalizeReferent(): Unit = {
+            if (references.remove(path, tracked)) {
+              tracked.uncount()
+              deletePath(path)
+            }
+          }
+        }
+        references.put(path, tracked)
+      } else if (inFolder) {
+        live.put(path, tracked)
+      }
+      tempFile
+    }
+
+    private def untrack(path: Path): Unit = {
+      val tracked = live.remove(path)
+      if (tracked != null) tracked.uncount()
+      foreign.remove(path)
+    }
+
+    override def delete(tempFile: TemporaryFile): Try[Boolean] = {
+      untrack(tempFile.path)
+      deletePath(tempFile.path)
+    }
+
+    private def deletePath(path: Path): Try[Boolean] = {
+      logger.debug(s"deletePath: deleting = $path")
+      Try(JFiles.deleteIfExists(path)).recoverWith {
+        case e: Exception =>
+          logger.error(s"Cannot delete $path", e)
+          Failure(e)
+      }
+    }
+
+    /**
+     * Returns a creator registering the files it creates in the [[TemporaryFileScope]] of the request, so that
+     * they are deleted once its response is sent. If the request has no scope, this creator is returned.
+     */
+    override def forRequest(request: RequestHeader): TemporaryFileCreator =
+      request.attrs.get(TemporaryFileScope.Key) match {
+        case Some(scope) => new ScopedTemporaryFileCreator(scope)
+        case None        => this
+      }
+
+    /**
+     * @return the number of temporary files that have been created in the temporary folder and neither deleted nor
+     *         moved yet.
+     */
+    def liveFileCount: Int = live.size
+
+    /**
+     * @return the number of bytes held by the temporary files in the temporary folder that have neither been deleted
+     *         nor moved yet, as counted when they were written, see [[ShardedTemporaryFile.written]].
+     */
+    def liveBytes: Long = liveByteCount.get
+
+    /**
+     * The size last counted for a file, or -1 once the file isn't counted anymore.
+     */
+    private[ShardedTemporaryFileCreator] final class Tracked(initialSize: Long) {
+      private val size = new AtomicLong(initialSize)
+
+      // Keeps the reference deleting the file when it is garbage collected reachable, if any
+      @volatile var cleanup: Reference[TemporaryFile] = null
+
+      def count(bytes: Long): Unit = {
+        var counted = size.get
+        while (counted >= 0 && !size.compareAndSet(counted, bytes)) counted = size.get
+        if (counted >= 0) liveByteCount.addAndGet(bytes - counted)
+      }
+
+      def uncount(): Unit = {
+        val counted = size.getAndSet(-1)
+        if (counted > 0) liveByteCount.addAndGet(-counted)
+      }
+    }
+
+    class ShardedTemporaryFile private[ShardedTemporaryFileCreator] (val path: Path, tracked: Tracked)
+        extends TemporaryFile {
+      def file: File = path.toFile
+
+      def temporaryFileCreator: TemporaryFileCreator = ShardedTemporaryFileCreator.this
+
+      /**
+       * Counts the current size of this file in [[liveBytes]]. Play's body parsers call it once they have written a
+       * file, and it should be called again after writing more to the file.
+       */
+      def written(): Unit = {
+        try tracked.count(JFiles.size(path))
+        catch { case _: IOException => } // moved or deleted in the meantime
+      }
+
+      override def moveTo(to: Path, replace: Boolean): Path = untrackIfMoved(super.moveTo(to, replace))
+
+      override def atomicMoveWithFallback(to: Path): Path = untrackIfMoved(super.atomicMoveWithFallback(to))
+
+      // A moved file belongs to its destination, so it must neither be counted nor deleted anymore
+      private def untrackIfMoved(destination: Path): Path = {
+        if (!JFiles.exists(path)) untrack(path)
+        destination
+      }
+    }
+
+    /**
+     * Creates the files of a request, which are deleted by its scope rather than when they are garbage collected.
+     */
+    private class ScopedTemporaryFileCreator(scope: TemporaryFileScope) extends TemporaryFileCreator {
+      override def create(prefix: String, suffix: String): TemporaryFile =
+        scope.add(track(newFile(prefix, suffix), scoped = true))
+
+      override def create(path: Path): TemporaryFile = scope.add(track(path, scoped = true))
+
+      override def delete(file: TemporaryFile): Try[Boolean] = ShardedTemporaryFileCreator.this.delete(file)
+
+      override def forRequest(request: RequestHeader): TemporaryFileCreator = this
+    }
+
+    /**
+     * Application stop hook which deletes the temporary folder recursively (including subfolders).
+     */
+    applicationLifecycle.addStopHook { () =>
+      Future.successful {
+        if (JFiles.isDirectory(playTempFolder)) {
+          JFiles.walkFileTree(
+            playTempFolder,
+            new SimpleFileVisitor[Path] {
+              override def visitFile(path: Path, attrs: BasicFileAttributes): FileVisitResult = {
+                logger.debug(s"stopHook: Removing leftover temporary file $path from $playTempFolder")
+                deletePath(path)
+                FileVisitResult.CONTINUE
+              }
+
+              override def postVisitDirectory(path: Path, exc: IOException): FileVisitResult = {
+                deletePath(path)
+                FileVisitResult.CONTINUE
+              }
+            }
+          )
+        }
+        live.forEach((_, tracked) => tracked.uncount())
+        live.clear()
+        foreign.clear()
+        frq.close()
+      }
+    }
+  }
+
+  /**
+   * The temporary files created for a request, deleted by [[close]] once its response is sent.
+   *
+   * @see [[TemporaryFileScopeFilter]]
+   */
+  final class TemporaryFileScope {
+    private val files = new ConcurrentLinkedQueue[TemporaryFile]()
+
+    /**
+     * Adds a file to be deleted when the scope is closed.
+     */
+    def add(file: TemporaryFile): TemporaryFile = {
+      files.add(file)
+      file
+    }
+
+    /**
+     * Deletes the files of the scope.
+     */
+    def close(): Unit = {
+      var file = files.poll()
+      while (file != null) {
+        file.temporaryFileCreator.delete(file)
+        file = files.poll()
+      }
+    }
+  }
+
+  object TemporaryFileScope {
+
+    /**
+     * The request attribute holding the scope of the temporary files of a request.
+     */
+    val Key: TypedKey[TemporaryFileScope] = TypedKey("TemporaryFileScope")
+  }
+
   trait TemporaryFileReaper {
     def updateTempFolder(folder: Path): Unit
   }
@@ -539,5 +804,14 @@ object Files {
     def apply(creator: TemporaryFileCreator, prefix: String = "", suffix: String = ""): TemporaryFile = {
       creator.create(prefix, suffix)
     }
+
+    /**
+     * Tells the creator of a temporary file that Play finished writing it, so that a creator counting the bytes of its
+     * files, like [[ShardedTemporaryFileCreator]], doesn't have to look up their sizes each time they are counted.
+     */
+    private[play] def written(file: TemporaryFile): Unit = file match {
+      case file: ShardedTemporaryFileCreator#ShardedTemporaryFile => file.written()
+      case _                                                      =>
+    }
   }
 }
@@ -0,0 +1,122 @@
+/*
+ * Copyright (C) from 2022 The Play Framework Contributors <https://github.com/playframework>, 2011-2021 Lightbend Inc. <https://www.lightbend.com>
+ */
+
+package play.api.libs
+
+import org.apache.pekko.stream.scaladsl.Flow
+import org.apache.pekko.util.ByteString
+import org.apache.pekko.util.ByteStringBuilder
+import org.apache.pekko.NotUsed
+import play.api.libs.json.Json
+import play.api.libs.json.Writes
+
+/**
+ * Helper functions to stream a sequence of elements as JSON using <a href="https://pekko.apache.org/docs/pekko/2.0/stream/index.html">Pekko Streams</a>.
+ *
+ * Each element is serialized on its own as it is pulled from the source, so only the elements of the current chunk
+ * are held in memory, and the source is only pulled as fast as the client reads the response.
+ *
+ * Example:
+ *
+ * {{{
+ *   def exportRows() = Action {
+ *     val rows: Source[Row, NotUsed] = repository.allRows()
+ *     Ok.streamJson(rows)
+ *   }
+ * }}}
+ */
+object JsonStream {
+
+  /**
+   * The size, in bytes, above which the serialized elements are sent as a chunk.
+   */
+  val DefaultChunkSize: Int = 8192
+
+  /**
+   * How the elements of the stream are framed.
+   *
+   * @param contentType The content type of the response.
+   */
+  sealed abstract class Format(val contentType: String)
+
+  /**
+   * The elements are sent as a single JSON array.
+   */
+  case object JsonArray extends Format("application/json")
+
+  /**
+   * The elements are sent as newline delimited JSON, one element per line.
+   */
+  case object NdJson extends Format("application/x-ndjson")
+
+  /**
+   * Produces a flow of ByteString chunks from a flow of elements, using the given `Writes` to serialize each element.
+   *
+   * @param format the framing of the elements.
+   * @param chunkSize the size, in bytes, above which the serialized elements are emitted as a chunk.
+   * @return a flow of ByteString chunks.
+   */
+  def flow[A](format: Format = JsonArray, chunkSize: Int = DefaultChunkSize)(
+      implicit writes: Writes[A]
+  ): Flow[A, ByteString, NotUsed] =
+    Flow[A].map(a => ByteString.fromArrayUnsafe(Json.toBytes(writes.writes(a)))).via(framing(format, chunkSize))
+
+  /**
+   * Frames a flow of already serialized JSON elements according to the given format, and groups them into chunks of
+   * about the given size. Useful when the elements are serialized with something else than play-json.
+   *
+   * @param format the framing of the elements.
+   * @param chunkSize the size, in bytes, above which the serialized elements are emitted as a chunk.
+   * @return a flow of ByteString chunks.
+   */
+  def framing(format: Format, chunkSize: Int): Flow[ByteString, ByteString, NotUsed] = {
+    require(chunkSize > 0, s"chunkSize must be positive, but was $chunkSize")
+    Flow[ByteString]
+      .statefulMap(() => new Framer(format, chunkSize))(
+        (framer, element) => (framer, framer.append(element)),
+        framer => Some(framer.finish())
+      )
+      .filter(_.nonEmpty)
+  }
+
+  private val ArrayStart = ByteString("[")
+  private val ArrayEnd   = ByteString("]")
+  private val Separator  = ByteString(",")
+  private val Newline    = ByteString("\n")
+
+  private final class Framer(format: Format, chunkSize: Int) {
+    private var builder = new ByteStringBuilder
+    private var first   = true
+
+    /** Appends an element, and returns the chunk to emit, which is empty while the chunk isn't full yet. */
+    def append(element: ByteString): ByteString = {
+      format match {
+        case JsonArray =>
+          builder.append(if (first) ArrayStart else Separator)
+          builder.append(element)
+        case NdJson =>
+          builder.append(element)
+          builder.append(Newline)
+      }
+      first = false
+      if (builder.length >= chunkSize) takeChunk() else ByteString.empty
+    }
+
+    def finish(): ByteString = {
+      format match {
+        case JsonArray =>
+          if (first) builder.append(ArrayStart)
+          builder.append(ArrayEnd)
+        case NdJson =>
+      }
+      takeChunk()
+    }
+
+    private def takeChunk(): ByteString = {
+      val chunk = builder.result()
+      builder = new ByteStringBuilder
+      chunk
+    }
+  }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright (C) from 2022 The Play Framework Contributors <https://github.com/playframework>, 2011-2021 Lightbend Inc. <https://www.lightbend.com>
+ */
+
+package play.api.libs
+
+import jakarta.inject.Singleton
+import org.apache.pekko.stream.scaladsl.Source
+import play.api.http.HttpEntity
+import play.api.libs.Files.TemporaryFileScope
+import play.api.mvc._
+import play.core.Execution
+
+/**
+ * Gives each request a [[play.api.libs.Files.TemporaryFileScope]], and deletes the temporary files created in it
+ * once the response is sent, or once the request fails. Files are only created in the scope by temporary file
+ * creators that support it, such as [[play.api.libs.Files.ShardedTemporaryFileCreator]].
+ *
+ * A temporary file that must outlive its request should be moved out of the temporary folder, for instance with
+ * `moveTo`. Files sent by path, as a [[play.api.http.HttpEntity.FileRegion]], are only deleted once the backend closes
+ * the region.
+ */
+@Singleton
+class TemporaryFileScopeFilter extends EssentialFilter {
+  def apply(next: EssentialAction): EssentialAction = EssentialAction { request =>
+    val scope = new TemporaryFileScope
+    next(request.addAttr(TemporaryFileScope.Key, scope))
+      .map(result => TemporaryFileScopeFilter.closeWhenSent(result, scope))(Execution.trampoline)
+      .recover {
+        case e: Throwable =>
+          scope.close()
+          throw e
+      }(Execution.trampoline)
+  }
+}
+
+object TemporaryFileScopeFilter {
+  private def closeWhenSent(result: Result, scope: TemporaryFileScope): Result = {
+    def closeOnTermination[T](data: Source[T, ?]): Source[T, ?] =
+      data.watchTermination() { (mat, done) =>
+        done.onComplete(_ => scope.close())(Execution.trampoline)
+        mat
+      }
+    result.body match {
+      case HttpEntity.Streamed(data, length, contentType) =>
+        result.copy(body = HttpEntity.Streamed(closeOnTermination(data), length, contentType))
+      case HttpEntity.Chunked(chunks, contentType) =>
+        result.copy(body = HttpEntity.Chunked(closeOnTermination(chunks), contentType))
+      case region: HttpEntity.FileRegion =>
+        result.copy(body = region.copy(onClose = () => {
+          region.onClose()
+          scope.close()
+        }))
+      case _ =>
+        scope.close()
+        result
+    }
+  }
+}
@@ -9,6 +9,7 @@ import scala.concurrent._
 import jakarta.inject.Inject
 import org.apache.pekko.util.ByteString
 import play.api._
+import play.api.http.RequestStage
 import play.api.libs.streams.Accumulator
 import play.api.mvc.request.RequestAttrKey
 import play.core.Execution
@@ -250,15 +251,34 @@ object BodyParser {
       rh: RequestHeader,
       next: Request[A] => Future[Result]
   )(implicit executionContext: ExecutionContext): Accumulator[ByteString, Result] =
-    parser(rh).mapFuture {
-      case Left(r) =>
-        logger.trace("Got direct result from the BodyParser: " + r)
-        Future.successful(r)
-      case Right(a) =>
-        val request = Request(rh, a)
-        logger.trace("Invoking action with request: " + request)
-        next(request)
-    }(using ExecCtxUtils.prepare(executionContext))
+    rh.attrs.get(RequestAttrKey.TimingListener) match {
+      case None =>
+        parser(rh).mapFuture {
+          case Left(r) =>
+            logger.trace("Got direct result from the BodyParser: " + r)
+            Future.successful(r)
+          case Right(a) =>
+            val request = Request(rh, a)
+            logger.trace("Invoking action with request: " + request)
+            next(request)
+        }(using ExecCtxUtils.prepare(executionContext))
+      case Some(listener) =>
+        val parseStart = System.nanoTime()
+        parser(rh).mapFuture {
+          case Left(r) =>
+            listener.onStage(rh, RequestStage.BodyParsing, parseStart, System.nanoTime())
+            logger.trace("Got direct result from the BodyParser: " + r)
+            Future.successful(r)
+          case Right(a) =>
+            val actionStart = System.nanoTime()
+            listener.onStage(rh, RequestStage.BodyParsing, parseStart, actionStart)
+            val request = Request(rh, a)
+            logger.trace("Invoking action with request: " + request)
+            next(request).andThen {
+              case _ => listener.onStage(request, RequestStage.Action, actionStart, System.nanoTime())
+            }(using Execution.trampoline)
+        }(using ExecCtxUtils.prepare(executionContext))
+    }
 }
 
 /**
@@ -36,6 +36,7 @@ import play.api.http._
 import play.api.http.Status._
 import play.api.libs.json._
 import play.api.libs.streams.Accumulator
+import play.api.libs.typedmap.TypedMap
 import play.api.libs.Files.SingletonTemporaryFileCreator
 import play.api.libs.Files.TemporaryFile
 import play.api.libs.Files.TemporaryFileCreator
@@ -183,6 +184,9 @@ object MultipartFormData {
 
   /**
    * A file part.
+   *
+   * @param attrs Values computed from the file part while it was uploaded, for instance by a
+   *              [[play.core.parsers.FilePartInspector]].
    */
   case class FilePart[A](
       key: String,
@@ -191,7 +195,8 @@ object MultipartFormData {
       ref: A,
       fileSize: Long = -1,
       dispositionType: String = "form-data",
-      refToBytes: A => Option[ByteString] = (a: A) => None
+      refToBytes: A => Option[ByteString] = (a: A) => None,
+      attrs: TypedMap = TypedMap.empty
   ) extends Part[A] {
     def transformRefToBytes(): ByteString =
       refToBytes(ref)
@@ -216,7 +221,8 @@ object MultipartFormData {
       ref,
       fileSize,
       dispositionType,
-      refToBytes(_).toJava
+      refToBytes(_).toJava,
+      attrs.asJava
     )
   }
 
@@ -272,7 +278,10 @@ case class RawBuffer(
     }
   }
 
-  private[play] def close(): Unit = if (outStream != null) outStream.close()
+  private[play] def close(): Unit = if (outStream != null) {
+    outStream.close()
+    TemporaryFile.written(backedByTemporaryFile)
+  }
 
   private[play] def backToTemporaryFile(): Unit = {
     backedByTemporaryFile = temporaryFileCreator.create("requestBody", "asRaw")
@@ -637,10 +646,10 @@ trait PlayBodyParsers extends BodyParserUtils {
           .strict[ByteString, RawBuffer](
             { maybeStrictBytes =>
               Future.successful(
-                RawBuffer(memoryThreshold, temporaryFileCreator, maybeStrictBytes.getOrElse(ByteString.empty))
+                RawBuffer(memoryThreshold, temporaryFileCreator.forRequest(request), maybeStrictBytes.getOrElse(ByteString.empty))
               )
             }, {
-              val buffer = RawBuffer(memoryThreshold, temporaryFileCreator)
+              val buffer = RawBuffer(memoryThreshold, temporaryFileCreator.forRequest(request))
               val sink   = Sink.fold[RawBuffer, ByteString](buffer) { (bf, bs) => bf.push(bs); bf }
               sink.mapMaterializedValue { future => future.andThen { case _ => buffer.close() } }
             }
@@ -859,9 +868,13 @@ trait PlayBodyParsers extends BodyParserUtils {
       // We check early here already to not even create a temporary file
       Accumulator.done(requestEntityTooLarge(request))
     } else {
-      val tempFile = temporaryFileCreator.create("requestBody", "asTemporaryFile")
-      file(tempFile, maxLength)(request)
-        .map(_.fold(result => Left(result), _ => Right(tempFile)))(using Execution.trampoline)
+      val tempFile = temporaryFileCreator.forRequest(request).create("requestBody", "asTemporaryFile")
+      file(tempFile, maxLength)(request).map {
+        case Left(result) => Left(result)
+        case Right(_)     =>
+          TemporaryFile.written(tempFile)
+          Right(tempFile)
+      }(using Execution.trampoline)
     }
   }
 
@@ -881,9 +894,8 @@ trait PlayBodyParsers extends BodyParserUtils {
     tolerantBodyParser("formUrlEncoded", maxLength, "Error parsing application/x-www-form-urlencoded") {
       (request, bytes) =>
         import play.core.parsers._
-        val charset          = request.charset.getOrElse("UTF-8")
-        val urlEncodedString = bytes.decodeString("UTF-8")
-        FormUrlEncodedParser.parse(urlEncodedString, charset)
+        val charset = request.charset.getOrElse("UTF-8")
+        FormUrlEncodedParser.parse(bytes, charset)
     }
 
   /**
@@ -974,7 +986,7 @@ trait PlayBodyParsers extends BodyParserUtils {
       case Some("multipart/form-data") =>
         logger.trace("Parsing AnyContent as multipartFormData")
         multipartFormData(
-          Multipart.handleFilePartAsTemporaryFile(temporaryFileCreator),
+          Multipart.handleFilePartAsTemporaryFile(temporaryFileCreator.forRequest(request)),
           maxLengthOrDefaultLarge,
           DefaultAllowEmptyFileUploads
         ).apply(request)
@@ -996,7 +1008,7 @@ trait PlayBodyParsers extends BodyParserUtils {
    * Parse the content as multipart/form-data
    */
   def multipartFormData: BodyParser[MultipartFormData[TemporaryFile]] =
-    multipartFormData(Multipart.handleFilePartAsTemporaryFile(temporaryFileCreator))
+    temporaryFileMultipartFormData(DefaultMaxDiskLength, DefaultAllowEmptyFileUploads, identity)
 
   /**
    * Parse the content as multipart/form-data
@@ -1004,7 +1016,7 @@ trait PlayBodyParsers extends BodyParserUtils {
    * @param maxLength Max length (in bytes) allowed or returns EntityTooLarge HTTP response.
    */
   def multipartFormData(maxLength: Long): BodyParser[MultipartFormData[TemporaryFile]] =
-    multipartFormData(Multipart.handleFilePartAsTemporaryFile(temporaryFileCreator), maxLength, false)
+    temporaryFileMultipartFormData(maxLength, false, identity)
 
   /**
    * Parse the content as multipart/form-data
@@ -1012,7 +1024,7 @@ trait PlayBodyParsers extends BodyParserUtils {
    * @param allowEmptyFiles If empty file uploads are allowed (no matter if filename or file is empty)
    */
   def multipartFormData(allowEmptyFiles: Boolean): BodyParser[MultipartFormData[TemporaryFile]] =
-    multipartFormData(Multipart.handleFilePartAsTemporaryFile(temporaryFileCreator), allowEmptyFiles = allowEmptyFiles)
+    temporaryFileMultipartFormData(DefaultMaxDiskLength, allowEmptyFiles, identity)
 
   /**
    * Parse the content as multipart/form-data
@@ -1021,7 +1033,21 @@ trait PlayBodyParsers extends BodyParserUtils {
    * @param allowEmptyFiles If empty file uploads are allowed (no matter if filename or file is empty)
    */
   def multipartFormData(maxLength: Long, allowEmptyFiles: Boolean): BodyParser[MultipartFormData[TemporaryFile]] =
-    multipartFormData(Multipart.handleFilePartAsTemporaryFile(temporaryFileCreator), maxLength, allowEmptyFiles)
+    temporaryFileMultipartFormData(maxLength, allowEmptyFiles, identity)
+
+  /**
+   * Parse the content as multipart/form-data, storing the file parts in temporary files created for the request.
+   *
+   * @param wrap Wraps the handler storing the file parts in temporary files, for instance to inspect them.
+   */
+  private[play] def temporaryFileMultipartFormData[A](
+      maxLength: Long,
+      allowEmptyFiles: Boolean,
+      wrap: Multipart.FilePartHandler[TemporaryFile] => Multipart.FilePartHandler[A]
+  ): BodyParser[MultipartFormData[A]] = BodyParser("multipartFormData") { request =>
+    val handler = wrap(Multipart.handleFilePartAsTemporaryFile(temporaryFileCreator.forRequest(request)))
+    multipartFormData(handler, maxLength, allowEmptyFiles)(request)
+  }
 
   /**
    * Parse the content as multipart/form-data
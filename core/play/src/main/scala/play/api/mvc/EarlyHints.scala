@@ -0,0 +1,52 @@
+/*
+ * Copyright (C) from 2022 The Play Framework Contributors <https://github.com/playframework>, 2011-2021 Lightbend Inc. <https://www.lightbend.com>
+ */
+
+package play.api.mvc
+
+import controllers.AssetsFinder
+import play.api.http.HeaderNames
+
+/**
+ * Sends `103 Early Hints` informational responses for a request.
+ *
+ * Server backends that support early hints put an implementation in the
+ * [[play.api.mvc.request.RequestAttrKey.EarlyHints]] attribute of the request. Applications use
+ * [[RequestHeader.sendEarlyHints]] instead of calling it directly.
+ */
+trait EarlyHints {
+
+  /**
+   * Sends an informational response with the given headers, if it can still be sent before the final response. This
+   * doesn't block, and may be called from any thread.
+   */
+  def send(headers: Seq[(String, String)]): Unit
+}
+
+object EarlyHints {
+
+  /**
+   * A `Link` header asking the client to preload the given URL.
+   *
+   * @param url The URL to preload.
+   * @param as The type of content, e.g. `style`, `script`, `font` or `image`.
+   */
+  def preload(url: String, as: String): (String, String) = HeaderNames.LINK -> s"<$url>; rel=preload; as=$as"
+
+  /**
+   * A `Link` header asking the client to preload the given asset. The URL of the asset is found with the
+   * [[controllers.AssetsFinder]], so it points to the minified and digested version of the asset if there is one.
+   *
+   * @param assetsFinder The assets finder of the application.
+   * @param rawPath The original path of the asset, e.g. `stylesheets/main.css`.
+   * @param as The type of content, e.g. `style`, `script`, `font` or `image`.
+   */
+  def preloadAsset(assetsFinder: AssetsFinder, rawPath: String, as: String): (String, String) =
+    preload(assetsFinder.path(rawPath), as)
+
+  /**
+   * Sends the given links in a single `Link` header, for the Java API.
+   */
+  private[play] def sendLinks(request: RequestHeader, links: Array[String]): Boolean =
+    if (links.isEmpty) request.sendEarlyHints() else request.sendEarlyHints(HeaderNames.LINK -> links.mkString(", "))
+}
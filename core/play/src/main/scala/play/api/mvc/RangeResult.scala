@@ -7,7 +7,6 @@ package play.api.mvc
 import java.nio.file.Files
 
 import org.apache.pekko.annotation.ApiMayChange
-import org.apache.pekko.stream.scaladsl.FileIO
 import org.apache.pekko.stream.scaladsl.Flow
 import org.apache.pekko.stream.scaladsl.Source
 import org.apache.pekko.stream.scaladsl.StreamConverters
@@ -350,9 +349,13 @@ object RangeResult {
       fileName: String,
       contentType: Option[String]
   ): Result = {
-    // 8192 is the default chunkSize used by Pekko Streams
-    val source = (start: Long) => (start, FileIO.fromPath(path, chunkSize = 8192, startPosition = start))
-    ofSource(Some(Files.size(path)), source, rangeHeader, Option(fileName), contentType)
+    // The file is sent as a region, so that the server backend can send it straight from the file
+    val size              = Files.size(path)
+    val entityContentType = contentType.orElse(Some(ContentTypes.BINARY))
+    rangeResult(Some(size), rangeHeader, Option(fileName), contentType)(
+      (start, length) => HttpEntity.FileRegion(path, start, length.getOrElse(size - start), entityContentType),
+      _ => HttpEntity.FileRegion(path, 0, size, entityContentType)
+    )
   }
 
   /**
@@ -410,6 +413,41 @@ object RangeResult {
       fileName: Option[String],
       contentType: Option[String]
   ): Result = {
+    val entityContentType = contentType.orElse(Some(ContentTypes.BINARY))
+    rangeResult(entityLength, rangeHeader, fileName, contentType)(
+      { (rangeStart, rangeLength) =>
+        val (offset, source) = getSource(rangeStart)
+        // Really the only sensible values for offset are 0 or the requested byteRange,
+        // but it's possible to have seeked to any value in between.
+        require(
+          offset <= rangeStart,
+          s"Requested range starts at $rangeStart but the getSource function returned an offset of $offset. It should not seek past the start range."
+        )
+        // The returned Source may start partway into the source data, so take that into account
+        val start = rangeStart - offset
+
+        val entitySource = source.via(sliceBytesTransformer(start, rangeLength))
+        HttpEntity.Streamed(entitySource, rangeLength, entityContentType)
+      },
+      { entityLength =>
+        val (_, source) = getSource(0L)
+        HttpEntity.Streamed(source, entityLength, entityContentType)
+      }
+    )
+  }
+
+  /**
+   * Builds the result for the range header.
+   *
+   * @param rangeEntity Creates the entity of the first satisfiable range, given its start and length if known.
+   * @param wholeEntity Creates the entity of the whole representation, given its length if known.
+   */
+  private def rangeResult(
+      entityLength: Option[Long],
+      rangeHeader: Option[String],
+      fileName: Option[String],
+      contentType: Option[String]
+  )(rangeEntity: (Long, Option[Long]) => HttpEntity, wholeEntity: Option[Long] => HttpEntity): Result = {
     val commonHeaders = {
       val buf = Map.newBuilder[String, String]
 
@@ -426,28 +464,12 @@ object RangeResult {
         val byteRange     = firstRange.byteRange
         val firstRangeSet = SatisfiableRangeSet(entityLength, Seq(Some(firstRange)))
 
-        val (offset, source) = getSource(byteRange.start)
-        // Really the only sensible values for offset are 0 or the requested byteRange,
-        // but it's possible to have seeked to any value in between.
-        require(
-          offset <= byteRange.start,
-          s"Requested range starts at ${byteRange.start} but the getSource function returned an offset of $offset. It should not seek past the start range."
-        )
-        // The returned Source may start partway into the source data, so take that into account
-        val start = byteRange.start - offset
-
-        val entitySource = source.via(sliceBytesTransformer(start, firstRange.length))
-
         Result(
           ResponseHeader(
             status = PARTIAL_CONTENT,
             headers = Map(CONTENT_RANGE -> firstRangeSet.toString) ++ commonHeaders
           ),
-          HttpEntity.Streamed(
-            entitySource,
-            firstRange.length,
-            contentType.orElse(Some(ContentTypes.BINARY))
-          )
+          rangeEntity(byteRange.start, firstRange.length)
         )
       case rangeSet: UnsatisfiableRangeSet =>
         Result(
@@ -464,20 +486,12 @@ object RangeResult {
         entityLength match {
           case Some(entityLen) =>
             if (entityLen > 0) {
-              val (_, source) = getSource(0L)
-              Result(
-                ResponseHeader(status = OK, headers = commonHeaders),
-                HttpEntity.Streamed(source, Some(entityLen), contentType.orElse(Some(ContentTypes.BINARY)))
-              )
+              Result(ResponseHeader(status = OK, headers = commonHeaders), wholeEntity(Some(entityLen)))
             } else {
               Results.Ok.sendEntity(HttpEntity.Strict(ByteString.empty, contentType))
             }
           case None =>
-            val (_, source) = getSource(0L)
-            Result(
-              ResponseHeader(status = OK, headers = commonHeaders),
-              HttpEntity.Streamed(source, None, contentType.orElse(Some(ContentTypes.BINARY)))
-            )
+            Result(ResponseHeader(status = OK, headers = commonHeaders), wholeEntity(None))
         }
     }
   }
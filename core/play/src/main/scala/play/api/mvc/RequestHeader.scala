@@ -7,6 +7,9 @@ package play.api.mvc
 import java.util.Locale
 
 import scala.annotation.implicitNotFound
+import scala.concurrent.duration.Deadline
+import scala.concurrent.duration.Duration
+import scala.concurrent.duration.FiniteDuration
 
 import play.api.http.HeaderNames
 import play.api.http.MediaRange
@@ -388,6 +391,37 @@ trait RequestHeader {
    */
   def hasBody: Boolean = headers.hasBody
 
+  /**
+   * Sends a `103 Early Hints` informational response with the given headers ahead of the final response, typically
+   * `Link` headers that let the client preload assets while the final response is still being computed, see
+   * [[EarlyHints.preload]].
+   *
+   * Early hints are only sent if the server backend supports them for this request, and on a best effort basis: they
+   * are dropped if an earlier response on the same connection is still being sent, or once the final response has
+   * started.
+   *
+   * @return true if the server backend supports early hints for this request.
+   */
+  def sendEarlyHints(headers: (String, String)*): Boolean = attrs.get(RequestAttrKey.EarlyHints) match {
+    case Some(earlyHints) =>
+      if (headers.nonEmpty) earlyHints.send(headers)
+      true
+    case None => false
+  }
+
+  /**
+   * The deadline by which the request should be handled, if one applies, after which its client doesn't wait for the
+   * response anymore.
+   */
+  def deadline: Option[Deadline] = attrs.get(RequestAttrKey.Deadline)
+
+  /**
+   * The time left to handle the request before its deadline, if one applies, zero once it has passed. Calls made to
+   * handle the request, such as web service calls or database queries, can use it as their timeout so that they
+   * don't go on once the request is abandoned.
+   */
+  def remainingTime: Option[FiniteDuration] = deadline.map(_.timeLeft.max(Duration.Zero))
+
   /** The normalized effective request authority, including its port when present. */
   final def host: String = authority.fold("")(_.render)
 
@@ -0,0 +1,228 @@
+/*
+ * Copyright (C) from 2022 The Play Framework Contributors <https://github.com/playframework>, 2011-2021 Lightbend Inc. <https://www.lightbend.com>
+ */
+
+package play.api.mvc
+
+import scala.collection.immutable.TreeMap
+
+import play.api.http.HeaderNames
+import play.core.utils.CaseInsensitiveOrdered
+
+/**
+ * The headers of a response.
+ *
+ * The headers are kept in the order they were set, in flat arrays of names and values along with a hash of each
+ * lower-cased name, so looking up, setting and removing headers doesn't need to build a map. Names are compared
+ * case-insensitively.
+ *
+ * A name may be present more than once when it's added with [[add]], which is how multiple `Set-Cookie` headers are
+ * kept apart. The [[toMap]] view joins the values of such headers.
+ */
+final class ResponseHeaders private (
+    names: Array[String],
+    values: Array[String],
+    hashes: Array[Int],
+    val size: Int
+) {
+  import ResponseHeaders._
+
+  def isEmpty: Boolean = size == 0
+
+  /**
+   * The first value of the given header, if present.
+   */
+  def get(name: String): Option[String] = {
+    val i = indexOf(name, foldedHash(name))
+    if (i < 0) None else Some(values(i))
+  }
+
+  /**
+   * All values of the given header, in the order they were added.
+   */
+  def getAll(name: String): Seq[String] = {
+    val hash    = foldedHash(name)
+    val builder = Seq.newBuilder[String]
+    var i       = 0
+    while (i < size) {
+      if (hashes(i) == hash && names(i).equalsIgnoreCase(name)) builder += values(i)
+      i += 1
+    }
+    builder.result()
+  }
+
+  def contains(name: String): Boolean = indexOf(name, foldedHash(name)) >= 0
+
+  def foreach[U](f: (String, String) => U): Unit = {
+    var i = 0
+    while (i < size) {
+      f(names(i), values(i))
+      i += 1
+    }
+  }
+
+  def iterator: Iterator[(String, String)] = Iterator.range(0, size).map(i => (names(i), values(i)))
+
+  /**
+   * Sets the given header, replacing all values it had.
+   */
+  def set(name: String, value: String): ResponseHeaders = set((name, value) :: Nil)
+
+  /**
+   * Sets the given headers, replacing all values they had. If a name is given more than once the last value is used.
+   */
+  def set(headers: Iterable[(String, String)]): ResponseHeaders = {
+    if (headers.isEmpty) this
+    else {
+      val added   = ResponseHeaders.from(headers)
+      val builder = new Builder(size + added.size)
+      var i       = 0
+      while (i < size) {
+        if (added.indexOf(names(i), hashes(i)) < 0) builder.append(names(i), values(i), hashes(i))
+        i += 1
+      }
+      added.foreachEntry(builder.append)
+      builder.result()
+    }
+  }
+
+  /**
+   * Adds the given header, keeping the values it already had.
+   */
+  def add(name: String, value: String): ResponseHeaders = add((name, value) :: Nil)
+
+  /**
+   * Adds the given headers, keeping the values they already had.
+   */
+  def add(headers: Iterable[(String, String)]): ResponseHeaders = {
+    if (headers.isEmpty) this
+    else {
+      val builder = new Builder(size + headers.size)
+      foreachEntry(builder.append)
+      headers.foreach { case (name, value) => builder.append(name, value, validatedHash(name, value)) }
+      builder.result()
+    }
+  }
+
+  /**
+   * Removes all values of the given header.
+   */
+  def remove(name: String): ResponseHeaders = {
+    val hash = foldedHash(name)
+    if (indexOf(name, hash) < 0) this
+    else {
+      val builder = new Builder(size)
+      var i       = 0
+      while (i < size) {
+        if (hashes(i) != hash || !names(i).equalsIgnoreCase(name)) builder.append(names(i), values(i), hashes(i))
+        i += 1
+      }
+      builder.result()
+    }
+  }
+
+  /**
+   * The headers as a case-insensitive map. The values of a header that is present more than once are joined with a
+   * comma, except for `Set-Cookie` values, which are joined with the separator of
+   * [[CookieHeaderEncoding.SetCookieHeaderSeparator]].
+   */
+  lazy val toMap: Map[String, String] = {
+    var map = TreeMap.empty[String, String](using CaseInsensitiveOrdered)
+    foreach { (name, value) =>
+      map = map.get(name) match {
+        case Some(existing) =>
+          val separator = if (name.equalsIgnoreCase(HeaderNames.SET_COOKIE)) SetCookieSeparator else ","
+          map.updated(name, existing + separator + value)
+        case None => map.updated(name, value)
+      }
+    }
+    map
+  }
+
+  private def indexOf(name: String, hash: Int): Int = {
+    var i = 0
+    while (i < size) {
+      if (hashes(i) == hash && names(i).equalsIgnoreCase(name)) return i
+      i += 1
+    }
+    -1
+  }
+
+  private def foreachEntry(f: (String, String, Int) => Unit): Unit = {
+    var i = 0
+    while (i < size) {
+      f(names(i), values(i), hashes(i))
+      i += 1
+    }
+  }
+
+  override def equals(o: Any): Boolean = o match {
+    case other: ResponseHeaders => toMap == other.toMap
+    case _                      => false
+  }
+  override def hashCode: Int    = toMap.hashCode
+  override def toString: String =
+    iterator.map { case (name, value) => s"$name: $value" }.mkString("ResponseHeaders(", ", ", ")")
+}
+
+object ResponseHeaders {
+  private val SetCookieSeparator = ";;"
+
+  val empty: ResponseHeaders = new ResponseHeaders(Array.empty, Array.empty, Array.empty, 0)
+
+  def apply(headers: (String, String)*): ResponseHeaders = from(headers)
+
+  /**
+   * Creates the headers from the given name-value pairs. If a name is given more than once the last value is used,
+   * under the name as it was first given.
+   */
+  def from(headers: Iterable[(String, String)]): ResponseHeaders = {
+    if (headers.isEmpty) empty
+    else {
+      val builder = new Builder(headers.size)
+      headers.foreach { case (name, value) => builder.set(name, value, validatedHash(name, value)) }
+      builder.result()
+    }
+  }
+
+  /**
+   * The hash of the lower-cased name, computed without creating the lower-cased string.
+   */
+  private def foldedHash(name: String): Int = {
+    var hash = 0
+    var i    = 0
+    while (i < name.length) {
+      hash = 31 * hash + Character.toLowerCase(name.charAt(i))
+      i += 1
+    }
+    hash
+  }
+
+  private def validatedHash(name: String, value: String): Int = {
+    if (name eq null) throw new NullPointerException("Response header names cannot be null!")
+    if (value eq null) throw new NullPointerException(s"Response header '$name' has null value!")
+    foldedHash(name)
+  }
+
+  private final class Builder(capacity: Int) {
+    private val names  = new Array[String](capacity)
+    private val values = new Array[String](capacity)
+    private val hashes = new Array[Int](capacity)
+    private var size   = 0
+
+    def append(name: String, value: String, hash: Int): Unit = {
+      names(size) = name
+      values(size) = value
+      hashes(size) = hash
+      size += 1
+    }
+
+    def set(name: String, value: String, hash: Int): Unit = {
+      var i = 0
+      while (i < size && (hashes(i) != hash || !names(i).equalsIgnoreCase(name))) i += 1
+      if (i < size) values(i) = value else append(name, value, hash)
+    }
+
+    def result(): ResponseHeaders = new ResponseHeaders(names, values, hashes, size)
+  }
+}
@@ -12,11 +12,9 @@ import java.time.format.DateTimeFormatter
 import java.time.ZoneOffset
 import java.time.ZonedDateTime
 
-import scala.collection.immutable.TreeMap
 import scala.concurrent.ExecutionContext
 import scala.jdk.CollectionConverters._
 
-import org.apache.pekko.stream.scaladsl.FileIO
 import org.apache.pekko.stream.scaladsl.Source
 import org.apache.pekko.stream.scaladsl.StreamConverters
 import org.apache.pekko.util.ByteString
@@ -25,44 +23,72 @@ import play.api.http.FileMimeTypes
 import play.api.http.HeaderNames._
 import play.api.i18n.Lang
 import play.api.i18n.MessagesApi
+import play.api.libs.json.Writes
 import play.api.libs.typedmap.TypedEntry
 import play.api.libs.typedmap.TypedKey
 import play.api.libs.typedmap.TypedMap
+import play.api.libs.JsonStream
 import play.api.Logger
 import play.api.Mode
-import play.core.utils.CaseInsensitiveOrdered
 import play.core.utils.HttpHeaderParameterEncoding
 
 /**
  * A simple HTTP response header, used for standard responses.
  *
  * @param status the response status, e.g. 200
- * @param _headers the HTTP headers
+ * @param headerFields the HTTP headers
  * @param reasonPhrase the human-readable description of status, e.g. "Ok";
  *   if None, the default phrase for the status will be used
  */
-final class ResponseHeader(
+final class ResponseHeader private[play] (
     val status: Int,
-    _headers: Map[String, String] = Map.empty,
-    val reasonPhrase: Option[String] = None
+    val headerFields: ResponseHeaders,
+    val reasonPhrase: Option[String]
 ) {
-  private[play] def this(status: Int, _headers: java.util.Map[String, String], reasonPhrase: Option[String]) =
-    this(status, _headers.asScala.toMap, reasonPhrase)
 
-  val headers: Map[String, String] = TreeMap[String, String]()(using CaseInsensitiveOrdered) ++ _headers
+  /**
+   * @param status the response status, e.g. 200
+   * @param _headers the HTTP headers
+   * @param reasonPhrase the human-readable description of status, e.g. "Ok";
+   *   if None, the default phrase for the status will be used
+   */
+  def this(status: Int, _headers: Map[String, String] = Map.empty, reasonPhrase: Option[String] = None) =
+    this(status, ResponseHeaders.from(_headers), reasonPhrase)
 
-  // validate headers so we know this response header is well formed
-  for ((name, value) <- headers) {
-    if (name eq null) throw new NullPointerException("Response header names cannot be null!")
-    if (value eq null) throw new NullPointerException(s"Response header '$name' has null value!")
-  }
+  private[play] def this(status: Int, _headers: java.util.Map[String, String], reasonPhrase: Option[String]) =
+    this(status, ResponseHeaders.from(_headers.asScala), reasonPhrase)
+
+  /**
+   * The HTTP headers as a case-insensitive map. It's only built when it's first used.
+   */
+  lazy val headers: Map[String, String] = headerFields.toMap
 
   def copy(
       status: Int = status,
-      headers: Map[String, String] = headers,
+      headers: Map[String, String] = ResponseHeader.UnchangedHeaders,
       reasonPhrase: Option[String] = reasonPhrase
   ): ResponseHeader =
-    new ResponseHeader(status, headers, reasonPhrase)
+    new ResponseHeader(
+      status,
+      if (headers eq ResponseHeader.UnchangedHeaders) headerFields else ResponseHeaders.from(headers),
+      reasonPhrase
+    )
+
+  /**
+   * Returns a copy of this response header with the given headers.
+   */
+  def withHeaderFields(headerFields: ResponseHeaders): ResponseHeader =
+    new ResponseHeader(status, headerFields, reasonPhrase)
+
+  /**
+   * Returns a copy of this response header with the given headers set, replacing any values they had.
+   */
+  def withHeaders(headers: (String, String)*): ResponseHeader = withHeaderFields(headerFields.set(headers))
+
+  /**
+   * Returns a copy of this response header without the given header.
+   */
+  def discardingHeader(name: String): ResponseHeader = withHeaderFields(headerFields.remove(name))
 
   override def toString       = s"$status, $headers"
   override def hashCode       = (status, headers).hashCode
@@ -81,7 +107,7 @@ final class ResponseHeader(
    * Appends to the comma-separated `Vary` header of this request
    */
   private[play] def varyWith(headerValues: String*): (String, String) = {
-    val newValue = headers.get(VARY) match {
+    val newValue = headerFields.get(VARY) match {
       case Some(existing) if existing.nonEmpty =>
         val existingSet: Set[String] = existing.split(",").iterator.map(_.trim.toLowerCase).toSet
         val newValuesToAdd           = headerValues.filterNot(v => existingSet.contains(v.trim.toLowerCase))
@@ -109,6 +135,12 @@ object ResponseHeader {
     new ResponseHeader(status, headers)
   def unapply(rh: ResponseHeader): Option[(Int, Map[String, String], Option[String])] =
     if (rh eq null) None else Some((rh.status, rh.headers, rh.reasonPhrase))
+
+  /**
+   * The default headers of `copy`, so that a copy that doesn't change the headers keeps the header fields as they are
+   * instead of building the headers map. It's compared by reference, so it must not be `Map.empty` itself.
+   */
+  private val UnchangedHeaders: Map[String, String] = Map.empty[String, String].withDefaultValue("")
 }
 
 object Result {
@@ -154,7 +186,7 @@ case class Result(
    * @return the new result
    */
   def withHeaders(headers: (String, String)*): Result = {
-    copy(header = header.copy(headers = header.headers ++ headers))
+    copy(header = header.withHeaders(headers*))
   }
 
   /**
@@ -164,9 +196,9 @@ case class Result(
    * @return the new result.
    */
   def withDateHeaders(headers: (String, ZonedDateTime)*): Result = {
-    copy(header = header.copy(headers = header.headers ++ headers.map {
+    copy(header = header.withHeaders(headers.map {
       case (name, dateTime) => (name, dateTime.format(ResponseHeader.httpDateFormat))
-    }))
+    }*))
   }
 
   /**
@@ -181,7 +213,7 @@ case class Result(
    * @return the new result
    */
   def discardingHeader(name: String): Result = {
-    copy(header = header.copy(headers = header.headers - name))
+    copy(header = header.discardingHeader(name))
   }
 
   /**
@@ -354,7 +386,7 @@ case class Result(
       requestHasFlash: Boolean = false
   ): Result = {
     val allCookies = {
-      val setCookieCookies = cookieHeaderEncoding.decodeSetCookieHeader(header.headers.getOrElse(SET_COOKIE, ""))
+      val setCookieCookies = header.headerFields.getAll(SET_COOKIE).flatMap(cookieHeaderEncoding.decodeSetCookieHeader)
       val session          = newSession.map { data =>
         if (data.isEmpty) sessionBaker.discard.toCookie else sessionBaker.encodeAsCookie(data)
       }
@@ -369,7 +401,10 @@ case class Result(
     if (allCookies.isEmpty) {
       this
     } else {
-      withHeaders(SET_COOKIE -> cookieHeaderEncoding.encodeSetCookieHeader(allCookies))
+      // Every cookie gets its own Set-Cookie header, since RFC 6265 doesn't allow them to be folded into one
+      val setCookieHeaders =
+        allCookies.map(cookie => SET_COOKIE -> cookieHeaderEncoding.encodeSetCookieHeader(Seq(cookie)))
+      copy(header = header.withHeaderFields(header.headerFields.remove(SET_COOKIE).add(setCookieHeaders)))
     }
   }
 
@@ -645,10 +680,20 @@ trait Results {
         fileName: Path => Option[String] = Option(_).map(_.getFileName.toString),
         onClose: () => Unit = () => ()
     )(implicit ec: ExecutionContext, fileMimeTypes: FileMimeTypes): Result = {
-      val io = FileIO
-        .fromPath(content)
-        .mapMaterializedValue(_.onComplete { _ => onClose() })
-      streamFile(io, fileName(content), Some(Files.size(content)), inline)
+      val name = fileName(content)
+      Result(
+        ResponseHeader(
+          status,
+          Results.contentDispositionHeader(inline, name)
+        ),
+        HttpEntity.FileRegion(
+          content,
+          0,
+          Files.size(content),
+          name.flatMap(fileMimeTypes.forFileName).orElse(Some(play.api.http.ContentTypes.BINARY)),
+          () => ec.execute(() => onClose())
+        )
+      )
     }
 
     /**
@@ -720,7 +765,7 @@ trait Results {
         fileMimeTypes: FileMimeTypes
     ): Result = {
       Result(
-        header = header.copy(headers = header.headers ++ Results.contentDispositionHeader(inline, fileName)),
+        header = header.withHeaderFields(header.headerFields.set(Results.contentDispositionHeader(inline, fileName))),
         body = HttpEntity.Chunked(
           content.map(c => HttpChunk.Chunk(writeable.transform(c))),
           fileName.flatMap(fileMimeTypes.forFileName).orElse(writeable.contentType)
@@ -767,7 +812,7 @@ trait Results {
         fileMimeTypes: FileMimeTypes
     ): Result = {
       Result(
-        header = header.copy(headers = header.headers ++ Results.contentDispositionHeader(inline, fileName)),
+        header = header.withHeaderFields(header.headerFields.set(Results.contentDispositionHeader(inline, fileName))),
         body = HttpEntity.Streamed(
           content.map(c => writeable.transform(c)),
           contentLength,
@@ -776,6 +821,30 @@ trait Results {
       )
     }
 
+    /**
+     * Feed the elements as a JSON response, using chunked transfer encoding.
+     *
+     * Each element is serialized as it is pulled from the source, so the whole response never has to be held in
+     * memory, and the source is only pulled as fast as the client reads the response.
+     *
+     * @param elements The elements to send.
+     * @param format Whether to send the elements as a JSON array or as newline delimited JSON.
+     * @param chunkSize The size, in bytes, above which the serialized elements are sent as a chunk.
+     */
+    def streamJson[A](
+        elements: Source[A, ?],
+        format: JsonStream.Format = JsonStream.JsonArray,
+        chunkSize: Int = JsonStream.DefaultChunkSize
+    )(implicit writes: Writes[A]): Result = {
+      Result(
+        header = header,
+        body = HttpEntity.Chunked(
+          elements.via(JsonStream.flow[A](format, chunkSize)).map(HttpChunk.Chunk.apply),
+          Some(format.contentType)
+        )
+      )
+    }
+
     /**
      * Send an HTTP entity with this status.
      *
@@ -802,7 +871,7 @@ trait Results {
         implicit fileMimeTypes: FileMimeTypes
     ): Result = {
       Result(
-        header = header.copy(headers = header.headers ++ Results.contentDispositionHeader(inline, fileName)),
+        header = header.withHeaderFields(header.headerFields.set(Results.contentDispositionHeader(inline, fileName))),
         body = entity
       ).as(fileName.flatMap(fileMimeTypes.forFileName).getOrElse(play.api.http.ContentTypes.BINARY))
     }
@@ -4,12 +4,15 @@
 
 package play.api.mvc.request
 
+import scala.concurrent.duration.Deadline
 import scala.concurrent.Future
 
 import org.apache.pekko.util.ByteString
+import play.api.http.RequestTimingListener
 import play.api.libs.streams.Accumulator
 import play.api.libs.typedmap.TypedKey
 import play.api.mvc.Cookies
+import play.api.mvc.EarlyHints
 import play.api.mvc.Flash
 import play.api.mvc.Result
 import play.api.mvc.Session
@@ -54,4 +57,22 @@ object RequestAttrKey {
 
   val DeferredBodyParsing =
     TypedKey[(Future[Accumulator[ByteString, Result]], Boolean) => Future[Result]]("DeferredBodyParsing")
+
+  /**
+   * The key for the request attribute storing the [[RequestTimingListener]] to report the stages of the request to.
+   * It is only set when the listener is enabled.
+   */
+  val TimingListener: TypedKey[RequestTimingListener] = TypedKey("Timing-Listener")
+
+  /**
+   * The key for the request attribute storing the [[EarlyHints]] that sends `103 Early Hints` responses for the
+   * request. It is only set by server backends that support early hints for the request.
+   */
+  val EarlyHints: TypedKey[EarlyHints] = TypedKey("Early-Hints")
+
+  /**
+   * The key for the request attribute storing the deadline by which the request should be handled, after which its
+   * client doesn't wait for the response anymore. It is only set when a deadline applies to the request.
+   */
+  val Deadline: TypedKey[Deadline] = TypedKey("Deadline")
 }
@@ -24,6 +24,7 @@ import play.api.Logger
 import play.core.Execution.Implicits.trampoline
 import play.i18n.{ Langs => JLangs }
 import play.i18n.{ MessagesApi => JMessagesApi }
+import play.libs.typedmap.TypedKey
 import play.libs.AnnotationUtils
 import play.mvc.{ Action => JAction }
 import play.mvc.{ BodyParser => JBodyParser }
@@ -96,6 +97,131 @@ class JavaActionAnnotations(
       })
       .reverse
   }
+
+  @volatile private var compiledChain: JavaActionChain = null
+
+  /**
+   * The precompiled action composition chain of this action, created on first use.
+   */
+  private[j] def chain(handlerComponents: JavaHandlerComponents): JavaActionChain = {
+    val current = compiledChain
+    if (current != null && (current.handlerComponents eq handlerComponents)) {
+      current
+    } else {
+      val compiled = new JavaActionChain(actionMixins, handlerComponents)
+      compiledChain = compiled
+      compiled
+    }
+  }
+}
+
+/**
+ * An action composition chain that is compiled once per route.
+ *
+ * The action classes, their configuration and the order in which they are called are resolved up front, so that a
+ * request only has to instantiate and wire the actions. Actions annotated with [[play.mvc.Action.Stateless]] that are
+ * only followed by other stateless actions are instantiated once and shared by all requests of the route. The shared
+ * actions end in an action that calls the request specific end of the chain, which is passed as a request attribute.
+ *
+ * @param mixins            The action composition mixins, as computed by [[JavaActionAnnotations.actionMixins]]
+ * @param handlerComponents The components used to instantiate the actions
+ */
+private[j] final class JavaActionChain(
+    mixins: Seq[(Annotation, Class[? <: JAction[?]], AnnotatedElement)],
+    val handlerComponents: JavaHandlerComponents
+) {
+  import JavaActionChain._
+
+  // The user declared actions, in the order in which they are called
+  private val links: Array[Link] = mixins.reverseIterator.map {
+    case (annotation, actionClass, annotatedElement) =>
+      val configuration = annotation match {
+        case _: play.mvc.With => null // avoids a ClassCastException, see #13281
+        case _                => annotation
+      }
+      new Link(actionClass.asInstanceOf[Class[JAction[Object]]], configuration, annotatedElement)
+  }.toArray
+
+  // The index of the first link that is shared by all requests
+  private val sharedFrom: Int = {
+    var i = links.length
+    while (i > 0 && links(i - 1).actionClass.isAnnotationPresent(classOf[JAction.Stateless])) i -= 1
+    i
+  }
+
+  private val sharedTail: JAction[?] = if (sharedFrom < links.length) new ChainEnd else null
+
+  private val sharedHead: JAction[?] = (links.length - 1 to sharedFrom by -1).foldLeft[JAction[?]](sharedTail) {
+    (delegate, i) =>
+      val action = links(i).instantiate(handlerComponents)
+      delegate.precursor = action
+      action.delegate = delegate
+      action
+  }
+
+  /**
+   * Whether the given action is shared by all requests of the route, so that it can't be wired to request specific
+   * actions.
+   */
+  def isShared(action: JAction[?]): Boolean = action eq sharedHead
+
+  /**
+   * Instantiates the actions of the chain for a request.
+   *
+   * @param request    The request the chain is called with
+   * @param endOfChain The action called by the last user declared action
+   * @return the first action of the chain and the request to call it with
+   */
+  def link(request: JRequest, endOfChain: JAction[?]): (JAction[?], JRequest) = {
+    var delegate = if (sharedHead != null) sharedHead else endOfChain
+    var i        = sharedFrom - 1
+    while (i >= 0) {
+      val action = links(i).instantiate(handlerComponents)
+      // The precursor of a shared action can't be specific to a request
+      if (delegate ne sharedHead) delegate.precursor = action
+      action.delegate = delegate
+      delegate = action
+      i -= 1
+    }
+    if (sharedHead != null) {
+      endOfChain.precursor = sharedTail.precursor
+      (delegate, request.addAttr(EndOfChain, endOfChain))
+    } else {
+      (delegate, request)
+    }
+  }
+}
+
+private[j] object JavaActionChain {
+  private val EndOfChain: TypedKey[JAction[?]] = TypedKey.create("endOfActionChain")
+
+  private final class Link(
+      val actionClass: Class[JAction[Object]],
+      configuration: Object,
+      annotatedElement: AnnotatedElement
+  ) {
+    def instantiate(handlerComponents: JavaHandlerComponents): JAction[Object] = {
+      val action = handlerComponents.getAction(actionClass)
+      action.configuration = configuration
+      action.annotatedElement = annotatedElement
+      action
+    }
+  }
+
+  /**
+   * Ends the shared part of a chain by calling the end of the chain of the current request.
+   */
+  private final class ChainEnd extends JAction[Void] {
+    override def call(request: JRequest): CompletionStage[JResult] = {
+      val endOfChain = request.attrs.getOptional(EndOfChain)
+      if (!endOfChain.isPresent) {
+        throw new IllegalStateException(
+          "The end of the action chain is missing from the request, stateless actions must keep the request attributes"
+        )
+      }
+      endOfChain.get.call(request)
+    }
+  }
 }
 
 /*
@@ -148,21 +274,29 @@ abstract class JavaAction(val handlerComponents: JavaHandlerComponents)
       baseAction
     }
 
-    val firstUserDeclaredAction = annotations.actionMixins.foldLeft[JAction[? <: Any]](endOfChainAction) {
-      case (delegate, (annotation, actionClass, annotatedElement)) =>
-        val action = handlerComponents.getAction(actionClass).asInstanceOf[play.mvc.Action[Object]]
-        action.configuration = annotation match {
-          case _: play.mvc.With => null // avoids a ClassCastException, see #13281
-          case _                => annotation
-        }
-        delegate.precursor = action
-        action.delegate = delegate
-        action.annotatedElement = annotatedElement
-        action
+    val (firstUserDeclaredAction, chainRequest, firstActionShared) = if (config.precompileChains) {
+      val chain                  = annotations.chain(handlerComponents)
+      val (action, chainRequest) = chain.link(javaRequest, endOfChainAction)
+      (action, chainRequest, chain.isShared(action))
+    } else {
+      val action = annotations.actionMixins.foldLeft[JAction[? <: Any]](endOfChainAction) {
+        case (delegate, (annotation, actionClass, annotatedElement)) =>
+          val action = handlerComponents.getAction(actionClass).asInstanceOf[play.mvc.Action[Object]]
+          action.configuration = annotation match {
+            case _: play.mvc.With => null // avoids a ClassCastException, see #13281
+            case _                => annotation
+          }
+          delegate.precursor = action
+          action.delegate = delegate
+          action.annotatedElement = annotatedElement
+          action
+      }
+      (action, javaRequest, false)
     }
 
     val firstAction = if (config.executeActionCreatorActionFirst) {
-      firstUserDeclaredAction.precursor = baseAction
+      // The precursor of an action shared by all requests can't be specific to a request
+      if (!firstActionShared) firstUserDeclaredAction.precursor = baseAction
       baseAction.delegate = firstUserDeclaredAction
       baseAction
     } else {
@@ -192,7 +326,7 @@ abstract class JavaAction(val handlerComponents: JavaHandlerComponents)
       logger.debug("### End of action order")
     }
     val actionFuture: Future[Future[JResult]] = Future {
-      firstAction.call(javaRequest).asScala
+      firstAction.call(chainRequest).asScala
     }(using trampolineWithContext)
     val flattenedActionFuture: Future[JResult] = actionFuture.flatMap(identity)(using trampoline)
     val resultFuture: Future[Result]           = flattenedActionFuture.map(_.asScala)(using trampoline)
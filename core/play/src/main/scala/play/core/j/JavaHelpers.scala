@@ -215,11 +215,13 @@ class RequestHeaderImpl(header: RequestHeader) extends JRequestHeader {
   override def remote: Http.RemoteInfo                                 = header.remote.asJava
   override def clientCertificate: Optional[Http.ClientCertificateInfo] =
     header.clientCertificate.map(_.asJava).toJava
-  override def xForwardedClientCertificates: util.List[Http.XForwardedClientCert] =
+  override lazy val xForwardedClientCertificates: util.List[Http.XForwardedClientCert] =
     java.util.List.copyOf(header.xForwardedClientCertificates.map(_.asJava).asJava)
   override def secure: Boolean = header.secure
 
-  override def attrs: TypedMap                                                                   = new TypedMap(header.attrs)
+  // The Java views below are built from the immutable Scala request the first time they are used and then reused, since
+  // Java code, including action composition, tends to call these accessors several times per request.
+  override lazy val attrs: TypedMap                                                              = new TypedMap(header.attrs)
   override def withAttrs(newAttrs: TypedMap): JRequestHeader                                     = header.withAttrs(newAttrs.asScala).asJava
   override def addAttr[A](key: TypedKey[A], value: A): JRequestHeader                            = withAttrs(attrs.put(key, value))
   override def addAttrs(e1: TypedEntry[?]): JRequestHeader                                       = withAttrs(attrs.putAll(e1))
@@ -234,24 +236,33 @@ class RequestHeaderImpl(header: RequestHeader) extends JRequestHeader {
   override def host: String = header.host
   override def path: String = header.path
 
-  override def acceptLanguages: util.List[i18n.Lang] = header.acceptLanguages.map(new play.i18n.Lang(_)).asJava
+  override lazy val acceptLanguages: util.List[i18n.Lang] =
+    util.List.copyOf(header.acceptLanguages.map(new play.i18n.Lang(_)).asJava)
 
-  override def queryString: util.Map[String, Array[String]] = header.queryString.view.mapValues(_.toArray).toMap.asJava
+  override lazy val queryString: util.Map[String, Array[String]] = {
+    val query = header.queryString
+    val map   = new util.LinkedHashMap[String, Array[String]](math.max(4, query.size * 4 / 3 + 1))
+    query.foreach { case (key, values) => map.put(key, values.toArray) }
+    util.Collections.unmodifiableMap(map)
+  }
 
   override def acceptedTypes: util.List[MediaRange] = header.acceptedTypes.asJava
 
   override def accepts(mediaType: String): Boolean = header.accepts(mediaType)
 
-  override def cookies = JavaHelpers.cookiesToJavaCookies(header.cookies)
+  override lazy val cookies: JCookies = JavaHelpers.cookiesToJavaCookies(header.cookies)
 
-  @deprecated
-  override def getQueryString(key: String): String = {
-    if (queryString.containsKey(key) && queryString.get(key).length > 0) queryString.get(key)(0) else null
+  private def firstQueryStringValue(key: String): String = {
+    val values = queryString.get(key)
+    if (values != null && values.length > 0) values(0) else null
   }
 
-  override def queryString(key: String): Optional[String] = header.getQueryString(key).toJava
+  @deprecated
+  override def getQueryString(key: String): String = firstQueryStringValue(key)
+
+  override def queryString(key: String): Optional[String] = Optional.ofNullable(firstQueryStringValue(key))
 
-  override def cookie(name: String) = cookies().get(name)
+  override def cookie(name: String) = cookies.get(name)
 
   @deprecated override def getCookie(name: String): Optional[JCookie] = cookie(name)
 
@@ -281,7 +292,6 @@ class RequestHeaderImpl(header: RequestHeader) extends JRequestHeader {
 class RequestImpl(request: Request[RequestBody]) extends RequestHeaderImpl(request) with JRequest {
   override def asScala: Request[RequestBody] = request
 
-  override def attrs: TypedMap                                                             = new TypedMap(asScala.attrs)
   override def withAttrs(newAttrs: TypedMap): JRequest                                     = new JRequestImpl(request.withAttrs(newAttrs.asScala))
   override def addAttr[A](key: TypedKey[A], value: A): JRequest                            = withAttrs(attrs.put(key, value))
   override def addAttrs(e1: TypedEntry[?]): JRequest                                       = withAttrs(attrs.putAll(e1))
@@ -46,7 +46,8 @@ object JavaParsers {
                   override def file: File                                       = jtf.path.toFile
                   override def temporaryFileCreator: Files.TemporaryFileCreator = jtf.temporaryFileCreator().asScala()
                 })
-                .toJava
+                .toJava,
+            file.attrs.asJava
           )
         }.asJava
       }
@@ -0,0 +1,115 @@
+/*
+ * Copyright (C) from 2022 The Play Framework Contributors <https://github.com/playframework>, 2011-2021 Lightbend Inc. <https://www.lightbend.com>
+ */
+
+package play.core.parsers
+
+import java.security.MessageDigest
+
+import org.apache.pekko.util.ByteString
+import org.apache.pekko.util.ByteStringBuilder
+import play.api.libs.typedmap.TypedEntry
+import play.api.libs.typedmap.TypedKey
+import play.core.parsers.Multipart.FileInfo
+
+/**
+ * Computes a value from the bytes of a file part as they stream to the file part handler, so that the file doesn't
+ * need to be read again to compute it. The value is added to the attributes of the file part under the inspector's
+ * key.
+ *
+ * @see [[Multipart.inspectFileParts]]
+ * @param key The key of the value in the attributes of the file part.
+ */
+abstract class FilePartInspector[T](val key: TypedKey[T]) {
+
+  /**
+   * Starts inspecting a file part.
+   */
+  def inspect(fileInfo: FileInfo): FilePartInspector.Inspection[T]
+}
+
+object FilePartInspector {
+
+  /**
+   * The inspection of a file part. Its methods are called by a single stream stage, one at a time.
+   */
+  trait Inspection[T] {
+
+    /** Called with each chunk of bytes of the file part, in order. */
+    def update(bytes: ByteString): Unit
+
+    /** Called once all the bytes of the file part have been given. */
+    def result(): T
+  }
+
+  /** The SHA-256 digest of the file part, computed by [[sha256]]. */
+  val Sha256Key: TypedKey[ByteString] = TypedKey("SHA-256")
+
+  /** The number of bytes of the file part, computed by [[size]]. */
+  val SizeKey: TypedKey[Long] = TypedKey("Size")
+
+  /** The first bytes of the file part, captured by [[head]], for instance to sniff its content type. */
+  val HeadKey: TypedKey[ByteString] = TypedKey("Head")
+
+  /**
+   * Computes a digest of the file part.
+   *
+   * @param algorithm The name of a digest algorithm supported by [[java.security.MessageDigest]].
+   * @param key The key of the digest in the attributes of the file part.
+   */
+  def digest(algorithm: String, key: TypedKey[ByteString]): FilePartInspector[ByteString] = {
+    // Fail when the inspector is created rather than for each upload
+    MessageDigest.getInstance(algorithm)
+    new FilePartInspector[ByteString](key) {
+      def inspect(fileInfo: FileInfo): Inspection[ByteString] = new Inspection[ByteString] {
+        private val digest                  = MessageDigest.getInstance(algorithm)
+        def update(bytes: ByteString): Unit = bytes.asByteBuffers.foreach(digest.update)
+        def result(): ByteString            = ByteString.fromArrayUnsafe(digest.digest())
+      }
+    }
+  }
+
+  /**
+   * Computes the SHA-256 digest of the file part, added under [[Sha256Key]].
+   */
+  def sha256: FilePartInspector[ByteString] = digest("SHA-256", Sha256Key)
+
+  /**
+   * Counts the bytes of the file part, added under [[SizeKey]].
+   */
+  val size: FilePartInspector[Long] = new FilePartInspector[Long](SizeKey) {
+    def inspect(fileInfo: FileInfo): Inspection[Long] = new Inspection[Long] {
+      private var count                   = 0L
+      def update(bytes: ByteString): Unit = count += bytes.length
+      def result(): Long                  = count
+    }
+  }
+
+  /**
+   * Captures the first bytes of the file part, added under [[HeadKey]].
+   *
+   * @param maxBytes The number of bytes to capture. Fewer are captured if the file part is smaller.
+   */
+  def head(maxBytes: Int): FilePartInspector[ByteString] = {
+    require(maxBytes > 0, s"maxBytes must be positive, but was $maxBytes")
+    new FilePartInspector[ByteString](HeadKey) {
+      def inspect(fileInfo: FileInfo): Inspection[ByteString] = new Inspection[ByteString] {
+        private val builder = new ByteStringBuilder
+        def update(bytes: ByteString): Unit = {
+          val missing = maxBytes - builder.length
+          if (missing > 0) builder.append(bytes.take(missing))
+        }
+        def result(): ByteString = builder.result()
+      }
+    }
+  }
+
+  /**
+   * An inspection along with the key of its result, so that inspections of different types can be run together.
+   */
+  private[parsers] final class Started[T](inspector: FilePartInspector[T], fileInfo: FileInfo) {
+    private val inspection              = inspector.inspect(fileInfo)
+    def update(bytes: ByteString): Unit = inspection.update(bytes)
+    def entry: TypedEntry[T]            = TypedEntry(inspector.key, inspection.result())
+  }
+}
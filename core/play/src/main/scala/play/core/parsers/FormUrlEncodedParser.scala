@@ -4,9 +4,13 @@
 
 package play.core.parsers
 
-import java.net.URLDecoder
+import java.nio.charset.Charset
+import java.nio.charset.StandardCharsets
 
-import scala.collection.immutable.ArraySeq
+import scala.collection.immutable.ListMap
+import scala.collection.mutable
+
+import org.apache.pekko.util.ByteString
 
 /** An object for parsing application/x-www-form-urlencoded data */
 object FormUrlEncodedParser {
@@ -19,24 +23,40 @@ object FormUrlEncodedParser {
    * @return A ListMap of keys to the sequence of values for that key
    */
   def parseNotPreservingOrder(data: String, encoding: String = "utf-8"): Map[String, Seq[String]] = {
-    // Generate the pairs of values from the string.
-    parseToPairs(data, encoding).groupMap(_._1)(_._2)
+    val grouped = mutable.Map.empty[String, mutable.Builder[String, Seq[String]]]
+    foreachPair(ByteString(data), encoding) { (key, value) =>
+      grouped.getOrElseUpdate(key, Seq.newBuilder[String]) += value
+    }
+    grouped.view.mapValues(_.result()).toMap
   }
 
   /**
    * Parse the content type "application/x-www-form-urlencoded" which consists of a bunch of & separated key=value
    * pairs, both of which are URL encoded. We are careful in this parser to maintain the original order of the
-   * keys by using OrderPreserving.groupBy as some applications depend on the original browser ordering.
+   * keys as some applications depend on the original browser ordering.
    * @param data The body content of the request, or whatever needs to be so parsed
    * @param encoding The character encoding of data
    * @return A ListMap of keys to the sequence of values for that key
    */
-  def parse(data: String, encoding: String = "utf-8"): Map[String, Seq[String]] = {
-    // Generate the pairs of values from the string.
-    val pairs: Seq[(String, String)] = parseToPairs(data, encoding)
+  def parse(data: String, encoding: String = "utf-8"): Map[String, Seq[String]] = parse(ByteString(data), encoding)
 
-    // Group the pairs by the key (first item of the pair) being sure to preserve insertion order
-    play.utils.OrderPreserving.groupBy(pairs)(_._1)
+  /**
+   * Parse the content type "application/x-www-form-urlencoded" which consists of a bunch of & separated key=value
+   * pairs, both of which are URL encoded, maintaining the original order of the keys.
+   *
+   * The body is parsed in a single pass over its bytes, without decoding it as a string first.
+   *
+   * @param data The body content of the request, the non escaped characters of which are encoded in UTF-8
+   * @param encoding The character encoding of the escaped characters of data
+   * @return A ListMap of keys to the sequence of values for that key
+   */
+  def parse(data: ByteString, encoding: String): Map[String, Seq[String]] = {
+    // Keeps the keys in the order they first appear in
+    val grouped = mutable.LinkedHashMap.empty[String, mutable.Builder[String, Seq[String]]]
+    foreachPair(data, encoding)((key, value) => grouped.getOrElseUpdate(key, Seq.newBuilder[String]) += value)
+    val result = ListMap.newBuilder[String, Seq[String]]
+    grouped.foreachEntry((key, values) => result += key -> values.result())
+    result.result()
   }
 
   /**
@@ -59,33 +79,180 @@ object FormUrlEncodedParser {
    * @param encoding The character encoding of data
    * @return A Map of keys to the sequence of array values for that key
    */
-  def parseAsJavaArrayValues(data: String, encoding: String): java.util.Map[String, Array[String]] = {
-    import scala.jdk.CollectionConverters._
-    parse(data, encoding).map {
-      case (key, values) =>
-        key -> values.toArray
-    }.asJava
+  def parseAsJavaArrayValues(data: String, encoding: String): java.util.Map[String, Array[String]] =
+    parseAsJavaArrayValues(ByteString(data), encoding)
+
+  /**
+   * Parse the content type "application/x-www-form-urlencoded", mapping to a Java compatible format.
+   * @param data The body content of the request, the non escaped characters of which are encoded in UTF-8
+   * @param encoding The character encoding of the escaped characters of data
+   * @return An unmodifiable Map of keys to the sequence of array values for that key, in their original order
+   */
+  def parseAsJavaArrayValues(data: ByteString, encoding: String): java.util.Map[String, Array[String]] = {
+    val grouped = new java.util.LinkedHashMap[String, java.util.ArrayList[String]]()
+    foreachPair(data, encoding) { (key, value) =>
+      grouped.computeIfAbsent(key, _ => new java.util.ArrayList[String](1)).add(value)
+    }
+    val result = new java.util.LinkedHashMap[String, Array[String]](grouped.size * 4 / 3 + 1)
+    grouped.forEach((key, values) => result.put(key, values.toArray(new Array[String](values.size))))
+    java.util.Collections.unmodifiableMap(result)
   }
 
-  private[this] val parameterDelimiter = "[&;]".r
+  /**
+   * Decodes a URL encoded key or value, from `from` until `until` in data.
+   * @param data The data, the non escaped characters of which are encoded in UTF-8
+   * @param from The index of the first byte of the key or value
+   * @param until The index after the last byte of the key or value
+   * @param encoding The character encoding of the escaped characters of data
+   * @return The decoded key or value
+   */
+  private[play] def decode(data: ByteString, from: Int, until: Int, encoding: String): String =
+    new Decoder(data.toArrayUnsafe(), encoding).decode(from, until)
 
   /**
-   * Do the basic parsing into a sequence of key/value pairs
-   * @param data The data to parse
-   * @param encoding The encoding to use for interpreting the data
-   * @return The sequence of key/value pairs
+   * Runs a function on each decoded key/value pair of data, in order.
+   *
+   * Like the regular expression split of the string previously parsed, pairs are separated by `&` or `;`, empty pairs
+   * are an empty key with an empty value, except at the end of data, and a value ends at the next `=`, if any.
    */
-  private def parseToPairs(data: String, encoding: String): Seq[(String, String)] = {
-    val split = parameterDelimiter.split(data)
-    if (split.length == 1 && split(0).isEmpty) {
-      Seq.empty
-    } else {
-      ArraySeq.unsafeWrapArray(split.map { param =>
-        val parts = param.split("=", -1)
-        val key   = URLDecoder.decode(parts(0), encoding)
-        val value = URLDecoder.decode(parts.lift(1).getOrElse(""), encoding)
-        key -> value
-      })
+  private def foreachPair(data: ByteString, encoding: String)(f: (String, String) => Unit): Unit = {
+    val bytes   = data.toArrayUnsafe()
+    val decoder = new Decoder(bytes, encoding)
+
+    def pair(from: Int, until: Int): Unit = {
+      var equals = from
+      while (equals < until && bytes(equals) != '=') equals += 1
+      val key = decoder.decode(from, equals)
+      if (equals == until) f(key, "")
+      else {
+        var end = equals + 1
+        while (end < until && bytes(end) != '=') end += 1
+        f(key, decoder.decode(equals + 1, end))
+      }
     }
+
+    // Empty pairs are only dropped at the end of data, as String.split drops trailing empty strings only
+    var emptyPairs = 0
+    def nonEmptyPair(from: Int, until: Int): Unit = {
+      while (emptyPairs > 0) {
+        pair(from, from)
+        emptyPairs -= 1
+      }
+      pair(from, until)
+    }
+
+    val length = bytes.length
+    var start  = 0
+    var i      = 0
+    while (i < length) {
+      val b = bytes(i)
+      if (b == '&' || b == ';') {
+        if (i == start) emptyPairs += 1 else nonEmptyPair(start, i)
+        start = i + 1
+      }
+      i += 1
+    }
+    if (start < length) nonEmptyPair(start, length)
+  }
+
+  /**
+   * Decodes the keys and values of some data like `URLDecoder.decode` decodes them once data is decoded as UTF-8: `+`
+   * is a space, consecutive `%` escapes are the bytes of characters in the given encoding, and other bytes are
+   * characters encoded in UTF-8.
+   */
+  private final class Decoder(bytes: Array[Byte], encoding: String) {
+
+    // Only looked up once there is something to decode, since URLDecoder failed on unknown encodings then only
+    private lazy val charset = Charset.forName(encoding)
+
+    // The unescaped bytes, allocated for the first key or value with escapes and then reused
+    private var buffer: Array[Byte] = null
+
+    def decode(from: Int, until: Int): String = {
+      val charset = this.charset // even for an empty key or value, as URLDecoder did
+      var escaped = false
+      var ascii   = true
+      var i       = from
+      while (i < until) {
+        val b = bytes(i)
+        if (b == '%' || b == '+') escaped = true
+        else if (b < 0) ascii = false
+        i += 1
+      }
+      if (!escaped) {
+        new String(bytes, from, until - from, StandardCharsets.UTF_8)
+      } else if (ascii && isAsciiCompatible(charset)) {
+        // Decoding the unescaped bytes at once gives the same characters as decoding each run of escapes
+        new String(buffer, 0, unescape(from, until), charset)
+      } else {
+        decodeRuns(from, until, charset)
+      }
+    }
+
+    /** Decodes the runs of unescaped bytes and the runs of escapes separately, as their encodings may differ. */
+    private def decodeRuns(from: Int, until: Int, charset: Charset): String = {
+      val decoded = new java.lang.StringBuilder(until - from)
+      var i       = from
+      while (i < until) {
+        val b = bytes(i)
+        if (b == '+') {
+          decoded.append(' ')
+          i += 1
+        } else if (b == '%') {
+          var end = i
+          while (end < until && bytes(end) == '%') end += 3
+          end = math.min(end, until)
+          decoded.append(new String(buffer, 0, unescape(i, end), charset))
+          i = end
+        } else {
+          var end = i
+          while (end < until && bytes(end) != '+' && bytes(end) != '%') end += 1
+          decoded.append(new String(bytes, i, end - i, StandardCharsets.UTF_8))
+          i = end
+        }
+      }
+      decoded.toString
+    }
+
+    /** Unescapes from `from` until `until` into the buffer, returning the number of unescaped bytes. */
+    private def unescape(from: Int, until: Int): Int = {
+      if (buffer == null || buffer.length < until - from) buffer = new Array[Byte](until - from)
+      var i = from
+      var n = 0
+      while (i < until) {
+        val b = bytes(i)
+        if (b == '+') {
+          buffer(n) = ' '.toByte
+          i += 1
+        } else if (b == '%') {
+          if (i + 2 >= until) throw new IllegalArgumentException("Incomplete trailing escape (%) pattern")
+          buffer(n) = hex(bytes(i + 1), bytes(i + 2)).toByte
+          i += 3
+        } else {
+          buffer(n) = b
+          i += 1
+        }
+        n += 1
+      }
+      n
+    }
+
+    /** Parses the two characters of an escape like `Integer.parseInt(s, 16)`, which URLDecoder uses, does. */
+    private def hex(first: Byte, second: Byte): Int = {
+      val low   = Character.digit((second & 0xff).toChar, 16)
+      val value =
+        if (first == '+') low
+        else if (first == '-') { if (low == 0) 0 else -1 }
+        else {
+          val high = Character.digit((first & 0xff).toChar, 16)
+          if (high < 0 || low < 0) -1 else high * 16 + low
+        }
+      if (value < 0) throw new IllegalArgumentException("Illegal hex characters in escape (%) pattern")
+      value
+    }
+
+    private def isAsciiCompatible(charset: Charset): Boolean =
+      charset == StandardCharsets.UTF_8 || charset == StandardCharsets.ISO_8859_1 ||
+        charset == StandardCharsets.US_ASCII
   }
 }
@@ -11,9 +11,11 @@ import scala.collection.mutable.ListBuffer
 import scala.concurrent.duration.Duration
 import scala.concurrent.Await
 import scala.concurrent.Future
+import scala.concurrent.Promise
 
 import org.apache.pekko.stream.scaladsl._
 import org.apache.pekko.stream.stage._
+import org.apache.pekko.stream.AbruptStageTerminationException
 import org.apache.pekko.stream.ActorAttributes
 import org.apache.pekko.stream.Attributes
 import org.apache.pekko.stream.FlowShape
@@ -23,9 +25,11 @@ import org.apache.pekko.stream.Materializer
 import org.apache.pekko.stream.Outlet
 import org.apache.pekko.stream.Supervision
 import org.apache.pekko.util.ByteString
+import org.apache.pekko.Done
 import play.api.http.HttpErrorHandler
 import play.api.http.Status._
 import play.api.libs.streams.Accumulator
+import play.api.libs.typedmap.TypedKey
 import play.api.libs.Files.TemporaryFile
 import play.api.libs.Files.TemporaryFileCreator
 import play.api.mvc._
@@ -189,6 +193,7 @@ object Multipart {
         // [error] java.lang.NoSuchMethodError: 'org.apache.pekko.stream.IOResult org.apache.pekko.stream.IOResult$.unapply(org.apache.pekko.stream.IOResult)'
         case r: IOResult if r.status.isFailure => Future.failed(r.status.failed.get)
         case r: IOResult if r.status.isSuccess =>
+          TemporaryFile.written(tempFile)
           Future.successful(
             FilePart(
               partName,
@@ -203,6 +208,109 @@ object Multipart {
       }
   }
 
+  /**
+   * Runs the given inspectors over the bytes of each file part while they stream to the file part handler, and adds
+   * their results to the attributes of the file part. This computes digests, sizes or the first bytes of the uploaded
+   * files in the same pass as the handler writes them, instead of reading them again afterwards.
+   *
+   * {{{
+   *   val handler = Multipart.inspectFileParts(
+   *     Multipart.handleFilePartAsTemporaryFile(temporaryFileCreator),
+   *     FilePartInspector.sha256,
+   *     FilePartInspector.head(512)
+   *   )
+   *   def upload = Action(parse.multipartFormData(handler)) { request =>
+   *     val digests = request.body.files.map(_.attrs(FilePartInspector.Sha256Key))
+   *     ...
+   *   }
+   * }}}
+   *
+   * @param filePartHandler Handles the file parts.
+   * @param inspectors The inspectors to run over each file part.
+   */
+  def inspectFileParts[A](filePartHandler: FilePartHandler[A], inspectors: FilePartInspector[?]*): FilePartHandler[A] = {
+    fileInfo =>
+      val started = inspectors.map(inspector => new FilePartInspector.Started(inspector, fileInfo))
+      filePartHandler(fileInfo)
+        .through(Flow[ByteString].map { bytes =>
+          started.foreach(_.update(bytes))
+          bytes
+        })
+        .map(filePart => filePart.copy(attrs = filePart.attrs.updated(started.map(_.entry)*)))
+  }
+
+  /**
+   * Also sends the bytes of each file part to a sink while they stream to the file part handler, for instance to copy
+   * them to a storage service. The file part completes once both the handler and the sink have completed, and the
+   * materialized value of the sink is added to its attributes.
+   *
+   * The sink must consume all the bytes of the file part: when it cancels before the end of the file part, the file
+   * part fails, rather than being handled truncated.
+   *
+   * @param filePartHandler Handles the file parts.
+   * @param key The key of the materialized value of the sink in the attributes of the file part.
+   * @param sink Creates the sink of a file part.
+   */
+  def copyFileParts[A, T](filePartHandler: FilePartHandler[A], key: TypedKey[T])(
+      sink: FileInfo => Sink[ByteString, Future[T]]
+  ): FilePartHandler[A] = { fileInfo =>
+    Accumulator(
+      Flow[ByteString]
+        .alsoToMat(Flow.fromGraph(new CopyCompletion).toMat(sink(fileInfo))(Keep.both))(Keep.right)
+        .toMat(filePartHandler(fileInfo).toSink) {
+          case ((completion, copied), handled) =>
+            for {
+              _        <- completion
+              filePart <- handled
+              value    <- copied
+            } yield filePart.copy(attrs = filePart.attrs.updated(key, value))
+        }
+    )
+  }
+
+  /**
+   * Passes the bytes of a file part on to its copy, and completes once the whole file part has been passed on. Fails
+   * when the copy cancels before the end of the file part, since the upload then ends early with it.
+   */
+  private class CopyCompletion
+      extends GraphStageWithMaterializedValue[FlowShape[ByteString, ByteString], Future[Done]] {
+    private val in  = Inlet[ByteString]("CopyCompletion.in")
+    private val out = Outlet[ByteString]("CopyCompletion.out")
+    override val shape: FlowShape[ByteString, ByteString] = FlowShape(in, out)
+
+    override def createLogicAndMaterializedValue(attributes: Attributes): (GraphStageLogic, Future[Done]) = {
+      val completion = Promise[Done]()
+      val logic      = new GraphStageLogic(shape) with InHandler with OutHandler {
+        override def onPush(): Unit = push(out, grab(in))
+        override def onPull(): Unit = pull(in)
+
+        override def onUpstreamFinish(): Unit = {
+          completion.trySuccess(Done)
+          completeStage()
+        }
+
+        override def onUpstreamFailure(ex: Throwable): Unit = {
+          completion.tryFailure(ex)
+          failStage(ex)
+        }
+
+        override def onDownstreamFinish(cause: Throwable): Unit = {
+          completion.tryFailure(
+            new IllegalStateException("The copy of the file part was cancelled before the end of the file part", cause)
+          )
+          cancelStage(cause)
+        }
+
+        override def postStop(): Unit = {
+          completion.tryFailure(new AbruptStageTerminationException(this))
+        }
+
+        setHandlers(in, out, this)
+      }
+      (logic, completion.future)
+    }
+  }
+
   case class FileInfo(
       /** Name of the part in HTTP request (e.g. field name) */
       partName: String,
@@ -117,8 +117,11 @@ object HandlerInvokerFactory {
       override def call(call: => A): Handler = new JavaHandler {
         def withComponents(handlerComponents: JavaHandlerComponents): Handler = {
           new play.core.j.JavaAction(handlerComponents) {
-            override val annotations =
-              cachedAnnotations(_annotations, this.handlerComponents.httpConfiguration.actionComposition, handlerDef)
+            override val annotations = {
+              _annotations =
+                cachedAnnotations(_annotations, this.handlerComponents.httpConfiguration.actionComposition, handlerDef)
+              _annotations
+            }
             override val parser = {
               val javaParser = this.handlerComponents.getBodyParser(annotations.parser)
               javaBodyParserToScala(javaParser)
@@ -253,11 +256,14 @@ object HandlerInvokerFactory {
                         )
                         .asJava
                     )
-                  override val annotations = cachedAnnotations(
-                    _annotations,
-                    this.handlerComponents.httpConfiguration.actionComposition,
-                    handlerDef
-                  )
+                  override val annotations = {
+                    _annotations = cachedAnnotations(
+                      _annotations,
+                      this.handlerComponents.httpConfiguration.actionComposition,
+                      handlerDef
+                    )
+                    _annotations
+                  }
                   override val parser = {
                     // WebSockets do not have a body so we always ignore it and therefore we use the Empty body parser
                     val javaParser =
@@ -323,6 +323,43 @@ class FormSpec extends Specification {
       .get must equalTo(("Kiki", Seq("kiki@gmail.com", "kiki@zen.com")))
   }
 
+  "compute the indexes of repeated values" in {
+    val data = Map(
+      "emails[3]"        -> "",
+      "emails[1].text"   -> "",
+      "emails[1].tags[]" -> "",
+      "emails[x]"        -> "",
+      "emails[]"         -> "",
+      "emails"           -> "",
+      "emails.a[2]"      -> "",
+      "other[0]"         -> ""
+    )
+    RepeatedMapping.indexes("emails", data) must equalTo(Seq(1, 3))
+  }
+
+  "bind and fill nested repeated values with the same form" in {
+    val form = Form(
+      single("groups" -> list(tuple("name" -> text, "members" -> list(text), "lead" -> optional(text))))
+    )
+    val data = Map(
+      "groups[2].name"       -> Seq("b"),
+      "groups[2].members[0]" -> Seq("carol"),
+      "groups[0].name"       -> Seq("a"),
+      "groups[0].members[]"  -> Seq("alice", "bob"),
+      "groups[0].lead"       -> Seq("alice"),
+      "groups[2].lead"       -> Seq("")
+    )
+    val groups = List(("a", List("alice", "bob"), Some("alice")), ("b", List("carol"), None))
+    form.bindFromRequest(data).get must equalTo(groups)
+    form.bindFromRequest(data).get must equalTo(groups)
+    form.bindFromRequest(Map("groups[1].name" -> Seq("c"))).get must equalTo(List(("c", Nil, None)))
+
+    val filled = form.fill(groups)
+    filled("groups[0].members[1]").value must beSome("bob")
+    filled("groups[1].name").value must beSome("b")
+    filled("groups[1].lead").value must beNone
+  }
+
   "support repeated values with set" in {
     ScalaForms.repeatedFormWithSet.bindFromRequest(Map("name" -> Seq("Kiki"))).get must equalTo(("Kiki", Set()))
     ScalaForms.repeatedFormWithSet
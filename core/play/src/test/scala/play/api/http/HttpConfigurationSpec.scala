@@ -31,6 +31,7 @@ class HttpConfigurationSpec extends Specification {
         "play.http.actionComposition.controllerAnnotationsFirst"      -> "true",
         "play.http.actionComposition.executeActionCreatorActionFirst" -> "true",
         "play.http.actionComposition.includeWebSocketActions"         -> "true",
+        "play.http.actionComposition.precompileChains"                -> "true",
         "play.http.cookies.strict"                                    -> "true",
         "play.http.session.cookieName"                                -> "PLAY_SESSION",
         "play.http.session.secure"                                    -> "true",
@@ -211,6 +212,11 @@ class HttpConfigurationSpec extends Specification {
         val httpConfiguration = new HttpConfiguration.HttpConfigurationProvider(configuration, environment).get
         httpConfiguration.actionComposition.includeWebSocketActions must beTrue
       }
+
+      "precompile action composition chains" in {
+        val httpConfiguration = new HttpConfiguration.HttpConfigurationProvider(configuration, environment).get
+        httpConfiguration.actionComposition.precompileChains must beTrue
+      }
     }
 
     "configure mime types" in {
@@ -64,6 +64,31 @@ class MessagesSpec extends Specification {
       (isDefinedAt("garbled", "fr", "CH") must be).equalTo(false)
     }
 
+    "format the arguments of messages" in {
+      val formatApi = new DefaultMessagesApi(
+        Map(
+          "default" -> Map(
+            "constant" -> "It''s '{done}'",
+            "simple"   -> "Hello {0}, you have {1} messages",
+            "number"   -> "Total: {0,number,#.00}",
+            "invalid"  -> "Hello {0"
+          ),
+          "fr" -> Map("simple" -> "Bonjour {0}, vous avez {1} messages")
+        ),
+        new DefaultLangs(Seq(Lang("en"), Lang("fr")))
+      )
+      def message(key: String, lang: Lang, args: Any*): String = formatApi(key, args*)(using lang)
+
+      message("constant", Lang("en"), "ignored") must_== "It's {done}"
+      message("simple", Lang("en"), "Bob", 1234) must_== "Hello Bob, you have 1,234 messages"
+      message("simple", Lang("fr"), "Bob", 3) must_== "Bonjour Bob, vous avez 3 messages"
+      message("number", Lang("en"), 1.5) must_== "Total: 1.50"
+      message("number", Lang("fr"), 1.5) must_== "Total: 1,50"
+      // Languages that aren't available are still formatted with their own locale
+      message("number", Lang("de"), 1.5) must_== "Total: 1,50"
+      message("invalid", Lang("en"), "Bob") must throwAn[IllegalArgumentException]
+    }
+
     "support setting the language on a result" in {
       val cookie = api.setLang(Results.Ok, Lang("en-AU")).newCookies.head
       cookie.name must_== "PLAY_LANG"
@@ -0,0 +1,110 @@
+/*
+ * Copyright (C) from 2022 The Play Framework Contributors <https://github.com/playframework>, 2011-2021 Lightbend Inc. <https://www.lightbend.com>
+ */
+
+package play.api.libs
+
+import scala.concurrent.duration._
+import scala.concurrent.Await
+
+import org.apache.pekko.actor.ActorSystem
+import org.apache.pekko.stream.scaladsl._
+import org.apache.pekko.stream.Materializer
+import org.specs2.mutable.Specification
+import org.specs2.specification.AfterAll
+import play.core.test.FakeRequest
+
+class EventSourceHubSpec extends Specification with AfterAll {
+  import EventSource.Event
+
+  val actorSystem                         = ActorSystem()
+  implicit val materializer: Materializer = Materializer.matFromSystem(using actorSystem)
+
+  override def afterAll(): Unit = Await.result(actorSystem.terminate(), 5.seconds)
+
+  def event(id: Int): Event = Event(s"event $id", Some(id.toString), None)
+
+  def collect(hub: EventSourceHub, lastEventId: Option[String]): Seq[String] = {
+    val source = hub.source(lastEventId)
+    hub.complete()
+    Await.result(source.map(_.utf8String).runWith(Sink.seq), 5.seconds)
+  }
+
+  "EventSourceHub" should {
+    "send the published events to all subscribers" in {
+      val hub    = new EventSourceHub()
+      val first  = hub.source(None).map(_.utf8String).runWith(Sink.seq)
+      val second = hub.source(None).map(_.utf8String).runWith(Sink.seq)
+      eventually(hub.subscriberCount must_== 2)
+      (1 to 3).foreach(i => hub.publish(event(i)))
+      hub.complete()
+      val expected = (1 to 3).map(i => event(i).formatted)
+      Await.result(first, 5.seconds) must_== expected
+      Await.result(second, 5.seconds) must_== expected
+    }
+
+    "subscribe when the source is run, every time it's run" in {
+      val hub    = new EventSourceHub()
+      val source = hub.source(None).map(_.utf8String)
+      hub.subscriberCount must_== 0
+      val first  = source.runWith(Sink.seq)
+      val second = source.runWith(Sink.seq)
+      eventually(hub.subscriberCount must_== 2)
+      hub.publish(event(1))
+      hub.complete()
+      Await.result(first, 5.seconds) must_== Seq(event(1).formatted)
+      Await.result(second, 5.seconds) must_== Seq(event(1).formatted)
+    }
+
+    "replay the events after the last event id" in {
+      val hub = new EventSourceHub()
+      (1 to 5).foreach(i => hub.publish(event(i)))
+      collect(hub, Some("3")) must_== Seq(event(4).formatted, event(5).formatted)
+    }
+
+    "only send live events to a new subscriber" in {
+      val hub = new EventSourceHub()
+      (1 to 5).foreach(i => hub.publish(event(i)))
+      collect(hub, None) must beEmpty
+    }
+
+    "only send live events when the last event id isn't buffered anymore" in {
+      val hub = new EventSourceHub(replayBufferSize = 3)
+      (1 to 5).foreach(i => hub.publish(event(i)))
+      collect(hub, Some("1")) must beEmpty
+    }
+
+    "replay the events that are still buffered after wrapping around" in {
+      val hub = new EventSourceHub(replayBufferSize = 3)
+      (1 to 5).foreach(i => hub.publish(event(i)))
+      collect(hub, Some("3")) must_== Seq(event(4).formatted, event(5).formatted)
+    }
+
+    "resume from the Last-Event-ID header of a request" in {
+      val hub = new EventSourceHub()
+      (1 to 2).foreach(i => hub.publish(event(i)))
+      val source = hub.source(FakeRequest().withHeaders("Last-Event-ID" -> "1"))
+      hub.complete()
+      Await.result(source.map(_.utf8String).runWith(Sink.seq), 5.seconds) must_== Seq(event(2).formatted)
+    }
+
+    "fail a subscriber that doesn't keep up" in {
+      val hub = new EventSourceHub(subscriberBufferSize = 2)
+      // Runs the source without reading it
+      val done = hub.source(None).watchTermination()(Keep.right).to(Sink.asPublisher(fanout = false)).run()
+      eventually(hub.subscriberCount must_== 1)
+      (1 to 3).foreach(i => hub.publish(event(i)))
+      hub.subscriberCount must_== 0
+      Await.result(done, 5.seconds) must throwA[EventSourceHub.SubscriberBufferOverflowException]
+    }
+
+    "remove subscribers that cancel" in {
+      val hub   = new EventSourceHub()
+      val first = hub.source(None).take(1).map(_.utf8String).runWith(Sink.seq)
+      eventually(hub.subscriberCount must_== 1)
+      hub.publish(event(1))
+      Await.result(first, 5.seconds) must_== Seq(event(1).formatted)
+      eventually(hub.subscriberCount must_== 0)
+    }
+  }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (C) from 2022 The Play Framework Contributors <https://github.com/playframework>, 2011-2021 Lightbend Inc. <https://www.lightbend.com>
+ */
+
+package play.api.libs
+
+import scala.concurrent.duration._
+import scala.concurrent.Await
+
+import org.apache.pekko.actor.ActorSystem
+import org.apache.pekko.stream.scaladsl._
+import org.apache.pekko.stream.Materializer
+import org.apache.pekko.util.ByteString
+import org.specs2.mutable.Specification
+import org.specs2.specification.AfterAll
+import play.api.http.HttpChunk
+import play.api.http.HttpEntity
+import play.api.libs.json.JsObject
+import play.api.libs.json.Json
+import play.api.libs.json.OWrites
+import play.api.libs.json.Writes
+import play.api.mvc.Results
+
+class JsonStreamSpec extends Specification with AfterAll {
+  val actorSystem                         = ActorSystem()
+  implicit val materializer: Materializer = Materializer.matFromSystem(using actorSystem)
+
+  override def afterAll(): Unit = Await.result(actorSystem.terminate(), 5.seconds)
+
+  case class Row(id: Int, name: String)
+  implicit val rowWrites: OWrites[Row] = OWrites[Row](row => Json.obj("id" -> row.id, "name" -> row.name))
+
+  def chunks[A](elements: Seq[A], format: JsonStream.Format, chunkSize: Int = JsonStream.DefaultChunkSize)(
+      implicit writes: Writes[A]
+  ): Seq[String] =
+    Await.result(
+      Source(elements).via(JsonStream.flow[A](format, chunkSize)).map(_.utf8String).runWith(Sink.seq),
+      5.seconds
+    )
+
+  "JsonStream" should {
+    "stream the elements as a JSON array" in {
+      chunks(Seq(Row(1, "a"), Row(2, "b")), JsonStream.JsonArray).mkString must_==
+        """[{"id":1,"name":"a"},{"id":2,"name":"b"}]"""
+    }
+
+    "stream no elements as an empty JSON array" in {
+      chunks(Seq.empty[Row], JsonStream.JsonArray) must_== Seq("[]")
+    }
+
+    "stream the elements as newline delimited JSON" in {
+      chunks(Seq(Row(1, "a"), Row(2, "b")), JsonStream.NdJson).mkString must_==
+        "{\"id\":1,\"name\":\"a\"}\n{\"id\":2,\"name\":\"b\"}\n"
+    }
+
+    "stream no elements as nothing with newline delimited JSON" in {
+      chunks(Seq.empty[Row], JsonStream.NdJson) must beEmpty
+    }
+
+    "group the elements into chunks of about the chunk size" in {
+      val result = chunks((1 to 10).map(i => Row(i, "x")), JsonStream.JsonArray, chunkSize = 40)
+      result.size must beGreaterThan(1)
+      result.init.forall(_.length >= 40) must beTrue
+      Json.parse(result.mkString).as[Seq[JsObject]].size must_== 10
+    }
+
+    "create a chunked JSON result" in {
+      val result = Results.Ok.streamJson(Source(Seq(Row(1, "a"))), JsonStream.NdJson)
+      result.body must beLike {
+        case HttpEntity.Chunked(data, contentType) =>
+          contentType must beSome("application/x-ndjson")
+          val body = data.collect { case HttpChunk.Chunk(bytes) => bytes }.runFold(ByteString.empty)(_ ++ _)
+          Await.result(body, 5.seconds).utf8String must_== "{\"id\":1,\"name\":\"a\"}\n"
+      }
+    }
+  }
+}
@@ -18,15 +18,26 @@ import scala.concurrent.Await
 import scala.concurrent.ExecutionContext
 import scala.concurrent.Future
 
+import org.apache.pekko.actor.ActorSystem
+import org.apache.pekko.stream.scaladsl.Source
+import org.apache.pekko.stream.Materializer
 import org.mockito.Mockito
 import org.specs2.mutable.After
 import org.specs2.mutable.Specification
 import org.specs2.specification.Scope
 import play.api._
+import play.api.http.DefaultFileMimeTypesProvider
+import play.api.http.FileMimeTypes
+import play.api.http.FileMimeTypesConfiguration
+import play.api.http.HttpEntity
 import play.api.inject.DefaultApplicationLifecycle
+import play.api.libs.streams.Accumulator
 import play.api.libs.Files._
+import play.api.mvc.EssentialAction
+import play.api.mvc.Results
 import play.api.routing.Router
 import play.api.ApplicationLoader.Context
+import play.core.test.FakeRequest
 
 class TemporaryFileCreatorSpec extends Specification {
   sequential
@@ -456,6 +467,125 @@ class TemporaryFileCreatorSpec extends Specification {
     }
   }
 
+  "ShardedTemporaryFileCreator" should {
+    def withCreator[T](block: ShardedTemporaryFileCreator => T): T = {
+      val lifecycle = new DefaultApplicationLifecycle
+      val conf      =
+        Configuration.from(Map("play.temporaryFile.sharded.shards" -> 4)).withFallback(Configuration.reference)
+      try block(new ShardedTemporaryFileCreator(lifecycle, conf))
+      finally Await.result(lifecycle.stop(), 5.seconds)
+    }
+
+    def withMaterializer[T](block: Materializer => T): T = {
+      val actorSystem = ActorSystem()
+      try block(Materializer.matFromSystem(using actorSystem))
+      finally Await.result(actorSystem.terminate(), 5.seconds)
+    }
+
+    "spread the files over its shard folders" in withCreator { creator =>
+      val files = (1 to 8).map(_ => creator.create("foo", "bar"))
+      files.forall(_.exists) must beTrue
+      files.map(_.path.getParent).distinct must haveSize(4)
+      files.map(_.path.getParent.getParent).distinct must haveSize(1)
+    }
+
+    "count the live files and their bytes" in withCreator { creator =>
+      val first  = creator.create("foo", "bar")
+      val second = creator.create("foo", "bar")
+      writeFile(first.path, "hello")
+      TemporaryFile.written(first)
+      writeFile(second.path, "hi")
+      TemporaryFile.written(second)
+      creator.liveFileCount must_== 2
+      creator.liveBytes must_== 7
+      second.delete()
+      creator.liveFileCount must_== 1
+      creator.liveBytes must_== 5
+      second.exists must beFalse
+      TemporaryFile.written(second)
+      creator.liveBytes must_== 5
+    }
+
+    "stop counting the files it moved" in withCreator { creator =>
+      val file        = creator.create("foo", "bar")
+      val destination = JFiles.createTempDirectory("moved").resolve("file")
+      try {
+        file.moveTo(destination, replace = false) must_== destination
+        creator.liveFileCount must_== 0
+        file.delete()
+        JFiles.exists(destination) must beTrue
+      } finally JFiles.deleteIfExists(destination)
+    }
+
+    "not count files outside of its temporary folder" in withCreator { creator =>
+      val path = JFiles.createTempFile("foreign", "bar")
+      try {
+        creator.create(path).path must_== path
+        creator.liveFileCount must_== 0
+      } finally JFiles.deleteIfExists(path)
+    }
+
+    "reject a prefix that would escape its shard folder" in withCreator { creator =>
+      creator.create("../foo", "bar") must throwAn[IllegalArgumentException]
+    }
+
+    "delete the files it created on stop" in {
+      val file = withCreator(_.create("foo", "bar"))
+      file.exists must beFalse
+    }
+
+    "not scope the files of a request without a scope" in withCreator { creator =>
+      creator.forRequest(FakeRequest()) must be(creator)
+    }
+
+    "delete the files of a request once its strict response is sent" in withCreator { creator =>
+      withMaterializer { implicit mat =>
+        var file: TemporaryFile = null
+        val action              = new TemporaryFileScopeFilter().apply(EssentialAction { request =>
+          file = creator.forRequest(request).create("foo", "bar")
+          Accumulator.done(Results.Ok("done"))
+        })
+        Await.result(action(FakeRequest()).run(), 5.seconds).header.status must_== 200
+        file.exists must beFalse
+        creator.liveFileCount must_== 0
+        creator.liveBytes must_== 0
+      }
+    }
+
+    "delete the files of a request once its streamed response is sent" in withCreator { creator =>
+      withMaterializer { implicit mat =>
+        var file: TemporaryFile = null
+        val action              = new TemporaryFileScopeFilter().apply(EssentialAction { request =>
+          file = creator.forRequest(request).create("foo", "bar")
+          Accumulator.done(Results.Ok.chunked(Source.single("done")))
+        })
+        val result = Await.result(action(FakeRequest()).run(), 5.seconds)
+        file.exists must beTrue
+        Await.result(result.body.consumeData, 5.seconds).utf8String must_== "done"
+        eventually(file.exists must beFalse)
+      }
+    }
+
+    "delete the files of a request once the response sending one of them is sent" in withCreator { creator =>
+      withMaterializer { implicit mat =>
+        implicit val ec: ExecutionContext         = mat.executionContext
+        implicit val fileMimeTypes: FileMimeTypes =
+          new DefaultFileMimeTypesProvider(FileMimeTypesConfiguration()).get
+        var file: TemporaryFile = null
+        val action              = new TemporaryFileScopeFilter().apply(EssentialAction { request =>
+          file = creator.forRequest(request).create("foo", "bar")
+          writeFile(file.path, "done")
+          Accumulator.done(Results.Ok.sendPath(file.path))
+        })
+        val result = Await.result(action(FakeRequest()).run(), 5.seconds)
+        result.body must beAnInstanceOf[HttpEntity.FileRegion]
+        file.exists must beTrue
+        Await.result(result.body.consumeData, 5.seconds).utf8String must_== "done"
+        eventually(file.exists must beFalse)
+      }
+    }
+  }
+
   private def writeFile(file: Path, content: String) = {
     if (JFiles.exists(file)) JFiles.delete(file)
 
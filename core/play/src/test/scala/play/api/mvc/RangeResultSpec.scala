@@ -458,7 +458,7 @@ class RangeResultSpec extends Specification {
     "support sending path" in {
       val file = createFile(java.nio.file.Paths.get("path.mp4"))
       try {
-        val Result(ResponseHeader(_, headers, _), HttpEntity.Streamed(_, _, contentType), _, _, _, _) =
+        val Result(ResponseHeader(_, headers, _), HttpEntity.FileRegion(_, _, _, contentType, _), _, _, _, _) =
           RangeResult.ofPath(file.toPath, None, Some("video/mp4"))
         headers must havePair("Content-Disposition" -> "attachment; filename=\"path.mp4\"")
         contentType must beSome("video/mp4")
@@ -470,7 +470,7 @@ class RangeResultSpec extends Specification {
     "support sending file" in {
       val file = createFile(java.nio.file.Paths.get("file.mp4"))
       try {
-        val Result(ResponseHeader(_, headers, _), HttpEntity.Streamed(_, _, contentType), _, _, _, _) =
+        val Result(ResponseHeader(_, headers, _), HttpEntity.FileRegion(_, _, _, contentType, _), _, _, _, _) =
           RangeResult.ofFile(file, None, Some("video/mp4"))
         headers must havePair("Content-Disposition" -> "attachment; filename=\"file.mp4\"")
         contentType must beSome("video/mp4")
@@ -479,6 +479,45 @@ class RangeResultSpec extends Specification {
       }
     }
 
+    "send the requested range of a path as a file region" in {
+      val file = createFile(java.nio.file.Paths.get("region.mp4"))
+      try {
+        val result = RangeResult.ofPath(file.toPath, Some("bytes=2-5"), Some("video/mp4"))
+        result.header.status must_== 206
+        result.header.headers must havePair("Content-Range" -> "bytes 2-5/16")
+        result.body must beLike {
+          case HttpEntity.FileRegion(path, offset, length, _, _) =>
+            (path must_== file.toPath).and(offset must_== 2).and(length must_== 4)
+        }
+
+        implicit val system: ActorSystem        = ActorSystem()
+        implicit val materializer: Materializer = Materializer.matFromSystem
+        try {
+          collectBytes(result.body.dataStream) must be_==("e fi".getBytes)
+        } finally {
+          system.terminate()
+        }
+      } finally {
+        java.nio.file.Files.delete(file.toPath)
+      }
+    }
+
+    "fail the stream of a file region that is longer than its file" in {
+      val file = createFile(java.nio.file.Paths.get("short.mp4"))
+      try {
+        implicit val system: ActorSystem        = ActorSystem()
+        implicit val materializer: Materializer = Materializer.matFromSystem
+        try {
+          val region = HttpEntity.FileRegion(file.toPath, 2, 100, None)
+          collectBytes(region.dataStream) must throwA[java.io.EOFException]
+        } finally {
+          system.terminate()
+        }
+      } finally {
+        java.nio.file.Files.delete(file.toPath)
+      }
+    }
+
     "support sending an input stream without entity length" in {
       val file        = createFile(java.nio.file.Paths.get("input1.mp4"))
       val inputStream = java.nio.file.Files.newInputStream(file.toPath)
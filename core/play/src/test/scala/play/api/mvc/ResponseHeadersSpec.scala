@@ -0,0 +1,82 @@
+/*
+ * Copyright (C) from 2022 The Play Framework Contributors <https://github.com/playframework>, 2011-2021 Lightbend Inc. <https://www.lightbend.com>
+ */
+
+package play.api.mvc
+
+import org.specs2.mutable.Specification
+
+class ResponseHeadersSpec extends Specification {
+  "ResponseHeaders" should {
+    "look up headers case-insensitively" in {
+      val headers = ResponseHeaders("Content-Type" -> "text/plain", "X-Foo" -> "bar")
+      headers.get("content-type") must beSome("text/plain")
+      headers.contains("x-foo") must beTrue
+      headers.get("X-Bar") must beNone
+      headers.size must_== 2
+    }
+
+    "keep the last value of a name given more than once" in {
+      val headers = ResponseHeaders("X-YOP" -> "1", "X-Yop" -> "2")
+      headers.iterator.toList must_== List("X-YOP" -> "2")
+    }
+
+    "replace all values when setting a header" in {
+      val headers = ResponseHeaders("X-Foo" -> "a").add("x-foo", "b").set("X-FOO", "c")
+      headers.getAll("X-Foo") must_== Seq("c")
+    }
+
+    "keep existing values when adding a header" in {
+      val headers = ResponseHeaders("Set-Cookie" -> "a=1").add("Set-Cookie", "b=2")
+      headers.getAll("set-cookie") must_== Seq("a=1", "b=2")
+      headers.get("Set-Cookie") must beSome("a=1")
+    }
+
+    "remove all values of a header" in {
+      val headers = ResponseHeaders("X-Foo" -> "a", "X-Bar" -> "b").add("X-Foo", "c").remove("x-foo")
+      headers.iterator.toList must_== List("X-Bar" -> "b")
+    }
+
+    "keep the order headers were set in" in {
+      val headers = ResponseHeaders("B" -> "1", "A" -> "2").add("C", "3")
+      headers.iterator.map(_._1).toList must_== List("B", "A", "C")
+    }
+
+    "join repeated values in the map view" in {
+      val headers = ResponseHeaders("Set-Cookie" -> "a=1", "Vary" -> "Accept")
+        .add("Set-Cookie", "b=2")
+        .add("Vary", "Origin")
+      headers.toMap must havePair("Set-Cookie" -> "a=1;;b=2")
+      headers.toMap must havePair("Vary" -> "Accept,Origin")
+      headers.toMap.get("set-cookie") must beSome("a=1;;b=2")
+    }
+
+    "reject null names and values" in {
+      ResponseHeaders((null: String) -> "a") must throwA[NullPointerException]
+      ResponseHeaders.empty.add("X-Foo", null) must throwA[NullPointerException]
+    }
+  }
+
+  "ResponseHeader" should {
+    "keep the cookies of a result in separate headers" in {
+      val encoding = new DefaultCookieHeaderEncoding()
+      val result   = Results.Ok
+        .withCookies(Cookie("a", "1"), Cookie("b", "2"))
+        .bakeCookies(encoding, new DefaultSessionCookieBaker(), new DefaultFlashCookieBaker())
+      result.header.headerFields.getAll("Set-Cookie") must haveSize(2)
+      encoding.decodeSetCookieHeader(result.header.headers("Set-Cookie")).map(_.name) must_== Seq("a", "b")
+    }
+
+    "reuse its headers when copied without changing them" in {
+      val header = ResponseHeader(200, Map("X-Foo" -> "bar"))
+      header.copy(status = 404).headerFields must beTheSameAs(header.headerFields)
+      header.copy(reasonPhrase = Some("Gone")).headerFields must beTheSameAs(header.headerFields)
+    }
+
+    "replace its headers when copied with new ones" in {
+      val header = ResponseHeader(200, Map("X-Foo" -> "bar"))
+      header.copy(headers = Map.empty).headers must beEmpty
+      header.copy(headers = Map("X-Bar" -> "baz")).headerFields.get("x-bar") must beSome("baz")
+    }
+  }
+}
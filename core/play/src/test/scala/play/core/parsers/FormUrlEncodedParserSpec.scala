@@ -4,7 +4,11 @@
 
 package play.core.parsers
 
+import java.net.URLDecoder
+
+import org.apache.pekko.util.ByteString
 import org.specs2.mutable.Specification
+import play.utils.OrderPreserving
 
 class FormUrlEncodedParserSpec extends Specification {
   "FormUrlEncodedParser" should {
@@ -47,5 +51,55 @@ class FormUrlEncodedParserSpec extends Specification {
       val reconstructed                    = strings.substring(1)
       reconstructed must equalTo(url_encoded)
     }
+    "decode escaped characters and spaces" in {
+      FormUrlEncodedParser.parse("the+key=a%20b+c%2Bd%26e") must_== Map("the key" -> List("a b c+d&e"))
+    }
+    "decode escaped and unescaped characters encoded in UTF-8" in {
+      FormUrlEncodedParser.parse(ByteString("caf\u00e9=%E2%82%AC+\u00e9t\u00e9"), "utf-8") must_==
+        Map("caf\u00e9" -> List("\u20ac \u00e9t\u00e9"))
+    }
+    "decode escaped characters in the given encoding" in {
+      FormUrlEncodedParser.parse(ByteString("caf%E9=%E9t%E9"), "iso-8859-1") must_==
+        Map("caf\u00e9" -> List("\u00e9t\u00e9"))
+    }
+    "decode the same pairs as a regular expression split and URLDecoder" in {
+      // The parser this one replaced
+      def parseByDecodingBody(data: String, encoding: String) = {
+        val pairs = data.split("[&;]").toSeq.map { pair =>
+          val parts = pair.split("=", -1)
+          val value = parts.lift(1).getOrElse("")
+          URLDecoder.decode(parts(0), encoding) -> URLDecoder.decode(value, encoding)
+        }
+        OrderPreserving.groupBy(pairs)(_._1)
+      }
+      val bodies = Seq(
+        "a=b=c",
+        "&&a=1&&b=2;;&&",
+        "=&a&=b&",
+        "a=%41%42+%43&b=%C3a&c=%C3+%A9&d=%+41",
+        "\u00e9=%C3%A9\u00e9%C3&\u20ac=+%E2%82%AC+",
+        "x=%-0&y=%e9%E9"
+      )
+      foreach(bodies) { body =>
+        foreach(Seq("utf-8", "iso-8859-1", "utf-16")) { encoding =>
+          val expected = parseByDecodingBody(body, encoding)
+          val result   = FormUrlEncodedParser.parse(ByteString(body), encoding)
+          result must_== expected
+          result.keys.toSeq must_== expected.keys.toSeq
+        }
+      }
+    }
+    "fail on invalid escapes" in {
+      foreach(Seq("a=%", "a=%4", "a%zz=b", "a=%-1", "a=%\u00e9")) { body =>
+        FormUrlEncodedParser.parse(ByteString(body), "utf-8") must throwA[IllegalArgumentException]
+      }
+    }
+    "decode forms as Java array values in order" in {
+      val result = FormUrlEncodedParser.parseAsJavaArrayValues(ByteString("b=1&a=2&b=%33"), "utf-8")
+      result.keySet.toArray.toSeq must_== Seq("b", "a")
+      result.get("b").toSeq must_== Seq("1", "3")
+      result.get("a").toSeq must_== Seq("2")
+      result.put("c", Array("4")) must throwA[UnsupportedOperationException]
+    }
   }
 }
@@ -153,7 +153,7 @@ package scalaguide.upload.fileupload {
       def uploadCustom: Action[MultipartFormData[File]] = Action(parse.multipartFormData(handleFilePartAsFile)) {
         request =>
           val fileOption = request.body.file("name").map {
-            case FilePart(key, filename, contentType, file, fileSize, dispositionType, _) =>
+            case FilePart(key, filename, contentType, file, fileSize, dispositionType, _, _) =>
               file.toPath
           }
 
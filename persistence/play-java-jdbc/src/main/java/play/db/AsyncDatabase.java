@@ -0,0 +1,156 @@
+/*
+ * Copyright (C) from 2022 The Play Framework Contributors <https://github.com/playframework>, 2011-2021 Lightbend Inc. <https://www.lightbend.com>
+ */
+
+package play.db;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import play.api.db.DatabaseExecutionContext;
+import play.api.db.DatabaseExecutionContextMetrics;
+
+/**
+ * Asynchronous access to a database.
+ *
+ * <p>Each block runs on the database's {@link DatabaseExecutionContext}, which has as many threads
+ * as the connection pool has connections, so when every connection is in use the work is queued
+ * rather than blocking the calling thread.
+ */
+public class AsyncDatabase {
+
+  private final Database database;
+  private final DatabaseExecutionContext executionContext;
+
+  public AsyncDatabase(Database database, DatabaseExecutionContext executionContext) {
+    this.database = database;
+    this.executionContext = executionContext;
+  }
+
+  /**
+   * @return the underlying synchronous database.
+   */
+  public Database getDatabase() {
+    return database;
+  }
+
+  /**
+   * @return the execution context the blocks are run on.
+   */
+  public DatabaseExecutionContext getExecutionContext() {
+    return executionContext;
+  }
+
+  /**
+   * @return a snapshot of the queue depth and wait times of the execution context.
+   */
+  public DatabaseExecutionContextMetrics getMetrics() {
+    return executionContext.metrics();
+  }
+
+  /**
+   * Execute a block of code asynchronously, providing a JDBC connection. The connection and all
+   * created statements are automatically released.
+   *
+   * @param block code to execute
+   * @return a completion stage that is completed when the block has run
+   */
+  public CompletionStage<Void> withConnectionAsync(ConnectionRunnable block) {
+    return CompletableFuture.runAsync(() -> database.withConnection(block), executionContext);
+  }
+
+  /**
+   * Execute a block of code asynchronously, providing a JDBC connection. The connection and all
+   * created statements are automatically released.
+   *
+   * @param <A> the return value's type
+   * @param block code to execute
+   * @return a completion stage of the result of the code block
+   */
+  public <A> CompletionStage<A> withConnectionAsync(ConnectionCallable<A> block) {
+    return CompletableFuture.supplyAsync(() -> database.withConnection(block), executionContext);
+  }
+
+  /**
+   * Execute a block of code asynchronously, providing a JDBC connection. The connection and all
+   * created statements are automatically released.
+   *
+   * @param autocommit determines whether to autocommit the connection
+   * @param block code to execute
+   * @return a completion stage that is completed when the block has run
+   */
+  public CompletionStage<Void> withConnectionAsync(boolean autocommit, ConnectionRunnable block) {
+    return CompletableFuture.runAsync(
+        () -> database.withConnection(autocommit, block), executionContext);
+  }
+
+  /**
+   * Execute a block of code asynchronously, providing a JDBC connection. The connection and all
+   * created statements are automatically released.
+   *
+   * @param <A> the return value's type
+   * @param autocommit determines whether to autocommit the connection
+   * @param block code to execute
+   * @return a completion stage of the result of the code block
+   */
+  public <A> CompletionStage<A> withConnectionAsync(
+      boolean autocommit, ConnectionCallable<A> block) {
+    return CompletableFuture.supplyAsync(
+        () -> database.withConnection(autocommit, block), executionContext);
+  }
+
+  /**
+   * Execute a block of code asynchronously in the scope of a JDBC transaction. The connection and
+   * all created statements are automatically released. The transaction is automatically committed,
+   * unless an exception occurs.
+   *
+   * @param block code to execute
+   * @return a completion stage that is completed when the transaction has been committed
+   */
+  public CompletionStage<Void> withTransactionAsync(ConnectionRunnable block) {
+    return CompletableFuture.runAsync(() -> database.withTransaction(block), executionContext);
+  }
+
+  /**
+   * Execute a block of code asynchronously in the scope of a JDBC transaction. The connection and
+   * all created statements are automatically released. The transaction is automatically committed,
+   * unless an exception occurs.
+   *
+   * @param isolationLevel determines transaction isolation level
+   * @param block code to execute
+   * @return a completion stage that is completed when the transaction has been committed
+   */
+  public CompletionStage<Void> withTransactionAsync(
+      TransactionIsolationLevel isolationLevel, ConnectionRunnable block) {
+    return CompletableFuture.runAsync(
+        () -> database.withTransaction(isolationLevel, block), executionContext);
+  }
+
+  /**
+   * Execute a block of code asynchronously in the scope of a JDBC transaction. The connection and
+   * all created statements are automatically released. The transaction is automatically committed,
+   * unless an exception occurs.
+   *
+   * @param <A> the return value's type
+   * @param block code to execute
+   * @return a completion stage of the result of the code block
+   */
+  public <A> CompletionStage<A> withTransactionAsync(ConnectionCallable<A> block) {
+    return CompletableFuture.supplyAsync(() -> database.withTransaction(block), executionContext);
+  }
+
+  /**
+   * Execute a block of code asynchronously in the scope of a JDBC transaction. The connection and
+   * all created statements are automatically released. The transaction is automatically committed,
+   * unless an exception occurs.
+   *
+   * @param <A> the return value's type
+   * @param isolationLevel determines transaction isolation level
+   * @param block code to execute
+   * @return a completion stage of the result of the code block
+   */
+  public <A> CompletionStage<A> withTransactionAsync(
+      TransactionIsolationLevel isolationLevel, ConnectionCallable<A> block) {
+    return CompletableFuture.supplyAsync(
+        () -> database.withTransaction(isolationLevel, block), executionContext);
+  }
+}
@@ -0,0 +1,23 @@
+/*
+ * Copyright (C) from 2022 The Play Framework Contributors <https://github.com/playframework>, 2011-2021 Lightbend Inc. <https://www.lightbend.com>
+ */
+
+package play.db;
+
+import java.util.List;
+import play.api.db.ConnectionPoolStats;
+
+/** Metrics of the connection pools of all configured databases. */
+public interface ConnectionPoolMetrics {
+
+  /**
+   * @return a snapshot of the state of every connection pool, including the pools of read
+   *     replicas, named {@code <name>.<replica>}.
+   */
+  List<ConnectionPoolStats> getPools();
+
+  /**
+   * @return the Scala version of these metrics.
+   */
+  play.api.db.ConnectionPoolMetrics asScala();
+}
@@ -13,7 +13,9 @@ import java.util.Set;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import play.Environment;
+import play.api.db.DatabaseExecutionContext;
 import play.inject.Binding;
+import play.inject.Injector;
 import play.inject.Module;
 
 /** Injection module with default DB components. */
@@ -30,18 +32,26 @@ public final class DBModule extends Module {
 
     list.add(bindClass(ConnectionPool.class).to(DefaultConnectionPool.class));
     list.add(bindClass(DBApi.class).to(DefaultDBApi.class));
+    list.add(bindClass(ConnectionPoolMetrics.class).to(DefaultConnectionPoolMetrics.class));
 
     try {
       Set<String> dbs = config.getConfig(dbKey).root().keySet();
       for (String db : dbs) {
         list.add(
             bindClass(Database.class).qualifiedWith(named(db)).to(new NamedDatabaseProvider(db)));
+        list.add(
+            bindClass(AsyncDatabase.class)
+                .qualifiedWith(named(db))
+                .to(new NamedAsyncDatabaseProvider(db)));
       }
 
       if (dbs.contains(defaultDb)) {
         list.add(
             bindClass(Database.class)
                 .to(bindClass(Database.class).qualifiedWith(named(defaultDb))));
+        list.add(
+            bindClass(AsyncDatabase.class)
+                .to(bindClass(AsyncDatabase.class).qualifiedWith(named(defaultDb))));
       }
     } catch (com.typesafe.config.ConfigException.Missing ex) {
       logger.warn("Configuration not found for database: {}", ex.getMessage());
@@ -50,7 +60,7 @@ public final class DBModule extends Module {
     return list.build();
   }
 
-  private NamedDatabase named(String name) {
+  private static NamedDatabase named(String name) {
     return new NamedDatabaseImpl(name);
   }
 
@@ -67,4 +77,22 @@ public final class DBModule extends Module {
       return dbApi.getDatabase(name);
     }
   }
+
+  /** Inject provider for the asynchronous API of named databases. */
+  public static class NamedAsyncDatabaseProvider implements Provider<AsyncDatabase> {
+    @Inject private DBApi dbApi = null;
+    @Inject private Injector injector = null;
+    private final String name;
+
+    public NamedAsyncDatabaseProvider(String name) {
+      this.name = name;
+    }
+
+    public AsyncDatabase get() {
+      return new AsyncDatabase(
+          dbApi.getDatabase(name),
+          injector.instanceOf(
+              bindClass(DatabaseExecutionContext.class).qualifiedWith(named(name))));
+    }
+  }
 }
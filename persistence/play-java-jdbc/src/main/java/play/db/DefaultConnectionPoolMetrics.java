@@ -0,0 +1,32 @@
+/*
+ * Copyright (C) from 2022 The Play Framework Contributors <https://github.com/playframework>, 2011-2021 Lightbend Inc. <https://www.lightbend.com>
+ */
+
+package play.db;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import java.util.List;
+import play.api.db.ConnectionPoolStats;
+import play.libs.Scala;
+
+/** Default delegating implementation of the connection pool metrics. */
+@Singleton
+public class DefaultConnectionPoolMetrics implements ConnectionPoolMetrics {
+
+  private final play.api.db.ConnectionPoolMetrics metrics;
+
+  @Inject
+  public DefaultConnectionPoolMetrics(play.api.db.ConnectionPoolMetrics metrics) {
+    this.metrics = metrics;
+  }
+
+  public List<ConnectionPoolStats> getPools() {
+    return Scala.asJava(metrics.pools());
+  }
+
+  @Override
+  public play.api.db.ConnectionPoolMetrics asScala() {
+    return metrics;
+  }
+}
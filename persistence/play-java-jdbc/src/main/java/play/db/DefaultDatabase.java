@@ -77,6 +77,11 @@ public class DefaultDatabase implements Database {
     return db.getConnection(autocommit);
   }
 
+  @Override
+  public Connection getConnection(boolean autocommit, boolean readOnly) {
+    return db.getConnection(autocommit, readOnly);
+  }
+
   @Override
   public void withConnection(ConnectionRunnable block) {
     db.withConnection(connectionFunction(block));
@@ -97,6 +102,16 @@ public class DefaultDatabase implements Database {
     return db.withConnection(autocommit, connectionFunction(block));
   }
 
+  @Override
+  public void withConnection(boolean autocommit, boolean readOnly, ConnectionRunnable block) {
+    db.withConnection(autocommit, readOnly, connectionFunction(block));
+  }
+
+  @Override
+  public <A> A withConnection(boolean autocommit, boolean readOnly, ConnectionCallable<A> block) {
+    return db.withConnection(autocommit, readOnly, connectionFunction(block));
+  }
+
   @Override
   public void withTransaction(ConnectionRunnable block) {
     db.withTransaction(connectionFunction(block));
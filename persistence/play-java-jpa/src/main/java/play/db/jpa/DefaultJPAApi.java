@@ -15,6 +15,7 @@ import java.util.function.Consumer;
 import java.util.function.Function;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import play.api.db.RoutingDataSource;
 import play.db.DBApi;
 import play.inject.ApplicationLifecycle;
 
@@ -149,6 +150,13 @@ public class DefaultJPAApi implements JPAApi {
    * @return code execution result
    */
   public <T> T withTransaction(String name, boolean readOnly, Function<EntityManager, T> block) {
+    // Read-only work goes to the read replicas when the persistence unit uses a routing data source
+    return RoutingDataSource.withReadOnly(
+        readOnly, () -> withTransactionInternal(name, readOnly, block));
+  }
+
+  private <T> T withTransactionInternal(
+      String name, boolean readOnly, Function<EntityManager, T> block) {
     EntityManager entityManager = null;
     EntityTransaction tx = null;
 
@@ -45,6 +45,21 @@ public interface Database {
    */
   Connection getConnection(boolean autocommit);
 
+  /**
+   * Get a JDBC connection from the underlying data source, from a read replica if {@code readOnly}
+   * is true and this database is configured with replicas. Databases without replicas use their
+   * primary data source.
+   *
+   * <p>Don't forget to release the connection at some point by calling close().
+   *
+   * @param autocommit determines whether to autocommit the connection
+   * @param readOnly determines whether the connection is only used for reading
+   * @return a JDBC connection
+   */
+  default Connection getConnection(boolean autocommit, boolean readOnly) {
+    return getConnection(autocommit);
+  }
+
   /**
    * Execute a block of code, providing a JDBC connection. The connection and all created statements
    * are automatically released.
@@ -83,6 +98,34 @@ public interface Database {
    */
   <A> A withConnection(boolean autocommit, ConnectionCallable<A> block);
 
+  /**
+   * Execute a block of code, providing a JDBC connection from a read replica if {@code readOnly} is
+   * true and this database is configured with replicas. Databases without replicas use their
+   * primary data source. The connection and all created statements are automatically released.
+   *
+   * @param autocommit determines whether to autocommit the connection
+   * @param readOnly determines whether the connection is only used for reading
+   * @param block code to execute
+   */
+  default void withConnection(boolean autocommit, boolean readOnly, ConnectionRunnable block) {
+    withConnection(autocommit, block);
+  }
+
+  /**
+   * Execute a block of code, providing a JDBC connection from a read replica if {@code readOnly} is
+   * true and this database is configured with replicas. Databases without replicas use their
+   * primary data source. The connection and all created statements are automatically released.
+   *
+   * @param <A> the return value's type
+   * @param autocommit determines whether to autocommit the connection
+   * @param readOnly determines whether the connection is only used for reading
+   * @param block code to execute
+   * @return the result of the code block
+   */
+  default <A> A withConnection(boolean autocommit, boolean readOnly, ConnectionCallable<A> block) {
+    return withConnection(autocommit, block);
+  }
+
   /**
    * Execute a block of code in the scope of a JDBC transaction. The connection and all created
    * statements are automatically released. The transaction is automatically committed, unless an
@@ -175,6 +218,17 @@ public interface Database {
         return Database.this.getConnection(autocommit);
       }
 
+      @Override
+      public Connection getConnection(boolean autocommit, boolean readOnly) {
+        return Database.this.getConnection(autocommit, readOnly);
+      }
+
+      @Override
+      public <A> A withConnection(
+          boolean autocommit, boolean readOnly, final scala.Function1<Connection, A> block) {
+        return Database.this.withConnection(autocommit, readOnly, block::apply);
+      }
+
       public <A> A withTransaction(final scala.Function1<Connection, A> block) {
         return Database.this.withTransaction(block::apply);
       }
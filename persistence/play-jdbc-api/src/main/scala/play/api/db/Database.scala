@@ -48,6 +48,18 @@ trait Database {
    */
   def getConnection(autocommit: Boolean): Connection
 
+  /**
+   * Get a JDBC connection from the underlying data source, from a read replica if `readOnly` is true and this
+   * database is configured with replicas. Databases without replicas use their primary data source.
+   *
+   * Don't forget to release the connection at some point by calling close().
+   *
+   * @param autocommit determines whether to autocommit the connection
+   * @param readOnly determines whether the connection is only used for reading
+   * @return a JDBC connection
+   */
+  def getConnection(autocommit: Boolean, readOnly: Boolean): Connection = getConnection(autocommit)
+
   /**
    * Execute a block of code, providing a JDBC connection.
    * The connection and all created statements are automatically released.
@@ -67,6 +79,19 @@ trait Database {
    */
   def withConnection[A](autocommit: Boolean)(block: Connection => A): A
 
+  /**
+   * Execute a block of code, providing a JDBC connection from a read replica if `readOnly` is true and this database
+   * is configured with replicas. Databases without replicas use their primary data source.
+   * The connection and all created statements are automatically released.
+   *
+   * @param autocommit determines whether to autocommit the connection
+   * @param readOnly determines whether the connection is only used for reading
+   * @param block code to execute
+   * @return the result of the code block
+   */
+  def withConnection[A](autocommit: Boolean, readOnly: Boolean)(block: Connection => A): A =
+    withConnection(autocommit)(block)
+
   /**
    * Execute a block of code in the scope of a JDBC transaction.
    * The connection and all created statements are automatically released.
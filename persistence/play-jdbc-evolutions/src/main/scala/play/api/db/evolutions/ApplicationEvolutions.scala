@@ -7,6 +7,10 @@ package play.api.db.evolutions
 import java.sql.Connection
 import java.sql.SQLException
 import java.sql.Statement
+import java.util.concurrent.atomic.AtomicInteger
+import java.util.concurrent.Callable
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.Executors
 
 import scala.annotation.tailrec
 import scala.util.control.Exception.ignoring
@@ -36,7 +40,7 @@ class ApplicationEvolutions @Inject() (
 ) {
   private val logger = Logger(classOf[ApplicationEvolutions])
 
-  private var invalidDatabaseRevisions = 0
+  private val invalidDatabaseRevisions = new AtomicInteger()
 
   /**
    * Indicates if the process of applying evolutions scripts is finished or not.
@@ -44,7 +48,7 @@ class ApplicationEvolutions @Inject() (
    *
    * @return true if all evolutions scripts were applied (or resolved) successfully.
    */
-  def upToDate = invalidDatabaseRevisions == 0
+  def upToDate = invalidDatabaseRevisions.get == 0
 
   /**
    * Checks the evolutions state. Called on construction.
@@ -55,9 +59,8 @@ class ApplicationEvolutions @Inject() (
     // allow db modules to write evolution files
     dynamicEvolutions.create()
 
-    dbApi
-      .databases()
-      .foreach(
+    ApplicationEvolutions
+      .forEachDatabase(dbApi.databases(), config.parallelism)(
         ApplicationEvolutions.runEvolutions(
           _,
           config,
@@ -67,7 +70,7 @@ class ApplicationEvolutions @Inject() (
             import Evolutions.toHumanReadableScript
 
             def invalidDatabaseRevision() = {
-              invalidDatabaseRevisions += 1
+              invalidDatabaseRevisions.incrementAndGet()
               throw InvalidDatabaseRevision(db, toHumanReadableScript(scripts))
             }
 
@@ -85,7 +88,8 @@ class ApplicationEvolutions @Inject() (
                   dbConfig.substitutionsEscape
                 )
               case Mode.Dev if !dbConfig.autoApply =>
-                invalidDatabaseRevisions += 1 // In DEV mode EvolutionsWebCommands handle non-autoApply evolutions
+                // In DEV mode EvolutionsWebCommands handle non-autoApply evolutions
+                invalidDatabaseRevisions.incrementAndGet()
               case Mode.Dev if dbConfig.autoApply =>
                 evolutions.evolve(
                   db,
@@ -231,6 +235,34 @@ private object ApplicationEvolutions {
       """
     )
 
+  /**
+   * Run the given block for every database, for up to `parallelism` databases at a time.
+   *
+   * When running in parallel every database is processed before the first failure, in database order, is rethrown.
+   */
+  def forEachDatabase(databases: Seq[Database], parallelism: Int)(block: Database => Unit): Unit = {
+    val threads = math.min(parallelism, databases.size)
+    if (threads <= 1) {
+      databases.foreach(block)
+    } else {
+      val executor = Executors.newFixedThreadPool(threads)
+      try {
+        val results  = databases.map(db => executor.submit(new Callable[Unit] { def call(): Unit = block(db) }))
+        val failures = results.flatMap { result =>
+          try {
+            result.get()
+            None
+          } catch {
+            case e: ExecutionException => Some(e.getCause)
+          }
+        }
+        failures.headOption.foreach(e => throw e)
+      } finally {
+        executor.shutdown()
+      }
+    }
+  }
+
   def runEvolutions(
       database: Database,
       config: EvolutionsConfig,
@@ -357,6 +389,11 @@ trait EvolutionsDatasourceConfig {
  */
 trait EvolutionsConfig {
   def forDatasource(db: String): EvolutionsDatasourceConfig
+
+  /**
+   * The maximum number of databases whose evolutions are checked and applied concurrently on startup.
+   */
+  def parallelism: Int = 1
 }
 
 /**
@@ -383,8 +420,12 @@ case class DefaultEvolutionsDatasourceConfig(
  */
 class DefaultEvolutionsConfig(
     defaultDatasourceConfig: EvolutionsDatasourceConfig,
-    datasources: Map[String, EvolutionsDatasourceConfig]
+    datasources: Map[String, EvolutionsDatasourceConfig],
+    override val parallelism: Int
 ) extends EvolutionsConfig {
+  def this(defaultDatasourceConfig: EvolutionsDatasourceConfig, datasources: Map[String, EvolutionsDatasourceConfig]) =
+    this(defaultDatasourceConfig, datasources, 1)
+
   def forDatasource(db: String) = datasources.getOrElse(db, defaultDatasourceConfig)
 }
 
@@ -517,7 +558,7 @@ class DefaultEvolutionsConfigParser @Inject() (rootConfig: Configuration) extend
           )
       }
 
-    new DefaultEvolutionsConfig(defaultConfig, datasourceConfig)
+    new DefaultEvolutionsConfig(defaultConfig, datasourceConfig, config.get[Int]("parallelism"))
   }
 
   /**
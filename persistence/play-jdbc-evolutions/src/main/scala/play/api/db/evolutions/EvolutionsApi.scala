@@ -9,6 +9,7 @@ import java.io.InputStream
 import java.net.URI
 import java.nio.file.Path
 import java.sql._
+import java.util.concurrent.ConcurrentHashMap
 
 import scala.annotation.tailrec
 import scala.io.Codec
@@ -20,6 +21,7 @@ import play.api.db.DBApi
 import play.api.db.Database
 import play.api.Environment
 import play.api.Logger
+import play.api.Mode
 import play.api.PlayException
 import play.utils.PlayIO
 
@@ -309,7 +311,8 @@ class DatabaseEvolutions(
   import DefaultEvolutionsApi._
 
   def scripts(evolutions: Seq[Evolution]): Seq[Script] = {
-    if (evolutions.nonEmpty) {
+    val pendingUps = if (evolutions.nonEmpty) upScriptsAfterAppliedPrefix(evolutions) else Some(Nil)
+    if (pendingUps.isEmpty) {
       val application = evolutions.reverse
       val database    = databaseEvolutions()
 
@@ -322,13 +325,42 @@ class DatabaseEvolutions(
       val downs = (nonConflictingDowns ++ conflictingDowns).map(e => DownScript(e))
 
       downs ++ ups
-    } else Nil
+    } else pendingUps.get
   }
 
   def scripts(reader: EvolutionsReader): Seq[Script] = {
     scripts(reader.evolutions(database.name).toList)
   }
 
+  /**
+   * Compute the scripts of the given evolutions if the database has applied the first of them and nothing else.
+   *
+   * Only the revisions, hashes and states of the meta table are read, in a single query, so that a database that is
+   * up to date, or only misses the latest evolutions, is checked without loading the scripts of every applied
+   * evolution: the up scripts of the missing evolutions are the ones of the given evolutions. Any other outcome,
+   * including a missing meta table, returns None, for the full comparison done by [[scripts]].
+   */
+  private def upScriptsAfterAppliedPrefix(evolutions: Seq[Evolution]): Option[Seq[Script]] = {
+    implicit val connection = database.getConnection(autocommit = true)
+    try {
+      executeQuery("select id, hash, state from ${schema}${evolutions_table} order by id") { rs =>
+        val remaining = evolutions.sortBy(_.revision).iterator
+        var applied   = true
+        while (applied && rs.next()) {
+          applied = remaining.hasNext && {
+            val evolution = remaining.next()
+            evolution.revision == rs.getInt(1) && evolution.hash == rs.getString(2) && rs.getString(3) == "applied"
+          }
+        }
+        if (applied) Some(remaining.map(e => UpScript(e)).toList) else None
+      }
+    } catch {
+      case NonFatal(_) => None
+    } finally {
+      connection.close()
+    }
+  }
+
   /**
    * Read evolutions from the database.
    */
@@ -776,6 +808,14 @@ class EnvironmentEvolutionsReader @Inject() (environment: Environment, evolution
 
   def this(environment: Environment) = this(environment, "evolutions")
 
+  // In production the scripts can't change while the application runs, so they are only read and parsed once
+  private val cache = new ConcurrentHashMap[String, Seq[Evolution]]()
+
+  override def evolutions(db: String): Seq[Evolution] = {
+    if (environment.mode == Mode.Prod) cache.computeIfAbsent(db, name => super.evolutions(name))
+    else super.evolutions(db)
+  }
+
   def loadResource(db: String, revision: Int): Option[InputStream] = {
     @tailrec def findPaddedRevisionResource(paddedRevision: String, uri: Option[URI]): Option[InputStream] = {
       if (paddedRevision.length > 15) {
@@ -177,6 +177,12 @@ class DefaultEvolutionsConfigParserSpec extends Specification {
       "substitutions.mappings" in {
         default.substitutionsMappings must_== Map.empty
       }
+      "parallelism" in {
+        parse().parallelism must_== 1
+      }
+    }
+    "parse the startup parallelism" in {
+      parse("play.evolutions.parallelism" -> 4).parallelism must_== 4
     }
   }
 }
@@ -43,6 +43,15 @@ class EvolutionsSpec extends Specification {
       }
     }
 
+    trait UpToDate { this: WithEvolutions =>
+      evolutions.evolve(evolutions.scripts(Seq(a1, a2, a3)), autocommit = true)
+
+      evolutions.scripts(Seq(a1, a2, a3)) must beEmpty
+      evolutions.scripts(Seq(a1, a2, a3, a4)) must_== Seq(UpScript(a4))
+      evolutions.scripts(Seq(a1, a2)) must_== Seq(DownScript(a3))
+      evolutions.scripts(Seq(a1, a2, b3)) must_== Seq(DownScript(a3), UpScript(b3))
+    }
+
     trait DownScripts { this: WithEvolutions =>
       val original = evolutions.scripts(Seq(a1, a2, a3))
       evolutions.evolve(original, autocommit = true)
@@ -150,6 +159,9 @@ class EvolutionsSpec extends Specification {
     "apply up scripts" in new UpScripts with WithEvolutions
     "apply up scripts derby" in new UpScripts with WithDerbyEvolutions
 
+    "not return scripts when up to date" in new UpToDate with WithEvolutions
+    "not return scripts when up to date derby" in new UpToDate with WithDerbyEvolutions
+
     "apply down scripts" in new DownScripts with WithEvolutions
     "apply down scripts derby" in new DownScripts with WithDerbyEvolutions
 
@@ -0,0 +1,74 @@
+/*
+ * Copyright (C) from 2022 The Play Framework Contributors <https://github.com/playframework>, 2011-2021 Lightbend Inc. <https://www.lightbend.com>
+ */
+
+package play.api.db
+
+import java.sql.Connection
+
+import scala.concurrent.Future
+
+/**
+ * Asynchronous access to a database.
+ *
+ * Each block runs on the database's [[DatabaseExecutionContext]], so when every connection of the pool is in use the
+ * work is queued rather than blocking the calling thread.
+ *
+ * @param database the database to run the blocks against
+ * @param executionContext the execution context to run the blocks on
+ */
+class AsyncDatabase(val database: Database, val executionContext: DatabaseExecutionContext) {
+
+  /**
+   * The configuration name for this database.
+   */
+  def name: String = database.name
+
+  /**
+   * Execute a block of code asynchronously, providing a JDBC connection.
+   * The connection and all created statements are automatically released.
+   *
+   * @param block code to execute
+   * @return a future of the result of the code block
+   */
+  def withConnectionAsync[A](block: Connection => A): Future[A] = {
+    Future(database.withConnection(block))(executionContext)
+  }
+
+  /**
+   * Execute a block of code asynchronously, providing a JDBC connection.
+   * The connection and all created statements are automatically released.
+   *
+   * @param autocommit determines whether to autocommit the connection
+   * @param block code to execute
+   * @return a future of the result of the code block
+   */
+  def withConnectionAsync[A](autocommit: Boolean)(block: Connection => A): Future[A] = {
+    Future(database.withConnection(autocommit)(block))(executionContext)
+  }
+
+  /**
+   * Execute a block of code asynchronously in the scope of a JDBC transaction.
+   * The connection and all created statements are automatically released.
+   * The transaction is automatically committed, unless an exception occurs.
+   *
+   * @param block code to execute
+   * @return a future of the result of the code block
+   */
+  def withTransactionAsync[A](block: Connection => A): Future[A] = {
+    Future(database.withTransaction(block))(executionContext)
+  }
+
+  /**
+   * Execute a block of code asynchronously in the scope of a JDBC transaction.
+   * The connection and all created statements are automatically released.
+   * The transaction is automatically committed, unless an exception occurs.
+   *
+   * @param isolationLevel determines transaction isolation level
+   * @param block code to execute
+   * @return a future of the result of the code block
+   */
+  def withTransactionAsync[A](isolationLevel: TransactionIsolationLevel)(block: Connection => A): Future[A] = {
+    Future(database.withTransaction(isolationLevel)(block))(executionContext)
+  }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright (C) from 2022 The Play Framework Contributors <https://github.com/playframework>, 2011-2021 Lightbend Inc. <https://www.lightbend.com>
+ */
+
+package play.api.db
+
+import java.util.concurrent.atomic.AtomicLong
+import java.util.concurrent.atomic.AtomicLongArray
+import java.util.concurrent.atomic.LongAdder
+import javax.sql.DataSource
+
+import scala.concurrent.duration._
+
+import com.zaxxer.hikari.metrics.IMetricsTracker
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory
+import com.zaxxer.hikari.metrics.PoolStats
+import com.zaxxer.hikari.HikariDataSource
+import jakarta.inject.Inject
+import jakarta.inject.Singleton
+
+/**
+ * Metrics of the connection pools of all configured databases.
+ */
+trait ConnectionPoolMetrics {
+
+  /**
+   * A snapshot of the state of every connection pool, including the pools of read replicas.
+   */
+  def pools: Seq[ConnectionPoolStats]
+}
+
+/**
+ * The state of a single connection pool.
+ *
+ * @param database the name of the database, `<name>.<replica>` for read replicas
+ * @param active the number of connections currently in use
+ * @param idle the number of connections waiting in the pool
+ * @param pending the number of threads waiting for a connection
+ * @param total the total number of connections in the pool
+ * @param acquireTime the distribution of the time taken to acquire a connection from the pool
+ */
+final case class ConnectionPoolStats(
+    database: String,
+    active: Int,
+    idle: Int,
+    pending: Int,
+    total: Int,
+    acquireTime: AcquireTimeHistogram.Snapshot
+)
+
+/**
+ * Default implementation of the connection pool metrics, reporting on the HikariCP pools of the DB API.
+ *
+ * Pools which are not created by [[HikariCPConnectionPool]] are not reported.
+ */
+@Singleton
+class DefaultConnectionPoolMetrics @Inject() (dbApi: DBApi) extends ConnectionPoolMetrics {
+  def pools: Seq[ConnectionPoolStats] = {
+    dbApi.databases().flatMap(dataSources).flatMap {
+      case (name, dataSource) =>
+        ConnectionPool.unwrap(dataSource) match {
+          case hikari: HikariDataSource =>
+            hikari.getMetricsTrackerFactory match {
+              case factory: HikariCPMetricsTrackerFactory => factory.stats(name)
+              case _                                      => None
+            }
+          case _ => None
+        }
+    }
+  }
+
+  private def dataSources(database: Database): Seq[(String, DataSource)] = database match {
+    case routing: RoutingDatabase =>
+      (routing.name -> routing.primaryDataSource) +: routing.replicas.map(replica => replica.name -> replica.dataSource)
+    case _ => Seq(database.name -> database.dataSource)
+  }
+}
+
+/**
+ * A lock-free histogram of connection acquire times with fixed, exponentially growing buckets.
+ */
+final class AcquireTimeHistogram {
+  import AcquireTimeHistogram._
+
+  private val counts   = new AtomicLongArray(BucketBounds.length + 1)
+  private val sumNanos = new LongAdder
+  private val maxNanos = new AtomicLong
+
+  def record(nanos: Long): Unit = {
+    var bucket = 0
+    while (bucket < BucketBounds.length && nanos > BucketBounds(bucket)) bucket += 1
+    counts.incrementAndGet(bucket)
+    sumNanos.add(nanos)
+    maxNanos.accumulateAndGet(nanos, (a, b) => Math.max(a, b))
+  }
+
+  def snapshot: Snapshot = {
+    val buckets = Vector.tabulate(counts.length()) { i =>
+      val bound = if (i < BucketBounds.length) BucketBounds(i).nanos else Duration.Inf
+      bound -> counts.get(i)
+    }
+    Snapshot(buckets, sumNanos.sum().nanos, maxNanos.get().nanos)
+  }
+}
+
+object AcquireTimeHistogram {
+  private val BucketBounds: Array[Long] =
+    Array(100L, 250L, 500L, 1000L, 2500L, 5000L, 10000L, 25000L, 50000L, 100000L, 250000L, 500000L, 1000000L, 5000000L)
+      .map(micros => micros * 1000L)
+
+  /**
+   * A snapshot of the histogram.
+   *
+   * @param buckets the upper bound of each bucket, with the number of values that fell into it
+   * @param sum the sum of all recorded values
+   * @param max the largest recorded value
+   */
+  final case class Snapshot(buckets: Seq[(Duration, Long)], sum: FiniteDuration, max: FiniteDuration) {
+    def count: Long = buckets.iterator.map(_._2).sum
+
+    def mean: FiniteDuration = if (count == 0) Duration.Zero else sum / count
+
+    /**
+     * The upper bound of the bucket containing the given percentile, i.e. `percentile(0.99)`.
+     */
+    def percentile(p: Double): Duration = {
+      val threshold = math.max(1L, math.ceil(count * p).toLong)
+      var seen      = 0L
+      buckets.find { case (_, n) => seen += n; seen >= threshold }.map(_._1).getOrElse(Duration.Zero)
+    }
+  }
+}
+
+/**
+ * Collects the statistics of a single HikariCP pool.
+ */
+private[db] final class HikariCPMetricsTrackerFactory extends MetricsTrackerFactory {
+  @volatile private var poolStats: PoolStats = _
+  private val acquireTime                    = new AcquireTimeHistogram
+
+  override def create(poolName: String, poolStats: PoolStats): IMetricsTracker = {
+    this.poolStats = poolStats
+    new IMetricsTracker {
+      override def recordConnectionAcquiredNanos(elapsedAcquiredNanos: Long): Unit =
+        acquireTime.record(elapsedAcquiredNanos)
+    }
+  }
+
+  def stats(database: String): Option[ConnectionPoolStats] = Option(poolStats).map { stats =>
+    ConnectionPoolStats(
+      database,
+      stats.getActiveConnections,
+      stats.getIdleConnections,
+      stats.getPendingThreads,
+      stats.getTotalConnections,
+      acquireTime.snapshot
+    )
+  }
+}
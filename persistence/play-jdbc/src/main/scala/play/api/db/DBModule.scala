@@ -28,16 +28,34 @@ final class DBModule
         bindNamed(db).to(new NamedDatabaseProvider(db))
       }
 
+      def namedAsyncDatabaseBindings(dbs: Set[String]): Seq[Binding[?]] = dbs.toSeq.flatMap { db =>
+        val executionContextProvider = new NamedDatabaseExecutionContextProvider(db)
+        Seq(
+          bind[DatabaseExecutionContext].qualifiedWith(new NamedDatabaseImpl(db)).to(executionContextProvider),
+          bind[AsyncDatabase]
+            .qualifiedWith(new NamedDatabaseImpl(db))
+            .to(new NamedAsyncDatabaseProvider(db, executionContextProvider))
+        )
+      }
+
       def defaultDatabaseBinding(default: String, dbs: Set[String]): Seq[Binding[?]] = {
-        if (dbs.contains(default)) Seq(bind[Database].to(bindNamed(default))) else Nil
+        if (dbs.contains(default)) {
+          Seq(
+            bind[Database].to(bindNamed(default)),
+            bind[DatabaseExecutionContext]
+              .to(bind[DatabaseExecutionContext].qualifiedWith(new NamedDatabaseImpl(default))),
+            bind[AsyncDatabase].to(bind[AsyncDatabase].qualifiedWith(new NamedDatabaseImpl(default)))
+          )
+        } else Nil
       }
 
       val dbKey   = configuration.underlying.getString("play.db.config")
       val default = configuration.underlying.getString("play.db.default")
       val dbs     = configuration.getOptional[Configuration](dbKey).getOrElse(Configuration.empty).subKeys
       Seq(
-        bind[DBApi].toProvider[DBApiProvider]
-      ) ++ namedDatabaseBindings(dbs) ++ defaultDatabaseBinding(default, dbs)
+        bind[DBApi].toProvider[DBApiProvider],
+        bind[ConnectionPoolMetrics].to[DefaultConnectionPoolMetrics]
+      ) ++ namedDatabaseBindings(dbs) ++ namedAsyncDatabaseBindings(dbs) ++ defaultDatabaseBinding(default, dbs)
     })
 
 /**
@@ -99,3 +117,28 @@ class NamedDatabaseProvider(name: String) extends Provider[Database] {
   @Inject private var dbApi: DBApi = _
   lazy val get: Database           = dbApi.database(name)
 }
+
+/**
+ * Inject provider for the execution contexts of named databases.
+ */
+class NamedDatabaseExecutionContextProvider(name: String) extends Provider[DatabaseExecutionContext] {
+  @Inject private var configuration: Configuration   = _
+  @Inject private var lifecycle: ApplicationLifecycle = _
+
+  lazy val get: DatabaseExecutionContext = {
+    val dbKey            = configuration.underlying.getString("play.db.config")
+    val dbConfig         = configuration.getPrototypedMap(dbKey, "play.db.prototype")(name)
+    val executionContext = DatabaseExecutionContext.fromConfig(name, dbConfig)
+    lifecycle.addStopHook { () => Future.fromTry(Try(executionContext.shutdown())) }
+    executionContext
+  }
+}
+
+/**
+ * Inject provider for the asynchronous API of named databases.
+ */
+class NamedAsyncDatabaseProvider(name: String, executionContextProvider: Provider[DatabaseExecutionContext])
+    extends Provider[AsyncDatabase] {
+  @Inject private var dbApi: DBApi = _
+  lazy val get: AsyncDatabase      = new AsyncDatabase(dbApi.database(name), executionContextProvider.get)
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright (C) from 2022 The Play Framework Contributors <https://github.com/playframework>, 2011-2021 Lightbend Inc. <https://www.lightbend.com>
+ */
+
+package play.api.db
+
+import java.util.concurrent.atomic.AtomicInteger
+import java.util.concurrent.atomic.AtomicLong
+import java.util.concurrent.atomic.LongAdder
+import java.util.concurrent.LinkedBlockingQueue
+import java.util.concurrent.ThreadFactory
+import java.util.concurrent.ThreadPoolExecutor
+import java.util.concurrent.TimeUnit
+
+import scala.concurrent.duration._
+import scala.concurrent.ExecutionContextExecutor
+
+import play.api.Configuration
+import play.api.Logger
+
+/**
+ * An execution context dedicated to blocking JDBC work for a single database.
+ *
+ * The number of threads matches the number of connections the pool can hand out, so once every connection is in use
+ * further work waits in this context's queue instead of blocking a thread (or a dispatcher thread) on the pool.
+ *
+ * @param name the database name
+ * @param threads the number of threads, normally the maximum size of the connection pool
+ * @param virtualThreads whether to run the work on virtual threads (requires Java 21 or later)
+ */
+final class DatabaseExecutionContext(val name: String, val threads: Int, val virtualThreads: Boolean)
+    extends ExecutionContextExecutor {
+  import DatabaseExecutionContext._
+
+  require(threads > 0, s"Database execution context for [$name] needs at least one thread")
+
+  private val totalWaitNanos = new LongAdder
+  private val maxWaitNanos   = new AtomicLong
+  private val waitedTasks    = new LongAdder
+
+  private val executor = new ThreadPoolExecutor(
+    threads,
+    threads,
+    60L,
+    TimeUnit.SECONDS,
+    new LinkedBlockingQueue[Runnable](),
+    if (virtualThreads) virtualThreadFactory(s"db-$name-") else platformThreadFactory(s"db-$name-")
+  )
+  executor.allowCoreThreadTimeOut(true)
+
+  override def execute(runnable: Runnable): Unit = {
+    val enqueuedAt = System.nanoTime()
+    executor.execute(() => {
+      val waited = System.nanoTime() - enqueuedAt
+      totalWaitNanos.add(waited)
+      waitedTasks.increment()
+      maxWaitNanos.accumulateAndGet(waited, (a, b) => Math.max(a, b))
+      runnable.run()
+    })
+  }
+
+  override def reportFailure(cause: Throwable): Unit = {
+    logger.error(s"Uncaught error in database execution context [$name]", cause)
+  }
+
+  /**
+   * A snapshot of the current queue depth, thread usage and wait times of this execution context.
+   */
+  def metrics: DatabaseExecutionContextMetrics = {
+    val count = waitedTasks.sum()
+    DatabaseExecutionContextMetrics(
+      queueDepth = executor.getQueue.size(),
+      activeThreads = executor.getActiveCount,
+      completedTasks = executor.getCompletedTaskCount,
+      averageWaitTime = if (count == 0) Duration.Zero else (totalWaitNanos.sum() / count).nanos,
+      maxWaitTime = maxWaitNanos.get().nanos
+    )
+  }
+
+  /**
+   * Stop accepting new work and wait for the queued work to complete.
+   */
+  def shutdown(timeout: FiniteDuration = 30.seconds): Unit = {
+    executor.shutdown()
+    if (!executor.awaitTermination(timeout.toMillis, TimeUnit.MILLISECONDS)) {
+      logger.warn(s"Database execution context [$name] did not terminate within $timeout")
+      executor.shutdownNow()
+    }
+  }
+}
+
+object DatabaseExecutionContext {
+  private val logger = Logger(classOf[DatabaseExecutionContext])
+
+  /**
+   * Create the execution context for a database from its configuration.
+   *
+   * The number of threads defaults to `hikaricp.maximumPoolSize` unless `executionContext.threads` is set.
+   *
+   * @param name the database name
+   * @param configuration the database configuration, i.e. `db.<name>` with the prototype applied
+   */
+  def fromConfig(name: String, configuration: Configuration): DatabaseExecutionContext = {
+    val threads = configuration
+      .get[Option[Int]]("executionContext.threads")
+      .getOrElse(configuration.get[Int]("hikaricp.maximumPoolSize"))
+    val virtualThreads = configuration.get[Boolean]("executionContext.virtualThreads")
+    new DatabaseExecutionContext(name, threads, virtualThreads)
+  }
+
+  private def platformThreadFactory(prefix: String): ThreadFactory = {
+    val counter = new AtomicInteger()
+    (runnable: Runnable) => {
+      val thread = new Thread(runnable, prefix + counter.incrementAndGet())
+      thread.setDaemon(true)
+      thread
+    }
+  }
+
+  // Thread.ofVirtual() is only available from Java 21, so it is looked up reflectively
+  private def virtualThreadFactory(prefix: String): ThreadFactory = {
+    try {
+      val builderClass = Class.forName("java.lang.Thread$Builder")
+      val builder      = classOf[Thread].getMethod("ofVirtual").invoke(null)
+      val named        = builderClass
+        .getMethod("name", classOf[String], java.lang.Long.TYPE)
+        .invoke(builder, prefix, java.lang.Long.valueOf(0L))
+      builderClass.getMethod("factory").invoke(named).asInstanceOf[ThreadFactory]
+    } catch {
+      case _: ReflectiveOperationException =>
+        logger.warn("Virtual threads are not supported by this JVM, falling back to platform threads")
+        platformThreadFactory(prefix)
+    }
+  }
+}
+
+/**
+ * Metrics for a [[DatabaseExecutionContext]].
+ *
+ * @param queueDepth the number of tasks waiting for a thread (and therefore a connection)
+ * @param activeThreads the number of threads currently running database work
+ * @param completedTasks the number of tasks completed so far
+ * @param averageWaitTime the average time tasks spent queued before running
+ * @param maxWaitTime the longest time a task spent queued before running
+ */
+final case class DatabaseExecutionContextMetrics(
+    queueDepth: Int,
+    activeThreads: Int,
+    completedTasks: Long,
+    averageWaitTime: FiniteDuration,
+    maxWaitTime: FiniteDuration
+)
@@ -171,6 +171,20 @@ abstract class DefaultDatabase(val name: String, configuration: Config, environm
     connection
   }
 
+  /**
+   * Get a JDBC connection from the underlying data source, from a read replica if `readOnly` is true and this is a
+   * [[RoutingDatabase]].
+   *
+   * Don't forget to release the connection at some point by calling close().
+   *
+   * @param autocommit determines whether to autocommit the connection
+   * @param readOnly determines whether the connection is only used for reading
+   * @return a JDBC connection
+   */
+  override def getConnection(autocommit: Boolean, readOnly: Boolean): Connection = {
+    RoutingDataSource.withReadOnly[Connection](readOnly, () => getConnection(autocommit))
+  }
+
   def withConnection[A](block: Connection => A): A = {
     withConnection(autocommit = true)(block)
   }
@@ -184,6 +198,25 @@ abstract class DefaultDatabase(val name: String, configuration: Config, environm
     }
   }
 
+  /**
+   * Execute a block of code, providing a JDBC connection from a read replica if `readOnly` is true and this is a
+   * [[RoutingDatabase]].
+   * The connection and all created statements are automatically released.
+   *
+   * @param autocommit determines whether to autocommit the connection
+   * @param readOnly determines whether the connection is only used for reading
+   * @param block code to execute
+   * @return the result of the code block
+   */
+  override def withConnection[A](autocommit: Boolean, readOnly: Boolean)(block: Connection => A): A = {
+    val connection = getConnection(autocommit, readOnly)
+    try {
+      block(connection)
+    } finally {
+      connection.close()
+    }
+  }
+
   def withTransaction[A](block: Connection => A): A = {
     withConnection(autocommit = false) { connection =>
       try {
@@ -28,7 +28,11 @@ class DefaultDBApi(
     configuration.map {
       case (name, config) =>
         val pool = ConnectionPool.fromConfig(config.getString("pool"), injector, environment, defaultConnectionPool)
-        new PooledDatabase(name, config, environment, pool)
+        if (config.hasPath("replicas") && !config.getObject("replicas").isEmpty) {
+          new RoutingDatabase(name, config, environment, pool)
+        } else {
+          new PooledDatabase(name, config, environment, pool)
+        }
     }.toSeq
   }
   def databases(): Seq[Database] = _databases
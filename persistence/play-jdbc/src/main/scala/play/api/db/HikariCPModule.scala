@@ -52,7 +52,15 @@ class HikariCPConnectionPool @Inject() (environment: Environment) extends Connec
     Try {
       logger.info(s"Creating Pool for datasource '$name'")
 
-      val hikariConfig      = new HikariCPConfig(name, dbConfig, config).toHikariConfig
+      val hikariConfig = new HikariCPConfig(name, dbConfig, config).toHikariConfig
+      // Collects the pool statistics reported by ConnectionPoolMetrics, unless the pool already reports its metrics
+      if (
+        config.get[Boolean]("poolMetrics") &&
+        hikariConfig.getMetricsTrackerFactory == null && hikariConfig.getMetricRegistry == null
+      ) {
+        hikariConfig.setMetricsTrackerFactory(new HikariCPMetricsTrackerFactory)
+      }
+
       val datasource        = new HikariDataSource(hikariConfig)
       val wrappedDataSource = ConnectionPool.wrapToLogSql(datasource, configuration)
 
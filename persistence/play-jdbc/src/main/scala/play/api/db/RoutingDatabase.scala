@@ -0,0 +1,245 @@
+/*
+ * Copyright (C) from 2022 The Play Framework Contributors <https://github.com/playframework>, 2011-2021 Lightbend Inc. <https://www.lightbend.com>
+ */
+
+package play.api.db
+
+import java.io.PrintWriter
+import java.lang.reflect.InvocationHandler
+import java.lang.reflect.InvocationTargetException
+import java.lang.reflect.Method
+import java.lang.reflect.Proxy
+import java.sql.Connection
+import java.sql.SQLException
+import java.sql.SQLTransientConnectionException
+import java.util.concurrent.atomic.AtomicBoolean
+import java.util.concurrent.atomic.AtomicInteger
+import java.util.function.Supplier
+import java.util.logging.{ Logger => JLogger }
+import javax.sql.DataSource
+
+import scala.concurrent.duration.FiniteDuration
+import scala.util.control.NonFatal
+
+import com.typesafe.config.Config
+import com.typesafe.config.ConfigValueFactory
+import play.api.libs.JNDI
+import play.api.Configuration
+import play.api.Environment
+import play.api.Logger
+
+/**
+ * A database with one primary and any number of read replicas.
+ *
+ * The replicas are configured under `replicas`, each replica falling back to the configuration of the primary:
+ *
+ * {{{
+ * db.default {
+ *   driver = org.postgresql.Driver
+ *   url = "jdbc:postgresql://primary/app"
+ *   replicas {
+ *     r1.url = "jdbc:postgresql://replica-1/app"
+ *     r2.url = "jdbc:postgresql://replica-2/app"
+ *   }
+ * }
+ * }}}
+ *
+ * Connections are taken from the primary unless they are requested as read-only, either through the `readOnly`
+ * variants of `getConnection` and `withConnection` or with [[RoutingDataSource.withReadOnly]].
+ */
+class RoutingDatabase(
+    name: String,
+    configuration: Config,
+    environment: Environment,
+    pool: ConnectionPool
+) extends PooledDatabase(name, configuration, environment, pool) {
+  private val config = Configuration(configuration)
+
+  /**
+   * The read replicas of this database, named `<name>.<replica>`.
+   */
+  val replicas: Seq[PooledDatabase] = config.get[Configuration]("replicas").subKeys.toSeq.sorted.map { replica =>
+    val primaryConfig = configuration
+      .withValue("jndiName", ConfigValueFactory.fromAnyRef(null))
+      .withValue("hikaricp.poolName", ConfigValueFactory.fromAnyRef(null))
+    val replicaConfig = configuration.getConfig(s"replicas.$replica").withFallback(primaryConfig)
+    new PooledDatabase(s"$name.$replica", replicaConfig, environment, pool)
+  }
+
+  /**
+   * The data source of the primary.
+   */
+  lazy val primaryDataSource: DataSource = super.createDataSource()
+
+  override def createDataSource(): DataSource = {
+    val routing = new RoutingDataSource(
+      primaryDataSource,
+      replicas.map(replica => replica.name -> replica.dataSource),
+      ReplicaSelection.fromName(config.get[String]("replicaSelection")),
+      config.get[FiniteDuration]("replicaRetryInterval")
+    )
+    // Rebind the routing data source over the primary, so that JPA read-only transactions use the replicas
+    databaseConfig.jndiName.foreach(JNDI.initialContext.rebind(_, routing))
+    routing
+  }
+
+  override def closeDataSource(dataSource: DataSource): Unit = {
+    replicas.foreach(_.shutdown())
+    super.closeDataSource(primaryDataSource)
+  }
+}
+
+/**
+ * How a read replica is chosen for a read-only connection.
+ */
+sealed trait ReplicaSelection
+
+object ReplicaSelection {
+
+  /**
+   * Use the replicas in turn.
+   */
+  case object RoundRobin extends ReplicaSelection
+
+  /**
+   * Use the replica with the fewest connections currently in use.
+   */
+  case object LeastOutstanding extends ReplicaSelection
+
+  def fromName(name: String): ReplicaSelection = name match {
+    case "round-robin"       => RoundRobin
+    case "least-outstanding" => LeastOutstanding
+    case other               => throw new IllegalArgumentException(s"Unknown replica selection: $other")
+  }
+}
+
+/**
+ * A data source that hands out connections of the primary, or of a read replica when called within
+ * [[RoutingDataSource.withReadOnly]].
+ *
+ * A replica that fails to connect to its database is skipped until `retryInterval` has elapsed, while a replica that
+ * only times out because all its connections are in use stays in rotation. When no replica can provide a connection,
+ * the primary is used.
+ */
+final class RoutingDataSource(
+    val primary: DataSource,
+    replicaDataSources: Seq[(String, DataSource)],
+    selection: ReplicaSelection,
+    retryInterval: FiniteDuration
+) extends DataSource {
+  import RoutingDataSource._
+
+  private val replicas    = replicaDataSources.map { case (name, dataSource) => new Replica(name, dataSource) }.toArray
+  private val nextReplica = new AtomicInteger()
+
+  override def getConnection: Connection =
+    if (readOnly.get) readOnlyConnection(_.getConnection, primary.getConnection) else primary.getConnection
+
+  override def getConnection(username: String, password: String): Connection =
+    if (readOnly.get) {
+      readOnlyConnection(_.getConnection(username, password), primary.getConnection(username, password))
+    } else primary.getConnection(username, password)
+
+  private def readOnlyConnection(connect: DataSource => Connection, fallback: => Connection): Connection = {
+    val now        = System.nanoTime()
+    val candidates = orderedReplicas.iterator.filter(_.availableAt(now))
+    var connection = null: Connection
+    while (connection == null && candidates.hasNext) {
+      val replica = candidates.next()
+      try {
+        connection = replica.track(connect(replica.dataSource))
+      } catch {
+        case e: SQLException if isConnectionFailure(e) =>
+          logger.warn(s"Read replica [${replica.name}] unavailable, retrying in $retryInterval", e)
+          replica.markDown(now + retryInterval.toNanos)
+        case e: SQLException =>
+          // A busy replica stays in rotation, so that it doesn't push its load onto the other databases for good
+          logger.debug(s"Read replica [${replica.name}] did not provide a connection in time", e)
+      }
+    }
+    if (connection == null) {
+      connection = fallback
+    }
+    try {
+      connection.setReadOnly(true)
+    } catch {
+      case NonFatal(e) =>
+        connection.close()
+        throw e
+    }
+    connection
+  }
+
+  /**
+   * Whether the replica failed to connect to its database, rather than timed out waiting for one of its connections
+   * to be released. A pool that times out after failing to connect reports that failure as the cause of the timeout.
+   */
+  private def isConnectionFailure(e: SQLException): Boolean = e match {
+    case _: SQLTransientConnectionException => e.getCause != null
+    case _                                  => true
+  }
+
+  private def orderedReplicas: Seq[Replica] = selection match {
+    case ReplicaSelection.RoundRobin =>
+      val start = Math.floorMod(nextReplica.getAndIncrement(), math.max(replicas.length, 1))
+      (replicas.view.drop(start) ++ replicas.view.take(start)).toSeq
+    case ReplicaSelection.LeastOutstanding =>
+      replicas.toSeq.sortBy(_.outstanding.get)
+  }
+
+  override def getLogWriter: PrintWriter              = primary.getLogWriter
+  override def setLogWriter(out: PrintWriter): Unit   = primary.setLogWriter(out)
+  override def setLoginTimeout(seconds: Int): Unit    = primary.setLoginTimeout(seconds)
+  override def getLoginTimeout: Int                   = primary.getLoginTimeout
+  override def getParentLogger: JLogger               = primary.getParentLogger
+  override def unwrap[T](iface: Class[T]): T          = primary.unwrap(iface)
+  override def isWrapperFor(iface: Class[?]): Boolean = primary.isWrapperFor(iface)
+}
+
+object RoutingDataSource {
+  private val logger = Logger(classOf[RoutingDataSource])
+
+  private val readOnly: ThreadLocal[Boolean] = ThreadLocal.withInitial(() => false)
+
+  /**
+   * Run the given block with connections of routing data sources taken from read replicas (when `readOnly` is true)
+   * or from the primary (when `readOnly` is false).
+   *
+   * Only connections acquired on the calling thread while the block runs are affected.
+   */
+  def withReadOnly[A](readOnly: Boolean, block: Supplier[A]): A = {
+    val previous = this.readOnly.get
+    this.readOnly.set(readOnly)
+    try block.get()
+    finally this.readOnly.set(previous)
+  }
+
+  private final class Replica(val name: String, val dataSource: DataSource) {
+    val outstanding                 = new AtomicInteger()
+    @volatile private var downUntil = 0L
+
+    def availableAt(now: Long): Boolean = downUntil - now <= 0
+
+    def markDown(until: Long): Unit = downUntil = until
+
+    /**
+     * Counts the connection as outstanding until it is closed.
+     */
+    def track(connection: Connection): Connection = {
+      outstanding.incrementAndGet()
+      val closed  = new AtomicBoolean()
+      val handler = new InvocationHandler {
+        override def invoke(proxy: AnyRef, method: Method, args: Array[AnyRef]): AnyRef = {
+          if (method.getName == "close" && closed.compareAndSet(false, true)) outstanding.decrementAndGet()
+          try {
+            if (args == null) method.invoke(connection) else method.invoke(connection, args*)
+          }
+          catch { case e: InvocationTargetException => throw e.getCause }
+        }
+      }
+      Proxy
+        .newProxyInstance(classOf[Connection].getClassLoader, Array(classOf[Connection]), handler)
+        .asInstanceOf[Connection]
+    }
+  }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (C) from 2022 The Play Framework Contributors <https://github.com/playframework>, 2011-2021 Lightbend Inc. <https://www.lightbend.com>
+ */
+
+package play.api.db
+
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+
+import scala.concurrent.duration._
+import scala.concurrent.Await
+import scala.concurrent.Future
+
+import play.api.test._
+import play.api.Configuration
+
+class DatabaseExecutionContextSpec extends PlaySpecification {
+  "DatabaseExecutionContext" should {
+    "be sized from the connection pool by default" in {
+      val config = Configuration.reference.get[Configuration]("play.db.prototype")
+      val ec     = DatabaseExecutionContext.fromConfig("default", config)
+      try {
+        ec.threads must_== 10
+        ec.virtualThreads must beFalse
+      } finally ec.shutdown()
+    }
+
+    "allow the number of threads to be configured" in {
+      val config = Configuration("executionContext.threads" -> 3)
+        .withFallback(Configuration.reference.get[Configuration]("play.db.prototype"))
+      val ec = DatabaseExecutionContext.fromConfig("default", config)
+      try {
+        ec.threads must_== 3
+      } finally ec.shutdown()
+    }
+
+    "queue work when every thread is busy" in {
+      val ec      = new DatabaseExecutionContext("test", 1, virtualThreads = false)
+      val started = new CountDownLatch(1)
+      val release = new CountDownLatch(1)
+      try {
+        ec.execute(() => { started.countDown(); release.await(10, TimeUnit.SECONDS) })
+        started.await(10, TimeUnit.SECONDS) must beTrue
+        val queued = Future(42)(ec)
+        ec.metrics.queueDepth must_== 1
+        ec.metrics.activeThreads must_== 1
+        release.countDown()
+        Await.result(queued, 10.seconds) must_== 42
+        ec.metrics.queueDepth must_== 0
+      } finally ec.shutdown()
+    }
+  }
+
+  "AsyncDatabase" should {
+    "run blocks on the database execution context" in {
+      Databases.withInMemory(name = "test-async") { db =>
+        val ec    = new DatabaseExecutionContext(db.name, 2, virtualThreads = false)
+        val async = new AsyncDatabase(db, ec)
+        try {
+          val result = async.withTransactionAsync { connection =>
+            connection.createStatement.execute("create table test (id bigint not null, name varchar(255))")
+            connection.createStatement.execute("insert into test (id, name) values (1, 'alice')")
+            Thread.currentThread.getName
+          }
+          Await.result(result, 10.seconds) must startWith("db-test-async-")
+          val count = async.withConnectionAsync { connection =>
+            val rs = connection.createStatement.executeQuery("select count(*) from test")
+            rs.next()
+            rs.getInt(1)
+          }
+          Await.result(count, 10.seconds) must_== 1
+        } finally ec.shutdown()
+      }
+    }
+  }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright (C) from 2022 The Play Framework Contributors <https://github.com/playframework>, 2011-2021 Lightbend Inc. <https://www.lightbend.com>
+ */
+
+package play.api.db
+
+import java.sql.Connection
+
+import com.typesafe.config.Config
+import org.specs2.mutable.Specification
+import play.api.Configuration
+import play.api.Environment
+
+class RoutingDatabaseSpec extends Specification {
+  sequential
+
+  def config(settings: (String, Any)*): Config =
+    Configuration
+      .from(Map("driver" -> "org.h2.Driver", "url" -> "jdbc:h2:mem:primary;DB_CLOSE_DELAY=-1") ++ settings)
+      .withFallback(Configuration.reference.get[Configuration]("play.db.prototype"))
+      .underlying
+
+  def withRoutingDatabase[A](settings: (String, Any)*)(block: RoutingDatabase => A): A = {
+    val environment = Environment.simple()
+    val db          = new RoutingDatabase("default", config(settings*), environment, new HikariCPConnectionPool(environment))
+    try block(db)
+    finally db.shutdown()
+  }
+
+  def location(connection: Connection): String = {
+    val rs = connection.createStatement.executeQuery("select name from location")
+    rs.next()
+    rs.getString(1)
+  }
+
+  def setup(db: Database, name: String): Unit = db.withConnection { c =>
+    c.createStatement.execute("create table if not exists location (name varchar(255))")
+    c.createStatement.execute("delete from location")
+    c.createStatement.execute(s"insert into location values ('$name')")
+  }
+
+  "RoutingDatabase" should {
+    "send read-write connections to the primary and read-only connections to replicas" in {
+      withRoutingDatabase("replicas.r1.url" -> "jdbc:h2:mem:replica1;DB_CLOSE_DELAY=-1") { db =>
+        setup(db, "primary")
+        setup(db.replicas.head, "r1")
+
+        db.withConnection(location) must_== "primary"
+        db.withConnection(autocommit = true, readOnly = true)(location) must_== "r1"
+        db.withConnection(autocommit = true, readOnly = false)(location) must_== "primary"
+      }
+    }
+
+    "send read-only connections to replicas through the Database API" in {
+      withRoutingDatabase("replicas.r1.url" -> "jdbc:h2:mem:replica1;DB_CLOSE_DELAY=-1") { routing =>
+        val db: Database = routing
+        setup(db, "primary")
+        setup(routing.replicas.head, "r1")
+
+        db.withConnection(autocommit = true, readOnly = true)(location) must_== "r1"
+        val connection = db.getConnection(autocommit = true, readOnly = true)
+        try location(connection) must_== "r1"
+        finally connection.close()
+      }
+    }
+
+    "use replicas in turn with round-robin selection" in {
+      withRoutingDatabase(
+        "replicas.r1.url" -> "jdbc:h2:mem:replica1;DB_CLOSE_DELAY=-1",
+        "replicas.r2.url" -> "jdbc:h2:mem:replica2;DB_CLOSE_DELAY=-1"
+      ) { db =>
+        db.replicas.zip(Seq("r1", "r2")).foreach { case (replica, name) => setup(replica, name) }
+
+        val locations = (1 to 4).map(_ => db.withConnection(autocommit = true, readOnly = true)(location))
+        locations.toSet must_== Set("r1", "r2")
+        locations.sliding(2).forall { case Seq(a, b) => a != b } must beTrue
+      }
+    }
+
+    "prefer the replica with the fewest outstanding connections" in {
+      withRoutingDatabase(
+        "replicaSelection" -> "least-outstanding",
+        "replicas.r1.url"  -> "jdbc:h2:mem:replica1;DB_CLOSE_DELAY=-1",
+        "replicas.r2.url"  -> "jdbc:h2:mem:replica2;DB_CLOSE_DELAY=-1"
+      ) { db =>
+        db.replicas.zip(Seq("r1", "r2")).foreach { case (replica, name) => setup(replica, name) }
+
+        val held = db.getConnection(autocommit = true, readOnly = true)
+        try {
+          val first = location(held)
+          db.withConnection(autocommit = true, readOnly = true)(location) must_!= first
+        } finally held.close()
+      }
+    }
+
+    "fail over to the primary when no replica is available" in {
+      withRoutingDatabase(
+        "replicas.r1.url"                        -> "jdbc:h2:tcp://localhost:1/unavailable",
+        "replicas.r1.hikaricp.connectionTimeout" -> "250 millis"
+      ) { db =>
+        setup(db, "primary")
+        db.withConnection(autocommit = true, readOnly = true)(location) must_== "primary"
+      }
+    }
+
+    "keep a replica whose connections are all in use" in {
+      withRoutingDatabase(
+        "replicas.r1.url"                        -> "jdbc:h2:mem:replica1;DB_CLOSE_DELAY=-1",
+        "replicas.r1.hikaricp.maximumPoolSize"   -> 1,
+        "replicas.r1.hikaricp.connectionTimeout" -> "250 millis"
+      ) { db =>
+        setup(db, "primary")
+        setup(db.replicas.head, "r1")
+
+        db.withConnection(autocommit = true, readOnly = true) { _ =>
+          db.withConnection(autocommit = true, readOnly = true)(location) must_== "primary"
+        }
+        db.withConnection(autocommit = true, readOnly = true)(location) must_== "r1"
+      }
+    }
+  }
+
+  "DefaultConnectionPoolMetrics" should {
+    "report the pools of the primary and replicas" in {
+      withRoutingDatabase("replicas.r1.url" -> "jdbc:h2:mem:replica1;DB_CLOSE_DELAY=-1") { db =>
+        setup(db, "primary")
+        val metrics = new DefaultConnectionPoolMetrics(new DBApi {
+          def databases(): Seq[Database]       = Seq(db)
+          def database(name: String): Database = db
+          def shutdown(): Unit                 = ()
+        })
+
+        val pools = metrics.pools
+        pools.map(_.database) must_== Seq("default", "default.r1")
+        pools.head.acquireTime.count must beGreaterThan(0L)
+      }
+    }
+  }
+}
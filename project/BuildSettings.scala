@@ -683,6 +683,37 @@ object BuildSettings {
       ),
       ProblemFilters.exclude[ReversedMissingMethodProblem]("play.api.mvc.RequestHeader.clientCertificate"),
       ProblemFilters.exclude[ReversedMissingMethodProblem]("play.api.mvc.RequestHeader.xForwardedClientCertificates"),
+      // Add precompileChains to ActionCompositionConfiguration to compile Java action composition chains once per route
+      ProblemFilters.exclude[DirectMissingMethodProblem]("play.api.http.ActionCompositionConfiguration.apply"),
+      ProblemFilters.exclude[DirectMissingMethodProblem]("play.api.http.ActionCompositionConfiguration.copy"),
+      ProblemFilters.exclude[DirectMissingMethodProblem]("play.api.http.ActionCompositionConfiguration.this"),
+      ProblemFilters.exclude[IncompatibleResultTypeProblem]("play.api.http.ActionCompositionConfiguration.unapply"),
+      ProblemFilters.exclude[MissingTypesProblem]("play.api.http.ActionCompositionConfiguration$"),
+      // Add a request timing listener to report the stages of the server pipeline
+      ProblemFilters.exclude[ReversedMissingMethodProblem]("play.api.BuiltInComponents.requestTimingListener"),
+      // Add a file region HttpEntity that server backends can send straight from the file
+      ProblemFilters.exclude[DirectMissingMethodProblem]("play.core.server.netty.NettyModelConversion.convertResult"),
+      // Let requests send 103 Early Hints responses
+      ProblemFilters.exclude[ReversedMissingMethodProblem]("play.api.mvc.RequestHeader.sendEarlyHints"),
+      ProblemFilters.exclude[ReversedMissingMethodProblem]("play.mvc.Http#RequestHeader.sendEarlyHints"),
+      // Add the values computed by file part inspectors to the attributes of file parts
+      ProblemFilters.exclude[DirectMissingMethodProblem]("play.api.mvc.MultipartFormData#FilePart.apply"),
+      ProblemFilters.exclude[DirectMissingMethodProblem]("play.api.mvc.MultipartFormData#FilePart.copy"),
+      ProblemFilters.exclude[DirectMissingMethodProblem]("play.api.mvc.MultipartFormData#FilePart.this"),
+      ProblemFilters.exclude[IncompatibleResultTypeProblem]("play.api.mvc.MultipartFormData#FilePart.unapply"),
+      // Let temporary file creators scope the files they create to a request
+      ProblemFilters.exclude[ReversedMissingMethodProblem]("play.api.libs.Files#TemporaryFileCreator.forRequest"),
+      // Expose the deadline of requests
+      ProblemFilters.exclude[ReversedMissingMethodProblem]("play.api.mvc.RequestHeader.deadline"),
+      ProblemFilters.exclude[ReversedMissingMethodProblem]("play.api.mvc.RequestHeader.remainingTime"),
+      ProblemFilters.exclude[ReversedMissingMethodProblem]("play.mvc.Http#RequestHeader.remainingTime"),
+      // Let every database hand out read-only connections, from a read replica when it has one
+      ProblemFilters.exclude[ReversedMissingMethodProblem]("play.api.db.Database.getConnection"),
+      ProblemFilters.exclude[ReversedMissingMethodProblem]("play.api.db.Database.withConnection"),
+      ProblemFilters.exclude[ReversedMissingMethodProblem]("play.db.Database.getConnection"),
+      ProblemFilters.exclude[ReversedMissingMethodProblem]("play.db.Database.withConnection"),
+      // Check the evolutions of several databases concurrently
+      ProblemFilters.exclude[ReversedMissingMethodProblem]("play.api.db.evolutions.EvolutionsConfig.parallelism"),
     ),
     (Compile / unmanagedSourceDirectories) += {
       val suffix = CrossVersion.partialVersion(scalaVersion.value) match {
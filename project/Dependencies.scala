@@ -160,6 +160,7 @@ object Dependencies {
     "org.playframework.netty" % "netty-reactive-streams-http" % "3.1.0-M1",
     "io.netty"                % "netty-codec-http"            % nettyVersion, // increases transitive Netty dependency version ...
     "io.netty"                % "netty-handler"               % nettyVersion, // ... pulled in by netty-reactive-streams-http
+    "io.netty"                % "netty-codec-http2"           % nettyVersion,
   ) ++
     // Provide Netty's Linux and macOS/BSD native transport dependencies. Netty automatically loads the correct native library
     // depending on the architecture; the ones that don't match are simply ignored.
@@ -35,6 +35,14 @@ import io.netty.channel.uring.IoUringIoHandler
 import io.netty.channel.uring.IoUringServerSocketChannel
 import io.netty.handler.codec.compression.ZlibCodecFactory
 import io.netty.handler.codec.http._
+import io.netty.handler.codec.http2.Http2CodecUtil
+import io.netty.handler.codec.http2.Http2FrameCodec
+import io.netty.handler.codec.http2.Http2FrameCodecBuilder
+import io.netty.handler.codec.http2.Http2MultiplexHandler
+import io.netty.handler.codec.http2.Http2ServerUpgradeCodec
+import io.netty.handler.codec.http2.Http2Settings
+import io.netty.handler.codec.http2.Http2StreamChannel
+import io.netty.handler.codec.http2.Http2StreamFrameToHttpObjectCodec
 import io.netty.handler.codec.http.websocketx.extensions.compression.PerMessageDeflateServerExtensionHandshaker
 import io.netty.handler.codec.http.websocketx.extensions.WebSocketExtensionFilter
 import io.netty.handler.codec.http.websocketx.extensions.WebSocketExtensionFilterProvider
@@ -44,7 +52,9 @@ import io.netty.handler.codec.http.websocketx.TextWebSocketFrame
 import io.netty.handler.logging.LogLevel
 import io.netty.handler.logging.LoggingHandler
 import io.netty.handler.ssl.SslHandler
+import io.netty.handler.stream.ChunkedWriteHandler
 import io.netty.handler.timeout.IdleStateHandler
+import io.netty.util.AsciiString
 import org.apache.pekko.actor.ActorSystem
 import org.apache.pekko.actor.CoordinatedShutdown
 import org.apache.pekko.stream.scaladsl.Sink
@@ -172,6 +182,13 @@ class NettyServer(
     }
   private val deferBodyParsing = serverConfig.underlying.getBoolean("deferBodyParsing")
 
+  private val http2Config               = nettyConfig.get[Configuration]("http2")
+  private val http2Enabled              = http2Config.get[Boolean]("enabled")
+  private val http2Cleartext            = http2Config.get[Boolean]("cleartext")
+  private val http2MaxConcurrentStreams = http2Config.get[Long]("maxConcurrentStreams")
+  private val http2InitialWindowSize    =
+    getMemorySizeAsInt(http2Config, "initialWindowSize", "play.server.netty.http2.initialWindowSize")
+
   private lazy val osName                   = sys.props("os.name").toLowerCase(Locale.ENGLISH)
   private lazy val isWindows: Boolean       = osName.contains("windows")
   private lazy val isMac: Boolean           = osName.contains("mac")
@@ -354,7 +371,7 @@ class NettyServer(
     val bytes = config.get[ConfigMemorySize](path).toBytes
     if (bytes > Int.MaxValue) {
       throw ServerStartException(
-        s"Netty WebSocket compression configuration value $displayPath must be <= ${Int.MaxValue} bytes, but was $bytes bytes"
+        s"Netty configuration value $displayPath must be <= ${Int.MaxValue} bytes, but was $bytes bytes"
       )
     }
     bytes.toInt
@@ -405,7 +422,7 @@ class NettyServer(
       setOptions(connChannel.config().setOption, channelOption)
 
       val pipeline = connChannel.pipeline()
-      if (secure) {
+      val ssl      = if (secure) {
         sslEngineProvider.map { sslEngineProvider =>
           val sslEngine = sslEngineProvider.createSSLEngine()
           sslEngine.setUseClientMode(false)
@@ -415,46 +432,205 @@ class NettyServer(
           if (httpsNeedClientAuth) {
             sslEngine.setNeedClientAuth(true)
           }
+          if (http2Enabled) {
+            val parameters = sslEngine.getSSLParameters
+            parameters.setApplicationProtocols(Array(NettyHttp2.AlpnProtocol, NettyHttp2.AlpnHttp11Protocol))
+            sslEngine.setSSLParameters(parameters)
+          }
           pipeline.addLast("ssl", new SslHandler(sslEngine))
         }
+      } else None
+
+      if (ssl.isDefined && http2Enabled) {
+        // The protocol is only known once it has been negotiated during the TLS handshake
+        pipeline.addLast(
+          "alpn",
+          new NettyHttp2.AlpnHandler({
+            case NettyHttp2.AlpnProtocol => addHttp2Handlers(pipeline, port, secure)
+            case _                       => addHttp1Handlers(pipeline, port, secure, cleartextUpgrade = false)
+          })
+        )
+      } else if (!secure && http2Enabled && http2Cleartext) {
+        pipeline.addLast(
+          "h2c-prior-knowledge",
+          new NettyHttp2.PriorKnowledgeHandler(() => upgradeToHttp2(pipeline, port, secure))
+        )
+        addHttp1Handlers(pipeline, port, secure, cleartextUpgrade = true)
+      } else {
+        addHttp1Handlers(pipeline, port, secure, cleartextUpgrade = false)
       }
 
-      // Netty HTTP decoders/encoders/etc
-      pipeline.addLast("encoder", new PlayHttpResponseEncoder())
-      // The WebSocket handshaker installs its frame encoder before this HTTP encoder. Keeping the HTTP encoder before
-      // the decoder ensures decoder-generated protocol-error Close frames pass through the WebSocket encoder.
-      pipeline.addLast("decoder", new HttpRequestDecoder(maxInitialLineLength, maxHeaderSize, maxChunkSize))
-      pipeline.addLast("decompressor", new HttpContentDecompressor(0))
-      newWebSocketCompressionHandler().foreach(pipeline.addLast("ws-compressor", _))
-      if (logWire) {
-        pipeline.addLast("logging", new LoggingHandler(LogLevel.DEBUG))
-      }
+      // And finally, register the channel with the event loop
+      val childChannelEventLoop = eventLoop.next()
+      childChannelEventLoop.register(connChannel)
+      allChannels.add(connChannel)
+    }
+  }
+
+  /**
+   * Add the handlers serving HTTP/1.x to the pipeline of a connection.
+   *
+   * @param cleartextUpgrade Whether the connection can be upgraded to cleartext HTTP/2 with an `Upgrade: h2c` request.
+   */
+  private def addHttp1Handlers(
+      pipeline: ChannelPipeline,
+      port: Int,
+      secure: Boolean,
+      cleartextUpgrade: Boolean
+  ): Unit = {
+    // Netty HTTP decoders/encoders/etc
+    pipeline.addLast("encoder", new PlayHttpResponseEncoder())
+    if (secure) {
+      // Files can't be sent with sendfile through TLS, they are written in chunks instead
+      pipeline.addLast("chunked-writer", new ChunkedWriteHandler())
+    }
+    // The WebSocket handshaker installs its frame encoder before this HTTP encoder. Keeping the HTTP encoder before
+    // the decoder ensures decoder-generated protocol-error Close frames pass through the WebSocket encoder.
+    pipeline.addLast("decoder", new HttpRequestDecoder(maxInitialLineLength, maxHeaderSize, maxChunkSize))
+    if (cleartextUpgrade) {
+      pipeline.addLast("h2c-upgrade", newCleartextUpgradeHandler(pipeline, port, secure))
+    }
+    pipeline.addLast("decompressor", new HttpContentDecompressor(0))
+    newWebSocketCompressionHandler().foreach(pipeline.addLast("ws-compressor", _))
+    connectionHandlers(port, secure).foreach { case (name, handler) => pipeline.addLast(name, handler) }
 
-      val idleTimeout = if (secure) httpsIdleTimeout else httpIdleTimeout
-      idleTimeout match {
-        case Duration.Inf                => // Do nothing, in other words, don't set any timeout.
-        case Duration(timeout, timeUnit) =>
-          logger.trace(s"using idle timeout of $timeout $timeUnit on port $port")
-          // only timeout if both reader and writer have been idle for the specified time
-          pipeline.addLast("idle-handler", new IdleStateHandler(0, 0, timeout, timeUnit))
-          pipeline.addLast("idle-handler-play", new NettyIdleHandler())
+    // Writes 103 Early Hints responses in between the responses of the streams handler
+    pipeline.addLast("early-hints", new EarlyHintsHandler())
+
+    val requestHandler = newRequestHandler()
+
+    // Use the streams handler to close off the connection.
+    pipeline.addLast("http-handler", new HttpStreamsServerHandler(Seq[ChannelHandler](requestHandler).asJava))
+
+    pipeline.addLast("request-handler", requestHandler)
+  }
+
+  /**
+   * The handlers logging the wire and closing idle connections, which see every message read from or written to the
+   * connection, whatever its protocol.
+   */
+  private def connectionHandlers(port: Int, secure: Boolean): Seq[(String, ChannelHandler)] = {
+    val logging: Seq[(String, ChannelHandler)] =
+      if (logWire) Seq("logging" -> new LoggingHandler(LogLevel.DEBUG)) else Nil
+
+    val idleTimeout = if (secure) httpsIdleTimeout else httpIdleTimeout
+    val idle: Seq[(String, ChannelHandler)] = idleTimeout match {
+      case Duration.Inf                => Nil // Do nothing, in other words, don't set any timeout.
+      case Duration(timeout, timeUnit) =>
+        logger.trace(s"using idle timeout of $timeout $timeUnit on port $port")
+        // only timeout if both reader and writer have been idle for the specified time
+        Seq(
+          "idle-handler"      -> new IdleStateHandler(0, 0, timeout, timeUnit),
+          "idle-handler-play" -> new NettyIdleHandler()
+        )
+    }
+    logging ++ idle
+  }
+
+  /**
+   * Add the handlers serving HTTP/2 to the pipeline of a connection. Each stream gets its own channel, whose pipeline
+   * serves its request like an HTTP/1.1 connection serving a single request.
+   */
+  private def addHttp2Handlers(pipeline: ChannelPipeline, port: Int, secure: Boolean): Unit = {
+    connectionHandlers(port, secure).foreach { case (name, handler) => pipeline.addLast(name, handler) }
+    pipeline.addLast("http2-codec", newHttp2FrameCodec())
+    pipeline.addLast("http2-multiplexer", newHttp2MultiplexHandler())
+    startReadingHttp2(pipeline.channel())
+  }
+
+  private def newHttp2FrameCodec(): Http2FrameCodec =
+    Http2FrameCodecBuilder
+      .forServer()
+      .initialSettings(
+        Http2Settings
+          .defaultSettings()
+          .maxConcurrentStreams(http2MaxConcurrentStreams)
+          .initialWindowSize(http2InitialWindowSize)
+          .maxHeaderListSize(maxHeaderSize.toLong)
+      )
+      .build()
+
+  private def newHttp2MultiplexHandler(): Http2MultiplexHandler =
+    new Http2MultiplexHandler(new ChannelInitializer[Http2StreamChannel] {
+      override def initChannel(stream: Http2StreamChannel): Unit = {
+        // The request handler reads the frames of the stream when it's ready for them
+        stream.config().setOption(ChannelOption.AUTO_READ, java.lang.Boolean.FALSE)
+        val pipeline = stream.pipeline()
+        pipeline.addLast("http2-stream-codec", new Http2StreamFrameToHttpObjectCodec(true))
+        pipeline.addLast("http2-stream-adapter", new NettyHttp2.StreamAdapter())
+        // Files can't be sent with sendfile in the frames of a stream, they are written in chunks instead
+        pipeline.addLast("chunked-writer", new ChunkedWriteHandler())
+        pipeline.addLast("decompressor", new HttpContentDecompressor(0))
+        val requestHandler = newRequestHandler()
+        pipeline.addLast("http-handler", new HttpStreamsServerHandler(Seq[ChannelHandler](requestHandler).asJava))
+        pipeline.addLast("request-handler", requestHandler)
       }
+    })
 
-      val requestHandler = newRequestHandler()
+  /**
+   * The connection reads frames as they come, so that the streams are served concurrently. HTTP/2 flow control stops
+   * the client from sending the body of a request faster than its stream reads it.
+   */
+  private def startReadingHttp2(channel: Channel): Unit =
+    channel.config().setOption(ChannelOption.AUTO_READ, java.lang.Boolean.TRUE)
 
-      // Use the streams handler to close off the connection.
-      pipeline.addLast("http-handler", new HttpStreamsServerHandler(Seq[ChannelHandler](requestHandler).asJava))
+  /** Replace the handlers serving HTTP/1.x of a cleartext connection by the handlers serving HTTP/2. */
+  private def upgradeToHttp2(pipeline: ChannelPipeline, port: Int, secure: Boolean): Unit = {
+    removeHttp1Handlers(pipeline)
+    addHttp2Handlers(pipeline, port, secure)
+  }
 
-      pipeline.addLast("request-handler", requestHandler)
+  private def removeHttp1Handlers(pipeline: ChannelPipeline): Unit =
+    Seq(
+      "encoder",
+      "decoder",
+      "decompressor",
+      "ws-compressor",
+      "logging",
+      "idle-handler",
+      "idle-handler-play",
+      "early-hints",
+      "http-handler",
+      "request-handler"
+    ).foreach(name => if (pipeline.get(name) != null) pipeline.remove(name))
 
-      // And finally, register the channel with the event loop
-      val childChannelEventLoop = eventLoop.next()
-      childChannelEventLoop.register(connChannel)
-      allChannels.add(connChannel)
+  /**
+   * Upgrade a cleartext connection to HTTP/2 when a request without a body asks for it with `Upgrade: h2c`. The
+   * request is then served as the first stream of the connection.
+   */
+  private def newCleartextUpgradeHandler(pipeline: ChannelPipeline, port: Int, secure: Boolean): ChannelHandler = {
+    val sourceCodec: HttpServerUpgradeHandler.SourceCodec = _ => removeHttp1Handlers(pipeline)
+    val upgradeCodecFactory: HttpServerUpgradeHandler.UpgradeCodecFactory = protocol =>
+      if (AsciiString.contentEquals(Http2CodecUtil.HTTP_UPGRADE_PROTOCOL_NAME, protocol)) {
+        new HttpServerUpgradeHandler.UpgradeCodec {
+          private val http2 = new Http2ServerUpgradeCodec(newHttp2FrameCodec(), newHttp2MultiplexHandler())
+
+          override def requiredUpgradeHeaders(): java.util.Collection[CharSequence] = http2.requiredUpgradeHeaders()
+
+          override def prepareUpgradeResponse(
+              ctx: ChannelHandlerContext,
+              upgradeRequest: FullHttpRequest,
+              upgradeHeaders: HttpHeaders
+          ): Boolean = http2.prepareUpgradeResponse(ctx, upgradeRequest, upgradeHeaders)
+
+          override def upgradeTo(ctx: ChannelHandlerContext, upgradeRequest: FullHttpRequest): Unit = {
+            // The HTTP/2 handlers are added after the upgrade handler, the connection handlers go before them
+            connectionHandlers(port, secure).foreach {
+              case (name, handler) => pipeline.addBefore(ctx.name(), name, handler)
+            }
+            http2.upgradeTo(ctx, upgradeRequest)
+            startReadingHttp2(pipeline.channel())
+          }
+        }
+      } else null
+    // Upgrading the connection needs the whole request, which is only read when it has no body
+    new HttpServerUpgradeHandler(sourceCodec, upgradeCodecFactory) {
+      protected override def shouldHandleUpgradeRequest(request: HttpRequest): Boolean =
+        !HttpUtil.isTransferEncodingChunked(request) && HttpUtil.getContentLength(request, 0L) == 0L &&
+          super.shouldHandleUpgradeRequest(request)
     }
   }
 
-  // Maybe the HTTP server channel
   private val httpChannel = config.port.map(bindChannel(_, secure = false))
 
   // Maybe the HTTPS server channel
@@ -616,7 +792,40 @@ class NettyServer(
       )
     )
 
-  override val serverEndpoints: ServerEndpoints = ServerEndpoints(Http1Plain.toSeq ++ Http1Encrypted.toSeq)
+  private lazy val Http2Plain = httpChannel
+    .map(_.localAddress().asInstanceOf[InetSocketAddress])
+    .map(address =>
+      ServerEndpoint(
+        description = "Netty HTTP/2 (plaintext)",
+        scheme = "http",
+        host = config.address,
+        port = address.getPort,
+        protocols = Set(HttpProtocol.HTTP_1_0, HttpProtocol.HTTP_1_1, HttpProtocol.HTTP_2_0),
+        serverAttribute = serverHeader,
+        ssl = None
+      )
+    )
+
+  private lazy val Http2Encrypted = httpsChannel
+    .map(_.localAddress().asInstanceOf[InetSocketAddress])
+    .map(address =>
+      ServerEndpoint(
+        description = "Netty HTTP/2 (encrypted)",
+        scheme = "https",
+        host = config.address,
+        port = address.getPort,
+        protocols = Set(HttpProtocol.HTTP_1_0, HttpProtocol.HTTP_1_1, HttpProtocol.HTTP_2_0),
+        serverAttribute = serverHeader,
+        ssl = sslEngineProvider.map(_.sslContext())
+      )
+    )
+
+  override val serverEndpoints: ServerEndpoints = {
+    val httpEndpoint  = if (http2Enabled && http2Cleartext) Http2Plain else Http1Plain
+    val httpsEndpoint = if (http2Enabled) Http2Encrypted else Http1Encrypted
+
+    ServerEndpoints(httpEndpoint.toSeq ++ httpsEndpoint.toSeq)
+  }
 }
 
 /**
@@ -0,0 +1,75 @@
+/*
+ * Copyright (C) from 2022 The Play Framework Contributors <https://github.com/playframework>, 2011-2021 Lightbend Inc. <https://www.lightbend.com>
+ */
+
+package play.core.server.netty
+
+import io.netty.buffer.Unpooled
+import io.netty.channel.ChannelHandlerContext
+import io.netty.channel.ChannelOutboundHandlerAdapter
+import io.netty.channel.ChannelPromise
+import io.netty.handler.codec.http.DefaultFullHttpResponse
+import io.netty.handler.codec.http.FullHttpResponse
+import io.netty.handler.codec.http.HttpResponse
+import io.netty.handler.codec.http.HttpResponseStatus
+import io.netty.handler.codec.http.HttpStatusClass
+import io.netty.handler.codec.http.HttpVersion
+import io.netty.handler.codec.http.LastHttpContent
+import play.api.mvc.EarlyHints
+
+/**
+ * Writes `103 Early Hints` responses in between the responses written by the `HttpStreamsServerHandler`.
+ *
+ * An informational response belongs to the next final response written on the connection, so hints for a request
+ * are only written once all the responses to the earlier requests of the connection have been written completely,
+ * and before the response to the request has started. Otherwise they are dropped, which is allowed since they are
+ * only hints. The state is only accessed on the channel's event loop.
+ */
+private[server] final class EarlyHintsHandler extends ChannelOutboundHandlerAdapter {
+  import EarlyHintsHandler._
+
+  private var context: ChannelHandlerContext = null
+  private var responsesCompleted: Long       = 0L
+  private var responseInProgress: Boolean    = false
+
+  override def handlerAdded(ctx: ChannelHandlerContext): Unit = context = ctx
+
+  override def write(ctx: ChannelHandlerContext, msg: AnyRef, promise: ChannelPromise): Unit = {
+    msg match {
+      case response: HttpResponse if response.status.codeClass == HttpStatusClass.INFORMATIONAL =>
+      // A full response is complete as soon as it has been written
+      case _: FullHttpResponse =>
+        responsesCompleted += 1
+      case _: HttpResponse =>
+        responseInProgress = true
+      case _: LastHttpContent =>
+        responseInProgress = false
+        responsesCompleted += 1
+      case _ =>
+    }
+    ctx.write(msg, promise)
+  }
+
+  /**
+   * Creates the [[EarlyHints]] of a request.
+   *
+   * @param requestNumber The number of the request on this connection, starting from 1.
+   */
+  def earlyHints(requestNumber: Long): EarlyHints = new EarlyHints {
+    override def send(headers: Seq[(String, String)]): Unit = {
+      // Build the response on the calling thread, so invalid headers are reported to the caller
+      val response = new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, EarlyHintsStatus, Unpooled.EMPTY_BUFFER)
+      headers.foreach { case (name, value) => response.headers().add(name, value) }
+      val ctx = context
+      ctx.executor().execute { () =>
+        if (responsesCompleted == requestNumber - 1 && !responseInProgress && ctx.channel().isActive) {
+          ctx.writeAndFlush(response)
+        }
+      }
+    }
+  }
+}
+
+private object EarlyHintsHandler {
+  private val EarlyHintsStatus = new HttpResponseStatus(103, "Early Hints")
+}
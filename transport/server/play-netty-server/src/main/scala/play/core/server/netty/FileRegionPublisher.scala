@@ -0,0 +1,80 @@
+/*
+ * Copyright (C) from 2022 The Play Framework Contributors <https://github.com/playframework>, 2011-2021 Lightbend Inc. <https://www.lightbend.com>
+ */
+
+package play.core.server.netty
+
+import java.nio.channels.FileChannel
+import java.util.concurrent.atomic.AtomicBoolean
+
+import scala.util.control.NonFatal
+
+import io.netty.channel.DefaultFileRegion
+import io.netty.handler.stream.ChunkedNioFile
+import org.reactivestreams.Publisher
+import org.reactivestreams.Subscriber
+import org.reactivestreams.Subscription
+import play.api.http.HttpEntity
+
+/**
+ * Publishes a file region entity as a single message, to be written by Netty after the response headers.
+ *
+ * On plaintext connections the message is a Netty `FileRegion`, which the transport sends with `sendfile` where it
+ * can. On TLS connections the file has to pass through the `SslHandler`, so the message is a `ChunkedInput` that is
+ * read by the `ChunkedWriteHandler`. Either way the entity's `onClose` is called once Netty releases the message, or
+ * straight away if the subscription is cancelled before it is published.
+ */
+private[netty] final class FileRegionPublisher(entity: HttpEntity.FileRegion, zeroCopy: Boolean)
+    extends Publisher[AnyRef] {
+  import FileRegionPublisher._
+
+  override def subscribe(subscriber: Subscriber[? >: AnyRef]): Unit = {
+    val done = new AtomicBoolean()
+    subscriber.onSubscribe(new Subscription {
+      override def request(n: Long): Unit =
+        if (n <= 0) {
+          if (done.compareAndSet(false, true)) {
+            entity.onClose()
+            subscriber.onError(new IllegalArgumentException(s"Rule 3.9: request must be positive, but was $n"))
+          }
+        } else if (done.compareAndSet(false, true)) {
+          val message =
+            try {
+              if (zeroCopy) new ClosingFileRegion(entity) else new ClosingChunkedFile(entity)
+            } catch {
+              case NonFatal(e) =>
+                entity.onClose()
+                subscriber.onError(e)
+                null
+            }
+          if (message != null) {
+            subscriber.onNext(message)
+            subscriber.onComplete()
+          }
+        }
+
+      override def cancel(): Unit = if (done.compareAndSet(false, true)) entity.onClose()
+    })
+  }
+
+  override def toString = s"FileRegionPublisher(${entity.path}, ${entity.offset}, ${entity.length})"
+}
+
+private object FileRegionPublisher {
+
+  /** A file region that opens the file lazily, and calls `onClose` once it has been released. */
+  private final class ClosingFileRegion(entity: HttpEntity.FileRegion)
+      extends DefaultFileRegion(entity.path.toFile, entity.offset, entity.length) {
+    override protected def deallocate(): Unit =
+      try super.deallocate()
+      finally entity.onClose()
+  }
+
+  /** A chunked file that calls `onClose` once it has been closed. */
+  private final class ClosingChunkedFile(entity: HttpEntity.FileRegion)
+      extends ChunkedNioFile(FileChannel.open(entity.path), entity.offset, entity.length, 8192) {
+    override def close(): Unit =
+      try super.close()
+      finally entity.onClose()
+  }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright (C) from 2022 The Play Framework Contributors <https://github.com/playframework>, 2011-2021 Lightbend Inc. <https://www.lightbend.com>
+ */
+
+package play.core.server.netty
+
+import java.util.{ List => JList }
+
+import scala.collection.mutable
+import scala.jdk.CollectionConverters._
+
+import io.netty.buffer.ByteBuf
+import io.netty.buffer.ByteBufUtil
+import io.netty.channel.Channel
+import io.netty.channel.ChannelDuplexHandler
+import io.netty.channel.ChannelHandlerContext
+import io.netty.channel.ChannelInboundHandlerAdapter
+import io.netty.channel.ChannelPromise
+import io.netty.handler.codec.http.DefaultHttpContent
+import io.netty.handler.codec.http.HttpRequest
+import io.netty.handler.codec.http.HttpVersion
+import io.netty.handler.codec.http2.Http2CodecUtil
+import io.netty.handler.codec.http2.Http2StreamChannel
+import io.netty.handler.codec.ByteToMessageDecoder
+import io.netty.handler.ssl.SslHandler
+import io.netty.handler.ssl.SslHandshakeCompletionEvent
+import io.netty.util.ReferenceCountUtil
+import play.api.Logger
+
+/**
+ * Support for serving HTTP/2 connections with the Netty server.
+ *
+ * Each stream of an HTTP/2 connection is a child channel of the connection's channel, whose pipeline converts the
+ * frames of the stream to the HTTP/1.1 messages handled by the `HttpStreamsServerHandler` and [[PlayRequestHandler]],
+ * so a stream is handled like a connection serving a single request. A stream only reads its frames when its request
+ * handler asks for them, and HTTP/2 flow control only lets the client send more data on a stream once it has been
+ * read, so a slow request body doesn't hold back the other streams of its connection.
+ */
+private[server] object NettyHttp2 {
+
+  /** The version of the requests made over HTTP/2. */
+  val Version: HttpVersion = new HttpVersion("HTTP", 2, 0, true)
+
+  /** The ALPN identifier of HTTP/2 over TLS. */
+  val AlpnProtocol = "h2"
+
+  /** The ALPN identifier of HTTP/1.1. */
+  val AlpnHttp11Protocol = "http/1.1"
+
+  /**
+   * The channel of the connection of a channel: the connection's channel for an HTTP/2 stream, else the channel.
+   */
+  def connection(channel: Channel): Channel = channel match {
+    case stream: Http2StreamChannel => stream.parent()
+    case _                          => channel
+  }
+
+  /** The TLS handler of the connection of a channel, if the connection is encrypted. */
+  def sslHandler(channel: Channel): Option[SslHandler] =
+    Option(connection(channel).pipeline().get(classOf[SslHandler]))
+
+  /**
+   * Whether files can be written to a channel as `FileRegion`s, to be sent straight from the file system. They can't
+   * when they have to be encrypted, or split in the DATA frames of an HTTP/2 stream.
+   */
+  def canWriteFileRegions(channel: Channel): Boolean =
+    !channel.isInstanceOf[Http2StreamChannel] && sslHandler(channel).isEmpty
+
+  private val logger = Logger(getClass)
+
+  /**
+   * Configures the pipeline of a TLS connection for the protocol negotiated with ALPN once the handshake is done.
+   * The messages read before are passed on to the configured handlers.
+   *
+   * The `SslHandler` of the JDK's `SSLEngine` doesn't expose the negotiated protocol, so it is read from the engine.
+   *
+   * @param configure Configures the pipeline for the negotiated protocol, either [[AlpnProtocol]] or
+   *                  [[AlpnHttp11Protocol]] when the client doesn't support ALPN.
+   */
+  final class AlpnHandler(configure: String => Unit) extends ChannelInboundHandlerAdapter {
+    private val buffered = mutable.ArrayBuffer.empty[AnyRef]
+
+    override def channelActive(ctx: ChannelHandlerContext): Unit = {
+      ctx.fireChannelActive()
+      // AUTO_READ is off, so the handshake needs a first read. The SslHandler does the next reads of the handshake.
+      ctx.read()
+    }
+
+    override def channelRead(ctx: ChannelHandlerContext, msg: AnyRef): Unit = buffered += msg
+
+    override def userEventTriggered(ctx: ChannelHandlerContext, evt: AnyRef): Unit = evt match {
+      case handshake: SslHandshakeCompletionEvent if handshake.isSuccess =>
+        val protocol =
+          Option(ctx.pipeline().get(classOf[SslHandler]).engine().getApplicationProtocol)
+            .filter(_.nonEmpty)
+            .getOrElse(AlpnHttp11Protocol)
+        logger.trace(s"Negotiated $protocol with ${ctx.channel().remoteAddress()}")
+        val messages = buffered.toList
+        buffered.clear()
+        configure(protocol)
+        ctx.pipeline().remove(this)
+        messages.foreach(ctx.fireChannelRead)
+        if (messages.nonEmpty) ctx.fireChannelReadComplete()
+        // The handlers configured after the channel became active haven't done their first read
+        if (!ctx.channel().config().isAutoRead) ctx.read()
+      case handshake: SslHandshakeCompletionEvent =>
+        logger.trace(s"TLS handshake with ${ctx.channel().remoteAddress()} failed", handshake.cause())
+        ctx.close()
+      case _ =>
+        ctx.fireUserEventTriggered(evt)
+    }
+
+    override def handlerRemoved(ctx: ChannelHandlerContext): Unit = {
+      buffered.foreach(ReferenceCountUtil.release)
+      buffered.clear()
+    }
+  }
+
+  /**
+   * Detects the connection preface of a cleartext HTTP/2 connection whose client knows in advance that the server
+   * supports HTTP/2. When it's read, the pipeline is configured for HTTP/2, else the connection stays HTTP/1.1. The
+   * bytes read are then passed on.
+   *
+   * @param configure Configures the pipeline for HTTP/2.
+   */
+  final class PriorKnowledgeHandler(configure: () => Unit) extends ByteToMessageDecoder {
+    override def decode(ctx: ChannelHandlerContext, in: ByteBuf, out: JList[AnyRef]): Unit = {
+      val preface = Http2CodecUtil.connectionPrefaceBuf()
+      try {
+        val length = math.min(in.readableBytes(), preface.readableBytes())
+        if (!ByteBufUtil.equals(preface, preface.readerIndex(), in, in.readerIndex(), length)) {
+          ctx.pipeline().remove(this)
+        } else if (length == preface.readableBytes()) {
+          configure()
+          ctx.pipeline().remove(this)
+        }
+        // Otherwise wait for the rest of the preface
+      } finally preface.release()
+    }
+  }
+
+  /**
+   * Adapts the HTTP/1.1 messages converted from and to the frames of an HTTP/2 stream:
+   *
+   *  - requests get the HTTP/2 version, and lose the extension headers Netty adds when converting them.
+   *  - the chunks of a `ChunkedInput`, which are written as bytes, are written as the content of the response.
+   */
+  final class StreamAdapter extends ChannelDuplexHandler {
+    override def channelRead(ctx: ChannelHandlerContext, msg: AnyRef): Unit = {
+      msg match {
+        case request: HttpRequest =>
+          request.setProtocolVersion(Version)
+          val headers = request.headers()
+          headers.names().asScala.filter(_.regionMatches(true, 0, "x-http2-", 0, 8)).foreach(headers.remove)
+        case _ =>
+      }
+      ctx.fireChannelRead(msg)
+    }
+
+    override def write(ctx: ChannelHandlerContext, msg: AnyRef, promise: ChannelPromise): Unit = msg match {
+      case bytes: ByteBuf => ctx.write(new DefaultHttpContent(bytes), promise)
+      case _              => ctx.write(msg, promise)
+    }
+  }
+}
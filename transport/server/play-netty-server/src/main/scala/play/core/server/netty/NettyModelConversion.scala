@@ -20,7 +20,6 @@ import io.netty.buffer.ByteBuf
 import io.netty.buffer.Unpooled
 import io.netty.channel.Channel
 import io.netty.handler.codec.http._
-import io.netty.handler.ssl.SslHandler
 import io.netty.util.ReferenceCountUtil
 import org.apache.pekko.stream.scaladsl.Sink
 import org.apache.pekko.stream.scaladsl.Source
@@ -28,6 +27,7 @@ import org.apache.pekko.stream.Materializer
 import org.apache.pekko.util.ByteString
 import org.playframework.netty.http.DefaultStreamedHttpResponse
 import org.playframework.netty.http.StreamedHttpRequest
+import org.reactivestreams.Publisher
 import play.api.http.HeaderNames._
 import play.api.http.HttpChunk
 import play.api.http.HttpEntity
@@ -79,7 +79,7 @@ private[server] class NettyModelConversion(
   /** Capture immutable direct transport metadata from a request's channel. */
   private def createTransport(channel: Channel): TransportConnection = {
     val socketAddress = channel.remoteAddress().asInstanceOf[InetSocketAddress]
-    val tls           = Option(channel.pipeline().get(classOf[SslHandler])).map { handler =>
+    val tls           = NettyHttp2.sslHandler(channel).map { handler =>
       val peerCertificates = try {
         handler.engine.getSession.getPeerCertificates.toSeq.collect { case x509: X509Certificate => x509 }
       } catch {
@@ -241,12 +241,18 @@ private[server] class NettyModelConversion(
     bytes
   }
 
-  /** Create a Netty response from the result */
+  /**
+   * Create a Netty response from the result
+   *
+   * @param zeroCopy Whether file regions may be written as Netty `FileRegion`s, which is only possible when the
+   *                 connection isn't encrypted.
+   */
   def convertResult(
       result: Result,
       requestHeader: RequestHeader,
       httpVersion: HttpVersion,
-      errorHandler: HttpErrorHandler
+      errorHandler: HttpErrorHandler,
+      zeroCopy: Boolean
   )(implicit mat: Materializer): Future[HttpResponse] = {
     resultUtils.resultConversionWithErrorHandling(requestHeader, result, errorHandler) { result =>
       val responseStatus = result.header.reasonPhrase match {
@@ -270,10 +276,17 @@ private[server] class NettyModelConversion(
 
         case HttpEntity.Chunked(chunks, _) =>
           createChunkedResponse(chunks, httpVersion, responseStatus)
+
+        case region: HttpEntity.FileRegion if region.isKnownEmpty =>
+          region.onClose()
+          new DefaultFullHttpResponse(httpVersion, responseStatus, Unpooled.EMPTY_BUFFER)
+
+        case region: HttpEntity.FileRegion =>
+          createFileRegionResponse(region, httpVersion, responseStatus, zeroCopy)
       }
 
       // Set response headers
-      val headers = resultUtils.splitSetCookieHeaders(result.header.headers)
+      val headers = resultUtils.splitSetCookieHeaders(result.header.headerFields)
 
       headers.foreach {
         case (name, value) => response.headers().add(name, value)
@@ -357,6 +370,22 @@ private[server] class NettyModelConversion(
     new DefaultStreamedHttpResponse(httpVersion, responseStatus, publisher)
   }
 
+  /**
+   * Create a Netty response that sends a region of a file.
+   *
+   * The body is published as a single `FileRegion` or `ChunkedInput` message rather than `HttpContent`. The streams
+   * handler writes the messages of the body as they are, so they reach the HTTP encoder, which accepts both.
+   */
+  private def createFileRegionResponse(
+      region: HttpEntity.FileRegion,
+      httpVersion: HttpVersion,
+      responseStatus: HttpResponseStatus,
+      zeroCopy: Boolean
+  ) = {
+    val publisher = new FileRegionPublisher(region, zeroCopy).asInstanceOf[Publisher[HttpContent]]
+    new DefaultStreamedHttpResponse(httpVersion, responseStatus, publisher)
+  }
+
   /** Create a Netty chunked response. */
   private def createChunkedResponse(
       chunks: Source[HttpChunk, ?],
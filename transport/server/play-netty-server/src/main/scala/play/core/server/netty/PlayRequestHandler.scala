@@ -70,13 +70,18 @@ private[play] class PlayRequestHandler(
   // in.
   private var lastResponseSent: Future[Unit] = Future.successful(())
 
+  // The number of requests handled on this connection, only accessed on the channel's event loop. Every request gets
+  // exactly one final response, so this tells the EarlyHintsHandler which response early hints belong to.
+  private var requestsHandled: Long = 0L
+
   /**
    * Values that are cached based on the current application.
    */
   private case class ReloadCacheValues(
       resultUtils: ServerResultUtils,
       modelConversion: NettyModelConversion,
-      serverDebugInfo: Option[ServerDebugInfo]
+      serverDebugInfo: Option[ServerDebugInfo],
+      timingListener: RequestTimingListener
   )
 
   /**
@@ -96,7 +101,8 @@ private[play] class PlayRequestHandler(
       ReloadCacheValues(
         resultUtils = serverResultUtils,
         modelConversion = modelConversion,
-        serverDebugInfo = reloadDebugInfo(tryApp, NettyServer.provider)
+        serverDebugInfo = reloadDebugInfo(tryApp, NettyServer.provider),
+        timingListener = reloadRequestTimingListener(tryApp)
       )
     }
   }
@@ -111,13 +117,20 @@ private[play] class PlayRequestHandler(
    */
   def handle(channel: Channel, request: HttpRequest): Future[HttpResponse] = {
     logger.trace("Http request received by netty: " + request)
+    requestsHandled += 1
+    val requestNumber = requestsHandled
 
     import play.core.Execution.Implicits.trampoline
 
     val tryApp: Try[Application]       = server.applicationProvider.get
     val cacheValues: ReloadCacheValues = reloadCache.cachedFrom(tryApp)
 
-    val tryRequest: Try[RequestHeader] = cacheValues.modelConversion.convertRequest(channel, request)
+    val timingListener: RequestTimingListener = cacheValues.timingListener
+    val conversionStart                       = if (timingListener.enabled) System.nanoTime() else 0L
+    val tryRequest: Try[RequestHeader]        = cacheValues.modelConversion.convertRequest(channel, request)
+    if (timingListener.enabled) {
+      tryRequest.foreach(timingListener.onStage(_, RequestStage.ModelConversion, conversionStart, System.nanoTime()))
+    }
 
     // Helper to attach ServerDebugInfo attribute to a RequestHeader
     def attachDebugInfo(rh: RequestHeader): RequestHeader = {
@@ -190,15 +203,15 @@ private[play] class PlayRequestHandler(
             convertedRequestHeader = Some(untagged)
           )
         } else {
-          val debugHeader: RequestHeader = attachDebugInfo(untagged)
-          Server.getHandlerFor(debugHeader, tryApp, fallbackErrorHandler)
+          val debugHeader: RequestHeader = attachEarlyHints(channel, request, requestNumber, attachDebugInfo(untagged))
+          Server.getHandlerFor(debugHeader, tryApp, fallbackErrorHandler, timingListener)
         }
     }
 
     handler match {
       // execute normal action
       case action: EssentialAction =>
-        handleAction(action, requestHeader, request, tryApp, true)
+        handleAction(channel, action, requestHeader, request, tryApp, true)
 
       case ws: WebSocket if requestHeader.headers.get(HeaderNames.UPGRADE).exists(_.equalsIgnoreCase("websocket")) =>
         logger.trace("Serving this request with: " + ws)
@@ -216,7 +229,7 @@ private[play] class PlayRequestHandler(
             case Left(result) =>
               // WebSocket was rejected, send result
               val action = EssentialAction(_ => Accumulator.done(result))
-              handleAction(action, requestHeader, request, tryApp)
+              handleAction(channel, action, requestHeader, request, tryApp)
             case Right(accepted) =>
               WebSocket.validateSubprotocol(requestHeader, accepted.subprotocol)
               import app.materializer
@@ -256,7 +269,7 @@ private[play] class PlayRequestHandler(
             case error =>
               app.errorHandler.onServerError(requestHeader, error).flatMap { result =>
                 val action = EssentialAction(_ => Accumulator.done(result))
-                handleAction(action, requestHeader, request, tryApp)
+                handleAction(channel, action, requestHeader, request, tryApp)
               }
           }
 
@@ -273,7 +286,7 @@ private[play] class PlayRequestHandler(
               )
           )
         )
-        handleAction(action, requestHeader, request, tryApp)
+        handleAction(channel, action, requestHeader, request, tryApp)
 
       // This case usually indicates an error in Play's internal routing or handling logic
       case h =>
@@ -369,6 +382,7 @@ private[play] class PlayRequestHandler(
    * Handle an essential action.
    */
   private def handleAction(
+      channel: Channel,
       action: EssentialAction,
       requestHeader: RequestHeader,
       request: HttpRequest,
@@ -410,18 +424,49 @@ private[play] class PlayRequestHandler(
     } else {
       requestHeader
     }))(using mat.executionContext)
-    for {
-      // Execute the action and get a result, calling errorHandler if errors happen in this process
-      actionResult <- invokeAction(actionFuture, deferBodyParsing)
-      // Clean and validate the action's result
-      validatedResult <- {
-        val cleanedResult = resultUtils(tryApp).prepareCookies(requestHeader, actionResult)
-        resultUtils(tryApp).validateResult(requestHeader, cleanedResult, errorHandler(tryApp))
+    // Execute the action and get a result, calling errorHandler if errors happen in this process
+    // Files can only be sent straight from the file system when they don't have to be encrypted or framed
+    val zeroCopy = NettyHttp2.canWriteFileRegions(channel)
+    invokeAction(actionFuture, deferBodyParsing).flatMap { actionResult =>
+      val timingListener  = reloadCache.cachedFrom(tryApp).timingListener
+      val conversionStart = if (timingListener.enabled) System.nanoTime() else 0L
+      val convertedResult = for {
+        // Clean and validate the action's result
+        validatedResult <- {
+          val cleanedResult = resultUtils(tryApp).prepareCookies(requestHeader, actionResult)
+          resultUtils(tryApp).validateResult(requestHeader, cleanedResult, errorHandler(tryApp))
+        }
+        // Convert the result to a Netty HttpResponse
+        convertedResult <- modelConversion(tryApp)
+          .convertResult(validatedResult, requestHeader, request.protocolVersion(), errorHandler(tryApp), zeroCopy)
+      } yield convertedResult
+      if (timingListener.enabled) {
+        convertedResult.andThen {
+          case _ =>
+            timingListener.onStage(requestHeader, RequestStage.ResultConversion, conversionStart, System.nanoTime())
+        }
+      } else {
+        convertedResult
       }
-      // Convert the result to a Netty HttpResponse
-      convertedResult <- modelConversion(tryApp)
-        .convertResult(validatedResult, requestHeader, request.protocolVersion(), errorHandler(tryApp))
-    } yield convertedResult
+    }
+  }
+
+  /**
+   * Let the request send early hints, if it's an HTTP/1.1 request. Informational responses can't be sent to HTTP/1.0
+   * clients.
+   */
+  private def attachEarlyHints(
+      channel: Channel,
+      request: HttpRequest,
+      requestNumber: Long,
+      requestHeader: RequestHeader
+  ): RequestHeader = {
+    val earlyHintsHandler = channel.pipeline().get(classOf[EarlyHintsHandler])
+    if (earlyHintsHandler != null && request.protocolVersion() == HttpVersion.HTTP_1_1) {
+      requestHeader.addAttr(RequestAttrKey.EarlyHints, earlyHintsHandler.earlyHints(requestNumber))
+    } else {
+      requestHeader
+    }
   }
 
   /**
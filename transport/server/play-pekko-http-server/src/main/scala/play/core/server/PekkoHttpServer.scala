@@ -47,6 +47,8 @@ import play.api.http.DevHttpErrorHandler
 import play.api.http.HeaderNames
 import play.api.http.HttpErrorHandler
 import play.api.http.HttpErrorInfo
+import play.api.http.RequestStage
+import play.api.http.RequestTimingListener
 import play.api.http.Status
 import play.api.internal.libs.concurrent.CoordinatedShutdownSupport
 import play.api.libs.streams.Accumulator
@@ -204,7 +206,8 @@ class PekkoHttpServer(context: PekkoHttpServer.Context) extends Server {
   private case class ReloadCacheValues(
       resultUtils: ServerResultUtils,
       modelConversion: PekkoModelConversion,
-      serverDebugInfo: Option[ServerDebugInfo]
+      serverDebugInfo: Option[ServerDebugInfo],
+      timingListener: RequestTimingListener
   )
 
   /**
@@ -228,7 +231,8 @@ class PekkoHttpServer(context: PekkoHttpServer.Context) extends Server {
       ReloadCacheValues(
         resultUtils = serverResultUtils,
         modelConversion = modelConversion,
-        serverDebugInfo = reloadDebugInfo(tryApp, provider)
+        serverDebugInfo = reloadDebugInfo(tryApp, provider),
+        timingListener = reloadRequestTimingListener(tryApp)
       )
     }
   }
@@ -351,15 +355,22 @@ class PekkoHttpServer(context: PekkoHttpServer.Context) extends Server {
 
     import play.core.Execution.Implicits.trampoline
 
-    val decodedRequest = HttpRequestDecoder.decodeRequest(request)
-    val tryApp         = applicationProvider.get
-    val remoteAddress  = remoteAddressOfRequest(request)
+    val tryApp          = applicationProvider.get
+    val timingListener  = reloadCache.cachedFrom(tryApp).timingListener
+    val conversionStart = if (timingListener.enabled) System.nanoTime() else 0L
+    val decodedRequest  = HttpRequestDecoder.decodeRequest(request)
+    val remoteAddress   = remoteAddressOfRequest(request)
 
     val convertedRequestHeader: Try[RequestHeader] = modelConversion(tryApp).convertRequestHeader(
       remoteAddress = remoteAddress,
       secureProtocol = secure,
       request = decodedRequest
     )
+    if (timingListener.enabled) {
+      convertedRequestHeader.foreach(
+        timingListener.onStage(_, RequestStage.ModelConversion, conversionStart, System.nanoTime())
+      )
+    }
 
     // Helper to attach ServerDebugInfo attribute to a RequestHeader
     def attachDebugInfo(rh: RequestHeader): RequestHeader = {
@@ -392,7 +403,7 @@ class PekkoHttpServer(context: PekkoHttpServer.Context) extends Server {
         clientError(Status.BAD_REQUEST, exception.getMessage, exception)
       case Success(untagged) =>
         val debugHeader = attachDebugInfo(untagged)
-        Server.getHandlerFor(debugHeader, tryApp, fallbackErrorHandler)
+        Server.getHandlerFor(debugHeader, tryApp, fallbackErrorHandler, timingListener)
     }
 
     val responseFuture = executeHandler(
@@ -559,8 +570,20 @@ class PekkoHttpServer(context: PekkoHttpServer.Context) extends Server {
     }))
     val resultFuture: Future[Result]         = invokeAction(futureAcc, deferBodyParsing)
     val responseFuture: Future[HttpResponse] = resultFuture.flatMap { result =>
+      val timingListener        = reloadCache.cachedFrom(tryApp).timingListener
+      val conversionStart       = if (timingListener.enabled) System.nanoTime() else 0L
       val cleanedResult: Result = resultUtils(tryApp).prepareCookies(taggedRequestHeader, result)
-      modelConversion(tryApp).convertResult(taggedRequestHeader, cleanedResult, request.protocol, errorHandler)
+      val convertedResult       =
+        modelConversion(tryApp).convertResult(taggedRequestHeader, cleanedResult, request.protocol, errorHandler)
+      if (timingListener.enabled) {
+        convertedResult.andThen {
+          case _ =>
+            timingListener
+              .onStage(taggedRequestHeader, RequestStage.ResultConversion, conversionStart, System.nanoTime())
+        }
+      } else {
+        convertedResult
+      }
     }
     responseFuture
   }
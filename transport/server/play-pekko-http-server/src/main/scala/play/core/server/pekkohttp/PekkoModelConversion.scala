@@ -271,7 +271,7 @@ private[server] class PekkoModelConversion(
       // Convert result
 
       resultUtils.validateResult(requestHeaders, unvalidated, errorHandler).fast.map { (validated: Result) =>
-        val convertedHeaders = convertHeaders(validated.header.headers)
+        val convertedHeaders = convertHeaders(validated.header.headerFields.iterator)
         val entity           = convertResultBody(requestHeaders, validated, protocol)
         val intStatus        = validated.header.status
         val statusCode       = StatusCodes.getForKey(intStatus).getOrElse {
@@ -327,6 +327,15 @@ private[server] class PekkoModelConversion(
       case PlayHttpEntity.Streamed(data, _, _) =>
         HttpEntity.CloseDelimited(contentType, data)
 
+      case region: PlayHttpEntity.FileRegion if region.length == 0 =>
+        region.onClose()
+        HttpEntity.Strict(contentType, ByteString.empty)
+
+      case region: PlayHttpEntity.FileRegion =>
+        // Pekko HTTP streams file-backed entities through FileIO as well, so there's nothing to gain from handing it
+        // the path
+        HttpEntity.Default(contentType, region.length, region.dataStream)
+
       case PlayHttpEntity.Chunked(data, _) =>
         val pekkoChunks = data.map {
           case HttpChunk.Chunk(chunk) =>
@@ -350,7 +359,7 @@ private[server] class PekkoModelConversion(
     HeaderNames.CONNECTION
   ).map(_.toLowerCase(Locale.ROOT))
 
-  private def convertHeaders(headers: Iterable[(String, String)]): immutable.Seq[HttpHeader] = {
+  private def convertHeaders(headers: IterableOnce[(String, String)]): immutable.Seq[HttpHeader] = {
     headers.iterator.flatMap {
       case (name, value) =>
         val lowerName = name.toLowerCase(Locale.ROOT)
@@ -0,0 +1,51 @@
+/*
+ * Copyright (C) from 2022 The Play Framework Contributors <https://github.com/playframework>, 2011-2021 Lightbend Inc. <https://www.lightbend.com>
+ */
+
+package play.core.server
+
+import java.util.concurrent.atomic.LongAdder
+
+/**
+ * Counts the lookups in the caches of forwarded client certificates, configured with
+ * `play.http.forwarded.clientCertificates.cache.maxEntries`.
+ *
+ * A hit reuses the certificates parsed for an earlier request with the same certificate header values, a miss
+ * decodes and parses them.
+ */
+final class ClientCertificateCacheMetrics private[server] () {
+  private val hits      = new LongAdder
+  private val misses    = new LongAdder
+  private val evictions = new LongAdder
+
+  private[server] def hit(): Unit     = hits.increment()
+  private[server] def miss(): Unit    = misses.increment()
+  private[server] def evicted(): Unit = evictions.increment()
+
+  /** The number of lookups that found parsed certificates. */
+  def hitCount: Long = hits.sum()
+
+  /** The number of lookups that parsed the certificate headers. */
+  def missCount: Long = misses.sum()
+
+  /** The number of parsed certificates evicted to make room for others. */
+  def evictionCount: Long = evictions.sum()
+
+  /** The ratio of lookups that found parsed certificates, or 0 if there were no lookups. */
+  def hitRate: Double = {
+    val hit   = hitCount
+    val total = hit + missCount
+    if (total == 0) 0.0 else hit.toDouble / total
+  }
+
+  override def toString: String =
+    s"ClientCertificateCacheMetrics(hits = $hitCount, misses = $missCount, evictions = $evictionCount)"
+}
+
+object ClientCertificateCacheMetrics {
+
+  /**
+   * The metrics of the forwarded client certificate caches of all the servers of this JVM.
+   */
+  val global: ClientCertificateCacheMetrics = new ClientCertificateCacheMetrics()
+}
@@ -26,11 +26,15 @@ import play.{ BuiltInComponents => JBuiltInComponents }
 import play.{ BuiltInComponentsFromContext => JBuiltInComponentsFromContext }
 import play.api._
 import play.api.http.HttpErrorHandler
+import play.api.http.NoOpRequestTimingListener
 import play.api.http.Port
+import play.api.http.RequestStage
+import play.api.http.RequestTimingListener
 import play.api.inject.ApplicationLifecycle
 import play.api.inject.DefaultApplicationLifecycle
 import play.api.libs.streams.Accumulator
 import play.api.mvc._
+import play.api.mvc.request.RequestAttrKey
 import play.api.mvc.request.RequestTarget
 import play.api.routing.Router
 import play.api.ApplicationLoader.Context
@@ -109,6 +113,18 @@ object Server {
       request: RequestHeader,
       tryApp: Try[Application],
       fallbackErrorHandler: HttpErrorHandler
+  ): (RequestHeader, Handler) = getHandlerFor(request, tryApp, fallbackErrorHandler, NoOpRequestTimingListener)
+
+  /**
+   * Like `getHandlerFor(request, tryApp, fallbackErrorHandler)`, reporting the [[RequestStage.RequestFactory]] and
+   * [[RequestStage.Routing]] stages to the given listener. When the listener is enabled, it is also attached to the
+   * request so that the later stages can be reported.
+   */
+  private[server] def getHandlerFor(
+      request: RequestHeader,
+      tryApp: Try[Application],
+      fallbackErrorHandler: HttpErrorHandler,
+      timingListener: RequestTimingListener
   ): (RequestHeader, Handler) = {
     @inline def handleErrors(
         errorHandler: HttpErrorHandler,
@@ -131,10 +147,22 @@ object Server {
       // with all attributes necessary to translate it to Java.
       // TODO: `copyRequestHeader` is a misleading name here since it is also populating the request with attributes
       //       such as id, session, flash, etc.
-      val enrichedRequest: RequestHeader = application.requestFactory.copyRequestHeader(request)
+      val timed                          = timingListener.enabled
+      val factoryStart                   = if (timed) System.nanoTime() else 0L
+      val enrichedRequest: RequestHeader = if (timed) {
+        val enriched = application.requestFactory
+          .copyRequestHeader(request)
+          .addAttr(RequestAttrKey.TimingListener, timingListener)
+        timingListener.onStage(enriched, RequestStage.RequestFactory, factoryStart, System.nanoTime())
+        enriched
+      } else {
+        application.requestFactory.copyRequestHeader(request)
+      }
       try {
         // We hen use the Application's logic to handle that request.
+        val routingStart             = if (timed) System.nanoTime() else 0L
         val (handlerHeader, handler) = application.requestHandler.handlerForRequest(enrichedRequest)
+        if (timed) timingListener.onStage(handlerHeader, RequestStage.Routing, routingStart, System.nanoTime())
         (handlerHeader, handler)
       } catch {
         handleErrors(application.errorHandler, enrichedRequest)
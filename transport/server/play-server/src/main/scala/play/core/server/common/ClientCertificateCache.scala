@@ -0,0 +1,52 @@
+/*
+ * Copyright (C) from 2022 The Play Framework Contributors <https://github.com/playframework>, 2011-2021 Lightbend Inc. <https://www.lightbend.com>
+ */
+
+package play.core.server.common
+
+import java.util.concurrent.ConcurrentHashMap
+
+import play.core.server.ClientCertificateCacheMetrics
+
+/**
+ * A bounded cache of forwarded client certificates, keyed by the raw header values they were parsed from.
+ *
+ * A proxy forwards the same client certificates again and again, so most requests reuse certificates that were
+ * decoded and parsed for an earlier request. Only successful results are cached. A handler always parses with the
+ * same limits, so a cached result is within them. When the cache is full an arbitrary entry is evicted, and a
+ * cache of 0 entries parses every time without counting lookups.
+ */
+private[common] final class ClientCertificateCache[K, V](maxEntries: Int, metrics: ClientCertificateCacheMetrics) {
+  private val entries = new ConcurrentHashMap[K, V]()
+
+  def getOrParse(key: K)(parse: => Either[String, V]): Either[String, V] = {
+    if (maxEntries <= 0) {
+      parse
+    } else {
+      val cached = entries.get(key)
+      if (cached != null) {
+        metrics.hit()
+        Right(cached)
+      } else {
+        metrics.miss()
+        val result = parse
+        result.foreach(put(key, _))
+        result
+      }
+    }
+  }
+
+  private def put(key: K, value: V): Unit = {
+    if (entries.size >= maxEntries) {
+      val keys = entries.keySet.iterator
+      if (keys.hasNext) {
+        keys.next()
+        keys.remove()
+        metrics.evicted()
+      }
+    }
+    entries.put(key, value)
+  }
+
+  def size: Int = entries.size
+}
@@ -15,17 +15,37 @@ import play.api.mvc.Headers
 import play.api.Configuration
 import play.api.Logger
 import play.core.server.common.ClientCertificateHeaderHandler._
+import play.core.server.ClientCertificateCacheMetrics
 
 /** Selects direct or trusted forwarded client-certificate metadata for a request. */
 private[server] final class ClientCertificateHeaderHandler(configuration: Config) {
   private val logger = Logger(classOf[ClientCertificateHeaderHandler])
 
+  private val xForwardedClientCertLimits = XForwardedClientCertHeaderParser.Limits(
+    configuration.limits.maxHeaderBytes,
+    configuration.limits.maxDecodedBytes,
+    configuration.limits.maxCertificateBytes,
+    configuration.limits.maxChainLength
+  )
+
+  // Keyed by the raw header values, parsed with the limits of this handler
+  private val rfc9440Cache =
+    new ClientCertificateCache[(Seq[String], Seq[String]), Option[ClientCertificateInfo]](
+      configuration.cacheMaxEntries,
+      ClientCertificateCacheMetrics.global
+    )
+  private val xForwardedClientCertCache =
+    new ClientCertificateCache[Seq[String], Vector[XForwardedClientCert]](
+      configuration.cacheMaxEntries,
+      ClientCertificateCacheMetrics.global
+    )
+
   def clientCertificates(transport: TransportConnection, headers: Headers): Selection = {
     configuration.mode match {
       case Off                                           => Selection.direct(transport)
       case _ if !configuration.isTrustedProxy(transport) => Selection.direct(transport)
       case Rfc9440                                       =>
-        Rfc9440ClientCertificateParser.parse(headers, configuration.limits) match {
+        parseRfc9440(headers) match {
           case Right(value) => Selection(value, Vector.empty)
           case Left(error)  =>
             throw new InvalidClientCertificateHeaderException(
@@ -33,15 +53,7 @@ private[server] final class ClientCertificateHeaderHandler(configuration: Config
             )
         }
       case XForwardedClientCertMode =>
-        XForwardedClientCertHeaderParser.parse(
-          headers.getAll(play.api.http.HeaderNames.X_FORWARDED_CLIENT_CERT),
-          XForwardedClientCertHeaderParser.Limits(
-            configuration.limits.maxHeaderBytes,
-            configuration.limits.maxDecodedBytes,
-            configuration.limits.maxCertificateBytes,
-            configuration.limits.maxChainLength
-          )
-        ) match {
+        parseXForwardedClientCert(headers) match {
           case Right(assertions) => Selection.fromXForwardedClientCert(assertions)
           case Left(error)       =>
             throw new InvalidClientCertificateHeaderException(s"Invalid forwarded client certificate: $error")
@@ -49,6 +61,22 @@ private[server] final class ClientCertificateHeaderHandler(configuration: Config
     }
   }
 
+  private def parseRfc9440(headers: Headers): Either[String, Option[ClientCertificateInfo]] = {
+    val leaf  = headers.getAll(play.api.http.HeaderNames.CLIENT_CERT)
+    val chain = headers.getAll(play.api.http.HeaderNames.CLIENT_CERT_CHAIN)
+    if (leaf.isEmpty && chain.isEmpty) Rfc9440ClientCertificateParser.parse(headers, configuration.limits)
+    else rfc9440Cache.getOrParse((leaf, chain))(Rfc9440ClientCertificateParser.parse(headers, configuration.limits))
+  }
+
+  private def parseXForwardedClientCert(headers: Headers): Either[String, Vector[XForwardedClientCert]] = {
+    val values = headers.getAll(play.api.http.HeaderNames.X_FORWARDED_CLIENT_CERT)
+    if (values.isEmpty) XForwardedClientCertHeaderParser.parse(values, xForwardedClientCertLimits)
+    else
+      xForwardedClientCertCache.getOrParse(values)(
+        XForwardedClientCertHeaderParser.parse(values, xForwardedClientCertLimits)
+      )
+  }
+
   /**
    * Select certificate metadata for an error request without repeating selection that already
    * failed during normal request conversion.
@@ -110,7 +138,16 @@ private[server] object ClientCertificateHeaderHandler {
     }
   }
 
-  final case class Config(mode: Mode, trustedProxies: List[Subnet], limits: ClientCertificateHeaderLimits) {
+  /**
+   * @param cacheMaxEntries The number of parsed forwarded certificate headers to keep, 0 to parse them for each
+   *                        request.
+   */
+  final case class Config(
+      mode: Mode,
+      trustedProxies: List[Subnet],
+      limits: ClientCertificateHeaderLimits,
+      cacheMaxEntries: Int = 4096
+  ) {
     def isTrustedProxy(transport: TransportConnection): Boolean =
       trustedProxies.exists(_.isInRange(transport.peer.address))
   }
@@ -152,6 +189,10 @@ private[server] object ClientCertificateHeaderHandler {
       if (maxChainLength < 0) {
         throw config.reportError("limits.maxChainLength", "maxChainLength must not be negative")
       }
+      val cacheMaxEntries = config.get[Int]("cache.maxEntries")
+      if (cacheMaxEntries < 0) {
+        throw config.reportError("cache.maxEntries", "cache.maxEntries must not be negative")
+      }
       Config(
         mode,
         config.get[Seq[String]]("trustedProxies").map(Subnet.apply).toList,
@@ -160,7 +201,8 @@ private[server] object ClientCertificateHeaderHandler {
           positiveBytes("limits.maxDecodedBytes"),
           positiveBytes("limits.maxCertificateBytes"),
           maxChainLength
-        )
+        ),
+        cacheMaxEntries
       )
     }
   }
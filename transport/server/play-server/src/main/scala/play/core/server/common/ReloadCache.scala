@@ -11,6 +11,8 @@ import scala.util.Success
 import scala.util.Try
 
 import play.api.http.HttpConfiguration
+import play.api.http.NoOpRequestTimingListener
+import play.api.http.RequestTimingListener
 import play.api.libs.crypto.CookieSignerProvider
 import play.api.mvc.request.DefaultRequestFactory
 import play.api.mvc.DefaultCookieHeaderEncoding
@@ -115,6 +117,15 @@ private[play] abstract class ReloadCache[+T] {
     new ForwardedHeaderHandler(forwardedHeaderConfiguration)
   }
 
+  /**
+   * Helper to get the [[RequestTimingListener]] of the application, or a no-op listener when the application failed
+   * to load or doesn't provide one.
+   */
+  protected final def reloadRequestTimingListener(tryApp: Try[Application]): RequestTimingListener =
+    tryApp.toOption
+      .flatMap(app => Try(app.injector.instanceOf[RequestTimingListener]).toOption)
+      .getOrElse(NoOpRequestTimingListener)
+
   /** Helper to calculate a forwarded client-certificate handler. */
   protected final def reloadClientCertificateHeaderHandler(
       tryApp: Try[Application]
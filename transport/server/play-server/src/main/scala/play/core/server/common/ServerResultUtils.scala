@@ -34,7 +34,7 @@ private[play] final class ServerResultUtils(
    */
   def determineConnectionHeader(request: RequestHeader, result: Result): ConnectionHeader = {
     if (request.version == HttpProtocol.HTTP_1_1) {
-      if (result.header.headers.get(CONNECTION).exists(_.equalsIgnoreCase(CLOSE))) {
+      if (result.header.headerFields.get(CONNECTION).exists(_.equalsIgnoreCase(CLOSE))) {
         // Close connection, header already exists
         DefaultClose
       } else if (
@@ -47,7 +47,7 @@ private[play] final class ServerResultUtils(
         DefaultKeepAlive
       }
     } else {
-      if (result.header.headers.get(CONNECTION).exists(_.equalsIgnoreCase(CLOSE))) {
+      if (result.header.headerFields.get(CONNECTION).exists(_.equalsIgnoreCase(CLOSE))) {
         DefaultClose
       } else if (
         (result.body.isInstanceOf[HttpEntity.Streamed] && result.body.contentLength.isEmpty) ||
@@ -238,6 +238,7 @@ private[play] final class ServerResultUtils(
     entity match {
       case HttpEntity.Chunked(chunks, _)   => chunks.runWith(Sink.cancelled)
       case HttpEntity.Streamed(data, _, _) => data.runWith(Sink.cancelled)
+      case region: HttpEntity.FileRegion   => region.onClose()
       case _                               =>
     }
   }
@@ -355,6 +356,22 @@ private[play] final class ServerResultUtils(
     }
   }
 
+  /**
+   * Split the given response headers into a sequence of individual headers, splitting any `Set-Cookie` value that
+   * still contains several cookies. Unlike the `Map` based variant this keeps the
+   * order of the headers and doesn't need to build a map.
+   */
+  def splitSetCookieHeaders(headers: ResponseHeaders): Iterator[(String, String)] =
+    headers.iterator.flatMap {
+      case (name, value) if name.equalsIgnoreCase(SET_COOKIE) =>
+        splitSetCookieHeaderValue(value).iterator.map(SET_COOKIE -> _)
+      case header => Iterator.single(header)
+    }
+
   def splitSetCookieHeaderValue(value: String): Seq[String] =
-    ArraySeq.unsafeWrapArray(cookieHeaderEncoding.SetCookieHeaderSeparatorRegex.split(value))
+    if (value.contains(cookieHeaderEncoding.SetCookieHeaderSeparator)) {
+      ArraySeq.unsafeWrapArray(cookieHeaderEncoding.SetCookieHeaderSeparatorRegex.split(value))
+    } else {
+      value :: Nil
+    }
 }
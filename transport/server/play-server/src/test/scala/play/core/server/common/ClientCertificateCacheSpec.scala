@@ -0,0 +1,58 @@
+/*
+ * Copyright (C) from 2022 The Play Framework Contributors <https://github.com/playframework>, 2011-2021 Lightbend Inc. <https://www.lightbend.com>
+ */
+
+package play.core.server.common
+
+import org.specs2.mutable.Specification
+import play.core.server.ClientCertificateCacheMetrics
+
+class ClientCertificateCacheSpec extends Specification {
+  "ClientCertificateCache" should {
+    "parse a key once and count the hits" in {
+      val metrics = new ClientCertificateCacheMetrics()
+      val cache   = new ClientCertificateCache[String, Int](4, metrics)
+      var parsed  = 0
+      def parse   = { parsed += 1; Right(parsed) }
+
+      cache.getOrParse("a")(parse) must beRight(1)
+      cache.getOrParse("a")(parse) must beRight(1)
+      cache.getOrParse("b")(parse) must beRight(2)
+
+      parsed must_== 2
+      metrics.hitCount must_== 1
+      metrics.missCount must_== 2
+      metrics.hitRate must beCloseTo(1.0 / 3, 0.001)
+    }
+
+    "not cache failures" in {
+      val cache  = new ClientCertificateCache[String, Int](4, new ClientCertificateCacheMetrics())
+      var parsed = 0
+      def parse  = { parsed += 1; Left("invalid") }
+
+      cache.getOrParse("a")(parse) must beLeft("invalid")
+      cache.getOrParse("a")(parse) must beLeft("invalid")
+      parsed must_== 2
+      cache.size must_== 0
+    }
+
+    "evict entries to stay within its bound" in {
+      val metrics = new ClientCertificateCacheMetrics()
+      val cache   = new ClientCertificateCache[Int, Int](2, metrics)
+
+      (1 to 5).foreach(i => cache.getOrParse(i)(Right(i)))
+      cache.size must_== 2
+      metrics.evictionCount must_== 3
+    }
+
+    "parse every time when disabled" in {
+      val metrics = new ClientCertificateCacheMetrics()
+      val cache   = new ClientCertificateCache[String, Int](0, metrics)
+
+      cache.getOrParse("a")(Right(1)) must beRight(1)
+      cache.getOrParse("a")(Right(2)) must beRight(2)
+      cache.size must_== 0
+      metrics.missCount must_== 0
+    }
+  }
+}
@@ -105,6 +105,34 @@ class ClientCertificateHeaderHandlerSpec extends Specification {
       }
     }
 
+    "reuse the certificate parsed for the same forwarded field" in {
+      val handler      = rfcHandler("127.0.0.1")
+      val certHeaders  = headers(HeaderNames.CLIENT_CERT -> byteSequence(leafBase64))
+      val first        = handler.clientCertificate(transport("127.0.0.1"), certHeaders)
+      val second       = handler.clientCertificate(transport("127.0.0.1"), certHeaders)
+      val withoutCache = new ClientCertificateHeaderHandler(
+        Config(Rfc9440, List(Subnet("127.0.0.1")), limits, cacheMaxEntries = 0)
+      )
+
+      first.map(_.certificate) must beSome[X509Certificate].like {
+        case certificate => second.map(_.certificate) must beSome(beTheSameAs(certificate))
+      }
+      withoutCache.clientCertificate(transport("127.0.0.1"), certHeaders).map(_.certificate) must
+        beSome[X509Certificate].like {
+          case certificate =>
+            (certificate must not(beTheSameAs(first.get.certificate)))
+              .and(certificate.getEncoded must beEqualTo(leaf.getEncoded))
+        }
+    }
+
+    "reject an invalid forwarded field again rather than caching the failure" in {
+      val handler     = xfccHandler("127.0.0.1")
+      val certHeaders = headers(HeaderNames.X_FORWARDED_CLIENT_CERT -> "not-valid-xfcc")
+
+      handler.clientCertificates(transport("127.0.0.1"), certHeaders) must throwAn[IllegalArgumentException]
+      handler.clientCertificates(transport("127.0.0.1"), certHeaders) must throwAn[IllegalArgumentException]
+    }
+
     "preserve valid forwarded certificate metadata when constructing an error request" in {
       val selected = rfcHandler("127.0.0.1").clientCertificatesForErrorRequest(
         transport("127.0.0.1", Seq(intermediate)),
@@ -222,6 +250,8 @@ class ClientCertificateHeaderHandlerSpec extends Specification {
         throwA[Exception]
       Config(Some(config("play.http.forwarded.clientCertificates.limits.maxChainLength" -> -1))) must
         throwA[Exception]
+      Config(Some(config("play.http.forwarded.clientCertificates.cache.maxEntries" -> -1))) must
+        throwA[Exception]
       Config(Some(config("play.http.forwarded.clientCertificates.xForwardedClientCert.policy" -> "append"))) must
         throwA[Exception]
       Config(Some(config("play.http.forwarded.clientCertificates.xForwardedClientCert.format" -> "json"))) must
@@ -0,0 +1,27 @@
+/*
+ * Copyright (C) from 2022 The Play Framework Contributors <https://github.com/playframework>, 2011-2021 Lightbend Inc. <https://www.lightbend.com>
+ */
+
+package play.filters.components;
+
+import play.components.ConfigurationComponents;
+import play.filters.concurrency.ConcurrencyLimitConfig;
+import play.filters.concurrency.ConcurrencyLimitConfigProvider;
+import play.filters.concurrency.ConcurrencyLimitFilter;
+import play.filters.concurrency.ConcurrencyLimiter;
+
+/** The concurrency limit filter components for compile time dependency injection. */
+public interface ConcurrencyLimitComponents extends ConfigurationComponents {
+
+  default ConcurrencyLimitConfig concurrencyLimitConfig() {
+    return new ConcurrencyLimitConfigProvider(configuration()).get();
+  }
+
+  default ConcurrencyLimiter concurrencyLimiter() {
+    return new ConcurrencyLimiter(concurrencyLimitConfig());
+  }
+
+  default ConcurrencyLimitFilter concurrencyLimitFilter() {
+    return new ConcurrencyLimitFilter(concurrencyLimiter());
+  }
+}
@@ -0,0 +1,25 @@
+/*
+ * Copyright (C) from 2022 The Play Framework Contributors <https://github.com/playframework>, 2011-2021 Lightbend Inc. <https://www.lightbend.com>
+ */
+
+package play.filters.components;
+
+import play.components.ConfigurationComponents;
+import play.components.HttpErrorHandlerComponents;
+import play.components.PekkoComponents;
+import play.filters.deadline.DeadlineConfig;
+import play.filters.deadline.DeadlineConfigProvider;
+import play.filters.deadline.DeadlineFilter;
+
+/** The deadline filter components for compile time dependency injection. */
+public interface DeadlineComponents
+    extends ConfigurationComponents, HttpErrorHandlerComponents, PekkoComponents {
+
+  default DeadlineConfig deadlineConfig() {
+    return new DeadlineConfigProvider(configuration()).get();
+  }
+
+  default DeadlineFilter deadlineFilter() {
+    return new DeadlineFilter(deadlineConfig(), scalaHttpErrorHandler(), materializer());
+  }
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright (C) from 2022 The Play Framework Contributors <https://github.com/playframework>, 2011-2021 Lightbend Inc. <https://www.lightbend.com>
+ */
+
+package play.filters.components;
+
+import play.components.ConfigurationComponents;
+import play.components.HttpErrorHandlerComponents;
+import play.components.PekkoComponents;
+import play.filters.ratelimit.LocalRateLimitStore;
+import play.filters.ratelimit.RateLimitConfig;
+import play.filters.ratelimit.RateLimitConfigProvider;
+import play.filters.ratelimit.RateLimitFilter;
+import play.filters.ratelimit.RateLimitStore;
+
+/** The rate limit filter components for compile time dependency injection. */
+public interface RateLimitComponents
+    extends ConfigurationComponents, HttpErrorHandlerComponents, PekkoComponents {
+
+  default RateLimitConfig rateLimitConfig() {
+    return new RateLimitConfigProvider(configuration()).get();
+  }
+
+  default RateLimitStore rateLimitStore() {
+    return new LocalRateLimitStore(rateLimitConfig().maxKeys());
+  }
+
+  default RateLimitFilter rateLimitFilter() {
+    return new RateLimitFilter(
+        rateLimitConfig(), rateLimitStore(), scalaHttpErrorHandler(), materializer());
+  }
+}
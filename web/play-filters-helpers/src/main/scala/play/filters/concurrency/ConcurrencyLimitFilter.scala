@@ -0,0 +1,187 @@
+/*
+ * Copyright (C) from 2022 The Play Framework Contributors <https://github.com/playframework>, 2011-2021 Lightbend Inc. <https://www.lightbend.com>
+ */
+
+package play.filters.concurrency
+
+import scala.concurrent.duration._
+
+import jakarta.inject.Inject
+import jakarta.inject.Provider
+import jakarta.inject.Singleton
+import play.api.http.Status
+import play.api.inject.bind
+import play.api.inject.SimpleModule
+import play.api.mvc._
+import play.api.Configuration
+
+/**
+ * A filter rejecting the requests exceeding the concurrency limit of its [[ConcurrencyLimiter]], before their body is
+ * parsed.
+ *
+ * The filters before this one still run for rejected requests. To reject them before any filter runs, use the
+ * [[ConcurrencyLimitHttpRequestHandler]] instead.
+ *
+ * For documentation on configuring this filter, please see the Play documentation at
+ * [[https://www.playframework.com/documentation/latest/ConcurrencyLimitFilter]]
+ *
+ * @param limiter The limiter admitting the requests.
+ */
+@Singleton
+class ConcurrencyLimitFilter @Inject() (limiter: ConcurrencyLimiter) extends EssentialFilter {
+  override def apply(next: EssentialAction): EssentialAction = limiter.limit(next)
+}
+
+/**
+ * The configuration of the [[ConcurrencyLimiter]].
+ *
+ * @param algorithm The algorithm adapting the limit to the latency of the requests.
+ * @param initialLimit The limit before any request completed.
+ * @param minLimit The lowest limit.
+ * @param maxLimit The highest limit.
+ * @param perRoute Whether each route has its own limit, rather than all the requests sharing one.
+ * @param priority The priority of a request.
+ * @param lowPriorityShare The share of the limit that low priority requests can use.
+ * @param rejectedHttpStatusCode The status of the response to rejected requests.
+ * @param retryAfter The delay after which clients are told to retry rejected requests, if any.
+ */
+case class ConcurrencyLimitConfig(
+    algorithm: ConcurrencyLimitConfig.Algorithm = ConcurrencyLimitConfig.Gradient(),
+    initialLimit: Int = 20,
+    minLimit: Int = 4,
+    maxLimit: Int = 1000,
+    perRoute: Boolean = false,
+    priority: RequestHeader => ConcurrencyLimitConfig.Priority = _ => ConcurrencyLimitConfig.Priority.Normal,
+    lowPriorityShare: Double = 0.8,
+    rejectedHttpStatusCode: Int = Status.SERVICE_UNAVAILABLE,
+    retryAfter: Option[FiniteDuration] = Some(1.second)
+)
+
+object ConcurrencyLimitConfig {
+
+  /** An algorithm adapting the concurrency limit to the latency of the requests. */
+  sealed trait Algorithm
+
+  /**
+   * Grows the limit while the requests aren't slower than their long term average latency, and shrinks it in
+   * proportion once they are.
+   *
+   * @param smoothing How much of each change is applied, from 0 to 1.
+   * @param tolerance How much slower than the average the requests can be before the limit shrinks.
+   * @param longWindow The number of requests over which the long term average latency is computed.
+   */
+  final case class Gradient(smoothing: Double = 0.2, tolerance: Double = 2.0, longWindow: Int = 600)
+      extends Algorithm
+
+  /**
+   * Grows the limit by one with each request completed in time, and multiplies it by the backoff ratio when a
+   * request fails or times out.
+   *
+   * @param backoffRatio The ratio applied to the limit when a request fails or times out.
+   * @param timeout The latency over which a request counts as timed out.
+   */
+  final case class Aimd(backoffRatio: Double = 0.9, timeout: FiniteDuration = 5.seconds) extends Algorithm
+
+  /** The priority of a request, deciding when it's rejected. */
+  sealed trait Priority
+
+  object Priority {
+
+    /** Never rejected, nor counted in the requests in flight. Meant for health checks and admin routes. */
+    case object Critical extends Priority
+
+    /** Rejected once the limit is reached. */
+    case object Normal extends Priority
+
+    /** Rejected once the low priority share of the limit is reached, so that it's shed first. */
+    case object Low extends Priority
+  }
+
+  /**
+   * Parses out the ConcurrencyLimitConfig from play.api.Configuration (usually this means application.conf).
+   */
+  def fromConfiguration(conf: Configuration): ConcurrencyLimitConfig = {
+    val config = conf.get[Configuration]("play.filters.concurrencyLimit")
+
+    val algorithm = config.get[String]("algorithm") match {
+      case "gradient" =>
+        Gradient(
+          smoothing = config.get[Double]("gradient.smoothing"),
+          tolerance = config.get[Double]("gradient.tolerance"),
+          longWindow = config.get[Int]("gradient.longWindow")
+        )
+      case "aimd" =>
+        Aimd(
+          backoffRatio = config.get[Double]("aimd.backoffRatio"),
+          timeout = config.get[FiniteDuration]("aimd.timeout")
+        )
+      case other =>
+        throw config.reportError("algorithm", s"Unknown algorithm '$other', expected gradient or aimd")
+    }
+
+    val minLimit     = config.get[Int]("minLimit")
+    val maxLimit     = config.get[Int]("maxLimit")
+    val initialLimit = config.get[Int]("initialLimit")
+    if (minLimit < 1) throw config.reportError("minLimit", "minLimit must be positive")
+    if (maxLimit < minLimit) throw config.reportError("maxLimit", "maxLimit must not be lower than minLimit")
+    if (initialLimit < minLimit || initialLimit > maxLimit) {
+      throw config.reportError("initialLimit", "initialLimit must be between minLimit and maxLimit")
+    }
+    val lowPriorityShare = config.get[Double]("lowPriority.share")
+    if (lowPriorityShare <= 0 || lowPriorityShare > 1) {
+      throw config.reportError("lowPriority.share", "lowPriority.share must be greater than 0 and at most 1")
+    }
+
+    val criticalModifiers = config.get[Seq[String]]("critical.routeModifiers")
+    val criticalPaths     = config.get[Seq[String]]("critical.pathPrefixes")
+    val lowModifiers      = config.get[Seq[String]]("lowPriority.routeModifiers")
+    val lowPaths          = config.get[Seq[String]]("lowPriority.pathPrefixes")
+
+    val priority: RequestHeader => Priority = { rh =>
+      import play.api.routing.Router.RequestImplicits._
+      if (criticalModifiers.exists(rh.hasRouteModifier) || criticalPaths.exists(rh.path.startsWith)) {
+        Priority.Critical
+      } else if (lowModifiers.exists(rh.hasRouteModifier) || lowPaths.exists(rh.path.startsWith)) {
+        Priority.Low
+      } else {
+        Priority.Normal
+      }
+    }
+
+    ConcurrencyLimitConfig(
+      algorithm = algorithm,
+      initialLimit = initialLimit,
+      minLimit = minLimit,
+      maxLimit = maxLimit,
+      perRoute = config.get[Boolean]("perRoute"),
+      priority = priority,
+      lowPriorityShare = lowPriorityShare,
+      rejectedHttpStatusCode = config.get[Int]("rejectedHttpStatusCode"),
+      retryAfter = config.get[Option[FiniteDuration]]("retryAfter")
+    )
+  }
+}
+
+@Singleton
+class ConcurrencyLimitConfigProvider @Inject() (conf: Configuration) extends Provider[ConcurrencyLimitConfig] {
+  lazy val get: ConcurrencyLimitConfig = ConcurrencyLimitConfig.fromConfiguration(conf)
+}
+
+class ConcurrencyLimitModule
+    extends SimpleModule(
+      bind[ConcurrencyLimitConfig].toProvider[ConcurrencyLimitConfigProvider],
+      bind[ConcurrencyLimiter].toSelf,
+      bind[ConcurrencyLimitFilter].toSelf
+    )
+
+/**
+ * The concurrency limit filter components.
+ */
+trait ConcurrencyLimitComponents {
+  def configuration: Configuration
+
+  lazy val concurrencyLimitConfig: ConcurrencyLimitConfig =
+    ConcurrencyLimitConfig.fromConfiguration(configuration)
+  lazy val concurrencyLimiter: ConcurrencyLimiter         = new ConcurrencyLimiter(concurrencyLimitConfig)
+  lazy val concurrencyLimitFilter: ConcurrencyLimitFilter = new ConcurrencyLimitFilter(concurrencyLimiter)
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (C) from 2022 The Play Framework Contributors <https://github.com/playframework>, 2011-2021 Lightbend Inc. <https://www.lightbend.com>
+ */
+
+package play.filters.concurrency
+
+import jakarta.inject.Inject
+import jakarta.inject.Provider
+import play.api.http._
+import play.api.mvc._
+import play.api.routing.Router
+import play.api.ApplicationLoader.DevContext
+import play.api.OptionalDevContext
+import play.core.j.JavaHandlerComponents
+import play.core.WebCommands
+
+/**
+ * A request handler rejecting the requests exceeding the concurrency limit of its [[ConcurrencyLimiter]] as soon as
+ * they are routed, before any filter runs and before their body is parsed, so that a rejected request costs little
+ * more than its routing. Rejected requests get the rejection response as is, without going through the filters.
+ *
+ * It handles Java and Scala actions like the [[play.api.http.JavaCompatibleHttpRequestHandler]]. To use it, set
+ * `play.http.requestHandler = "play.filters.concurrency.ConcurrencyLimitHttpRequestHandler"`.
+ */
+class ConcurrencyLimitHttpRequestHandler(
+    webCommands: WebCommands,
+    optDevContext: Option[DevContext],
+    router: Provider[Router],
+    errorHandler: HttpErrorHandler,
+    configuration: HttpConfiguration,
+    filters: Seq[EssentialFilter],
+    handlerComponents: JavaHandlerComponents,
+    limiter: ConcurrencyLimiter
+) extends JavaCompatibleHttpRequestHandler(
+      webCommands,
+      optDevContext,
+      router,
+      errorHandler,
+      configuration,
+      filters,
+      handlerComponents
+    ) {
+  @Inject
+  def this(
+      webCommands: WebCommands,
+      optDevContext: OptionalDevContext,
+      router: Provider[Router],
+      errorHandler: HttpErrorHandler,
+      configuration: HttpConfiguration,
+      filters: HttpFilters,
+      handlerComponents: JavaHandlerComponents,
+      limiter: ConcurrencyLimiter
+  ) = {
+    this(
+      webCommands,
+      optDevContext.devContext,
+      router,
+      errorHandler,
+      configuration,
+      filters.filters,
+      handlerComponents,
+      limiter
+    )
+  }
+
+  override protected def filterHandler(request: RequestHeader, handler: Handler): Handler = {
+    super.filterHandler(request, handler) match {
+      case action: EssentialAction => limiter.limit(action)
+      case handler                 => handler
+    }
+  }
+}
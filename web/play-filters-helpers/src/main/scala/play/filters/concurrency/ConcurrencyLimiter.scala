@@ -0,0 +1,140 @@
+/*
+ * Copyright (C) from 2022 The Play Framework Contributors <https://github.com/playframework>, 2011-2021 Lightbend Inc. <https://www.lightbend.com>
+ */
+
+package play.filters.concurrency
+
+import java.util.concurrent.atomic.AtomicInteger
+import java.util.concurrent.atomic.LongAdder
+import java.util.concurrent.ConcurrentHashMap
+
+import scala.annotation.tailrec
+import scala.concurrent.Future
+
+import jakarta.inject.Inject
+import jakarta.inject.Singleton
+import play.api.http.HeaderNames
+import play.api.http.RequestTimingListener
+import play.api.libs.streams.Accumulator
+import play.api.mvc._
+import play.core.Execution.trampoline
+import play.filters.concurrency.ConcurrencyLimitConfig.Priority
+
+/**
+ * Limits the number of requests handled concurrently, adapting the limit to their latency: as long as the requests
+ * don't get slower, the limit grows, and once they do because the application is overloaded, it shrinks. The
+ * requests exceeding the limit are rejected straight away with a response built once, rather than queued, so that
+ * the requests admitted keep their latency and an overloaded application sheds its load.
+ *
+ * Critical requests are never rejected, and low priority requests are rejected first, once they reach their share of
+ * the limit.
+ *
+ * The limiter is used by the [[ConcurrencyLimitFilter]] and the [[ConcurrencyLimitHttpRequestHandler]].
+ *
+ * @param config The configuration of the limiter.
+ */
+@Singleton
+class ConcurrencyLimiter @Inject() (config: ConcurrencyLimitConfig) {
+  import ConcurrencyLimiter._
+
+  private val global   = newLimit()
+  private val routes   = new ConcurrentHashMap[String, Limit]()
+  private val rejected = new LongAdder
+
+  private val rejection: Result = {
+    val result = Results.Status(config.rejectedHttpStatusCode)
+    config.retryAfter.fold[Result](result) { delay =>
+      result.withHeaders(HeaderNames.RETRY_AFTER -> math.max(1L, delay.toSeconds).toString)
+    }
+  }
+
+  private def newLimit(): Limit = new Limit(config.algorithm match {
+    case ConcurrencyLimitConfig.Gradient(smoothing, tolerance, longWindow) =>
+      new GradientLimit(config.initialLimit, config.minLimit, config.maxLimit, smoothing, tolerance, longWindow)
+    case ConcurrencyLimitConfig.Aimd(backoffRatio, timeout) =>
+      new AimdLimit(config.initialLimit, config.minLimit, config.maxLimit, backoffRatio, timeout.toNanos)
+  })
+
+  private def limitOf(request: RequestHeader): Limit = {
+    if (config.perRoute) {
+      // Requests that weren't routed, for instance because no route matches, share a limit
+      val route = RequestTimingListener.route(request).getOrElse("")
+      val limit = routes.get(route)
+      if (limit != null) limit else routes.computeIfAbsent(route, _ => newLimit())
+    } else global
+  }
+
+  /**
+   * Wraps an action so that it only runs for the requests admitted, and its requests stay in flight until their
+   * result is produced. The requests rejected get the rejection response.
+   */
+  def limit(next: EssentialAction): EssentialAction = EssentialAction { request =>
+    config.priority(request) match {
+      case Priority.Critical => next(request)
+      case priority          =>
+        val limit    = limitOf(request)
+        val inFlight = limit.tryAcquire(if (priority == Priority.Low) config.lowPriorityShare else 1.0)
+        if (inFlight == 0) {
+          rejected.increment()
+          Accumulator.done(rejection)
+        } else {
+          val start       = System.nanoTime()
+          val accumulator =
+            try next(request)
+            catch {
+              case e: Throwable =>
+                limit.release(start, inFlight, failed = true)
+                throw e
+            }
+          accumulator
+            .map { result =>
+              limit.release(start, inFlight, failed = false)
+              result
+            }(trampoline)
+            .recoverWith {
+              case e: Throwable =>
+                limit.release(start, inFlight, failed = true)
+                Future.failed(e)
+            }(trampoline)
+        }
+    }
+  }
+
+  /** The current limit of the requests sharing a limit, that is all the requests unless each route has its own. */
+  def currentLimit: Int = global.algorithm.limit
+
+  /** The current limit of the requests of a route pattern, if the limit is per route and the route had requests. */
+  def currentLimit(route: String): Option[Int] = Option(routes.get(route)).map(_.algorithm.limit)
+
+  /** The number of requests in flight, critical requests excluded. */
+  def inFlight: Int = global.inFlight.get() + routes.values().stream().mapToInt(_.inFlight.get()).sum()
+
+  /** The number of requests rejected since the limiter was created. */
+  def rejectedCount: Long = rejected.sum()
+}
+
+object ConcurrencyLimiter {
+
+  /** The requests in flight sharing a limit. */
+  private final class Limit(val algorithm: LimitAlgorithm) {
+    val inFlight = new AtomicInteger
+
+    /**
+     * Admits a request if the requests in flight are below the given share of the limit.
+     *
+     * @return The number of requests in flight with the request admitted, or 0 if it wasn't admitted.
+     */
+    @tailrec def tryAcquire(share: Double): Int = {
+      val max     = math.max(1, (algorithm.limit * share).toInt)
+      val current = inFlight.get()
+      if (current >= max) 0
+      else if (inFlight.compareAndSet(current, current + 1)) current + 1
+      else tryAcquire(share)
+    }
+
+    def release(start: Long, inFlightWhenAdmitted: Int, failed: Boolean): Unit = {
+      inFlight.decrementAndGet()
+      algorithm.update(System.nanoTime() - start, inFlightWhenAdmitted, failed)
+    }
+  }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (C) from 2022 The Play Framework Contributors <https://github.com/playframework>, 2011-2021 Lightbend Inc. <https://www.lightbend.com>
+ */
+
+package play.filters.concurrency
+
+/**
+ * Estimates how many requests can be handled concurrently from the latency of the requests handled.
+ *
+ * Updates come from the threads completing requests, and are synchronized: they are cheap compared to a request.
+ */
+private[concurrency] sealed abstract class LimitAlgorithm(initialLimit: Int, minLimit: Int, maxLimit: Int) {
+  @volatile protected var estimate: Double = initialLimit.toDouble
+
+  /** The current limit. */
+  final def limit: Int = estimate.toInt
+
+  /**
+   * Updates the limit with a request that completed.
+   *
+   * @param latencyNanos The time taken to handle the request.
+   * @param inFlight The number of requests in flight when the request was admitted, itself included.
+   * @param failed Whether the request failed rather than produced a result.
+   */
+  def update(latencyNanos: Long, inFlight: Int, failed: Boolean): Unit
+
+  protected final def clamp(limit: Double): Double = math.max(minLimit.toDouble, math.min(maxLimit.toDouble, limit))
+}
+
+/**
+ * Additive increase, multiplicative decrease: the limit grows by one with each request completed in time while the
+ * limit is used, and is multiplied by the backoff ratio when a request fails or takes longer than the timeout.
+ */
+private[concurrency] final class AimdLimit(
+    initialLimit: Int,
+    minLimit: Int,
+    maxLimit: Int,
+    backoffRatio: Double,
+    timeoutNanos: Long
+) extends LimitAlgorithm(initialLimit, minLimit, maxLimit) {
+  def update(latencyNanos: Long, inFlight: Int, failed: Boolean): Unit = synchronized {
+    if (failed || latencyNanos > timeoutNanos) {
+      estimate = clamp(estimate * backoffRatio)
+    } else if (inFlight * 2 >= estimate) {
+      // Only grow a limit that is used, else it grows without bound while the load is low
+      estimate = clamp(estimate + 1)
+    }
+  }
+}
+
+/**
+ * Compares the latency of each request with the long term average latency: while requests are not slower than the
+ * average times the tolerance, the limit grows by about its square root, which lets some requests queue. Once they
+ * are, the limit shrinks in proportion, by up to a half. Each change is smoothed to absorb the noise of single
+ * requests.
+ */
+private[concurrency] final class GradientLimit(
+    initialLimit: Int,
+    minLimit: Int,
+    maxLimit: Int,
+    smoothing: Double,
+    tolerance: Double,
+    longWindow: Int
+) extends LimitAlgorithm(initialLimit, minLimit, maxLimit) {
+  private val longRttFactor = 2.0 / (longWindow + 1)
+  private var longRtt       = 0.0
+
+  def update(latencyNanos: Long, inFlight: Int, failed: Boolean): Unit = synchronized {
+    val rtt = math.max(1L, latencyNanos).toDouble
+    longRtt = if (longRtt == 0) rtt else longRtt + (rtt - longRtt) * longRttFactor
+    // Once the load drops, let the average catch up with the faster requests so that the limit can grow again
+    if (longRtt / rtt > 2) longRtt *= 0.95
+
+    if (inFlight * 2 >= estimate) {
+      val gradient = math.max(0.5, math.min(1.0, tolerance * longRtt / rtt))
+      val newLimit = estimate * gradient + math.sqrt(estimate)
+      estimate = clamp(estimate * (1 - smoothing) + newLimit * smoothing)
+    }
+  }
+}
@@ -4,7 +4,6 @@
 
 package play.filters.csrf
 
-import java.net.URLDecoder
 import java.net.URLEncoder
 import java.util.Locale
 
@@ -28,6 +27,7 @@ import play.api.libs.crypto.CSRFTokenSigner
 import play.api.libs.streams.Accumulator
 import play.api.mvc._
 import play.api.MarkerContexts.SecurityMarkerContext
+import play.core.parsers.FormUrlEncodedParser
 import play.core.parsers.Multipart
 import play.filters.cors.CORSFilter
 import play.filters.csrf.CSRF._
@@ -208,16 +208,22 @@ class CSRFAction(
   private def extractTokenFromFormBody(body: ByteString, tokenName: String): Option[String] = {
     val tokenEquals = ByteString(URLEncoder.encode(tokenName, "utf-8")) ++ ByteString('=')
 
+    // Decodes the token in place, up to the next parameter
+    def tokenAt(from: Int): String = {
+      val until = body.indexOf('&'.toByte, from)
+      FormUrlEncodedParser.decode(body, from, if (until == -1) body.length else until, "utf-8")
+    }
+
     // First check if it's the first token
     if (body.startsWith(tokenEquals)) {
-      Some(URLDecoder.decode(body.drop(tokenEquals.size).takeWhile(_ != '&').utf8String, "utf-8"))
+      Some(tokenAt(tokenEquals.size))
     } else {
       val andTokenEquals = ByteString('&') ++ tokenEquals
       val index          = body.indexOfSlice(andTokenEquals)
       if (index == -1) {
         None
       } else {
-        Some(URLDecoder.decode(body.drop(index + andTokenEquals.size).takeWhile(_ != '&').utf8String, "utf-8"))
+        Some(tokenAt(index + andTokenEquals.size))
       }
     }
   }
@@ -549,7 +555,7 @@ class CSRFActionHelper(
    *         prevent caching (e.g. "no-store") in shared caches (e.g. proxies)
    */
   def isCacheableBySharedCache(result: Result): Boolean =
-    result.header.headers
+    result.header.headerFields
       .get(CACHE_CONTROL)
       .map(extractCacheControlDirectives)
       .fold(false)(!_.exists(NoCacheDirectives.contains))
@@ -0,0 +1,205 @@
+/*
+ * Copyright (C) from 2022 The Play Framework Contributors <https://github.com/playframework>, 2011-2021 Lightbend Inc. <https://www.lightbend.com>
+ */
+
+package play.filters.deadline
+
+import java.util.concurrent.atomic.AtomicBoolean
+import java.util.concurrent.TimeoutException
+
+import scala.concurrent.duration._
+import scala.concurrent.Future
+import scala.concurrent.Promise
+import scala.util.Failure
+
+import jakarta.inject.Inject
+import jakarta.inject.Provider
+import jakarta.inject.Singleton
+import org.apache.pekko.stream.scaladsl.Flow
+import org.apache.pekko.stream.Materializer
+import org.apache.pekko.util.ByteString
+import play.api.http.HttpErrorHandler
+import play.api.http.HttpErrorInfo
+import play.api.http.Status
+import play.api.inject.bind
+import play.api.inject.SimpleModule
+import play.api.libs.streams.Accumulator
+import play.api.mvc._
+import play.api.mvc.request.RequestAttrKey
+import play.api.Configuration
+import play.api.Logger
+import play.core.j.JavaHttpErrorHandlerAdapter
+import play.core.Execution.trampoline
+
+/**
+ * A filter giving requests a deadline, after which they are completed with a timeout response.
+ *
+ * The deadline is set as the [[play.api.mvc.request.RequestAttrKey.Deadline]] attribute of the request, so that the
+ * action and the calls it makes can use the time left as their timeout, see
+ * [[play.api.mvc.RequestHeader.remainingTime]]. Once the deadline passes, the reading of the request body stops, which
+ * fails its body parser, and the request is completed with the timeout response, whatever the action is still doing.
+ * The timeout response is rendered by the error handler, as a client error or a server error depending on its status.
+ *
+ * For documentation on configuring this filter, please see the Play documentation at
+ * [[https://www.playframework.com/documentation/latest/DeadlineFilter]]
+ *
+ * @param config A deadline filter configuration object
+ * @param httpErrorHandler rendering the timeout response.
+ */
+@Singleton
+class DeadlineFilter @Inject() (config: DeadlineConfig, httpErrorHandler: HttpErrorHandler)(
+    implicit mat: Materializer
+) extends EssentialFilter {
+
+  private val logger = Logger(getClass)
+
+  // Java API
+  def this(config: DeadlineConfig, errorHandler: play.http.HttpErrorHandler, mat: Materializer) = {
+    this(config, new JavaHttpErrorHandlerAdapter(errorHandler))(using mat)
+  }
+
+  override def apply(next: EssentialAction): EssentialAction = EssentialAction { req =>
+    config.timeout(req) match {
+      case None          => next(req)
+      case Some(timeout) =>
+        // Keep an earlier deadline, for instance set by an upstream filter
+        val fromNow  = timeout.fromNow
+        val deadline = req.deadline.filter(_ < fromNow).getOrElse(fromNow)
+        val request  = req.addAttr(RequestAttrKey.Deadline, deadline)
+        val action   = next(request)
+        if (request.hasBody) {
+          Accumulator(
+            Flow[ByteString]
+              .completionTimeout(deadline.timeLeft.max(Duration.Zero))
+              .toMat(action.toSink)((_, result) => withDeadline(request, deadline, result))
+          )
+        } else {
+          // Keep the accumulator strict, since there is no body to read
+          Accumulator.strict[ByteString, Result](
+            {
+              case None        => withDeadline(request, deadline, action.run())
+              case Some(bytes) => withDeadline(request, deadline, action.run(bytes))
+            },
+            action.toSink.mapMaterializedValue(withDeadline(request, deadline, _))
+          )
+        }
+    }
+  }
+
+  /** The result, or the timeout response if the deadline passes first. */
+  private def withDeadline(request: RequestHeader, deadline: Deadline, result: Future[Result]): Future[Result] = {
+    if (result.isCompleted) timedOut(request, deadline, result)
+    else {
+      val promise = Promise[Result]()
+      // Whether the result or the timeout response completes the promise
+      val decided = new AtomicBoolean()
+      val timer   = mat.scheduleOnce(
+        deadline.timeLeft.max(Duration.Zero),
+        () => if (decided.compareAndSet(false, true)) promise.completeWith(timeoutResult(request))
+      )
+      result.onComplete { _ =>
+        timer.cancel()
+        if (decided.compareAndSet(false, true)) promise.completeWith(timedOut(request, deadline, result))
+      }(trampoline)
+      promise.future
+    }
+  }
+
+  /** The result, with the timeout response if it failed because the reading of the body timed out. */
+  private def timedOut(request: RequestHeader, deadline: Deadline, result: Future[Result]): Future[Result] =
+    result.value match {
+      case Some(Failure(_: TimeoutException)) if deadline.isOverdue() => timeoutResult(request)
+      case _                                                          => result
+    }
+
+  /** The timeout response, rendered by the error handler with the configured status. */
+  private def timeoutResult(request: RequestHeader): Future[Result] = {
+    logger.debug(s"Request ${request.id} to ${request.path} timed out.")
+    val status = config.timeoutHttpStatusCode
+    val req    = request.addAttr(HttpErrorHandler.Attrs.HttpErrorInfo, HttpErrorInfo("deadline-filter"))
+    if (Status.isClientError(status)) {
+      httpErrorHandler.onClientError(req, status, "Request timed out")
+    } else {
+      // The error handler picks the status of server errors, usually 500, so the configured one replaces it
+      httpErrorHandler
+        .onServerError(req, new TimeoutException(s"Request ${request.id} to ${request.path} timed out"))
+        .map(result => result.copy(header = result.header.copy(status = status)))(trampoline)
+    }
+  }
+}
+
+/**
+ * The configuration of the [[DeadlineFilter]].
+ *
+ * @param timeout The time a request has to be handled, if it has a deadline.
+ * @param timeoutHttpStatusCode The status of the response to the requests that time out.
+ */
+case class DeadlineConfig(
+    timeout: RequestHeader => Option[FiniteDuration] = _ => None,
+    timeoutHttpStatusCode: Int = Status.SERVICE_UNAVAILABLE
+)
+
+object DeadlineConfig {
+
+  /**
+   * Parses out the DeadlineConfig from play.api.Configuration (usually this means application.conf).
+   */
+  def fromConfiguration(conf: Configuration): DeadlineConfig = {
+    val config = conf.get[Configuration]("play.filters.deadline")
+
+    val defaultTimeout   = config.get[Option[FiniteDuration]]("timeout")
+    val modifierTimeouts = config.get[Map[String, FiniteDuration]]("routeModifiers").toSeq
+    val header           = config.get[Option[String]]("header")
+    val maxHeaderTimeout = config.get[FiniteDuration]("maxHeaderTimeout")
+
+    // The shortest timeout of the route modifiers of the request, whatever their order
+    def configuredTimeout(rh: RequestHeader): Option[FiniteDuration] = {
+      import play.api.routing.Router.RequestImplicits._
+      modifierTimeouts
+        .collect { case (modifier, timeout) if rh.hasRouteModifier(modifier) => timeout }
+        .minOption
+        .orElse(defaultTimeout)
+    }
+
+    // A client can only ask for a shorter timeout, since it doesn't wait longer anyway
+    def headerTimeout(rh: RequestHeader): Option[FiniteDuration] =
+      header.flatMap(rh.headers.get).flatMap(_.toLongOption).filter(_ >= 0).map(_.millis.min(maxHeaderTimeout))
+
+    val timeout: RequestHeader => Option[FiniteDuration] = { rh =>
+      (configuredTimeout(rh), headerTimeout(rh)) match {
+        case (Some(configured), Some(asked)) => Some(configured.min(asked))
+        case (configured, asked)             => configured.orElse(asked)
+      }
+    }
+
+    DeadlineConfig(
+      timeout = timeout,
+      timeoutHttpStatusCode = config.get[Int]("timeoutHttpStatusCode")
+    )
+  }
+}
+
+@Singleton
+class DeadlineConfigProvider @Inject() (conf: Configuration) extends Provider[DeadlineConfig] {
+  lazy val get: DeadlineConfig = DeadlineConfig.fromConfiguration(conf)
+}
+
+class DeadlineModule
+    extends SimpleModule(
+      bind[DeadlineConfig].toProvider[DeadlineConfigProvider],
+      bind[DeadlineFilter].toSelf
+    )
+
+/**
+ * The deadline filter components.
+ */
+trait DeadlineComponents {
+  def configuration: Configuration
+
+  def httpErrorHandler: HttpErrorHandler
+
+  def materializer: Materializer
+
+  lazy val deadlineConfig: DeadlineConfig = DeadlineConfig.fromConfiguration(configuration)
+  lazy val deadlineFilter: DeadlineFilter = new DeadlineFilter(deadlineConfig, httpErrorHandler)(using materializer)
+}
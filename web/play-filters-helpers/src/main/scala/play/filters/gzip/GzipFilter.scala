@@ -78,9 +78,16 @@ class GzipFilter @Inject() (config: GzipFilterConfig)(implicit mat: Materializer
   private def handleResult(request: RequestHeader, result: Result): Future[Result] = {
     implicit val ec = mat.executionContext
     if (shouldCompress(result) && config.shouldGzip(request, result)) {
-      val header = result.header.copy(headers = setupHeader(result.header))
+      val header = setupHeader(result.header)
 
-      result.body match {
+      val body = result.body match {
+        // A file region can't be sent from the file once it's compressed, so compress it like any other stream
+        case region: HttpEntity.FileRegion =>
+          HttpEntity.Streamed(region.dataStream, region.contentLength, region.contentType)
+        case other => other
+      }
+
+      body match {
         case HttpEntity.Strict(data, contentType) =>
           compressStrictEntity(Source.single(data), contentType)
             .map(entity => result.copy(header = header, body = entity))
@@ -184,10 +191,10 @@ class GzipFilter @Inject() (config: GzipFilterConfig)(implicit mat: Materializer
   /**
    * Of course, we don't want to double compress responses
    */
-  private def isNotAlreadyCompressed(header: ResponseHeader) = header.headers.get(CONTENT_ENCODING).isEmpty
+  private def isNotAlreadyCompressed(header: ResponseHeader) = !header.headerFields.contains(CONTENT_ENCODING)
 
-  private def setupHeader(rh: ResponseHeader): Map[String, String] = {
-    rh.headers + (CONTENT_ENCODING -> "gzip") + rh.varyWith(ACCEPT_ENCODING)
+  private def setupHeader(rh: ResponseHeader): ResponseHeader = {
+    rh.withHeaders(CONTENT_ENCODING -> "gzip", rh.varyWith(ACCEPT_ENCODING))
   }
 }
 
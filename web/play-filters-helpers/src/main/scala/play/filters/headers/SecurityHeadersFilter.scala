@@ -160,7 +160,7 @@ class SecurityHeadersFilter @Inject() (config: SecurityHeadersConfig) extends Es
     ).flatten
 
     if (config.allowActionSpecificHeaders) {
-      headers.filter { case (name, _) => result.header.headers.get(name).isEmpty }
+      headers.filter { case (name, _) => !result.header.headerFields.contains(name) }
     } else {
       headers
     }
@@ -0,0 +1,229 @@
+/*
+ * Copyright (C) from 2022 The Play Framework Contributors <https://github.com/playframework>, 2011-2021 Lightbend Inc. <https://www.lightbend.com>
+ */
+
+package play.filters.ratelimit
+
+import scala.concurrent.duration._
+import scala.util.Failure
+import scala.util.Success
+
+import jakarta.inject.Inject
+import jakarta.inject.Provider
+import jakarta.inject.Singleton
+import org.apache.pekko.stream.Materializer
+import org.apache.pekko.util.ByteString
+import play.api.http.HeaderNames
+import play.api.http.HttpErrorHandler
+import play.api.http.HttpErrorInfo
+import play.api.http.Status
+import play.api.inject.bind
+import play.api.inject.SimpleModule
+import play.api.libs.streams.Accumulator
+import play.api.mvc._
+import play.api.Configuration
+import play.api.Logger
+import play.core.j.JavaHttpErrorHandlerAdapter
+import play.core.Execution.trampoline
+
+/**
+ * A filter limiting the rate of the requests of each key, for instance of each remote IP address.
+ *
+ * For documentation on configuring this filter, please see the Play documentation at
+ * [[https://www.playframework.com/documentation/latest/RateLimitFilter]]
+ *
+ * @param config A rate limit filter configuration object
+ * @param store The store of the rate limit of each key.
+ * @param httpErrorHandler handling rejected requests.
+ */
+@Singleton
+class RateLimitFilter @Inject() (config: RateLimitConfig, store: RateLimitStore, httpErrorHandler: HttpErrorHandler)(
+    implicit mat: Materializer
+) extends EssentialFilter {
+
+  private val logger = Logger(getClass)
+
+  // Java API
+  def this(
+      config: RateLimitConfig,
+      store: RateLimitStore,
+      errorHandler: play.http.HttpErrorHandler,
+      mat: Materializer
+  ) = {
+    this(config, store, new JavaHttpErrorHandlerAdapter(errorHandler))(using mat)
+  }
+
+  override def apply(next: EssentialAction): EssentialAction = EssentialAction { req =>
+    if (!config.shouldLimit(req)) {
+      next(req)
+    } else {
+      config.key(req) match {
+        case None      => next(req)
+        case Some(key) =>
+          val decision = store.tryAcquire(key, config.limit)
+          decision.value match {
+            case Some(Success(decision)) => handle(next, req, decision)
+            case Some(Failure(e))        => storeFailed(next, req, e)
+            case None                    =>
+              Accumulator.flatten(
+                decision.transform {
+                  case Success(decision) => Success(handle(next, req, decision))
+                  case Failure(e)        => Success(storeFailed(next, req, e))
+                }(trampoline)
+              )
+          }
+      }
+    }
+  }
+
+  private def handle(
+      next: EssentialAction,
+      req: RequestHeader,
+      decision: RateLimitDecision
+  ): Accumulator[ByteString, Result] = {
+    if (decision.allowed) {
+      if (config.headers) next(req).map(_.withHeaders(headers(decision)*))(trampoline) else next(req)
+    } else {
+      logger.debug(s"Rate limit exceeded for ${req.path} by ${req.remote.identity}.")
+      Accumulator.done(
+        httpErrorHandler
+          .onClientError(
+            req.addAttr(HttpErrorHandler.Attrs.HttpErrorInfo, HttpErrorInfo("rate-limit-filter")),
+            config.rejectedHttpStatusCode,
+            "Rate limit exceeded"
+          )
+          .map { result =>
+            val retryAfter = HeaderNames.RETRY_AFTER -> decision.retryAfterSeconds.toString
+            result.withHeaders((if (config.headers) retryAfter +: headers(decision) else Seq(retryAfter))*)
+          }(trampoline)
+      )
+    }
+  }
+
+  private def headers(decision: RateLimitDecision): Seq[(String, String)] = Seq(
+    RateLimitFilter.RateLimitLimit     -> decision.limit.toString,
+    RateLimitFilter.RateLimitRemaining -> decision.remaining.toString,
+    RateLimitFilter.RateLimitReset     -> decision.resetSeconds.toString
+  )
+
+  private def storeFailed(next: EssentialAction, req: RequestHeader, e: Throwable): Accumulator[ByteString, Result] = {
+    // An unavailable store doesn't make the application unavailable
+    logger.warn(s"Failed to check the rate limit of ${req.path}, allowing the request.", e)
+    next(req)
+  }
+}
+
+object RateLimitFilter {
+
+  /** The header with the number of requests that can be made at once. */
+  val RateLimitLimit = "RateLimit-Limit"
+
+  /** The header with the number of requests that can still be made at once. */
+  val RateLimitRemaining = "RateLimit-Remaining"
+
+  /** The header with the number of seconds until `RateLimit-Limit` requests can be made at once again. */
+  val RateLimitReset = "RateLimit-Reset"
+}
+
+/**
+ * The configuration of the [[RateLimitFilter]].
+ *
+ * @param limit The rate limit of each key.
+ * @param key The key of a request, if it's limited.
+ * @param shouldLimit Whether a request is limited, according to the modifiers of its route.
+ * @param maxKeys The number of keys over which the [[LocalRateLimitStore]] evicts keys.
+ * @param headers Whether the `RateLimit` headers are sent.
+ * @param rejectedHttpStatusCode The status of the response to rejected requests.
+ */
+case class RateLimitConfig(
+    limit: RateLimit = RateLimit(100, 1.minute, 100),
+    key: RequestHeader => Option[String] = RateLimitConfig.ipKey,
+    shouldLimit: RequestHeader => Boolean = _ => true,
+    maxKeys: Int = 100000,
+    headers: Boolean = true,
+    rejectedHttpStatusCode: Int = Status.TOO_MANY_REQUESTS
+)
+
+object RateLimitConfig {
+
+  /** Limits the requests of each remote identity, usually its IP address. */
+  val ipKey: RequestHeader => Option[String] = req => Some(req.remote.identity)
+
+  /**
+   * Limits the requests of each value of a session key, and the requests without a session of each remote identity.
+   */
+  def sessionKey(name: String): RequestHeader => Option[String] = { req =>
+    req.session.get(name).map("session:" + _).orElse(ipKey(req))
+  }
+
+  /**
+   * Parses out the RateLimitConfig from play.api.Configuration (usually this means application.conf).
+   */
+  def fromConfiguration(conf: Configuration): RateLimitConfig = {
+    val config = conf.get[Configuration]("play.filters.rateLimit")
+
+    val requests = config.get[Long]("requests")
+    val period   = config.get[FiniteDuration]("period")
+    val burst    = config.get[Option[Long]]("burst").getOrElse(requests)
+    if (requests <= 0) throw config.reportError("requests", "requests must be positive")
+    if (period <= Duration.Zero) throw config.reportError("period", "period must be positive")
+    if (burst <= 0) throw config.reportError("burst", "burst must be positive")
+    val maxKeys = config.get[Int]("maxKeys")
+    if (maxKeys <= 0) throw config.reportError("maxKeys", "maxKeys must be positive")
+
+    val key = config.get[String]("key") match {
+      case "ip"      => ipKey
+      case "session" => sessionKey(config.get[String]("sessionKey"))
+      case other     => throw config.reportError("key", s"Unknown key '$other', expected ip or session")
+    }
+
+    val whitelistModifiers = config.get[Seq[String]]("routeModifiers.whiteList")
+    val blacklistModifiers = config.get[Seq[String]]("routeModifiers.blackList")
+
+    val shouldLimit: RequestHeader => Boolean = { rh =>
+      import play.api.routing.Router.RequestImplicits._
+      if (whitelistModifiers.isEmpty) {
+        blacklistModifiers.isEmpty || blacklistModifiers.exists(rh.hasRouteModifier)
+      } else {
+        !whitelistModifiers.exists(rh.hasRouteModifier)
+      }
+    }
+
+    RateLimitConfig(
+      limit = RateLimit(requests, period, burst),
+      key = key,
+      shouldLimit = shouldLimit,
+      maxKeys = maxKeys,
+      headers = config.get[Boolean]("headers"),
+      rejectedHttpStatusCode = config.get[Int]("rejectedHttpStatusCode")
+    )
+  }
+}
+
+@Singleton
+class RateLimitConfigProvider @Inject() (conf: Configuration) extends Provider[RateLimitConfig] {
+  lazy val get: RateLimitConfig = RateLimitConfig.fromConfiguration(conf)
+}
+
+class RateLimitModule
+    extends SimpleModule(
+      bind[RateLimitConfig].toProvider[RateLimitConfigProvider],
+      bind[RateLimitStore].to[LocalRateLimitStore],
+      bind[RateLimitFilter].toSelf
+    )
+
+/**
+ * The rate limit filter components.
+ */
+trait RateLimitComponents {
+  def configuration: Configuration
+
+  def httpErrorHandler: HttpErrorHandler
+
+  def materializer: Materializer
+
+  lazy val rateLimitConfig: RateLimitConfig = RateLimitConfig.fromConfiguration(configuration)
+  lazy val rateLimitStore: RateLimitStore   = new LocalRateLimitStore(rateLimitConfig.maxKeys)
+  lazy val rateLimitFilter: RateLimitFilter =
+    new RateLimitFilter(rateLimitConfig, rateLimitStore, httpErrorHandler)(using materializer)
+}
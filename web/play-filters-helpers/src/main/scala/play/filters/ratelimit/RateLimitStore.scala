@@ -0,0 +1,156 @@
+/*
+ * Copyright (C) from 2022 The Play Framework Contributors <https://github.com/playframework>, 2011-2021 Lightbend Inc. <https://www.lightbend.com>
+ */
+
+package play.filters.ratelimit
+
+import java.util.concurrent.atomic.AtomicBoolean
+import java.util.concurrent.atomic.AtomicLong
+import java.util.concurrent.ConcurrentHashMap
+
+import scala.annotation.tailrec
+import scala.concurrent.duration._
+import scala.concurrent.Future
+
+import jakarta.inject.Inject
+import jakarta.inject.Singleton
+
+/**
+ * A rate limit: each key can make `burst` requests at once, and then `requests` requests per `period`.
+ *
+ * @param requests The number of requests per period.
+ * @param period The period.
+ * @param burst The number of requests that can be made at once, after the key made no request for a while.
+ */
+final case class RateLimit(requests: Long, period: FiniteDuration, burst: Long) {
+  require(requests > 0, s"requests must be positive, but was $requests")
+  require(period > Duration.Zero, s"period must be positive, but was $period")
+  require(burst > 0, s"burst must be positive, but was $burst")
+
+  /** The time it takes for a key to be able to make one more request. */
+  val intervalNanos: Long = math.max(1L, period.toNanos / requests)
+}
+
+/**
+ * Whether a request is allowed by a rate limit, and the state of the limit of its key, to be sent in the `RateLimit`
+ * headers of the response.
+ *
+ * @param allowed Whether the request is allowed.
+ * @param limit The number of requests the key can make at once.
+ * @param remaining The number of requests the key can still make at once.
+ * @param resetSeconds The number of seconds until the key can make `limit` requests at once again.
+ * @param retryAfterSeconds The number of seconds until the key can make a request again, 0 if it can.
+ */
+final case class RateLimitDecision(
+    allowed: Boolean,
+    limit: Long,
+    remaining: Long,
+    resetSeconds: Long,
+    retryAfterSeconds: Long
+)
+
+/**
+ * Stores the state of the rate limit of each key.
+ *
+ * The [[LocalRateLimitStore]] limits the requests made to a single server. To limit the requests made to a cluster of
+ * servers, bind an implementation sharing the state between the servers instead.
+ */
+trait RateLimitStore {
+
+  /**
+   * Counts a request of a key against a rate limit, if it's allowed.
+   *
+   * The returned future should be completed already when the decision is made locally, so that the request isn't
+   * delayed.
+   *
+   * @param key The key of the request.
+   * @param limit The rate limit.
+   */
+  def tryAcquire(key: String, limit: RateLimit): Future[RateLimitDecision]
+}
+
+/**
+ * Stores the rate limit of each key in memory, as a token bucket implemented with the generic cell rate algorithm:
+ * the state of a bucket is a single `long`, the time at which the bucket will be full again, updated with a
+ * compare-and-set, so requests of the same key never block each other.
+ *
+ * A bucket that is full again is the same as no bucket, so when the number of buckets reaches `maxKeys`, the full
+ * buckets are removed. If that's not enough, arbitrary buckets are removed, which lets their keys make a burst of
+ * requests again.
+ *
+ * @param maxKeys The number of buckets over which buckets are removed.
+ */
+@Singleton
+class LocalRateLimitStore(maxKeys: Int) extends RateLimitStore {
+  require(maxKeys > 0, s"maxKeys must be positive, but was $maxKeys")
+
+  @Inject
+  def this(config: RateLimitConfig) = this(config.maxKeys)
+
+  private val buckets  = new ConcurrentHashMap[String, AtomicLong]()
+  private val evicting = new AtomicBoolean
+
+  def tryAcquire(key: String, limit: RateLimit): Future[RateLimitDecision] =
+    Future.successful(acquire(key, limit, System.nanoTime()))
+
+  /** The number of buckets stored. */
+  def size: Int = buckets.size()
+
+  private[ratelimit] def acquire(key: String, limit: RateLimit, now: Long): RateLimitDecision = {
+    val interval  = limit.intervalNanos
+    val tolerance = interval * limit.burst
+    val bucket    = bucketOf(key, now)
+
+    @tailrec def loop(): RateLimitDecision = {
+      val full    = bucket.get()
+      val newFull = math.max(full, now) + interval
+      if (newFull - now > tolerance) {
+        RateLimitDecision(
+          allowed = false,
+          limit = limit.burst,
+          remaining = 0,
+          resetSeconds = seconds(full - now),
+          retryAfterSeconds = seconds(newFull - now - tolerance)
+        )
+      } else if (bucket.compareAndSet(full, newFull)) {
+        RateLimitDecision(
+          allowed = true,
+          limit = limit.burst,
+          remaining = (tolerance - (newFull - now)) / interval,
+          resetSeconds = seconds(newFull - now),
+          retryAfterSeconds = 0
+        )
+      } else loop()
+    }
+    loop()
+  }
+
+  private def seconds(nanos: Long): Long = (nanos + 999999999L) / 1000000000L
+
+  private def bucketOf(key: String, now: Long): AtomicLong = {
+    val bucket = buckets.get(key)
+    if (bucket != null) bucket
+    else {
+      if (buckets.size() >= maxKeys) evict(now)
+      // A bucket that was never used is full
+      buckets.computeIfAbsent(key, _ => new AtomicLong(Long.MinValue))
+    }
+  }
+
+  private def evict(now: Long): Unit = {
+    // Other threads go on while one thread evicts, so the number of buckets can briefly exceed maxKeys
+    if (evicting.compareAndSet(false, true)) {
+      try {
+        // A request updating a bucket being removed may not be counted, which is harmless
+        buckets.forEach((key, bucket) => if (bucket.get() <= now) buckets.remove(key, bucket))
+        // Make some room, so that buckets aren't evicted again with each new key
+        val target   = maxKeys - math.max(1, maxKeys / 10)
+        val iterator = buckets.values().iterator()
+        while (buckets.size() > target && iterator.hasNext) {
+          iterator.next()
+          iterator.remove()
+        }
+      } finally evicting.set(false)
+    }
+  }
+}
@@ -0,0 +1,222 @@
+/*
+ * Copyright (C) from 2022 The Play Framework Contributors <https://github.com/playframework>, 2011-2021 Lightbend Inc. <https://www.lightbend.com>
+ */
+
+package play.filters.concurrency
+
+import java.util.concurrent.atomic.AtomicInteger
+import java.util.concurrent.ConcurrentLinkedQueue
+
+import scala.concurrent.duration._
+import scala.concurrent.Future
+import scala.concurrent.Promise
+
+import com.typesafe.config.ConfigFactory
+import jakarta.inject.Inject
+import org.apache.pekko.actor.ActorSystem
+import org.apache.pekko.stream.Materializer
+import org.apache.pekko.util.ByteString
+import play.api.http.HttpFilters
+import play.api.inject.bind
+import play.api.inject.guice.GuiceApplicationBuilder
+import play.api.libs.streams.Accumulator
+import play.api.mvc._
+import play.api.mvc.Results._
+import play.api.routing.HandlerDef
+import play.api.routing.Router
+import play.api.test._
+import play.api.Configuration
+import play.api.Environment
+import play.filters.concurrency.ConcurrencyLimitConfig.Priority
+
+private[concurrency] class CountingFilter extends EssentialFilter {
+  val count = new AtomicInteger
+
+  override def apply(next: EssentialAction): EssentialAction = EssentialAction { req =>
+    count.incrementAndGet()
+    next(req)
+  }
+}
+
+private[concurrency] class TestFilters @Inject() (filter: CountingFilter) extends HttpFilters {
+  override def filters: Seq[EssentialFilter] = Seq(filter)
+}
+
+class ConcurrencyLimiterSpec extends PlaySpecification {
+  implicit val system: ActorSystem        = ActorSystem()
+  implicit val materializer: Materializer = Materializer.matFromSystem(using system)
+
+  private def config(limit: Int) = ConcurrencyLimitConfig(initialLimit = limit, minLimit = 1, maxLimit = limit)
+
+  /** An action whose results are produced when the test completes their promises. */
+  private class PendingAction extends EssentialAction {
+    val promises = new ConcurrentLinkedQueue[Promise[Result]]
+
+    def apply(request: RequestHeader): Accumulator[ByteString, Result] = {
+      val promise = Promise[Result]()
+      promises.add(promise)
+      Accumulator.done(promise.future)
+    }
+
+    def completeAll(): Unit = while (!promises.isEmpty) promises.poll().success(Ok)
+  }
+
+  private def run(action: EssentialAction, request: RequestHeader = FakeRequest()): Future[Result] =
+    action(request).run()
+
+  private def routed(path: String, modifiers: String*): RequestHeader =
+    FakeRequest("GET", path).addAttr(
+      Router.Attrs.HandlerDef,
+      HandlerDef(getClass.getClassLoader, "routes", "FooController", "foo", Seq.empty, "GET", path, "", modifiers)
+    )
+
+  "ConcurrencyLimiter" should {
+    "reject the requests exceeding the limit until requests complete" in {
+      val limiter = new ConcurrencyLimiter(config(2))
+      val pending = new PendingAction
+      val limited = limiter.limit(pending)
+
+      val admitted = Seq(run(limited), run(limited))
+      val rejected = run(limited)
+      status(rejected) must_== SERVICE_UNAVAILABLE
+      header(RETRY_AFTER, rejected) must beSome("1")
+      limiter.inFlight must_== 2
+      limiter.rejectedCount must_== 1
+
+      pending.completeAll()
+      admitted.map(status(_)) must_== Seq(OK, OK)
+      limiter.inFlight must_== 0
+      val next = run(limited)
+      limiter.inFlight must_== 1
+      pending.completeAll()
+      status(next) must_== OK
+    }
+
+    "release the requests that fail" in {
+      val limiter = new ConcurrencyLimiter(config(1))
+      val failing = limiter.limit(EssentialAction(_ => Accumulator.done(Future.failed[Result](new Exception("boom")))))
+      await(run(failing)) must throwAn[Exception]
+      limiter.inFlight must_== 0
+    }
+
+    "never reject critical requests and reject low priority requests first" in {
+      val priorities: Map[String, Priority] = Map("/health" -> Priority.Critical, "/report" -> Priority.Low)
+      val limiter                           = new ConcurrencyLimiter(
+        config(10).copy(priority = rh => priorities.getOrElse(rh.path, Priority.Normal), lowPriorityShare = 0.5)
+      )
+      val pending = new PendingAction
+      val limited = limiter.limit(pending)
+
+      (1 to 5).foreach(_ => run(limited, FakeRequest("GET", "/report")))
+      status(run(limited, FakeRequest("GET", "/report"))) must_== SERVICE_UNAVAILABLE
+      (1 to 5).foreach(_ => run(limited))
+      status(run(limited)) must_== SERVICE_UNAVAILABLE
+      val health = run(limited, FakeRequest("GET", "/health"))
+      limiter.inFlight must_== 10
+
+      pending.completeAll()
+      status(health) must_== OK
+    }
+
+    "limit each route separately when configured to" in {
+      val limiter = new ConcurrencyLimiter(config(1).copy(perRoute = true))
+      val pending = new PendingAction
+      val limited = limiter.limit(pending)
+
+      run(limited, routed("/a"))
+      run(limited, routed("/b"))
+      status(run(limited, routed("/a"))) must_== SERVICE_UNAVAILABLE
+      limiter.currentLimit("/a") must beSome(1)
+      limiter.currentLimit("/c") must beNone
+      limiter.inFlight must_== 2
+      pending.completeAll()
+      limiter.inFlight must_== 0
+    }
+
+    "not send Retry-After when it's not configured" in {
+      val limiter = new ConcurrencyLimiter(config(1).copy(retryAfter = None, rejectedHttpStatusCode = 429))
+      val pending = new PendingAction
+      run(limiter.limit(pending))
+      val rejected = run(limiter.limit(pending))
+      status(rejected) must_== TOO_MANY_REQUESTS
+      header(RETRY_AFTER, rejected) must beNone
+    }
+  }
+
+  "AimdLimit" should {
+    "grow while the limit is used and back off when requests time out" in {
+      val limit = new AimdLimit(10, 1, 20, 0.5, 1.second.toNanos)
+      limit.update(1.millis.toNanos, 2, failed = false)
+      limit.limit must_== 10
+      limit.update(1.millis.toNanos, 8, failed = false)
+      limit.limit must_== 11
+      limit.update(2.seconds.toNanos, 8, failed = false)
+      limit.limit must_== 5
+      limit.update(1.millis.toNanos, 8, failed = true)
+      limit.limit must_== 2
+    }
+  }
+
+  "GradientLimit" should {
+    "grow while the latency is stable and shrink once it rises" in {
+      val limit = new GradientLimit(20, 1, 1000, 0.2, 2.0, 600)
+      (1 to 10).foreach(_ => limit.update(10.millis.toNanos, 20, failed = false))
+      val grown = limit.limit
+      grown must be_>(20)
+      (1 to 10).foreach(_ => limit.update(100.millis.toNanos, grown, failed = false))
+      limit.limit must be_<(grown)
+    }
+  }
+
+  "ConcurrencyLimitConfig" should {
+    "read the priorities from the route modifiers and path prefixes" in {
+      val config = ConcurrencyLimitConfig.fromConfiguration(
+        Configuration(
+          ConfigFactory.parseString("""play.filters.concurrencyLimit.critical.pathPrefixes = ["/health"]""")
+        ).withFallback(Configuration.reference)
+      )
+      config.priority(FakeRequest("GET", "/health/live")) must_== Priority.Critical
+      config.priority(routed("/admin", "critical")) must_== Priority.Critical
+      config.priority(routed("/export", "sheddable")) must_== Priority.Low
+      config.priority(routed("/")) must_== Priority.Normal
+      config.algorithm must_== ConcurrencyLimitConfig.Gradient()
+    }
+
+    "reject an unknown algorithm" in {
+      ConcurrencyLimitConfig.fromConfiguration(
+        Configuration("play.filters.concurrencyLimit.algorithm" -> "fifo").withFallback(Configuration.reference)
+      ) must throwA[play.api.PlayException]
+    }
+  }
+
+  "ConcurrencyLimitHttpRequestHandler" should {
+    "reject the requests exceeding the limit before the filters run" in {
+      val pending = new PendingAction
+      val filter  = new CountingFilter
+      val app     = GuiceApplicationBuilder(Environment.simple())
+        .configure(
+          "play.http.requestHandler"                   -> classOf[ConcurrencyLimitHttpRequestHandler].getName,
+          "play.filters.concurrencyLimit.initialLimit" -> 1,
+          "play.filters.concurrencyLimit.minLimit"     -> 1,
+          "play.filters.concurrencyLimit.maxLimit"     -> 1
+        )
+        .load(
+          new play.api.inject.BuiltinModule,
+          new play.api.mvc.CookiesModule,
+          new play.api.i18n.I18nModule,
+          new play.filters.concurrency.ConcurrencyLimitModule
+        )
+        .appRoutes(_ => { case _ => pending })
+        .overrides(bind[CountingFilter].toInstance(filter), bind[HttpFilters].to[TestFilters])
+        .build()
+      running(app) {
+        val admitted = route(app, FakeRequest()).get
+        val rejected = route(app, FakeRequest()).get
+        status(rejected) must_== SERVICE_UNAVAILABLE
+        filter.count.get must_== 1
+        pending.completeAll()
+        status(admitted) must_== OK
+      }
+    }
+  }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright (C) from 2022 The Play Framework Contributors <https://github.com/playframework>, 2011-2021 Lightbend Inc. <https://www.lightbend.com>
+ */
+
+package play.filters.deadline
+
+import scala.concurrent.duration._
+import scala.concurrent.Future
+import scala.concurrent.Promise
+
+import org.apache.pekko.actor.ActorSystem
+import org.apache.pekko.stream.scaladsl.Sink
+import org.apache.pekko.stream.scaladsl.Source
+import org.apache.pekko.stream.Materializer
+import org.apache.pekko.util.ByteString
+import play.api.http.DefaultHttpErrorHandler
+import play.api.http.HttpErrorHandler
+import play.api.libs.streams.Accumulator
+import play.api.mvc._
+import play.api.mvc.Results._
+import play.api.routing.HandlerDef
+import play.api.routing.Router
+import play.api.test._
+import play.api.Configuration
+
+class DeadlineFilterSpec extends PlaySpecification {
+  implicit val system: ActorSystem        = ActorSystem()
+  implicit val materializer: Materializer = Materializer.matFromSystem(using system)
+
+  private def filter(config: (String, Any)*): DeadlineFilter = filterWith(DefaultHttpErrorHandler)(config*)
+
+  private def filterWith(errorHandler: HttpErrorHandler)(config: (String, Any)*): DeadlineFilter = new DeadlineFilter(
+    DeadlineConfig.fromConfiguration(
+      Configuration.from(config.map { case (key, value) => s"play.filters.deadline.$key" -> value }.toMap)
+        .withFallback(Configuration.reference)
+    ),
+    errorHandler
+  )
+
+  /** An error handler rendering the origin of the errors. */
+  private object OriginErrorHandler extends HttpErrorHandler {
+    private def origin(request: RequestHeader) =
+      request.attrs.get(HttpErrorHandler.Attrs.HttpErrorInfo).fold("unknown")(_.origin)
+
+    def onClientError(request: RequestHeader, statusCode: Int, message: String): Future[Result] =
+      Future.successful(Status(statusCode)(s"client error from ${origin(request)}"))
+
+    def onServerError(request: RequestHeader, exception: Throwable): Future[Result] =
+      Future.successful(InternalServerError(s"server error from ${origin(request)}"))
+  }
+
+  private def routed(request: FakeRequest[?], modifiers: String*) = request.addAttr(
+    Router.Attrs.HandlerDef,
+    HandlerDef(getClass.getClassLoader, "routes", "FooController", "foo", Seq.empty, "GET", "/", "", modifiers)
+  )
+
+  /** An action that never completes, remembering the time left to its request. */
+  private class StuckAction extends EssentialAction {
+    @volatile var remainingTime: Option[FiniteDuration] = None
+
+    def apply(request: RequestHeader): Accumulator[ByteString, Result] = {
+      remainingTime = request.remainingTime
+      Accumulator.done(Promise[Result]().future)
+    }
+  }
+
+  "DeadlineFilter" should {
+    "not give requests a deadline by default" in {
+      val action = new StuckAction
+      filter()(action)(FakeRequest())
+      action.remainingTime must beNone
+    }
+
+    "complete the requests whose deadline passes with the timeout response" in {
+      val action = new StuckAction
+      val result = filter("timeout" -> "100 millis")(action)(FakeRequest()).run()
+      status(result) must_== SERVICE_UNAVAILABLE
+      action.remainingTime.map(_.toMillis) must beSome(beBetween(0L, 100L))
+    }
+
+    "render the timeout response with the error handler" in {
+      val serverError = filterWith(OriginErrorHandler)("timeout" -> "100 millis")(new StuckAction)(FakeRequest()).run()
+      status(serverError) must_== SERVICE_UNAVAILABLE
+      contentAsString(serverError) must_== "server error from deadline-filter"
+
+      val config      = Seq("timeout" -> "100 millis", "timeoutHttpStatusCode" -> REQUEST_TIMEOUT)
+      val clientError = filterWith(OriginErrorHandler)(config*)(new StuckAction)(FakeRequest()).run()
+      status(clientError) must_== REQUEST_TIMEOUT
+      contentAsString(clientError) must_== "client error from deadline-filter"
+    }
+
+    "not change the results produced in time" in {
+      val result = filter("timeout" -> "10 seconds")(EssentialAction(_ => Accumulator.done(Ok("done"))))(FakeRequest())
+      contentAsString(result.run()) must_== "done"
+    }
+
+    "stop reading the body of the requests whose deadline passes" in {
+      val consumed = EssentialAction(_ => Accumulator(Sink.ignore).map(_ => Ok)(using play.core.Execution.trampoline))
+      val request  = FakeRequest("POST", "/").withHeaders(CONTENT_LENGTH -> "100")
+      // A body that never ends
+      val result = filter("timeout" -> "100 millis")(consumed)(request).run(Source.maybe[ByteString])
+      status(result) must_== SERVICE_UNAVAILABLE
+    }
+
+    "use the timeout of the route modifiers of the request" in {
+      val action = new StuckAction
+      filter("timeout" -> "1 second", "routeModifiers.upload" -> "1 hour")(action)(routed(FakeRequest(), "upload"))
+      action.remainingTime.map(_.toMillis) must beSome(beBetween(59.minutes.toMillis, 1.hour.toMillis))
+    }
+
+    "use the shortest timeout of the route modifiers of the request" in {
+      val action = new StuckAction
+      val config = Seq("routeModifiers.upload" -> "1 hour", "routeModifiers.report" -> "1 minute")
+      filter(config*)(action)(routed(FakeRequest(), "upload", "report"))
+      action.remainingTime.map(_.toMillis) must beSome(beBetween(50.seconds.toMillis, 1.minute.toMillis))
+      filter(config*)(action)(routed(FakeRequest(), "report", "upload"))
+      action.remainingTime.map(_.toMillis) must beSome(beBetween(50.seconds.toMillis, 1.minute.toMillis))
+    }
+
+    "let the client shorten the deadline with the header" in {
+      val action = new StuckAction
+      val config = Seq("timeout" -> "1 minute", "header" -> "Request-Timeout-Ms")
+      filter(config*)(action)(FakeRequest().withHeaders("Request-Timeout-Ms" -> "2000"))
+      action.remainingTime.map(_.toMillis) must beSome(beBetween(0L, 2000L))
+      filter(config*)(action)(FakeRequest().withHeaders("Request-Timeout-Ms" -> "3600000"))
+      action.remainingTime.map(_.toMillis) must beSome(beBetween(50000L, 60000L))
+    }
+
+    "keep an earlier deadline of the request" in {
+      val action  = new StuckAction
+      val request = FakeRequest().addAttr(play.api.mvc.request.RequestAttrKey.Deadline, 1.second.fromNow)
+      filter("timeout" -> "1 minute")(action)(request)
+      action.remainingTime.map(_.toMillis) must beSome(beBetween(0L, 1000L))
+    }
+  }
+}
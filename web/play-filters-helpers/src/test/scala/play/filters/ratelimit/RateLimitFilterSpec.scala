@@ -0,0 +1,181 @@
+/*
+ * Copyright (C) from 2022 The Play Framework Contributors <https://github.com/playframework>, 2011-2021 Lightbend Inc. <https://www.lightbend.com>
+ */
+
+package play.filters.ratelimit
+
+import scala.concurrent.duration._
+import scala.concurrent.ExecutionContext
+import scala.concurrent.Future
+
+import com.typesafe.config.ConfigFactory
+import jakarta.inject.Inject
+import play.api.http.HttpFilters
+import play.api.inject.bind
+import play.api.inject.guice.GuiceApplicationBuilder
+import play.api.mvc._
+import play.api.mvc.request.RemoteInfo
+import play.api.mvc.Results._
+import play.api.routing.HandlerDef
+import play.api.routing.Router
+import play.api.test._
+import play.api.test.WithApplication
+import play.api.Application
+import play.api.Configuration
+import play.api.Environment
+
+private[ratelimit] class TestFilters @Inject() (rateLimitFilter: RateLimitFilter) extends HttpFilters {
+  override def filters: Seq[EssentialFilter] = Seq(rateLimitFilter)
+}
+
+private[ratelimit] class FailingRateLimitStore extends RateLimitStore {
+  def tryAcquire(key: String, limit: RateLimit): Future[RateLimitDecision] =
+    Future.failed(new IllegalStateException("Store unavailable"))
+}
+
+class RateLimitFilterSpec extends PlaySpecification {
+  "LocalRateLimitStore" should {
+    val limit = RateLimit(requests = 10, period = 10.seconds, burst = 3)
+
+    "allow a burst of requests and then one request per interval" in {
+      val store = new LocalRateLimitStore(100)
+      store.acquire("a", limit, 0L).remaining must_== 2
+      store.acquire("a", limit, 0L).remaining must_== 1
+      store.acquire("a", limit, 0L).remaining must_== 0
+      val rejected = store.acquire("a", limit, 0L)
+      rejected.allowed must beFalse
+      rejected.retryAfterSeconds must_== 1
+      rejected.resetSeconds must_== 3
+
+      store.acquire("a", limit, 500.millis.toNanos).allowed must beFalse
+      store.acquire("a", limit, 1.second.toNanos).allowed must beTrue
+      store.acquire("a", limit, 1.second.toNanos).allowed must beFalse
+      store.acquire("b", limit, 1.second.toNanos).allowed must beTrue
+    }
+
+    "refill the bucket of a key that stopped making requests" in {
+      val store = new LocalRateLimitStore(100)
+      (1 to 3).foreach(_ => store.acquire("a", limit, 0L))
+      val decision = store.acquire("a", limit, 10.seconds.toNanos)
+      decision.allowed must beTrue
+      decision.remaining must_== 2
+    }
+
+    "evict the full buckets first once maxKeys is reached" in {
+      val store = new LocalRateLimitStore(3)
+      store.acquire("idle", limit, 0L)
+      (1 to 3).foreach(_ => store.acquire("busy", limit, 10.seconds.toNanos))
+      store.acquire("other", limit, 10.seconds.toNanos)
+      store.size must_== 3
+      store.acquire("new", limit, 10.seconds.toNanos).allowed must beTrue
+      store.size must_== 3
+      store.acquire("busy", limit, 10.seconds.toNanos).allowed must beFalse
+    }
+
+    "count concurrent requests exactly once" in {
+      implicit val ec: ExecutionContext = ExecutionContext.global
+      val store                         = new LocalRateLimitStore(100)
+      val limit                         = RateLimit(requests = 1, period = 1.hour, burst = 1000)
+      val now                           = System.nanoTime()
+
+      val counts = (1 to 8).map(_ => Future((1 to 200).count(_ => store.acquire("a", limit, now).allowed)))
+      await(Future.sequence(counts)).sum must_== 1000
+    }
+  }
+
+  "RateLimitFilter" should {
+    "send the RateLimit headers with the responses of allowed requests" in new WithApplication(
+      buildApp("play.filters.rateLimit.requests = 2")
+    ) {
+      override def running() = {
+        val result = route(app, request("/", "192.168.0.1")).get
+        status(result) must_== OK
+        header("RateLimit-Limit", result) must beSome("2")
+        header("RateLimit-Remaining", result) must beSome("1")
+        header("RateLimit-Reset", result) must beSome("30")
+      }
+    }
+
+    "reject the requests over the limit of their remote address" in new WithApplication(
+      buildApp("play.filters.rateLimit.requests = 2")
+    ) {
+      override def running() = {
+        status(route(app, request("/", "192.168.0.1")).get) must_== OK
+        status(route(app, request("/", "192.168.0.1")).get) must_== OK
+        val rejected = route(app, request("/", "192.168.0.1")).get
+        status(rejected) must_== TOO_MANY_REQUESTS
+        header(RETRY_AFTER, rejected) must beSome("30")
+        header("RateLimit-Remaining", rejected) must beSome("0")
+        status(route(app, request("/", "192.168.0.2")).get) must_== OK
+      }
+    }
+
+    "limit the requests of each session" in new WithApplication(
+      buildApp("""
+                 |play.filters.rateLimit.requests = 1
+                 |play.filters.rateLimit.key = session
+                 |play.filters.rateLimit.sessionKey = user
+      """.stripMargin)
+    ) {
+      override def running() = {
+        status(route(app, request("/", "192.168.0.1").withSession("user" -> "alice")).get) must_== OK
+        status(route(app, request("/", "192.168.0.1").withSession("user" -> "bob")).get) must_== OK
+        status(route(app, request("/", "192.168.0.1").withSession("user" -> "alice")).get) must_== TOO_MANY_REQUESTS
+      }
+    }
+
+    "not limit the routes with the noratelimit modifier" in new WithApplication(
+      buildApp("play.filters.rateLimit.requests = 1")
+    ) {
+      override def running() = {
+        val req = request("/", "192.168.0.1").addAttr(
+          Router.Attrs.HandlerDef,
+          HandlerDef(app.classloader, "routes", "FooController", "foo", Seq.empty, "GET", "/", "", Seq("noratelimit"))
+        )
+        status(route(app, req).get) must_== OK
+        status(route(app, req).get) must_== OK
+        header("RateLimit-Limit", route(app, req).get) must beNone
+      }
+    }
+
+    "allow the requests when the store fails" in new WithApplication(
+      buildApp("play.filters.rateLimit.requests = 1", Some(new FailingRateLimitStore))
+    ) {
+      override def running() = {
+        status(route(app, request("/", "192.168.0.1")).get) must_== OK
+        status(route(app, request("/", "192.168.0.1")).get) must_== OK
+      }
+    }
+  }
+
+  "RateLimitConfig" should {
+    "reject an unknown key" in {
+      RateLimitConfig.fromConfiguration(
+        Configuration("play.filters.rateLimit.key" -> "cookie").withFallback(Configuration.reference)
+      ) must throwA[play.api.PlayException]
+    }
+  }
+
+  private def request(path: String, ip: String): FakeRequest[AnyContentAsEmpty.type] =
+    FakeRequest(method = "GET", path = path).withRemote(RemoteInfo.ip(ip, None))
+
+  private def buildApp(config: String, store: Option[RateLimitStore] = None): Application = {
+    val builder = GuiceApplicationBuilder(Environment.simple())
+      .configure(Configuration(ConfigFactory.parseString(config)))
+      .load(
+        new play.api.inject.BuiltinModule,
+        new play.api.mvc.CookiesModule,
+        new play.api.i18n.I18nModule,
+        new play.filters.ratelimit.RateLimitModule
+      )
+      .appRoutes(app => {
+        case ("GET", "/") =>
+          val action = app.injector.instanceOf[DefaultActionBuilder]
+          action(Ok(""))
+      })
+      .overrides(
+        bind[HttpFilters].to[TestFilters]
+      )
+    store.fold(builder)(store => builder.overrides(bind[RateLimitStore].toInstance(store))).build()
+  }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (C) from 2022 The Play Framework Contributors <https://github.com/playframework>, 2011-2021 Lightbend Inc. <https://www.lightbend.com>
+ */
+
+package play.data;
+
+import static play.libs.F.Tuple;
+
+import jakarta.validation.ValidatorFactory;
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+import play.data.internal.binding.util.ClassUtils;
+import play.data.internal.binding.util.ConcurrentReferenceHashMap;
+
+/**
+ * Caches the format and the displayable constraints of the fields of each form class, which
+ * {@link Form#field(String)} would otherwise look up again, through reflection and the bean
+ * validation metadata, each time a field is rendered.
+ *
+ * <p>Like the {@code CachedIntrospectionResults} of the binding, the metadata of the classes
+ * loaded by the class loader of Play, or one of its parents, is strongly held, while the metadata
+ * of other classes, such as the classes of an application reloaded in dev mode, is softly held, so
+ * that their class loader can be collected. The validator factory the metadata was computed with
+ * is only weakly held, since it can reach the application it belongs to, which would otherwise be
+ * kept alive after a reload in dev mode or once a test application is stopped.
+ */
+final class FieldMetadataCache {
+
+  /** The number of fields cached for each class, beyond which fields aren't cached anymore. */
+  static final int MAX_FIELDS_PER_CLASS = 1024;
+
+  /** The collection indexes of a field path, which don't change its metadata within the limit. */
+  private static final Pattern INDEX = Pattern.compile("\\[(\\d+)]");
+
+  private static final ConcurrentMap<Class<?>, Fields> strongClassCache =
+      new ConcurrentHashMap<>(64);
+
+  private static final ConcurrentMap<Class<?>, Fields> softClassCache =
+      new ConcurrentReferenceHashMap<>(64);
+
+  private FieldMetadataCache() {}
+
+  /** The format and the displayable constraints of a field. */
+  record Metadata(
+      Tuple<String, List<Object>> format, List<Tuple<String, List<Object>>> constraints) {}
+
+  /**
+   * What the metadata of a field of a class depends on.
+   *
+   * <p>Only the indexes within the auto grow collection limit are collapsed, so that the paths
+   * beyond the limit still fail to be looked up.
+   */
+  record Key(
+      String rootName,
+      String path,
+      List<Class<?>> groups,
+      boolean directFieldAccess,
+      int autoGrowCollectionLimit) {
+
+    Key(
+        String rootName,
+        String key,
+        Class<?>[] groups,
+        boolean directFieldAccess,
+        int autoGrowCollectionLimit) {
+      this(
+          rootName,
+          key.indexOf('[') < 0
+              ? key
+              : INDEX
+                  .matcher(key)
+                  .replaceAll(
+                      m -> isWithinLimit(m.group(1), autoGrowCollectionLimit) ? "[]" : m.group()),
+          groups != null ? Arrays.asList(groups) : null,
+          directFieldAccess,
+          autoGrowCollectionLimit);
+    }
+
+    private static boolean isWithinLimit(String index, int limit) {
+      return index.length() < 10 && Integer.parseInt(index) < limit;
+    }
+  }
+
+  /** The metadata of the fields of a class, computed with a validator factory. */
+  private record Fields(
+      WeakReference<ValidatorFactory> validatorFactory, ConcurrentMap<Key, Metadata> metadata) {}
+
+  /**
+   * Returns the metadata of a field of a class, computing it if it isn't cached.
+   *
+   * @param backedType the class of the form.
+   * @param validatorFactory the validator factory the constraints are looked up with.
+   * @param key the field.
+   * @param compute computes the metadata of the field.
+   * @return the metadata of the field.
+   */
+  static Metadata get(
+      Class<?> backedType, ValidatorFactory validatorFactory, Key key, Supplier<Metadata> compute) {
+    Fields fields = strongClassCache.get(backedType);
+    if (fields == null) {
+      fields = softClassCache.get(backedType);
+    }
+    if (fields == null || fields.validatorFactory().get() != validatorFactory) {
+      // The constraints of another validator factory may differ
+      fields = new Fields(new WeakReference<>(validatorFactory), new ConcurrentHashMap<>());
+      if (ClassUtils.isCacheSafe(backedType, FieldMetadataCache.class.getClassLoader())) {
+        strongClassCache.put(backedType, fields);
+      } else {
+        softClassCache.put(backedType, fields);
+      }
+    }
+
+    Metadata metadata = fields.metadata().get(key);
+    if (metadata == null) {
+      metadata = compute.get();
+      // Map keys can be arbitrary, so don't let the fields of a class grow without bounds
+      if (fields.metadata().size() < MAX_FIELDS_PER_CLASS) {
+        fields.metadata().putIfAbsent(key, metadata);
+      }
+    }
+    return metadata;
+  }
+}
@@ -21,6 +21,7 @@ import jakarta.validation.metadata.PropertyDescriptor;
 import java.lang.annotation.Annotation;
 import java.lang.annotation.Retention;
 import java.lang.annotation.Target;
+import java.lang.reflect.Constructor;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -55,6 +56,7 @@ import play.data.internal.binding.beans.PropertyAccessException;
 import play.data.internal.binding.beans.PropertyValue;
 import play.data.internal.binding.context.i18n.LocaleContextHolder;
 import play.data.internal.binding.context.support.DefaultMessageSourceResolvable;
+import play.data.internal.binding.core.convert.ConversionService;
 import play.data.internal.binding.util.ObjectUtils;
 import play.data.internal.binding.util.StringUtils;
 import play.data.internal.binding.validation.BindingResult;
@@ -94,6 +96,86 @@ public class Form<T> {
 
   private static final String INVALID_MSG_KEY = "error.invalid";
 
+  /**
+   * The default constructor of each form class, if it has one, which would otherwise be looked up
+   * again for each bind. Being held by the classes themselves, they don't keep reloaded classes
+   * from being collected.
+   */
+  private static final ClassValue<Constructor<?>> BLANK_CONSTRUCTORS =
+      new ClassValue<Constructor<?>>() {
+        @Override
+        protected Constructor<?> computeValue(Class<?> type) {
+          try {
+            return type.getDeclaredConstructor();
+          } catch (NoSuchMethodException e) {
+            return null;
+          }
+        }
+      };
+
+  /**
+   * The parts of the binding of a form that are the same for each bind: the settings of the form,
+   * its configured conversion service and its validator factory. Each bind only creates the object
+   * to bind to, the binder collecting its result and a validator carrying its payload.
+   */
+  private static final class BindingTemplate {
+
+    private final String rootName;
+    private final Class<?>[] groups;
+    private final boolean directFieldAccess;
+    private final int autoGrowCollectionLimit;
+    private final ConversionService conversionService;
+    private final HibernateValidatorFactory validatorFactory;
+
+    BindingTemplate(
+        String rootName,
+        Class<?>[] groups,
+        boolean directFieldAccess,
+        int autoGrowCollectionLimit,
+        ConversionService conversionService,
+        HibernateValidatorFactory validatorFactory) {
+      this.rootName = rootName;
+      this.groups = groups;
+      this.directFieldAccess = directFieldAccess;
+      this.autoGrowCollectionLimit = autoGrowCollectionLimit;
+      this.conversionService = conversionService;
+      this.validatorFactory = validatorFactory;
+    }
+
+    DataBinder dataBinder(Object target, String... allowedFields) {
+      DataBinder dataBinder;
+      if (rootName == null) {
+        dataBinder = new PlayDataBinder(target);
+      } else {
+        dataBinder = new PlayDataBinder(target, rootName);
+      }
+      if (allowedFields.length > 0) {
+        dataBinder.setAllowedFields(allowedFields);
+      }
+      dataBinder.setConversionService(conversionService);
+      dataBinder.setAutoGrowNestedPaths(true);
+      dataBinder.setAutoGrowCollectionLimit(autoGrowCollectionLimit);
+      if (directFieldAccess) {
+        // initBeanPropertyAccess() is the default, let's switch to direct field access instead.
+        // This should happen last, when everything else was set on the dataBinder already.
+        dataBinder.initDirectFieldAccess();
+      }
+      return dataBinder;
+    }
+
+    Set<ConstraintViolation<Object>> validate(Object target, ValidationPayload payload) {
+      // The payload carries the lang and the attributes of the bind, so the validator can't be
+      // shared between binds
+      final Validator validator =
+          validatorFactory.usingContext().constraintValidatorPayload(payload).getValidator();
+      if (groups != null) {
+        return validator.validate(target, groups);
+      } else {
+        return validator.validate(target);
+      }
+    }
+  }
+
   private static final class PlayDataBinder extends DataBinder {
 
     private String currentPropertyName;
@@ -240,13 +322,22 @@ public class Form<T> {
 
   protected final Logger logger = LoggerFactory.getLogger(getClass());
 
+  /** The binding of this form, set up on its first bind, see {@link #bindingTemplate()}. */
+  private BindingTemplate bindingTemplate;
+
   public Class<T> getBackedType() {
     return backedType;
   }
 
+  @SuppressWarnings("unchecked")
   protected T blankInstance() {
     try {
-      return backedType.getDeclaredConstructor().newInstance();
+      Constructor<?> constructor = BLANK_CONSTRUCTORS.get(backedType);
+      if (constructor == null) {
+        // Fails with the reason the constructor wasn't found
+        constructor = backedType.getDeclaredConstructor();
+      }
+      return (T) constructor.newInstance();
     } catch (Exception e) {
       throw new RuntimeException(
           "Cannot instantiate " + backedType + ". It must have a default constructor", e);
@@ -1065,25 +1156,28 @@ public class Form<T> {
   }
 
   private DataBinder dataBinder(String... allowedFields) {
-    DataBinder dataBinder;
-    if (rootName == null) {
-      dataBinder = new PlayDataBinder(blankInstance());
-    } else {
-      dataBinder = new PlayDataBinder(blankInstance(), rootName);
-    }
-    if (allowedFields.length > 0) {
-      dataBinder.setAllowedFields(allowedFields);
-    }
-    play.data.format.FormattersInternals$.MODULE$.configureDataBinder(formatters, dataBinder);
-    dataBinder.setAutoGrowNestedPaths(true);
-    dataBinder.setAutoGrowCollectionLimit(this.autoGrowCollectionLimit);
-    if (this.directFieldAccess) {
-      // FYI: initBeanPropertyAccess() is the default, let's switch to direct field access instead
-      dataBinder
-          .initDirectFieldAccess(); // this should happen last, when everything else was set on the
-      // dataBinder already
+    return bindingTemplate().dataBinder(blankInstance(), allowedFields);
+  }
+
+  /**
+   * Returns the binding of this form, which is set up once and then reused by each bind of this
+   * form, since forms are immutable.
+   */
+  private BindingTemplate bindingTemplate() {
+    BindingTemplate template = bindingTemplate;
+    if (template == null) {
+      // Threads racing to set it up set up equivalent templates, so any of them can be kept
+      template =
+          new BindingTemplate(
+              rootName,
+              groups,
+              directFieldAccess,
+              autoGrowCollectionLimit,
+              play.data.format.FormattersInternals$.MODULE$.conversionService(formatters),
+              validatorFactory.unwrap(HibernateValidatorFactory.class));
+      bindingTemplate = template;
     }
-    return dataBinder;
+    return template;
   }
 
   private Map<String, Object> getObjectData(
@@ -1111,17 +1205,7 @@ public class Form<T> {
           dataBinder.bind(new MutablePropertyValues(objectData));
           final Messages messages = lang == null ? null : new MessagesImpl(lang, messagesApi);
           final ValidationPayload payload = new ValidationPayload(lang, messages, attrs, config);
-          final Validator validator =
-              validatorFactory
-                  .unwrap(HibernateValidatorFactory.class)
-                  .usingContext()
-                  .constraintValidatorPayload(payload)
-                  .getValidator();
-          if (groups != null) {
-            return validator.validate(dataBinder.getTarget(), groups);
-          } else {
-            return validator.validate(dataBinder.getTarget());
-          }
+          return bindingTemplate().validate(dataBinder.getTarget(), payload);
         });
   }
 
@@ -1680,6 +1764,23 @@ public class Form<T> {
       }
     }
 
+    FieldMetadataCache.Metadata metadata =
+        FieldMetadataCache.get(
+            backedType,
+            validatorFactory,
+            new FieldMetadataCache.Key(
+                rootName, key, groups, directFieldAccess, autoGrowCollectionLimit),
+            () -> fieldMetadata(key));
+
+    return new Field(
+        this, key, metadata.constraints(), metadata.format(), errors(key), fieldValue, file);
+  }
+
+  /**
+   * Computes the format and the displayable constraints of a field, which only depend on the
+   * backed type, see {@link FieldMetadataCache}.
+   */
+  private FieldMetadataCache.Metadata fieldMetadata(final String key) {
     // Format
     Tuple<String, List<Object>> format = null;
     ConfigurablePropertyAccessor propertyAccessor = propertyAccessor(blankInstance());
@@ -1754,7 +1855,7 @@ public class Form<T> {
       }
     }
 
-    return new Field(this, key, constraints, format, errors(key), fieldValue, file);
+    return new FieldMetadataCache.Metadata(format, Collections.unmodifiableList(constraints));
   }
 
   /**
@@ -241,6 +241,22 @@ trait FormSpec extends CommonFormSpec {
           formFactory.form("task", classOf[play.data.Subtask]).withDirectFieldAccess(true).bindFromRequest(req)
         myForm.hasErrors() must beEqualTo(false)
       }
+      "bind the same form several times" in {
+        def req(id: String, name: String) = FormSpec.dummyRequest(
+          Map("task.id" -> Array(id), "task.name" -> Array(name), "task.dueDate" -> Array("15/12/2009"))
+        )
+
+        val template = formFactory.form("task", classOf[play.data.Task])
+        val peter    = template.bindFromRequest(req("1234567891", "peter"))
+        val invalid  = template.bindFromRequest(req("1", ""))
+        val paul     = template.bindFromRequest(req("1234567892", "paul"))
+
+        peter.get().getName must beEqualTo("peter")
+        invalid.errors().asScala.map(_.key()).toSet must beEqualTo(Set("task.id", "task.name"))
+        paul.get().getName must beEqualTo("paul")
+        paul.get().getId must beEqualTo(1234567892L)
+        peter.get() must not(beTheSameAs(paul.get()))
+      }
       "allow to access the value of an invalid form prefixing fields with the root name" in new WithApplication(
         application()
       ) {
@@ -319,6 +335,28 @@ trait FormSpec extends CommonFormSpec {
       myForm("dueDate").format() must beEqualTo(F.Tuple("format.date", List("dd/MM/yyyy").asJava))
       myForm("dueDate").constraints() must beEqualTo(List(F.Tuple("constraint.required", List().asJava)).asJava)
     }
+    "look up the same field metadata for each form and collection index" in {
+      val constraints = List(
+        F.Tuple("constraint.required", List().asJava),
+        F.Tuple("constraint.minLength", List(10L).asJava)
+      ).asJava
+      val myForm = formFactory.form(classOf[play.data.Thesis])
+      myForm("letters[0].address").constraints() must beEqualTo(constraints)
+      myForm("letters[7].address").constraints() must beEqualTo(constraints)
+      formFactory.form(classOf[play.data.Thesis])("letters[3].address").constraints() must beEqualTo(constraints)
+      myForm("title").constraints() must beEqualTo(constraints)
+      formFactory.form("thesis", classOf[play.data.Thesis])("thesis.title").constraints() must beEqualTo(constraints)
+    }
+    "not look up the field metadata of collection indexes beyond the auto grow collection limit" in {
+      val constraints = List(
+        F.Tuple("constraint.required", List().asJava),
+        F.Tuple("constraint.minLength", List(10L).asJava)
+      ).asJava
+      val myForm = formFactory.form(classOf[play.data.Thesis]).withAutoGrowCollectionLimit(5)
+      myForm("letters[4].address").constraints() must beEqualTo(constraints)
+      myForm("letters[5].address").constraints() must beEmpty
+      formFactory.form(classOf[play.data.Thesis])("letters[5].address").constraints() must beEqualTo(constraints)
+    }
     "calculate indexes() when filled with a default value with direct field access" in {
       val st: Subtask = new Subtask()
       st.emails = List("one@example.com", "two@example.com").asJava